@@ -0,0 +1,91 @@
+import com.google.protobuf.ByteString;
+
+/**
+ * Class representing a Bloom filter of keys. A key which was added is
+ *  always reported as possibly present, a key which was not is reported as
+ *  absent except for a false positive rate set by the bits per key: about
+ *  1% for 10 bits. The bit positions come from two halves of a 64 bit hash
+ *  of the key (double hashing)
+ */
+public class BloomFilter
+{
+	private long[] words;
+	private int hashCount;
+	private long bitCount;
+
+	/**
+	 * @param expectedKeys The number of keys to be added
+	 * @param bitsPerKey The bits of the filter per key
+	 */
+	public BloomFilter(long expectedKeys, int bitsPerKey)
+	{
+		long bits = Math.max(64, expectedKeys * Math.max(1, bitsPerKey));
+		words = new long[(int)Math.min(Integer.MAX_VALUE - 8, (bits + 63) / 64)];
+		bitCount = words.length * 64L;
+
+		//The false positive rate is the lowest for bits per key times ln 2 hashes
+		hashCount = Math.max(1, Math.min(30, (int)Math.round(bitsPerKey * 0.693)));
+	}
+
+	/**
+	 * @param words The bits of a filter written before
+	 * @param hashCount The number of hashes of the filter
+	 */
+	public BloomFilter(long[] words, int hashCount)
+	{
+		this.words = words;
+		this.hashCount = hashCount;
+		bitCount = words.length * 64L;
+	}
+
+	/**
+	 * Function for adding a key to the filter
+	 * @param key The key
+	 */
+	public void add(ByteString key)
+	{
+		long hash = Keys.hash(key);
+		int h1 = (int)hash;
+		int h2 = (int)(hash >>> 32);
+		for(int i = 0; i < hashCount; i++)
+		{
+			long bit = ((h1 + i * h2) & 0xFFFFFFFFL) % bitCount;
+			words[(int)(bit >>> 6)] |= 1L << bit;
+		}
+	}
+
+	/**
+	 * Function for checking if a key may have been added to the filter
+	 * @param key The key
+	 * @return False if the key was never added, true if it may have been
+	 */
+	public boolean mightContain(ByteString key)
+	{
+		long hash = Keys.hash(key);
+		int h1 = (int)hash;
+		int h2 = (int)(hash >>> 32);
+		for(int i = 0; i < hashCount; i++)
+		{
+			long bit = ((h1 + i * h2) & 0xFFFFFFFFL) % bitCount;
+			if((words[(int)(bit >>> 6)] & (1L << bit)) == 0)
+				return false;
+		}
+		return true;
+	}
+
+	public long[] getWords()
+	{
+		return words;
+	}
+
+	public int getHashCount()
+	{
+		return hashCount;
+	}
+
+	@Override
+	public String toString()
+	{
+		return "BloomFilter [bits=" + bitCount + ", hashes=" + hashCount + "]";
+	}
+}
@@ -0,0 +1,122 @@
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+import com.google.protobuf.ByteString;
+
+/**
+ * Class representing a storage engine with a row cache in front of it. Reads
+ *  are answered from the cache when it holds the key, otherwise from the
+ *  storage, and the entry read is offered to the cache. Every write goes
+ *  through the cache, so it never serves a value older than the storage.
+ *  The class is thread-safe when the storage is
+ */
+public class CachedStorage implements StorageEngine
+{
+	private StorageEngine storage;
+	private RowCache cache;
+
+	public CachedStorage(StorageEngine storage, RowCache cache)
+	{
+		this.storage = storage;
+		this.cache = cache;
+	}
+
+	@Override
+	public ByteString getValue(ByteString key)
+	{
+		DataStoreEntry entry = getEntry(key);
+		return entry == null ? null : entry.getValue();
+	}
+
+	@Override
+	public long getTimestamp(ByteString key)
+	{
+		DataStoreEntry entry = getEntry(key);
+		return entry == null ? NO_TIMESTAMP : entry.getTimestamp();
+	}
+
+	@Override
+	public DataStoreEntry getEntry(ByteString key)
+	{
+		DataStoreEntry entry = cache.get(key);
+		if(entry != null)
+			return entry == RowCache.ABSENT ? null : entry;
+
+		long stamp = cache.stamp(key);
+		entry = storage.getEntry(key);
+		cache.fill(key, entry, stamp);
+		return entry;
+	}
+
+	@Override
+	public void put(ByteString key, ByteString value, long timestamp)
+	{
+		storage.put(key, value, timestamp);
+		cache.update(key, entryOf(value, timestamp));
+	}
+
+	@Override
+	public boolean putIfNewer(ByteString key, ByteString value, long timestamp)
+	{
+		if(!storage.putIfNewer(key, value, timestamp))
+			return false;
+		cache.update(key, entryOf(value, timestamp));
+		return true;
+	}
+
+	@Override
+	public int size()
+	{
+		return storage.size();
+	}
+
+	@Override
+	public void forEach(EntryVisitor visitor)
+	{
+		storage.forEach(visitor);
+	}
+
+	@Override
+	public List<Map.Entry<ByteString, DataStoreEntry>> scan(ByteString startKey, ByteString endKey, int limit)
+	{
+		return storage.scan(startKey, endKey, limit);
+	}
+
+	@Override
+	public StorageEngine copy()
+	{
+		return storage.copy();
+	}
+
+	@Override
+	public Object lockFor(ByteString key)
+	{
+		return storage.lockFor(key);
+	}
+
+	@Override
+	public StorageEngine prepareCheckpoint() throws IOException
+	{
+		return storage.prepareCheckpoint();
+	}
+
+	private static DataStoreEntry entryOf(ByteString value, long timestamp)
+	{
+		DataStoreEntry entry = new DataStoreEntry();
+		entry.setValue(value);
+		entry.setTimestamp(timestamp);
+		return entry;
+	}
+
+	public RowCache getCache()
+	{
+		return cache;
+	}
+
+	@Override
+	public String toString()
+	{
+		return "CachedStorage [storage=" + storage + ", cache=" + cache + "]";
+	}
+}
@@ -1,39 +1,60 @@
-import java.io.DataInputStream;
+import java.io.BufferedReader;
 import java.io.IOException;
-import java.net.Socket;
+import java.io.InputStreamReader;
 import java.util.HashMap;
 
+import com.google.protobuf.ByteString;
+
 public class Client
 {
-	private static HashMap<Integer, Replica> replicas = new HashMap<Integer, Replica>();
 	private static HashMap<Integer, String> methods = new HashMap<Integer, String>();
 	private static HashMap<Integer, String> consistency = new HashMap<Integer, String>();
 	
-	private static void initReplicas(FileProcessor fp) throws IOException
+	private static void initMethods()
 	{
-		String line = null;
-		while((line = fp.readLine()) != null)
-		{
-			String []tempArr = line.split("\\s");
-			int key = Integer.parseInt(tempArr[0].substring(tempArr[0].length() - 1));
-
-			Replica tempReplica = new Replica();
-			tempReplica.setReplicaName(tempArr[0]);
-			tempReplica.setIp(tempArr[1]);
-			tempReplica.setPort(Integer.parseInt(tempArr[2]));
-			
-			replicas.put(key, tempReplica);
-		}
-		
 		//Init the methods
 		methods.put(0, "GET");
 		methods.put(1, "PUT");
+		methods.put(2, "SCAN");
 		
 		//Init the consistency
 		consistency.put(0, "ONE");
 		consistency.put(1, "QUORUM");
 	}
 	
+	/**
+	 * Function for printing the entries of a range of keys, page by page
+	 * @param client The client
+	 * @param startKey The first key of the range
+	 * @param endKey The last key of the range, included, empty for a range without end
+	 * @param consistencyLevel ONE or QUORUM
+	 */
+	private static void scan(KeyValueClient client, ByteString startKey, ByteString endKey, String consistencyLevel)
+	{
+		ByteString pagingToken = ByteString.EMPTY;
+		do
+		{
+			KeyValue.ScanResponse scanResponseMessage;
+			try
+			{
+				scanResponseMessage = client.scan(startKey, endKey, 0, pagingToken, consistencyLevel);
+			}
+			catch(IOException e)
+			{
+				System.out.println("No response from the replicas: " + e.getMessage());
+				return;
+			}
+			
+			System.out.println("Page of " + scanResponseMessage.getEntriesCount() + " entries, status: " + scanResponseMessage.getStatus());
+			for(KeyValue.ScanEntry entry : scanResponseMessage.getEntriesList())
+			{
+				System.out.println(Keys.toString(entry.getKey()) + ": " + entry.getValue().toStringUtf8());
+			}
+			pagingToken = scanResponseMessage.getPagingtoken();
+		}
+		while(!pagingToken.isEmpty());
+	}
+	
 	public static void main(String[] args) 
 	{
 		if (args.length != 1)
@@ -43,92 +64,79 @@ public class Client
 			//Replica file path 
 		}
 		
-		DataInputStream dis = null;
-		Socket socket = null;
+		BufferedReader reader = null;
 		
 		try
 		{
-			FileProcessor fp = new FileProcessor(args[0]);
-			initReplicas(fp);
+			//The client sends every request to a replica owning its key
+			KeyValueClient client = KeyValueClient.fromReplicasFile(args[0]);
+			initMethods();
 			
+			//BufferedReader for reading user input, kept across requests so that no buffered line is lost
+			reader = new BufferedReader(new InputStreamReader(System.in));
 			
 			while(true)
 			{
 				System.out.println("===================================================================================================");
-				//DataInputStream for reading user input
-				dis = new DataInputStream(System.in);
-				int replicaChoice;
 				int method;
-				int key;
+				ByteString key;
 				int consistencyLevel;
 				String value = null;
 				
-				System.out.println("List of replicas:");
-				for(int i = 0; i < replicas.size(); i++)
-				{
-					System.out.println((i + 1) + ". " + replicas.get(i).getIp() + " : " + replicas.get(i).getPort());
-				}
-				System.out.println("Enter your choice as 1, 2, 3 or 4:");
-				replicaChoice = Integer.parseInt(dis.readLine()) - 1;
-				
 				System.out.println("Enter the consistency level");
 				for(int i = 0; i < consistency.size(); i++)
 				{
 					System.out.println((i + 1) + ". " + consistency.get(i));
 				}
-				consistencyLevel = Integer.parseInt(dis.readLine()) - 1;
+				consistencyLevel = Integer.parseInt(reader.readLine()) - 1;
 				
 				System.out.println("Enter your method");
 				for(int i = 0; i < methods.size(); i++)
 				{
 					System.out.println((i + 1) + ". " + methods.get(i));
 				}
-				method = Integer.parseInt(dis.readLine()) - 1;
+				method = Integer.parseInt(reader.readLine()) - 1;
 				
-				System.out.println("Enter the key: ");
-				key = Integer.parseInt(dis.readLine());
-				
-				if(method == 1)
+				if(method == 2)
 				{
-					System.out.println("Enter the value: ");
-					value = dis.readLine();
+					System.out.println("Enter the first key: ");
+					ByteString startKey = ByteString.copyFromUtf8(reader.readLine());
+					System.out.println("Enter the last key, empty for no end: ");
+					ByteString endKey = ByteString.copyFromUtf8(reader.readLine());
+					scan(client, startKey, endKey, consistency.get(consistencyLevel));
+					continue;
 				}
 				
-				//Connecting to coordinator
-				socket = new Socket(replicas.get(replicaChoice).getIp(), replicas.get(replicaChoice).getPort());
-				System.out.println("Connected to server");
-				
-				//Create message
-				KeyValue.KeyValueMessage.Builder requestMessage = KeyValue.KeyValueMessage.newBuilder();
-				
-				//Create client message
-				KeyValue.ClientRequest.Builder clientRequestMessage = KeyValue.ClientRequest.newBuilder();
-				
-				// Code for getting value for respective key from server
-				clientRequestMessage.setKey(key);
-				clientRequestMessage.setType(methods.get(method));
-				clientRequestMessage.setConsistency(consistency.get(consistencyLevel));
+				System.out.println("Enter the key: ");
+				key = ByteString.copyFromUtf8(reader.readLine());
 				
-				//Setting the value for put
 				if(method == 1)
 				{
-					clientRequestMessage.setValue(value);
+					System.out.println("Enter the value: ");
+					value = reader.readLine();
 				}
 				
-				//Send the message
-				requestMessage.setClientRequest(clientRequestMessage);
-				requestMessage.build().writeDelimitedTo(socket.getOutputStream());
+				System.out.println("Sending the request to one of " + client.getOwners(key));
 				
 				//Processing the response
-				KeyValue.KeyValueMessage responseMessage = KeyValue.KeyValueMessage.parseDelimitedFrom(socket.getInputStream());
-				KeyValue.ClientResponse clientResponseMessage = responseMessage.getClientResponse();
+				KeyValue.ClientResponse clientResponseMessage;
+				try
+				{
+					if(method == 1)
+						clientResponseMessage = client.put(key, ByteString.copyFromUtf8(value), consistency.get(consistencyLevel));
+					else
+						clientResponseMessage = client.get(key, consistency.get(consistencyLevel));
+				}
+				catch(IOException e)
+				{
+					System.out.println("No response from the owners of the key: " + e.getMessage());
+					continue;
+				}
 				
 				System.out.println("Response received from Coordinator");
-				System.out.println("Key: " + clientResponseMessage.getKey());
-				System.out.println("Value: " + clientResponseMessage.getValue());
+				System.out.println("Key: " + Keys.toString(clientResponseMessage.getKey()));
+				System.out.println("Value: " + clientResponseMessage.getValue().toStringUtf8());
 				System.out.println("Status: " + clientResponseMessage.getStatus());
-				
-				socket.close();
 			}
 		}
 		catch(Exception e)
@@ -139,14 +147,12 @@ public class Client
 		{
 			try
 			{
-				if(dis != null)
-					dis.close();
-				if(socket != null)
-					socket.close();
+				if(reader != null)
+					reader.close();
 			} catch (IOException e)
 			{
 				e.printStackTrace();
 			}
 		}
 	}
-}
\ No newline at end of file
+}
@@ -0,0 +1,116 @@
+/**
+ * Class holding the tunable settings of the replica. Every setting
+ *  is read from a Java system property (-Dkv.name=value) so that the
+ *  command line arguments of the replica remain unchanged
+ */
+public class Config
+{
+	//Execution model for the requests: POOL, THREAD or VIRTUAL
+	static final String EXECUTOR_MODE = System.getProperty("kv.executor", "POOL");
+
+	//Number of worker threads coordinating client requests in POOL mode
+	static final int WORKER_THREADS = Integer.getInteger("kv.workerThreads", Runtime.getRuntime().availableProcessors() * 4);
+
+	//Number of worker threads answering other replicas in POOL mode
+	static final int REPLICA_THREADS = Integer.getInteger("kv.replicaThreads", Runtime.getRuntime().availableProcessors() * 4);
+
+	//Maximum number of requests waiting for a worker of each pool in POOL mode
+	static final int WORKER_QUEUE = Integer.getInteger("kv.workerQueue", 1024);
+
+	//Number of selector threads reading and writing the connections
+	static final int IO_THREADS = Integer.getInteger("kv.ioThreads", Math.min(4, Runtime.getRuntime().availableProcessors()));
+
+	//Pending connections queued by the operating system before they are accepted
+	static final int ACCEPT_BACKLOG = Integer.getInteger("kv.acceptBacklog", 1024);
+
+	//Initial size of the read buffer of a connection, it grows for larger messages
+	static final int READ_BUFFER_SIZE = Integer.getInteger("kv.readBufferSize", 8 * 1024);
+
+	//Largest message accepted on a connection, larger ones close the connection
+	static final int MAX_FRAME_SIZE = Integer.getInteger("kv.maxFrameSize", 64 * 1024 * 1024);
+
+	//Largest key in bytes a client may read or write
+	static final int MAX_KEY_SIZE = Math.max(1, Integer.getInteger("kv.maxKeySize", 1024));
+
+	//Number of long-lived connections to each replica, each carries many outstanding requests
+	static final int PEER_CONNECTIONS = Math.max(1, Integer.getInteger("kv.peerConnections", 1));
+
+	//Messages waiting to be written on a connection to a replica, requests beyond it fail at once
+	static final int PEER_WRITE_QUEUE = Math.max(1, Integer.getInteger("kv.peerWriteQueue", 4096));
+
+	//Time in milliseconds after which an idle connection to a replica is closed
+	static final long PEER_IDLE_TIMEOUT = Long.getLong("kv.peerIdleTimeout", 60000);
+
+	//Time in milliseconds allowed for connecting to a replica
+	static final long PEER_CONNECT_TIMEOUT = Long.getLong("kv.peerConnectTimeout", 1000);
+
+	//Time in milliseconds allowed for a request when the caller gave no deadline
+	static final long REQUEST_TIMEOUT = Long.getLong("kv.requestTimeout", 5000);
+
+	//Durability of the write-ahead log: SYNC, BATCH or PERIODIC
+	static final String WAL_SYNC_MODE = System.getProperty("kv.walSync", "PERIODIC");
+
+	//Time in milliseconds between two syncs of the write-ahead log in PERIODIC mode
+	static final long WAL_SYNC_PERIOD = Long.getLong("kv.walSyncPeriod", 1000);
+
+	//Time in milliseconds the write-ahead log gathers writes before syncing them in BATCH mode
+	static final long WAL_BATCH_WINDOW = Long.getLong("kv.walBatchWindow", 2);
+
+	//Size in bytes after which the write-ahead log starts a new segment
+	static final long WAL_SEGMENT_SIZE = Long.getLong("kv.walSegmentSize", 64 * 1024 * 1024);
+
+	//Time in milliseconds between two snapshots of the data store
+	static final long CHECKPOINT_INTERVAL = Long.getLong("kv.checkpointInterval", 60000);
+
+	//Number of threads replaying the snapshot and the write-ahead log at startup
+	static final int REPLAY_THREADS = Integer.getInteger("kv.replayThreads", Runtime.getRuntime().availableProcessors());
+
+	//Storage of the values: HEAP, or OFFHEAP to keep them in direct memory out of reach of the garbage collector
+	static final String VALUE_STORAGE = System.getProperty("kv.valueStorage", "HEAP");
+
+	//Size in bytes of the slabs the off-heap values are allocated from
+	static final int SLAB_SIZE = Integer.getInteger("kv.slabSize", 1024 * 1024);
+
+	//Number of independently locked stripes of the data store
+	static final int STORAGE_STRIPES = Integer.getInteger("kv.storageStripes", Runtime.getRuntime().availableProcessors() * 4);
+
+	//Storage engine of the data store: MEMORY, or LSM to flush the writes to sorted table files
+	static final String STORAGE_ENGINE = System.getProperty("kv.storageEngine", "MEMORY");
+
+	//Approximate size in bytes of the LSM memtable before it is flushed to a table
+	static final long MEMTABLE_SIZE = Long.getLong("kv.memtableSize", 64 * 1024 * 1024);
+
+	//Bytes of records between two entries of the sparse index of a table
+	static final int TABLE_INDEX_INTERVAL = Integer.getInteger("kv.tableIndexInterval", 4096);
+
+	//Number of LSM tables of similar size which are compacted into one
+	static final int COMPACTION_THRESHOLD = Integer.getInteger("kv.compactionThreshold", 4);
+
+	//Bytes per second an LSM compaction may write, 0 for no limit
+	static final long COMPACTION_RATE = Long.getLong("kv.compactionRate", 16 * 1024 * 1024);
+
+	//Bits per key of the Bloom filter of every LSM table, 10 bits give about 1% false positives
+	static final int BLOOM_BITS_PER_KEY = Integer.getInteger("kv.bloomBitsPerKey", 10);
+
+	//Estimated bytes of the row cache in front of the data store, 0 for no cache
+	static final long ROW_CACHE_SIZE = Long.getLong("kv.rowCacheSize", 0);
+
+	//Eviction of the row cache: LRU, or TINYLFU to only admit keys read more often than the evicted one
+	static final String ROW_CACHE_POLICY = System.getProperty("kv.rowCachePolicy", "TINYLFU");
+
+	//Virtual nodes every replica places on the token ring, more spread the keys more evenly
+	static final int VIRTUAL_NODES = Integer.getInteger("kv.virtualNodes", 256);
+
+	//Replicas owning every key, at most the number of replicas
+	static final int REPLICATION_FACTOR = Integer.getInteger("kv.replicationFactor", 3);
+
+	//Entries of a scan page when the client gives no limit, and the most a page may hold
+	static final int SCAN_PAGE_SIZE = Math.max(1, Integer.getInteger("kv.scanPageSize", 1000));
+
+	//Chunks of a streamed scan the coordinator may send before the client consumed them
+	static final int SCAN_CREDITS = Math.max(1, Integer.getInteger("kv.scanCredits", 4));
+
+	private Config()
+	{
+	}
+}
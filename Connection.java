@@ -0,0 +1,263 @@
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import com.google.protobuf.CodedInputStream;
+
+/**
+ * Class representing a connection accepted by the event loop. It
+ *  decodes the varint-delimited messages as the bytes arrive and
+ *  queues the responses until the channel is writable
+ */
+public class Connection
+{
+	private SocketChannel channel;
+	private EventLoop eventLoop;
+	private SelectionKey selectionKey;
+	private ByteBuffer readBuffer;
+	private ConcurrentLinkedQueue<ByteBuffer> writeQueue;
+	private volatile boolean closed;
+	private boolean endOfStream;
+	private List<Runnable> closeListeners;
+
+	public Connection(SocketChannel channel, EventLoop eventLoop)
+	{
+		this.channel = channel;
+		this.eventLoop = eventLoop;
+		readBuffer = ByteBuffer.allocate(Config.READ_BUFFER_SIZE);
+		writeQueue = new ConcurrentLinkedQueue<ByteBuffer>();
+		closeListeners = new ArrayList<Runnable>();
+	}
+
+	public SocketChannel getChannel()
+	{
+		return channel;
+	}
+
+	public void setSelectionKey(SelectionKey selectionKey)
+	{
+		this.selectionKey = selectionKey;
+	}
+
+	public boolean isClosed()
+	{
+		return closed;
+	}
+
+	public boolean isEndOfStream()
+	{
+		return endOfStream;
+	}
+
+	/**
+	 * Function for running a listener once the connection is closed, on
+	 *  the thread closing it
+	 * @param listener The listener
+	 * @return false when the connection is already closed, the listener is not run then
+	 */
+	public boolean addCloseListener(Runnable listener)
+	{
+		synchronized(closeListeners)
+		{
+			if(closed)
+				return false;
+			closeListeners.add(listener);
+			return true;
+		}
+	}
+
+	/**
+	 * Function for removing a listener which is no longer needed
+	 * @param listener The listener added before
+	 */
+	public void removeCloseListener(Runnable listener)
+	{
+		synchronized(closeListeners)
+		{
+			closeListeners.remove(listener);
+		}
+	}
+
+	/**
+	 * Function for reading the available bytes from the channel
+	 * @return The messages completed by the bytes read
+	 * @throws IOException When a message exceeds the maximum frame size
+	 */
+	List<KeyValue.KeyValueMessage> read() throws IOException
+	{
+		List<KeyValue.KeyValueMessage> messages = new ArrayList<>();
+
+		int bytesRead;
+		while((bytesRead = channel.read(readBuffer)) > 0)
+		{
+			decodeFrames(messages);
+		}
+
+		if(bytesRead < 0)
+		{
+			endOfStream = true;
+		}
+		return messages;
+	}
+
+	/**
+	 * Function for decoding the complete frames present in the read buffer.
+	 *  Every frame is a varint length followed by the message bytes
+	 * @param messages List to which the decoded messages are added
+	 * @throws IOException When a frame is larger than the maximum frame size
+	 */
+	private void decodeFrames(List<KeyValue.KeyValueMessage> messages) throws IOException
+	{
+		readBuffer.flip();
+		while(readBuffer.hasRemaining())
+		{
+			int frameStart = readBuffer.position();
+
+			//Reading the varint length prefix, which may not be complete yet
+			int length = 0;
+			int shift = 0;
+			boolean lengthComplete = false;
+			while(readBuffer.hasRemaining() && shift < 35)
+			{
+				byte b = readBuffer.get();
+				length |= (b & 0x7F) << shift;
+				shift += 7;
+				if((b & 0x80) == 0)
+				{
+					lengthComplete = true;
+					break;
+				}
+			}
+
+			if(!lengthComplete)
+			{
+				if(shift >= 35)
+				{
+					throw new IOException("Malformed frame length");
+				}
+				readBuffer.position(frameStart);
+				break;
+			}
+
+			if(length < 0 || length > Config.MAX_FRAME_SIZE)
+			{
+				throw new IOException("Frame of " + length + " bytes exceeds the maximum frame size");
+			}
+
+			//Waiting for the rest of the frame
+			if(readBuffer.remaining() < length)
+			{
+				int frameSize = readBuffer.position() - frameStart + length;
+				readBuffer.position(frameStart);
+				ensureCapacity(frameSize);
+				break;
+			}
+
+			messages.add(KeyValue.KeyValueMessage.parseFrom(CodedInputStream.newInstance(readBuffer.array(), readBuffer.arrayOffset() + readBuffer.position(), length)));
+			readBuffer.position(readBuffer.position() + length);
+		}
+		readBuffer.compact();
+	}
+
+	/**
+	 * Function for growing the read buffer so that it can hold a whole frame
+	 * @param frameSize Size of the frame including its length prefix
+	 */
+	private void ensureCapacity(int frameSize)
+	{
+		if(frameSize > readBuffer.capacity())
+		{
+			ByteBuffer largerBuffer = ByteBuffer.allocate(frameSize);
+			largerBuffer.put(readBuffer);
+			largerBuffer.flip();
+			readBuffer = largerBuffer;
+		}
+	}
+
+	/**
+	 * Function for sending a message on the connection. It can be called
+	 *  from any thread, the bytes are written by the event loop
+	 * @param message The message to be sent
+	 */
+	public void send(KeyValue.KeyValueMessage message)
+	{
+		if(closed)
+		{
+			return;
+		}
+
+		try
+		{
+			ByteArrayOutputStream frame = new ByteArrayOutputStream(message.getSerializedSize() + 5);
+			message.writeDelimitedTo(frame);
+			writeQueue.add(ByteBuffer.wrap(frame.toByteArray()));
+			eventLoop.requestWrite(this);
+		}
+		catch(IOException e)
+		{
+			e.printStackTrace();
+		}
+	}
+
+	/**
+	 * Function for writing the queued responses, called by the event loop
+	 * @throws IOException When the channel cannot be written
+	 */
+	void flush() throws IOException
+	{
+		ByteBuffer buffer;
+		while((buffer = writeQueue.peek()) != null)
+		{
+			channel.write(buffer);
+			if(buffer.hasRemaining())
+			{
+				//The socket buffer is full, waiting until the channel is writable again
+				selectionKey.interestOps(SelectionKey.OP_READ | SelectionKey.OP_WRITE);
+				return;
+			}
+			writeQueue.poll();
+		}
+		selectionKey.interestOps(SelectionKey.OP_READ);
+	}
+
+	/**
+	 * Function for closing the connection and running its close listeners
+	 */
+	void close()
+	{
+		List<Runnable> listeners;
+		synchronized(closeListeners)
+		{
+			closed = true;
+			listeners = new ArrayList<Runnable>(closeListeners);
+			closeListeners.clear();
+		}
+		writeQueue.clear();
+		try
+		{
+			if(selectionKey != null)
+				selectionKey.cancel();
+			channel.close();
+		}
+		catch(IOException e)
+		{
+			e.printStackTrace();
+		}
+
+		for(Runnable listener : listeners)
+		{
+			listener.run();
+		}
+	}
+
+	@Override
+	public String toString()
+	{
+		return "Connection [channel=" + channel + "]";
+	}
+}
@@ -1,3 +1,4 @@
+import com.google.protobuf.ByteString;
 
 /**
  * Class representing a single entry in the data store 
@@ -5,15 +6,15 @@
  */
 public class DataStoreEntry
 {
-	private String value;
+	private ByteString value;
 	private long timestamp;
 	
-	public String getValue()
+	public ByteString getValue()
 	{
 		return value;
 	}
 	
-	public void setValue(String value) 
+	public void setValue(ByteString value) 
 	{
 		this.value = value;
 	}
@@ -0,0 +1,221 @@
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.BiConsumer;
+
+/**
+ * Class representing a non-blocking network event loop. Each loop runs
+ *  a selector on its own thread and serves many connections at once,
+ *  the decoded messages are passed to the request handler
+ */
+public class EventLoop implements Runnable
+{
+	private Selector selector;
+	private BiConsumer<KeyValue.KeyValueMessage, Connection> handler;
+	private ConcurrentLinkedQueue<SocketChannel> newChannels;
+	private ConcurrentLinkedQueue<Connection> pendingWrites;
+	private ServerSocketChannel serverChannel;
+	private EventLoop[] eventLoops;
+	private int nextLoop;
+
+	public EventLoop(BiConsumer<KeyValue.KeyValueMessage, Connection> handler) throws IOException
+	{
+		this.handler = handler;
+		selector = Selector.open();
+		newChannels = new ConcurrentLinkedQueue<SocketChannel>();
+		pendingWrites = new ConcurrentLinkedQueue<Connection>();
+	}
+
+	/**
+	 * Function for starting the event loops of the replica. The first loop
+	 *  also accepts the connections and spreads them over all the loops
+	 * @param port The port to listen on
+	 * @param threads The number of event loops
+	 * @param handler The handler called for every message received
+	 * @return The server channel the loops listen on
+	 * @throws IOException When the port cannot be bound
+	 */
+	public static ServerSocketChannel start(int port, int threads, BiConsumer<KeyValue.KeyValueMessage, Connection> handler) throws IOException
+	{
+		EventLoop[] eventLoops = new EventLoop[Math.max(1, threads)];
+		for(int i = 0; i < eventLoops.length; i++)
+		{
+			eventLoops[i] = new EventLoop(handler);
+		}
+
+		ServerSocketChannel serverChannel = ServerSocketChannel.open();
+		serverChannel.bind(new InetSocketAddress(port), Config.ACCEPT_BACKLOG);
+		serverChannel.configureBlocking(false);
+
+		eventLoops[0].serverChannel = serverChannel;
+		eventLoops[0].eventLoops = eventLoops;
+		serverChannel.register(eventLoops[0].selector, SelectionKey.OP_ACCEPT);
+
+		for(int i = 0; i < eventLoops.length; i++)
+		{
+			Thread thread = new Thread(eventLoops[i], "event-loop-" + i);
+			thread.start();
+		}
+		return serverChannel;
+	}
+
+	/**
+	 * Function for handing an accepted channel to this loop
+	 * @param channel The accepted channel
+	 */
+	private void register(SocketChannel channel)
+	{
+		newChannels.add(channel);
+		selector.wakeup();
+	}
+
+	/**
+	 * Function for asking the loop to write the queued responses of a connection
+	 * @param connection The connection with queued responses
+	 */
+	void requestWrite(Connection connection)
+	{
+		pendingWrites.add(connection);
+		selector.wakeup();
+	}
+
+	@Override
+	public void run()
+	{
+		while(true)
+		{
+			try
+			{
+				selector.select();
+				registerNewChannels();
+				flushPendingWrites();
+
+				Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+				while(keys.hasNext())
+				{
+					SelectionKey key = keys.next();
+					keys.remove();
+
+					if(!key.isValid())
+						continue;
+
+					if(key.isAcceptable())
+					{
+						accept();
+					}
+					else
+					{
+						Connection connection = (Connection)key.attachment();
+						try
+						{
+							if(key.isWritable())
+							{
+								connection.flush();
+							}
+							if(key.isValid() && key.isReadable())
+							{
+								readMessages(connection);
+							}
+						}
+						catch(IOException e)
+						{
+							System.out.println("Closing " + connection + ": " + e.getMessage());
+							connection.close();
+						}
+					}
+				}
+			}
+			catch(IOException e)
+			{
+				e.printStackTrace();
+			}
+		}
+	}
+
+	/**
+	 * Function for accepting the pending connections
+	 * @throws IOException When the server channel fails
+	 */
+	private void accept() throws IOException
+	{
+		SocketChannel channel;
+		while((channel = serverChannel.accept()) != null)
+		{
+			//Spreading the connections over the loops in round robin
+			eventLoops[nextLoop].register(channel);
+			nextLoop = (nextLoop + 1) % eventLoops.length;
+		}
+	}
+
+	/**
+	 * Function for registering the channels handed to this loop
+	 */
+	private void registerNewChannels()
+	{
+		SocketChannel channel;
+		while((channel = newChannels.poll()) != null)
+		{
+			try
+			{
+				channel.configureBlocking(false);
+				channel.socket().setTcpNoDelay(true);
+				Connection connection = new Connection(channel, this);
+				connection.setSelectionKey(channel.register(selector, SelectionKey.OP_READ, connection));
+			}
+			catch(IOException e)
+			{
+				e.printStackTrace();
+			}
+		}
+	}
+
+	/**
+	 * Function for writing the responses queued by the workers
+	 */
+	private void flushPendingWrites()
+	{
+		Connection connection;
+		while((connection = pendingWrites.poll()) != null)
+		{
+			if(connection.isClosed())
+				continue;
+
+			try
+			{
+				connection.flush();
+			}
+			catch(IOException e)
+			{
+				System.out.println("Closing " + connection + ": " + e.getMessage());
+				connection.close();
+			}
+		}
+	}
+
+	/**
+	 * Function for reading a connection and passing the decoded messages
+	 *  to the handler
+	 * @param connection The readable connection
+	 * @throws IOException When the connection cannot be read
+	 */
+	private void readMessages(Connection connection) throws IOException
+	{
+		List<KeyValue.KeyValueMessage> messages = connection.read();
+		for(KeyValue.KeyValueMessage message : messages)
+		{
+			handler.accept(message, connection);
+		}
+
+		//The peer has closed the connection
+		if(connection.isEndOfStream())
+		{
+			connection.close();
+		}
+	}
+}
@@ -3,10 +3,10 @@ import java.io.BufferedReader;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.FileReader;
-import java.io.FileWriter;
 import java.io.IOException;
-import java.io.PrintWriter;
-import java.util.HashMap;
+import java.util.function.Predicate;
+
+import com.google.protobuf.ByteString;
 
 /**
  * A class for performing file related operations.
@@ -46,47 +46,27 @@ public class FileProcessor
 		return ((line = bfrReader.readLine()) != null) ?  line.trim() : line;
 	}
 	
-	/**
-	 * Static function for writing to the write-ahead log file
-	 * @param key The key for the entry
-	 * @param value The value for the entry
-	 * @param timestamp The timestamp for the entry
-	 * @param logFilePath The path to the log file
-	 */
-	public static void writeLog(int key, String value, long timestamp, String logFilePath)
-	{
-		try
-		{
-			PrintWriter pwr = new PrintWriter(new FileWriter(new File(logFilePath), true));
-			pwr.println(key + ":" + value + ":" + timestamp);
-			pwr.close();
-		}
-		catch(Exception e)
-		{
-			e.printStackTrace();
-		}
-	}
-	
 	/**
 	 * Function for updating the data store from
 	 *  the write-ahead log file
 	 * @param dataStore The data store
+	 * @param ownsKey Checks if a key belongs to the replica
 	 * @throws IOException When the file is not found
 	 */
-	public void updateDatastore(HashMap<Integer, DataStoreEntry> dataStore) throws IOException
+	public void updateDatastore(StorageEngine dataStore, Predicate<ByteString> ownsKey) throws IOException
 	{
 		String line;
 		while((line = readLine()) != null)
 		{
 			String []tempArr = line.split(":");
+
+			//Keys are unsigned ints, older logs may hold them signed
+			ByteString key = Keys.ofInt((int)Long.parseLong(tempArr[0]));
+			long timestamp = Long.parseLong(tempArr[2]);
 			
-			if(dataStore.containsKey(Integer.parseInt(tempArr[0])) && (dataStore.get(Integer.parseInt(tempArr[0])) == null || dataStore.get(Integer.parseInt(tempArr[0])).getTimestamp() < Long.parseLong(tempArr[2])))
+			if(ownsKey.test(key))
 			{
-				DataStoreEntry tempEntry = new DataStoreEntry();
-				tempEntry.setValue(tempArr[1]);
-				tempEntry.setTimestamp(Long.parseLong(tempArr[2]));
-				
-				dataStore.put(Integer.parseInt(tempArr[0]), tempEntry);
+				dataStore.putIfNewer(key, ByteString.copyFromUtf8(tempArr[1]), timestamp);
 			}
 		}
 	}
@@ -0,0 +1,251 @@
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import com.google.protobuf.ByteString;
+
+/**
+ * Class representing a storage engine based on open addressing with linear
+ *  probing. Keys, timestamps and value references are kept in parallel
+ *  arrays, so reading or overwriting a key allocates nothing and a key costs
+ *  a few bytes besides its key and value. The values are either kept on the
+ *  heap, or in an off-heap value arena, in which case the heap only holds
+ *  the keys, 20 bytes per slot and a few bytes per key for the sorted key
+ *  index serving ranges of keys
+ */
+public class HashStorage implements StorageEngine
+{
+	//The tables grow once they are filled up to this ratio
+	static final float LOAD_FACTOR = 0.6f;
+
+	//Timestamp of a free slot, keys are never removed
+	static final long FREE_SLOT = Long.MIN_VALUE;
+
+	private ByteString[] keys;
+	private long[] timestamps;
+	private ByteString[] values;
+	private long[] valueReferences;
+	private ValueArena arena;
+	private SortedKeyIndex keyIndex;
+	private int size;
+	private int mask;
+	private int resizeThreshold;
+
+	public HashStorage()
+	{
+		this(64);
+	}
+
+	public HashStorage(int expectedSize)
+	{
+		this(expectedSize, null);
+	}
+
+	/**
+	 * @param expectedSize The number of keys the tables are sized for
+	 * @param arena The arena holding the values off the heap, or null to keep them on the heap
+	 */
+	public HashStorage(int expectedSize, ValueArena arena)
+	{
+		this.arena = arena;
+		keyIndex = new SortedKeyIndex();
+		int capacity = Integer.highestOneBit(Math.max(16, (int)(expectedSize / LOAD_FACTOR)) - 1) << 1;
+		allocate(capacity);
+	}
+
+	@Override
+	public ByteString getValue(ByteString key)
+	{
+		int slot = findSlot(key);
+		if(timestamps[slot] == FREE_SLOT)
+			return null;
+		if(arena == null)
+			return values[slot];
+		return arena.read(valueReferences[slot]);
+	}
+
+	@Override
+	public long getTimestamp(ByteString key)
+	{
+		int slot = findSlot(key);
+		return timestamps[slot] == FREE_SLOT ? NO_TIMESTAMP : timestamps[slot];
+	}
+
+	@Override
+	public void put(ByteString key, ByteString value, long timestamp)
+	{
+		int slot = findSlot(key);
+		if(timestamps[slot] == FREE_SLOT)
+		{
+			if(size + 1 > resizeThreshold)
+			{
+				resize(keys.length * 2);
+				slot = findSlot(key);
+			}
+			keys[slot] = key;
+			keyIndex.add(key);
+			size++;
+		}
+		else if(arena != null)
+		{
+			arena.free(valueReferences[slot]);
+		}
+
+		if(arena == null)
+			values[slot] = value;
+		else
+			valueReferences[slot] = arena.allocate(value);
+		timestamps[slot] = timestamp;
+	}
+
+	@Override
+	public int size()
+	{
+		return size;
+	}
+
+	@Override
+	public void forEach(EntryVisitor visitor)
+	{
+		for(int slot = 0; slot < keys.length; slot++)
+		{
+			if(timestamps[slot] != FREE_SLOT)
+			{
+				ByteString value = arena == null ? values[slot] : arena.read(valueReferences[slot]);
+				visitor.visit(keys[slot], value, timestamps[slot]);
+			}
+		}
+	}
+
+	/**
+	 * Function for reading the entries of a range of keys through the sorted
+	 *  key index, which takes a time bounded by the limit and not by the size
+	 * @param startKey The first key of the range
+	 * @param endKey The last key of the range, included, empty for a range without end
+	 * @param limit The largest number of entries returned
+	 * @return The first entries of the range in key order
+	 */
+	@Override
+	public List<Map.Entry<ByteString, DataStoreEntry>> scan(ByteString startKey, ByteString endKey, int limit)
+	{
+		List<ByteString> range = keyIndex.range(startKey, endKey, limit);
+		List<Map.Entry<ByteString, DataStoreEntry>> entries = new ArrayList<Map.Entry<ByteString, DataStoreEntry>>(range.size());
+		for(ByteString key : range)
+		{
+			int slot = findSlot(key);
+			DataStoreEntry entry = new DataStoreEntry();
+			entry.setValue(arena == null ? values[slot] : arena.read(valueReferences[slot]));
+			entry.setTimestamp(timestamps[slot]);
+			entries.add(new AbstractMap.SimpleImmutableEntry<ByteString, DataStoreEntry>(key, entry));
+		}
+		return entries;
+	}
+
+	/**
+	 * Function for copying the storage. Off-heap values are not copied, the
+	 *  copy reads them from a snapshot of the arena until it is released
+	 * @return The copy
+	 */
+	@Override
+	public StorageEngine copy()
+	{
+		HashStorage copy = new HashStorage(0, arena == null ? null : arena.snapshot());
+		copy.keys = keys.clone();
+		copy.timestamps = timestamps.clone();
+		copy.values = values == null ? null : values.clone();
+		copy.valueReferences = valueReferences == null ? null : valueReferences.clone();
+		copy.keyIndex = keyIndex.copy();
+		copy.size = size;
+		copy.mask = mask;
+		copy.resizeThreshold = resizeThreshold;
+		return copy;
+	}
+
+	@Override
+	public void release()
+	{
+		if(arena != null)
+		{
+			arena.releaseSnapshot();
+		}
+	}
+
+	/**
+	 * Function for finding the slot of a key
+	 * @param key The key
+	 * @return The slot holding the key, or the free slot where it belongs
+	 */
+	private int findSlot(ByteString key)
+	{
+		int slot = hash(key) & mask;
+		while(timestamps[slot] != FREE_SLOT && !keys[slot].equals(key))
+		{
+			slot = (slot + 1) & mask;
+		}
+		return slot;
+	}
+
+	/**
+	 * Function for spreading the bits of the hash code of a key, which the key
+	 *  caches, the hash codes of short keys are often dense ranges
+	 * @param key The key
+	 * @return The hash of the key
+	 */
+	private static int hash(ByteString key)
+	{
+		int h = key.hashCode() * 0x9E3779B9;
+		return h ^ (h >>> 16);
+	}
+
+	/**
+	 * Function for allocating empty tables
+	 * @param capacity The number of slots, a power of two
+	 */
+	private void allocate(int capacity)
+	{
+		keys = new ByteString[capacity];
+		timestamps = new long[capacity];
+		Arrays.fill(timestamps, FREE_SLOT);
+		if(arena == null)
+			values = new ByteString[capacity];
+		else
+			valueReferences = new long[capacity];
+		mask = capacity - 1;
+		resizeThreshold = (int)(capacity * LOAD_FACTOR);
+	}
+
+	/**
+	 * Function for moving the entries to larger tables, the values stay in place
+	 * @param capacity The new number of slots, a power of two
+	 */
+	private void resize(int capacity)
+	{
+		ByteString[] oldKeys = keys;
+		long[] oldTimestamps = timestamps;
+		ByteString[] oldValues = values;
+		long[] oldValueReferences = valueReferences;
+		allocate(capacity);
+
+		for(int slot = 0; slot < oldKeys.length; slot++)
+		{
+			if(oldTimestamps[slot] != FREE_SLOT)
+			{
+				int newSlot = findSlot(oldKeys[slot]);
+				keys[newSlot] = oldKeys[slot];
+				timestamps[newSlot] = oldTimestamps[slot];
+				if(arena == null)
+					values[newSlot] = oldValues[slot];
+				else
+					valueReferences[newSlot] = oldValueReferences[slot];
+			}
+		}
+	}
+
+	@Override
+	public String toString()
+	{
+		return "HashStorage [size=" + size + ", capacity=" + keys.length + (arena == null ? "" : ", " + arena) + "]";
+	}
+}
@@ -17,19 +17,14 @@ public final class KeyValue {
       com.google.protobuf.MessageOrBuilder {
 
     /**
-     * <code>uint32 key = 1;</code>
+     * <code>bytes key = 7;</code>
      */
-    int getKey();
+    com.google.protobuf.ByteString getKey();
 
     /**
-     * <code>string value = 2;</code>
+     * <code>bytes value = 2;</code>
      */
-    java.lang.String getValue();
-    /**
-     * <code>string value = 2;</code>
-     */
-    com.google.protobuf.ByteString
-        getValueBytes();
+    com.google.protobuf.ByteString getValue();
 
     /**
      * <code>string type = 3;</code>
@@ -50,6 +45,16 @@ public final class KeyValue {
      */
     com.google.protobuf.ByteString
         getConsistencyBytes();
+
+    /**
+     * <code>uint64 deadline = 5;</code>
+     */
+    long getDeadline();
+
+    /**
+     * <code>uint64 requestid = 6;</code>
+     */
+    long getRequestid();
   }
   /**
    * Protobuf type {@code ClientRequest}
@@ -64,10 +69,12 @@ public final class KeyValue {
       super(builder);
     }
     private ClientRequest() {
-      key_ = 0;
-      value_ = "";
+      key_ = com.google.protobuf.ByteString.EMPTY;
+      value_ = com.google.protobuf.ByteString.EMPTY;
       type_ = "";
       consistency_ = "";
+      deadline_ = 0L;
+      requestid_ = 0L;
     }
 
     @java.lang.Override
@@ -101,15 +108,9 @@ public final class KeyValue {
               }
               break;
             }
-            case 8: {
-
-              key_ = input.readUInt32();
-              break;
-            }
             case 18: {
-              java.lang.String s = input.readStringRequireUtf8();
 
-              value_ = s;
+              value_ = input.readBytes();
               break;
             }
             case 26: {
@@ -124,6 +125,21 @@ public final class KeyValue {
               consistency_ = s;
               break;
             }
+            case 40: {
+
+              deadline_ = input.readUInt64();
+              break;
+            }
+            case 48: {
+
+              requestid_ = input.readUInt64();
+              break;
+            }
+            case 58: {
+
+              key_ = input.readBytes();
+              break;
+            }
           }
         }
       } catch (com.google.protobuf.InvalidProtocolBufferException e) {
@@ -148,47 +164,22 @@ public final class KeyValue {
               KeyValue.ClientRequest.class, KeyValue.ClientRequest.Builder.class);
     }
 
-    public static final int KEY_FIELD_NUMBER = 1;
-    private int key_;
+    public static final int KEY_FIELD_NUMBER = 7;
+    private com.google.protobuf.ByteString key_;
     /**
-     * <code>uint32 key = 1;</code>
+     * <code>bytes key = 7;</code>
      */
-    public int getKey() {
+    public com.google.protobuf.ByteString getKey() {
       return key_;
     }
 
     public static final int VALUE_FIELD_NUMBER = 2;
-    private volatile java.lang.Object value_;
-    /**
-     * <code>string value = 2;</code>
-     */
-    public java.lang.String getValue() {
-      java.lang.Object ref = value_;
-      if (ref instanceof java.lang.String) {
-        return (java.lang.String) ref;
-      } else {
-        com.google.protobuf.ByteString bs = 
-            (com.google.protobuf.ByteString) ref;
-        java.lang.String s = bs.toStringUtf8();
-        value_ = s;
-        return s;
-      }
-    }
+    private com.google.protobuf.ByteString value_;
     /**
-     * <code>string value = 2;</code>
+     * <code>bytes value = 2;</code>
      */
-    public com.google.protobuf.ByteString
-        getValueBytes() {
-      java.lang.Object ref = value_;
-      if (ref instanceof java.lang.String) {
-        com.google.protobuf.ByteString b = 
-            com.google.protobuf.ByteString.copyFromUtf8(
-                (java.lang.String) ref);
-        value_ = b;
-        return b;
-      } else {
-        return (com.google.protobuf.ByteString) ref;
-      }
+    public com.google.protobuf.ByteString getValue() {
+      return value_;
     }
 
     public static final int TYPE_FIELD_NUMBER = 3;
@@ -259,6 +250,24 @@ public final class KeyValue {
       }
     }
 
+    public static final int DEADLINE_FIELD_NUMBER = 5;
+    private long deadline_;
+    /**
+     * <code>uint64 deadline = 5;</code>
+     */
+    public long getDeadline() {
+      return deadline_;
+    }
+
+    public static final int REQUESTID_FIELD_NUMBER = 6;
+    private long requestid_;
+    /**
+     * <code>uint64 requestid = 6;</code>
+     */
+    public long getRequestid() {
+      return requestid_;
+    }
+
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
       byte isInitialized = memoizedIsInitialized;
@@ -271,11 +280,8 @@ public final class KeyValue {
 
     public void writeTo(com.google.protobuf.CodedOutputStream output)
                         throws java.io.IOException {
-      if (key_ != 0) {
-        output.writeUInt32(1, key_);
-      }
-      if (!getValueBytes().isEmpty()) {
-        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, value_);
+      if (!value_.isEmpty()) {
+        output.writeBytes(2, value_);
       }
       if (!getTypeBytes().isEmpty()) {
         com.google.protobuf.GeneratedMessageV3.writeString(output, 3, type_);
@@ -283,6 +289,15 @@ public final class KeyValue {
       if (!getConsistencyBytes().isEmpty()) {
         com.google.protobuf.GeneratedMessageV3.writeString(output, 4, consistency_);
       }
+      if (deadline_ != 0L) {
+        output.writeUInt64(5, deadline_);
+      }
+      if (requestid_ != 0L) {
+        output.writeUInt64(6, requestid_);
+      }
+      if (!key_.isEmpty()) {
+        output.writeBytes(7, key_);
+      }
       unknownFields.writeTo(output);
     }
 
@@ -291,12 +306,9 @@ public final class KeyValue {
       if (size != -1) return size;
 
       size = 0;
-      if (key_ != 0) {
+      if (!value_.isEmpty()) {
         size += com.google.protobuf.CodedOutputStream
-          .computeUInt32Size(1, key_);
-      }
-      if (!getValueBytes().isEmpty()) {
-        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, value_);
+          .computeBytesSize(2, value_);
       }
       if (!getTypeBytes().isEmpty()) {
         size += com.google.protobuf.GeneratedMessageV3.computeStringSize(3, type_);
@@ -304,6 +316,18 @@ public final class KeyValue {
       if (!getConsistencyBytes().isEmpty()) {
         size += com.google.protobuf.GeneratedMessageV3.computeStringSize(4, consistency_);
       }
+      if (deadline_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt64Size(5, deadline_);
+      }
+      if (requestid_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt64Size(6, requestid_);
+      }
+      if (!key_.isEmpty()) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(7, key_);
+      }
       size += unknownFields.getSerializedSize();
       memoizedSize = size;
       return size;
@@ -320,14 +344,18 @@ public final class KeyValue {
       KeyValue.ClientRequest other = (KeyValue.ClientRequest) obj;
 
       boolean result = true;
-      result = result && (getKey()
-          == other.getKey());
+      result = result && getKey()
+          .equals(other.getKey());
       result = result && getValue()
           .equals(other.getValue());
       result = result && getType()
           .equals(other.getType());
       result = result && getConsistency()
           .equals(other.getConsistency());
+      result = result && (getDeadline()
+          == other.getDeadline());
+      result = result && (getRequestid()
+          == other.getRequestid());
       result = result && unknownFields.equals(other.unknownFields);
       return result;
     }
@@ -340,13 +368,19 @@ public final class KeyValue {
       int hash = 41;
       hash = (19 * hash) + getDescriptor().hashCode();
       hash = (37 * hash) + KEY_FIELD_NUMBER;
-      hash = (53 * hash) + getKey();
+      hash = (53 * hash) + getKey().hashCode();
       hash = (37 * hash) + VALUE_FIELD_NUMBER;
       hash = (53 * hash) + getValue().hashCode();
       hash = (37 * hash) + TYPE_FIELD_NUMBER;
       hash = (53 * hash) + getType().hashCode();
       hash = (37 * hash) + CONSISTENCY_FIELD_NUMBER;
       hash = (53 * hash) + getConsistency().hashCode();
+      hash = (37 * hash) + DEADLINE_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getDeadline());
+      hash = (37 * hash) + REQUESTID_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getRequestid());
       hash = (29 * hash) + unknownFields.hashCode();
       memoizedHashCode = hash;
       return hash;
@@ -476,14 +510,18 @@ public final class KeyValue {
       }
       public Builder clear() {
         super.clear();
-        key_ = 0;
+        key_ = com.google.protobuf.ByteString.EMPTY;
 
-        value_ = "";
+        value_ = com.google.protobuf.ByteString.EMPTY;
 
         type_ = "";
 
         consistency_ = "";
 
+        deadline_ = 0L;
+
+        requestid_ = 0L;
+
         return this;
       }
 
@@ -510,6 +548,8 @@ public final class KeyValue {
         result.value_ = value_;
         result.type_ = type_;
         result.consistency_ = consistency_;
+        result.deadline_ = deadline_;
+        result.requestid_ = requestid_;
         onBuilt();
         return result;
       }
@@ -551,12 +591,11 @@ public final class KeyValue {
 
       public Builder mergeFrom(KeyValue.ClientRequest other) {
         if (other == KeyValue.ClientRequest.getDefaultInstance()) return this;
-        if (other.getKey() != 0) {
+        if (other.getKey() != com.google.protobuf.ByteString.EMPTY) {
           setKey(other.getKey());
         }
-        if (!other.getValue().isEmpty()) {
-          value_ = other.value_;
-          onChanged();
+        if (other.getValue() != com.google.protobuf.ByteString.EMPTY) {
+          setValue(other.getValue());
         }
         if (!other.getType().isEmpty()) {
           type_ = other.type_;
@@ -566,6 +605,12 @@ public final class KeyValue {
           consistency_ = other.consistency_;
           onChanged();
         }
+        if (other.getDeadline() != 0L) {
+          setDeadline(other.getDeadline());
+        }
+        if (other.getRequestid() != 0L) {
+          setRequestid(other.getRequestid());
+        }
         this.mergeUnknownFields(other.unknownFields);
         onChanged();
         return this;
@@ -593,69 +638,46 @@ public final class KeyValue {
         return this;
       }
 
-      private int key_ ;
+      private com.google.protobuf.ByteString key_ = com.google.protobuf.ByteString.EMPTY;
       /**
-       * <code>uint32 key = 1;</code>
+       * <code>bytes key = 7;</code>
        */
-      public int getKey() {
+      public com.google.protobuf.ByteString getKey() {
         return key_;
       }
       /**
-       * <code>uint32 key = 1;</code>
+       * <code>bytes key = 7;</code>
        */
-      public Builder setKey(int value) {
-        
+      public Builder setKey(com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
         key_ = value;
         onChanged();
         return this;
       }
       /**
-       * <code>uint32 key = 1;</code>
+       * <code>bytes key = 7;</code>
        */
       public Builder clearKey() {
         
-        key_ = 0;
+        key_ = getDefaultInstance().getKey();
         onChanged();
         return this;
       }
 
-      private java.lang.Object value_ = "";
-      /**
-       * <code>string value = 2;</code>
-       */
-      public java.lang.String getValue() {
-        java.lang.Object ref = value_;
-        if (!(ref instanceof java.lang.String)) {
-          com.google.protobuf.ByteString bs =
-              (com.google.protobuf.ByteString) ref;
-          java.lang.String s = bs.toStringUtf8();
-          value_ = s;
-          return s;
-        } else {
-          return (java.lang.String) ref;
-        }
-      }
+      private com.google.protobuf.ByteString value_ = com.google.protobuf.ByteString.EMPTY;
       /**
-       * <code>string value = 2;</code>
+       * <code>bytes value = 2;</code>
        */
-      public com.google.protobuf.ByteString
-          getValueBytes() {
-        java.lang.Object ref = value_;
-        if (ref instanceof String) {
-          com.google.protobuf.ByteString b = 
-              com.google.protobuf.ByteString.copyFromUtf8(
-                  (java.lang.String) ref);
-          value_ = b;
-          return b;
-        } else {
-          return (com.google.protobuf.ByteString) ref;
-        }
+      public com.google.protobuf.ByteString getValue() {
+        return value_;
       }
       /**
-       * <code>string value = 2;</code>
+       * <code>bytes value = 2;</code>
        */
-      public Builder setValue(
-          java.lang.String value) {
+      public Builder setValue(com.google.protobuf.ByteString value) {
         if (value == null) {
     throw new NullPointerException();
   }
@@ -665,7 +687,7 @@ public final class KeyValue {
         return this;
       }
       /**
-       * <code>string value = 2;</code>
+       * <code>bytes value = 2;</code>
        */
       public Builder clearValue() {
         
@@ -673,20 +695,6 @@ public final class KeyValue {
         onChanged();
         return this;
       }
-      /**
-       * <code>string value = 2;</code>
-       */
-      public Builder setValueBytes(
-          com.google.protobuf.ByteString value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  checkByteStringIsUtf8(value);
-        
-        value_ = value;
-        onChanged();
-        return this;
-      }
 
       private java.lang.Object type_ = "";
       /**
@@ -825,6 +833,58 @@ public final class KeyValue {
         onChanged();
         return this;
       }
+
+      private long deadline_ ;
+      /**
+       * <code>uint64 deadline = 5;</code>
+       */
+      public long getDeadline() {
+        return deadline_;
+      }
+      /**
+       * <code>uint64 deadline = 5;</code>
+       */
+      public Builder setDeadline(long value) {
+        
+        deadline_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>uint64 deadline = 5;</code>
+       */
+      public Builder clearDeadline() {
+        
+        deadline_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private long requestid_ ;
+      /**
+       * <code>uint64 requestid = 6;</code>
+       */
+      public long getRequestid() {
+        return requestid_;
+      }
+      /**
+       * <code>uint64 requestid = 6;</code>
+       */
+      public Builder setRequestid(long value) {
+        
+        requestid_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>uint64 requestid = 6;</code>
+       */
+      public Builder clearRequestid() {
+        
+        requestid_ = 0L;
+        onChanged();
+        return this;
+      }
       public final Builder setUnknownFields(
           final com.google.protobuf.UnknownFieldSet unknownFields) {
         return super.setUnknownFieldsProto3(unknownFields);
@@ -879,19 +939,14 @@ public final class KeyValue {
       com.google.protobuf.MessageOrBuilder {
 
     /**
-     * <code>uint32 key = 1;</code>
+     * <code>bytes key = 5;</code>
      */
-    int getKey();
+    com.google.protobuf.ByteString getKey();
 
     /**
-     * <code>string value = 2;</code>
-     */
-    java.lang.String getValue();
-    /**
-     * <code>string value = 2;</code>
+     * <code>bytes value = 2;</code>
      */
-    com.google.protobuf.ByteString
-        getValueBytes();
+    com.google.protobuf.ByteString getValue();
 
     /**
      * <code>string status = 3;</code>
@@ -902,6 +957,11 @@ public final class KeyValue {
      */
     com.google.protobuf.ByteString
         getStatusBytes();
+
+    /**
+     * <code>uint64 requestid = 4;</code>
+     */
+    long getRequestid();
   }
   /**
    * Protobuf type {@code ClientResponse}
@@ -916,9 +976,10 @@ public final class KeyValue {
       super(builder);
     }
     private ClientResponse() {
-      key_ = 0;
-      value_ = "";
+      key_ = com.google.protobuf.ByteString.EMPTY;
+      value_ = com.google.protobuf.ByteString.EMPTY;
       status_ = "";
+      requestid_ = 0L;
     }
 
     @java.lang.Override
@@ -952,15 +1013,9 @@ public final class KeyValue {
               }
               break;
             }
-            case 8: {
-
-              key_ = input.readUInt32();
-              break;
-            }
             case 18: {
-              java.lang.String s = input.readStringRequireUtf8();
 
-              value_ = s;
+              value_ = input.readBytes();
               break;
             }
             case 26: {
@@ -969,6 +1024,16 @@ public final class KeyValue {
               status_ = s;
               break;
             }
+            case 32: {
+
+              requestid_ = input.readUInt64();
+              break;
+            }
+            case 42: {
+
+              key_ = input.readBytes();
+              break;
+            }
           }
         }
       } catch (com.google.protobuf.InvalidProtocolBufferException e) {
@@ -993,47 +1058,22 @@ public final class KeyValue {
               KeyValue.ClientResponse.class, KeyValue.ClientResponse.Builder.class);
     }
 
-    public static final int KEY_FIELD_NUMBER = 1;
-    private int key_;
+    public static final int KEY_FIELD_NUMBER = 5;
+    private com.google.protobuf.ByteString key_;
     /**
-     * <code>uint32 key = 1;</code>
+     * <code>bytes key = 5;</code>
      */
-    public int getKey() {
+    public com.google.protobuf.ByteString getKey() {
       return key_;
     }
 
     public static final int VALUE_FIELD_NUMBER = 2;
-    private volatile java.lang.Object value_;
-    /**
-     * <code>string value = 2;</code>
-     */
-    public java.lang.String getValue() {
-      java.lang.Object ref = value_;
-      if (ref instanceof java.lang.String) {
-        return (java.lang.String) ref;
-      } else {
-        com.google.protobuf.ByteString bs = 
-            (com.google.protobuf.ByteString) ref;
-        java.lang.String s = bs.toStringUtf8();
-        value_ = s;
-        return s;
-      }
-    }
+    private com.google.protobuf.ByteString value_;
     /**
-     * <code>string value = 2;</code>
+     * <code>bytes value = 2;</code>
      */
-    public com.google.protobuf.ByteString
-        getValueBytes() {
-      java.lang.Object ref = value_;
-      if (ref instanceof java.lang.String) {
-        com.google.protobuf.ByteString b = 
-            com.google.protobuf.ByteString.copyFromUtf8(
-                (java.lang.String) ref);
-        value_ = b;
-        return b;
-      } else {
-        return (com.google.protobuf.ByteString) ref;
-      }
+    public com.google.protobuf.ByteString getValue() {
+      return value_;
     }
 
     public static final int STATUS_FIELD_NUMBER = 3;
@@ -1070,6 +1110,15 @@ public final class KeyValue {
       }
     }
 
+    public static final int REQUESTID_FIELD_NUMBER = 4;
+    private long requestid_;
+    /**
+     * <code>uint64 requestid = 4;</code>
+     */
+    public long getRequestid() {
+      return requestid_;
+    }
+
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
       byte isInitialized = memoizedIsInitialized;
@@ -1082,15 +1131,18 @@ public final class KeyValue {
 
     public void writeTo(com.google.protobuf.CodedOutputStream output)
                         throws java.io.IOException {
-      if (key_ != 0) {
-        output.writeUInt32(1, key_);
-      }
-      if (!getValueBytes().isEmpty()) {
-        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, value_);
+      if (!value_.isEmpty()) {
+        output.writeBytes(2, value_);
       }
       if (!getStatusBytes().isEmpty()) {
         com.google.protobuf.GeneratedMessageV3.writeString(output, 3, status_);
       }
+      if (requestid_ != 0L) {
+        output.writeUInt64(4, requestid_);
+      }
+      if (!key_.isEmpty()) {
+        output.writeBytes(5, key_);
+      }
       unknownFields.writeTo(output);
     }
 
@@ -1099,16 +1151,21 @@ public final class KeyValue {
       if (size != -1) return size;
 
       size = 0;
-      if (key_ != 0) {
+      if (!value_.isEmpty()) {
         size += com.google.protobuf.CodedOutputStream
-          .computeUInt32Size(1, key_);
-      }
-      if (!getValueBytes().isEmpty()) {
-        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, value_);
+          .computeBytesSize(2, value_);
       }
       if (!getStatusBytes().isEmpty()) {
         size += com.google.protobuf.GeneratedMessageV3.computeStringSize(3, status_);
       }
+      if (requestid_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt64Size(4, requestid_);
+      }
+      if (!key_.isEmpty()) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(5, key_);
+      }
       size += unknownFields.getSerializedSize();
       memoizedSize = size;
       return size;
@@ -1125,12 +1182,14 @@ public final class KeyValue {
       KeyValue.ClientResponse other = (KeyValue.ClientResponse) obj;
 
       boolean result = true;
-      result = result && (getKey()
-          == other.getKey());
+      result = result && getKey()
+          .equals(other.getKey());
       result = result && getValue()
           .equals(other.getValue());
       result = result && getStatus()
           .equals(other.getStatus());
+      result = result && (getRequestid()
+          == other.getRequestid());
       result = result && unknownFields.equals(other.unknownFields);
       return result;
     }
@@ -1143,11 +1202,14 @@ public final class KeyValue {
       int hash = 41;
       hash = (19 * hash) + getDescriptor().hashCode();
       hash = (37 * hash) + KEY_FIELD_NUMBER;
-      hash = (53 * hash) + getKey();
+      hash = (53 * hash) + getKey().hashCode();
       hash = (37 * hash) + VALUE_FIELD_NUMBER;
       hash = (53 * hash) + getValue().hashCode();
       hash = (37 * hash) + STATUS_FIELD_NUMBER;
       hash = (53 * hash) + getStatus().hashCode();
+      hash = (37 * hash) + REQUESTID_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getRequestid());
       hash = (29 * hash) + unknownFields.hashCode();
       memoizedHashCode = hash;
       return hash;
@@ -1277,12 +1339,14 @@ public final class KeyValue {
       }
       public Builder clear() {
         super.clear();
-        key_ = 0;
+        key_ = com.google.protobuf.ByteString.EMPTY;
 
-        value_ = "";
+        value_ = com.google.protobuf.ByteString.EMPTY;
 
         status_ = "";
 
+        requestid_ = 0L;
+
         return this;
       }
 
@@ -1308,6 +1372,7 @@ public final class KeyValue {
         result.key_ = key_;
         result.value_ = value_;
         result.status_ = status_;
+        result.requestid_ = requestid_;
         onBuilt();
         return result;
       }
@@ -1349,17 +1414,19 @@ public final class KeyValue {
 
       public Builder mergeFrom(KeyValue.ClientResponse other) {
         if (other == KeyValue.ClientResponse.getDefaultInstance()) return this;
-        if (other.getKey() != 0) {
+        if (other.getKey() != com.google.protobuf.ByteString.EMPTY) {
           setKey(other.getKey());
         }
-        if (!other.getValue().isEmpty()) {
-          value_ = other.value_;
-          onChanged();
+        if (other.getValue() != com.google.protobuf.ByteString.EMPTY) {
+          setValue(other.getValue());
         }
         if (!other.getStatus().isEmpty()) {
           status_ = other.status_;
           onChanged();
         }
+        if (other.getRequestid() != 0L) {
+          setRequestid(other.getRequestid());
+        }
         this.mergeUnknownFields(other.unknownFields);
         onChanged();
         return this;
@@ -1387,69 +1454,46 @@ public final class KeyValue {
         return this;
       }
 
-      private int key_ ;
+      private com.google.protobuf.ByteString key_ = com.google.protobuf.ByteString.EMPTY;
       /**
-       * <code>uint32 key = 1;</code>
+       * <code>bytes key = 5;</code>
        */
-      public int getKey() {
+      public com.google.protobuf.ByteString getKey() {
         return key_;
       }
       /**
-       * <code>uint32 key = 1;</code>
+       * <code>bytes key = 5;</code>
        */
-      public Builder setKey(int value) {
-        
+      public Builder setKey(com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
         key_ = value;
         onChanged();
         return this;
       }
       /**
-       * <code>uint32 key = 1;</code>
+       * <code>bytes key = 5;</code>
        */
       public Builder clearKey() {
         
-        key_ = 0;
+        key_ = getDefaultInstance().getKey();
         onChanged();
         return this;
       }
 
-      private java.lang.Object value_ = "";
-      /**
-       * <code>string value = 2;</code>
-       */
-      public java.lang.String getValue() {
-        java.lang.Object ref = value_;
-        if (!(ref instanceof java.lang.String)) {
-          com.google.protobuf.ByteString bs =
-              (com.google.protobuf.ByteString) ref;
-          java.lang.String s = bs.toStringUtf8();
-          value_ = s;
-          return s;
-        } else {
-          return (java.lang.String) ref;
-        }
-      }
+      private com.google.protobuf.ByteString value_ = com.google.protobuf.ByteString.EMPTY;
       /**
-       * <code>string value = 2;</code>
+       * <code>bytes value = 2;</code>
        */
-      public com.google.protobuf.ByteString
-          getValueBytes() {
-        java.lang.Object ref = value_;
-        if (ref instanceof String) {
-          com.google.protobuf.ByteString b = 
-              com.google.protobuf.ByteString.copyFromUtf8(
-                  (java.lang.String) ref);
-          value_ = b;
-          return b;
-        } else {
-          return (com.google.protobuf.ByteString) ref;
-        }
+      public com.google.protobuf.ByteString getValue() {
+        return value_;
       }
       /**
-       * <code>string value = 2;</code>
+       * <code>bytes value = 2;</code>
        */
-      public Builder setValue(
-          java.lang.String value) {
+      public Builder setValue(com.google.protobuf.ByteString value) {
         if (value == null) {
     throw new NullPointerException();
   }
@@ -1459,7 +1503,7 @@ public final class KeyValue {
         return this;
       }
       /**
-       * <code>string value = 2;</code>
+       * <code>bytes value = 2;</code>
        */
       public Builder clearValue() {
         
@@ -1467,20 +1511,6 @@ public final class KeyValue {
         onChanged();
         return this;
       }
-      /**
-       * <code>string value = 2;</code>
-       */
-      public Builder setValueBytes(
-          com.google.protobuf.ByteString value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  checkByteStringIsUtf8(value);
-        
-        value_ = value;
-        onChanged();
-        return this;
-      }
 
       private java.lang.Object status_ = "";
       /**
@@ -1550,6 +1580,32 @@ public final class KeyValue {
         onChanged();
         return this;
       }
+
+      private long requestid_ ;
+      /**
+       * <code>uint64 requestid = 4;</code>
+       */
+      public long getRequestid() {
+        return requestid_;
+      }
+      /**
+       * <code>uint64 requestid = 4;</code>
+       */
+      public Builder setRequestid(long value) {
+        
+        requestid_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>uint64 requestid = 4;</code>
+       */
+      public Builder clearRequestid() {
+        
+        requestid_ = 0L;
+        onChanged();
+        return this;
+      }
       public final Builder setUnknownFields(
           final com.google.protobuf.UnknownFieldSet unknownFields) {
         return super.setUnknownFieldsProto3(unknownFields);
@@ -1604,19 +1660,14 @@ public final class KeyValue {
       com.google.protobuf.MessageOrBuilder {
 
     /**
-     * <code>uint32 key = 1;</code>
+     * <code>bytes key = 8;</code>
      */
-    int getKey();
+    com.google.protobuf.ByteString getKey();
 
     /**
-     * <code>string value = 2;</code>
-     */
-    java.lang.String getValue();
-    /**
-     * <code>string value = 2;</code>
+     * <code>bytes value = 2;</code>
      */
-    com.google.protobuf.ByteString
-        getValueBytes();
+    com.google.protobuf.ByteString getValue();
 
     /**
      * <code>uint64 timestamp = 3;</code>
@@ -1642,6 +1693,16 @@ public final class KeyValue {
      */
     com.google.protobuf.ByteString
         getReplicanameBytes();
+
+    /**
+     * <code>uint64 requestid = 6;</code>
+     */
+    long getRequestid();
+
+    /**
+     * <code>uint64 deadline = 7;</code>
+     */
+    long getDeadline();
   }
   /**
    * Protobuf type {@code ServerRequest}
@@ -1656,11 +1717,13 @@ public final class KeyValue {
       super(builder);
     }
     private ServerRequest() {
-      key_ = 0;
-      value_ = "";
+      key_ = com.google.protobuf.ByteString.EMPTY;
+      value_ = com.google.protobuf.ByteString.EMPTY;
       timestamp_ = 0L;
       type_ = "";
       replicaname_ = "";
+      requestid_ = 0L;
+      deadline_ = 0L;
     }
 
     @java.lang.Override
@@ -1694,15 +1757,9 @@ public final class KeyValue {
               }
               break;
             }
-            case 8: {
-
-              key_ = input.readUInt32();
-              break;
-            }
             case 18: {
-              java.lang.String s = input.readStringRequireUtf8();
 
-              value_ = s;
+              value_ = input.readBytes();
               break;
             }
             case 24: {
@@ -1722,6 +1779,21 @@ public final class KeyValue {
               replicaname_ = s;
               break;
             }
+            case 48: {
+
+              requestid_ = input.readUInt64();
+              break;
+            }
+            case 56: {
+
+              deadline_ = input.readUInt64();
+              break;
+            }
+            case 66: {
+
+              key_ = input.readBytes();
+              break;
+            }
           }
         }
       } catch (com.google.protobuf.InvalidProtocolBufferException e) {
@@ -1746,47 +1818,22 @@ public final class KeyValue {
               KeyValue.ServerRequest.class, KeyValue.ServerRequest.Builder.class);
     }
 
-    public static final int KEY_FIELD_NUMBER = 1;
-    private int key_;
+    public static final int KEY_FIELD_NUMBER = 8;
+    private com.google.protobuf.ByteString key_;
     /**
-     * <code>uint32 key = 1;</code>
+     * <code>bytes key = 8;</code>
      */
-    public int getKey() {
+    public com.google.protobuf.ByteString getKey() {
       return key_;
     }
 
     public static final int VALUE_FIELD_NUMBER = 2;
-    private volatile java.lang.Object value_;
-    /**
-     * <code>string value = 2;</code>
-     */
-    public java.lang.String getValue() {
-      java.lang.Object ref = value_;
-      if (ref instanceof java.lang.String) {
-        return (java.lang.String) ref;
-      } else {
-        com.google.protobuf.ByteString bs = 
-            (com.google.protobuf.ByteString) ref;
-        java.lang.String s = bs.toStringUtf8();
-        value_ = s;
-        return s;
-      }
-    }
+    private com.google.protobuf.ByteString value_;
     /**
-     * <code>string value = 2;</code>
+     * <code>bytes value = 2;</code>
      */
-    public com.google.protobuf.ByteString
-        getValueBytes() {
-      java.lang.Object ref = value_;
-      if (ref instanceof java.lang.String) {
-        com.google.protobuf.ByteString b = 
-            com.google.protobuf.ByteString.copyFromUtf8(
-                (java.lang.String) ref);
-        value_ = b;
-        return b;
-      } else {
-        return (com.google.protobuf.ByteString) ref;
-      }
+    public com.google.protobuf.ByteString getValue() {
+      return value_;
     }
 
     public static final int TIMESTAMP_FIELD_NUMBER = 3;
@@ -1866,6 +1913,24 @@ public final class KeyValue {
       }
     }
 
+    public static final int REQUESTID_FIELD_NUMBER = 6;
+    private long requestid_;
+    /**
+     * <code>uint64 requestid = 6;</code>
+     */
+    public long getRequestid() {
+      return requestid_;
+    }
+
+    public static final int DEADLINE_FIELD_NUMBER = 7;
+    private long deadline_;
+    /**
+     * <code>uint64 deadline = 7;</code>
+     */
+    public long getDeadline() {
+      return deadline_;
+    }
+
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
       byte isInitialized = memoizedIsInitialized;
@@ -1878,11 +1943,8 @@ public final class KeyValue {
 
     public void writeTo(com.google.protobuf.CodedOutputStream output)
                         throws java.io.IOException {
-      if (key_ != 0) {
-        output.writeUInt32(1, key_);
-      }
-      if (!getValueBytes().isEmpty()) {
-        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, value_);
+      if (!value_.isEmpty()) {
+        output.writeBytes(2, value_);
       }
       if (timestamp_ != 0L) {
         output.writeUInt64(3, timestamp_);
@@ -1893,6 +1955,15 @@ public final class KeyValue {
       if (!getReplicanameBytes().isEmpty()) {
         com.google.protobuf.GeneratedMessageV3.writeString(output, 5, replicaname_);
       }
+      if (requestid_ != 0L) {
+        output.writeUInt64(6, requestid_);
+      }
+      if (deadline_ != 0L) {
+        output.writeUInt64(7, deadline_);
+      }
+      if (!key_.isEmpty()) {
+        output.writeBytes(8, key_);
+      }
       unknownFields.writeTo(output);
     }
 
@@ -1901,12 +1972,9 @@ public final class KeyValue {
       if (size != -1) return size;
 
       size = 0;
-      if (key_ != 0) {
+      if (!value_.isEmpty()) {
         size += com.google.protobuf.CodedOutputStream
-          .computeUInt32Size(1, key_);
-      }
-      if (!getValueBytes().isEmpty()) {
-        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, value_);
+          .computeBytesSize(2, value_);
       }
       if (timestamp_ != 0L) {
         size += com.google.protobuf.CodedOutputStream
@@ -1918,6 +1986,18 @@ public final class KeyValue {
       if (!getReplicanameBytes().isEmpty()) {
         size += com.google.protobuf.GeneratedMessageV3.computeStringSize(5, replicaname_);
       }
+      if (requestid_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt64Size(6, requestid_);
+      }
+      if (deadline_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt64Size(7, deadline_);
+      }
+      if (!key_.isEmpty()) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(8, key_);
+      }
       size += unknownFields.getSerializedSize();
       memoizedSize = size;
       return size;
@@ -1934,8 +2014,8 @@ public final class KeyValue {
       KeyValue.ServerRequest other = (KeyValue.ServerRequest) obj;
 
       boolean result = true;
-      result = result && (getKey()
-          == other.getKey());
+      result = result && getKey()
+          .equals(other.getKey());
       result = result && getValue()
           .equals(other.getValue());
       result = result && (getTimestamp()
@@ -1944,6 +2024,10 @@ public final class KeyValue {
           .equals(other.getType());
       result = result && getReplicaname()
           .equals(other.getReplicaname());
+      result = result && (getRequestid()
+          == other.getRequestid());
+      result = result && (getDeadline()
+          == other.getDeadline());
       result = result && unknownFields.equals(other.unknownFields);
       return result;
     }
@@ -1956,7 +2040,7 @@ public final class KeyValue {
       int hash = 41;
       hash = (19 * hash) + getDescriptor().hashCode();
       hash = (37 * hash) + KEY_FIELD_NUMBER;
-      hash = (53 * hash) + getKey();
+      hash = (53 * hash) + getKey().hashCode();
       hash = (37 * hash) + VALUE_FIELD_NUMBER;
       hash = (53 * hash) + getValue().hashCode();
       hash = (37 * hash) + TIMESTAMP_FIELD_NUMBER;
@@ -1966,6 +2050,12 @@ public final class KeyValue {
       hash = (53 * hash) + getType().hashCode();
       hash = (37 * hash) + REPLICANAME_FIELD_NUMBER;
       hash = (53 * hash) + getReplicaname().hashCode();
+      hash = (37 * hash) + REQUESTID_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getRequestid());
+      hash = (37 * hash) + DEADLINE_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getDeadline());
       hash = (29 * hash) + unknownFields.hashCode();
       memoizedHashCode = hash;
       return hash;
@@ -2095,9 +2185,9 @@ public final class KeyValue {
       }
       public Builder clear() {
         super.clear();
-        key_ = 0;
+        key_ = com.google.protobuf.ByteString.EMPTY;
 
-        value_ = "";
+        value_ = com.google.protobuf.ByteString.EMPTY;
 
         timestamp_ = 0L;
 
@@ -2105,6 +2195,10 @@ public final class KeyValue {
 
         replicaname_ = "";
 
+        requestid_ = 0L;
+
+        deadline_ = 0L;
+
         return this;
       }
 
@@ -2132,6 +2226,8 @@ public final class KeyValue {
         result.timestamp_ = timestamp_;
         result.type_ = type_;
         result.replicaname_ = replicaname_;
+        result.requestid_ = requestid_;
+        result.deadline_ = deadline_;
         onBuilt();
         return result;
       }
@@ -2173,12 +2269,11 @@ public final class KeyValue {
 
       public Builder mergeFrom(KeyValue.ServerRequest other) {
         if (other == KeyValue.ServerRequest.getDefaultInstance()) return this;
-        if (other.getKey() != 0) {
+        if (other.getKey() != com.google.protobuf.ByteString.EMPTY) {
           setKey(other.getKey());
         }
-        if (!other.getValue().isEmpty()) {
-          value_ = other.value_;
-          onChanged();
+        if (other.getValue() != com.google.protobuf.ByteString.EMPTY) {
+          setValue(other.getValue());
         }
         if (other.getTimestamp() != 0L) {
           setTimestamp(other.getTimestamp());
@@ -2191,6 +2286,12 @@ public final class KeyValue {
           replicaname_ = other.replicaname_;
           onChanged();
         }
+        if (other.getRequestid() != 0L) {
+          setRequestid(other.getRequestid());
+        }
+        if (other.getDeadline() != 0L) {
+          setDeadline(other.getDeadline());
+        }
         this.mergeUnknownFields(other.unknownFields);
         onChanged();
         return this;
@@ -2218,69 +2319,46 @@ public final class KeyValue {
         return this;
       }
 
-      private int key_ ;
+      private com.google.protobuf.ByteString key_ = com.google.protobuf.ByteString.EMPTY;
       /**
-       * <code>uint32 key = 1;</code>
+       * <code>bytes key = 8;</code>
        */
-      public int getKey() {
+      public com.google.protobuf.ByteString getKey() {
         return key_;
       }
       /**
-       * <code>uint32 key = 1;</code>
+       * <code>bytes key = 8;</code>
        */
-      public Builder setKey(int value) {
-        
+      public Builder setKey(com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
         key_ = value;
         onChanged();
         return this;
       }
       /**
-       * <code>uint32 key = 1;</code>
+       * <code>bytes key = 8;</code>
        */
       public Builder clearKey() {
         
-        key_ = 0;
+        key_ = getDefaultInstance().getKey();
         onChanged();
         return this;
       }
 
-      private java.lang.Object value_ = "";
-      /**
-       * <code>string value = 2;</code>
-       */
-      public java.lang.String getValue() {
-        java.lang.Object ref = value_;
-        if (!(ref instanceof java.lang.String)) {
-          com.google.protobuf.ByteString bs =
-              (com.google.protobuf.ByteString) ref;
-          java.lang.String s = bs.toStringUtf8();
-          value_ = s;
-          return s;
-        } else {
-          return (java.lang.String) ref;
-        }
-      }
+      private com.google.protobuf.ByteString value_ = com.google.protobuf.ByteString.EMPTY;
       /**
-       * <code>string value = 2;</code>
+       * <code>bytes value = 2;</code>
        */
-      public com.google.protobuf.ByteString
-          getValueBytes() {
-        java.lang.Object ref = value_;
-        if (ref instanceof String) {
-          com.google.protobuf.ByteString b = 
-              com.google.protobuf.ByteString.copyFromUtf8(
-                  (java.lang.String) ref);
-          value_ = b;
-          return b;
-        } else {
-          return (com.google.protobuf.ByteString) ref;
-        }
+      public com.google.protobuf.ByteString getValue() {
+        return value_;
       }
       /**
-       * <code>string value = 2;</code>
+       * <code>bytes value = 2;</code>
        */
-      public Builder setValue(
-          java.lang.String value) {
+      public Builder setValue(com.google.protobuf.ByteString value) {
         if (value == null) {
     throw new NullPointerException();
   }
@@ -2290,7 +2368,7 @@ public final class KeyValue {
         return this;
       }
       /**
-       * <code>string value = 2;</code>
+       * <code>bytes value = 2;</code>
        */
       public Builder clearValue() {
         
@@ -2298,20 +2376,6 @@ public final class KeyValue {
         onChanged();
         return this;
       }
-      /**
-       * <code>string value = 2;</code>
-       */
-      public Builder setValueBytes(
-          com.google.protobuf.ByteString value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  checkByteStringIsUtf8(value);
-        
-        value_ = value;
-        onChanged();
-        return this;
-      }
 
       private long timestamp_ ;
       /**
@@ -2476,6 +2540,58 @@ public final class KeyValue {
         onChanged();
         return this;
       }
+
+      private long requestid_ ;
+      /**
+       * <code>uint64 requestid = 6;</code>
+       */
+      public long getRequestid() {
+        return requestid_;
+      }
+      /**
+       * <code>uint64 requestid = 6;</code>
+       */
+      public Builder setRequestid(long value) {
+        
+        requestid_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>uint64 requestid = 6;</code>
+       */
+      public Builder clearRequestid() {
+        
+        requestid_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private long deadline_ ;
+      /**
+       * <code>uint64 deadline = 7;</code>
+       */
+      public long getDeadline() {
+        return deadline_;
+      }
+      /**
+       * <code>uint64 deadline = 7;</code>
+       */
+      public Builder setDeadline(long value) {
+        
+        deadline_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>uint64 deadline = 7;</code>
+       */
+      public Builder clearDeadline() {
+        
+        deadline_ = 0L;
+        onChanged();
+        return this;
+      }
       public final Builder setUnknownFields(
           final com.google.protobuf.UnknownFieldSet unknownFields) {
         return super.setUnknownFieldsProto3(unknownFields);
@@ -2530,19 +2646,14 @@ public final class KeyValue {
       com.google.protobuf.MessageOrBuilder {
 
     /**
-     * <code>uint32 key = 1;</code>
+     * <code>bytes key = 6;</code>
      */
-    int getKey();
+    com.google.protobuf.ByteString getKey();
 
     /**
-     * <code>string value = 2;</code>
-     */
-    java.lang.String getValue();
-    /**
-     * <code>string value = 2;</code>
+     * <code>bytes value = 2;</code>
      */
-    com.google.protobuf.ByteString
-        getValueBytes();
+    com.google.protobuf.ByteString getValue();
 
     /**
      * <code>uint64 timestamp = 3;</code>
@@ -2558,6 +2669,11 @@ public final class KeyValue {
      */
     com.google.protobuf.ByteString
         getStatusBytes();
+
+    /**
+     * <code>uint64 requestid = 5;</code>
+     */
+    long getRequestid();
   }
   /**
    * Protobuf type {@code ServerResponse}
@@ -2572,10 +2688,11 @@ public final class KeyValue {
       super(builder);
     }
     private ServerResponse() {
-      key_ = 0;
-      value_ = "";
+      key_ = com.google.protobuf.ByteString.EMPTY;
+      value_ = com.google.protobuf.ByteString.EMPTY;
       timestamp_ = 0L;
       status_ = "";
+      requestid_ = 0L;
     }
 
     @java.lang.Override
@@ -2609,15 +2726,9 @@ public final class KeyValue {
               }
               break;
             }
-            case 8: {
-
-              key_ = input.readUInt32();
-              break;
-            }
             case 18: {
-              java.lang.String s = input.readStringRequireUtf8();
 
-              value_ = s;
+              value_ = input.readBytes();
               break;
             }
             case 24: {
@@ -2631,6 +2742,16 @@ public final class KeyValue {
               status_ = s;
               break;
             }
+            case 40: {
+
+              requestid_ = input.readUInt64();
+              break;
+            }
+            case 50: {
+
+              key_ = input.readBytes();
+              break;
+            }
           }
         }
       } catch (com.google.protobuf.InvalidProtocolBufferException e) {
@@ -2655,47 +2776,22 @@ public final class KeyValue {
               KeyValue.ServerResponse.class, KeyValue.ServerResponse.Builder.class);
     }
 
-    public static final int KEY_FIELD_NUMBER = 1;
-    private int key_;
+    public static final int KEY_FIELD_NUMBER = 6;
+    private com.google.protobuf.ByteString key_;
     /**
-     * <code>uint32 key = 1;</code>
+     * <code>bytes key = 6;</code>
      */
-    public int getKey() {
+    public com.google.protobuf.ByteString getKey() {
       return key_;
     }
 
     public static final int VALUE_FIELD_NUMBER = 2;
-    private volatile java.lang.Object value_;
-    /**
-     * <code>string value = 2;</code>
-     */
-    public java.lang.String getValue() {
-      java.lang.Object ref = value_;
-      if (ref instanceof java.lang.String) {
-        return (java.lang.String) ref;
-      } else {
-        com.google.protobuf.ByteString bs = 
-            (com.google.protobuf.ByteString) ref;
-        java.lang.String s = bs.toStringUtf8();
-        value_ = s;
-        return s;
-      }
-    }
+    private com.google.protobuf.ByteString value_;
     /**
-     * <code>string value = 2;</code>
+     * <code>bytes value = 2;</code>
      */
-    public com.google.protobuf.ByteString
-        getValueBytes() {
-      java.lang.Object ref = value_;
-      if (ref instanceof java.lang.String) {
-        com.google.protobuf.ByteString b = 
-            com.google.protobuf.ByteString.copyFromUtf8(
-                (java.lang.String) ref);
-        value_ = b;
-        return b;
-      } else {
-        return (com.google.protobuf.ByteString) ref;
-      }
+    public com.google.protobuf.ByteString getValue() {
+      return value_;
     }
 
     public static final int TIMESTAMP_FIELD_NUMBER = 3;
@@ -2741,6 +2837,15 @@ public final class KeyValue {
       }
     }
 
+    public static final int REQUESTID_FIELD_NUMBER = 5;
+    private long requestid_;
+    /**
+     * <code>uint64 requestid = 5;</code>
+     */
+    public long getRequestid() {
+      return requestid_;
+    }
+
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
       byte isInitialized = memoizedIsInitialized;
@@ -2753,11 +2858,8 @@ public final class KeyValue {
 
     public void writeTo(com.google.protobuf.CodedOutputStream output)
                         throws java.io.IOException {
-      if (key_ != 0) {
-        output.writeUInt32(1, key_);
-      }
-      if (!getValueBytes().isEmpty()) {
-        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, value_);
+      if (!value_.isEmpty()) {
+        output.writeBytes(2, value_);
       }
       if (timestamp_ != 0L) {
         output.writeUInt64(3, timestamp_);
@@ -2765,6 +2867,12 @@ public final class KeyValue {
       if (!getStatusBytes().isEmpty()) {
         com.google.protobuf.GeneratedMessageV3.writeString(output, 4, status_);
       }
+      if (requestid_ != 0L) {
+        output.writeUInt64(5, requestid_);
+      }
+      if (!key_.isEmpty()) {
+        output.writeBytes(6, key_);
+      }
       unknownFields.writeTo(output);
     }
 
@@ -2773,12 +2881,9 @@ public final class KeyValue {
       if (size != -1) return size;
 
       size = 0;
-      if (key_ != 0) {
+      if (!value_.isEmpty()) {
         size += com.google.protobuf.CodedOutputStream
-          .computeUInt32Size(1, key_);
-      }
-      if (!getValueBytes().isEmpty()) {
-        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, value_);
+          .computeBytesSize(2, value_);
       }
       if (timestamp_ != 0L) {
         size += com.google.protobuf.CodedOutputStream
@@ -2787,6 +2892,14 @@ public final class KeyValue {
       if (!getStatusBytes().isEmpty()) {
         size += com.google.protobuf.GeneratedMessageV3.computeStringSize(4, status_);
       }
+      if (requestid_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt64Size(5, requestid_);
+      }
+      if (!key_.isEmpty()) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(6, key_);
+      }
       size += unknownFields.getSerializedSize();
       memoizedSize = size;
       return size;
@@ -2803,14 +2916,16 @@ public final class KeyValue {
       KeyValue.ServerResponse other = (KeyValue.ServerResponse) obj;
 
       boolean result = true;
-      result = result && (getKey()
-          == other.getKey());
+      result = result && getKey()
+          .equals(other.getKey());
       result = result && getValue()
           .equals(other.getValue());
       result = result && (getTimestamp()
           == other.getTimestamp());
       result = result && getStatus()
           .equals(other.getStatus());
+      result = result && (getRequestid()
+          == other.getRequestid());
       result = result && unknownFields.equals(other.unknownFields);
       return result;
     }
@@ -2823,7 +2938,7 @@ public final class KeyValue {
       int hash = 41;
       hash = (19 * hash) + getDescriptor().hashCode();
       hash = (37 * hash) + KEY_FIELD_NUMBER;
-      hash = (53 * hash) + getKey();
+      hash = (53 * hash) + getKey().hashCode();
       hash = (37 * hash) + VALUE_FIELD_NUMBER;
       hash = (53 * hash) + getValue().hashCode();
       hash = (37 * hash) + TIMESTAMP_FIELD_NUMBER;
@@ -2831,6 +2946,9 @@ public final class KeyValue {
           getTimestamp());
       hash = (37 * hash) + STATUS_FIELD_NUMBER;
       hash = (53 * hash) + getStatus().hashCode();
+      hash = (37 * hash) + REQUESTID_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getRequestid());
       hash = (29 * hash) + unknownFields.hashCode();
       memoizedHashCode = hash;
       return hash;
@@ -2960,14 +3078,16 @@ public final class KeyValue {
       }
       public Builder clear() {
         super.clear();
-        key_ = 0;
+        key_ = com.google.protobuf.ByteString.EMPTY;
 
-        value_ = "";
+        value_ = com.google.protobuf.ByteString.EMPTY;
 
         timestamp_ = 0L;
 
         status_ = "";
 
+        requestid_ = 0L;
+
         return this;
       }
 
@@ -2994,6 +3114,7 @@ public final class KeyValue {
         result.value_ = value_;
         result.timestamp_ = timestamp_;
         result.status_ = status_;
+        result.requestid_ = requestid_;
         onBuilt();
         return result;
       }
@@ -3035,12 +3156,11 @@ public final class KeyValue {
 
       public Builder mergeFrom(KeyValue.ServerResponse other) {
         if (other == KeyValue.ServerResponse.getDefaultInstance()) return this;
-        if (other.getKey() != 0) {
+        if (other.getKey() != com.google.protobuf.ByteString.EMPTY) {
           setKey(other.getKey());
         }
-        if (!other.getValue().isEmpty()) {
-          value_ = other.value_;
-          onChanged();
+        if (other.getValue() != com.google.protobuf.ByteString.EMPTY) {
+          setValue(other.getValue());
         }
         if (other.getTimestamp() != 0L) {
           setTimestamp(other.getTimestamp());
@@ -3049,6 +3169,9 @@ public final class KeyValue {
           status_ = other.status_;
           onChanged();
         }
+        if (other.getRequestid() != 0L) {
+          setRequestid(other.getRequestid());
+        }
         this.mergeUnknownFields(other.unknownFields);
         onChanged();
         return this;
@@ -3076,69 +3199,46 @@ public final class KeyValue {
         return this;
       }
 
-      private int key_ ;
+      private com.google.protobuf.ByteString key_ = com.google.protobuf.ByteString.EMPTY;
       /**
-       * <code>uint32 key = 1;</code>
+       * <code>bytes key = 6;</code>
        */
-      public int getKey() {
+      public com.google.protobuf.ByteString getKey() {
         return key_;
       }
       /**
-       * <code>uint32 key = 1;</code>
+       * <code>bytes key = 6;</code>
        */
-      public Builder setKey(int value) {
-        
+      public Builder setKey(com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
         key_ = value;
         onChanged();
         return this;
       }
       /**
-       * <code>uint32 key = 1;</code>
+       * <code>bytes key = 6;</code>
        */
       public Builder clearKey() {
         
-        key_ = 0;
+        key_ = getDefaultInstance().getKey();
         onChanged();
         return this;
       }
 
-      private java.lang.Object value_ = "";
-      /**
-       * <code>string value = 2;</code>
-       */
-      public java.lang.String getValue() {
-        java.lang.Object ref = value_;
-        if (!(ref instanceof java.lang.String)) {
-          com.google.protobuf.ByteString bs =
-              (com.google.protobuf.ByteString) ref;
-          java.lang.String s = bs.toStringUtf8();
-          value_ = s;
-          return s;
-        } else {
-          return (java.lang.String) ref;
-        }
-      }
+      private com.google.protobuf.ByteString value_ = com.google.protobuf.ByteString.EMPTY;
       /**
-       * <code>string value = 2;</code>
+       * <code>bytes value = 2;</code>
        */
-      public com.google.protobuf.ByteString
-          getValueBytes() {
-        java.lang.Object ref = value_;
-        if (ref instanceof String) {
-          com.google.protobuf.ByteString b = 
-              com.google.protobuf.ByteString.copyFromUtf8(
-                  (java.lang.String) ref);
-          value_ = b;
-          return b;
-        } else {
-          return (com.google.protobuf.ByteString) ref;
-        }
+      public com.google.protobuf.ByteString getValue() {
+        return value_;
       }
       /**
-       * <code>string value = 2;</code>
+       * <code>bytes value = 2;</code>
        */
-      public Builder setValue(
-          java.lang.String value) {
+      public Builder setValue(com.google.protobuf.ByteString value) {
         if (value == null) {
     throw new NullPointerException();
   }
@@ -3148,7 +3248,7 @@ public final class KeyValue {
         return this;
       }
       /**
-       * <code>string value = 2;</code>
+       * <code>bytes value = 2;</code>
        */
       public Builder clearValue() {
         
@@ -3156,20 +3256,6 @@ public final class KeyValue {
         onChanged();
         return this;
       }
-      /**
-       * <code>string value = 2;</code>
-       */
-      public Builder setValueBytes(
-          com.google.protobuf.ByteString value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  checkByteStringIsUtf8(value);
-        
-        value_ = value;
-        onChanged();
-        return this;
-      }
 
       private long timestamp_ ;
       /**
@@ -3265,6 +3351,32 @@ public final class KeyValue {
         onChanged();
         return this;
       }
+
+      private long requestid_ ;
+      /**
+       * <code>uint64 requestid = 5;</code>
+       */
+      public long getRequestid() {
+        return requestid_;
+      }
+      /**
+       * <code>uint64 requestid = 5;</code>
+       */
+      public Builder setRequestid(long value) {
+        
+        requestid_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>uint64 requestid = 5;</code>
+       */
+      public Builder clearRequestid() {
+        
+        requestid_ = 0L;
+        onChanged();
+        return this;
+      }
       public final Builder setUnknownFields(
           final com.google.protobuf.UnknownFieldSet unknownFields) {
         return super.setUnknownFieldsProto3(unknownFields);
@@ -3314,77 +3426,60 @@ public final class KeyValue {
 
   }
 
-  public interface KeyValueMessageOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:KeyValueMessage)
+  public interface ClientBatchRequestOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:ClientBatchRequest)
       com.google.protobuf.MessageOrBuilder {
 
     /**
-     * <code>.ClientRequest clientRequest = 1;</code>
+     * <code>repeated .ClientRequest requests = 1;</code>
      */
-    boolean hasClientRequest();
+    java.util.List<KeyValue.ClientRequest> 
+        getRequestsList();
     /**
-     * <code>.ClientRequest clientRequest = 1;</code>
+     * <code>repeated .ClientRequest requests = 1;</code>
      */
-    KeyValue.ClientRequest getClientRequest();
+    KeyValue.ClientRequest getRequests(int index);
     /**
-     * <code>.ClientRequest clientRequest = 1;</code>
+     * <code>repeated .ClientRequest requests = 1;</code>
      */
-    KeyValue.ClientRequestOrBuilder getClientRequestOrBuilder();
-
+    int getRequestsCount();
     /**
-     * <code>.ClientResponse clientResponse = 2;</code>
+     * <code>repeated .ClientRequest requests = 1;</code>
      */
-    boolean hasClientResponse();
+    java.util.List<? extends KeyValue.ClientRequestOrBuilder> 
+        getRequestsOrBuilderList();
     /**
-     * <code>.ClientResponse clientResponse = 2;</code>
+     * <code>repeated .ClientRequest requests = 1;</code>
      */
-    KeyValue.ClientResponse getClientResponse();
+    KeyValue.ClientRequestOrBuilder getRequestsOrBuilder(
+        int index);
+
     /**
-     * <code>.ClientResponse clientResponse = 2;</code>
+     * <code>uint64 deadline = 2;</code>
      */
-    KeyValue.ClientResponseOrBuilder getClientResponseOrBuilder();
+    long getDeadline();
 
     /**
-     * <code>.ServerRequest serverRequest = 3;</code>
+     * <code>uint64 requestid = 3;</code>
      */
-    boolean hasServerRequest();
-    /**
-     * <code>.ServerRequest serverRequest = 3;</code>
-     */
-    KeyValue.ServerRequest getServerRequest();
-    /**
-     * <code>.ServerRequest serverRequest = 3;</code>
-     */
-    KeyValue.ServerRequestOrBuilder getServerRequestOrBuilder();
-
-    /**
-     * <code>.ServerResponse serverResponse = 4;</code>
-     */
-    boolean hasServerResponse();
-    /**
-     * <code>.ServerResponse serverResponse = 4;</code>
-     */
-    KeyValue.ServerResponse getServerResponse();
-    /**
-     * <code>.ServerResponse serverResponse = 4;</code>
-     */
-    KeyValue.ServerResponseOrBuilder getServerResponseOrBuilder();
-
-    public KeyValue.KeyValueMessage.KeyvalueMessageCase getKeyvalueMessageCase();
+    long getRequestid();
   }
   /**
-   * Protobuf type {@code KeyValueMessage}
+   * Protobuf type {@code ClientBatchRequest}
    */
-  public  static final class KeyValueMessage extends
+  public  static final class ClientBatchRequest extends
       com.google.protobuf.GeneratedMessageV3 implements
-      // @@protoc_insertion_point(message_implements:KeyValueMessage)
-      KeyValueMessageOrBuilder {
+      // @@protoc_insertion_point(message_implements:ClientBatchRequest)
+      ClientBatchRequestOrBuilder {
   private static final long serialVersionUID = 0L;
-    // Use KeyValueMessage.newBuilder() to construct.
-    private KeyValueMessage(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    // Use ClientBatchRequest.newBuilder() to construct.
+    private ClientBatchRequest(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
       super(builder);
     }
-    private KeyValueMessage() {
+    private ClientBatchRequest() {
+      requests_ = java.util.Collections.emptyList();
+      deadline_ = 0L;
+      requestid_ = 0L;
     }
 
     @java.lang.Override
@@ -3392,7 +3487,7 @@ public final class KeyValue {
     getUnknownFields() {
       return this.unknownFields;
     }
-    private KeyValueMessage(
+    private ClientBatchRequest(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
@@ -3419,59 +3514,22 @@ public final class KeyValue {
               break;
             }
             case 10: {
-              KeyValue.ClientRequest.Builder subBuilder = null;
-              if (keyvalueMessageCase_ == 1) {
-                subBuilder = ((KeyValue.ClientRequest) keyvalueMessage_).toBuilder();
-              }
-              keyvalueMessage_ =
-                  input.readMessage(KeyValue.ClientRequest.parser(), extensionRegistry);
-              if (subBuilder != null) {
-                subBuilder.mergeFrom((KeyValue.ClientRequest) keyvalueMessage_);
-                keyvalueMessage_ = subBuilder.buildPartial();
-              }
-              keyvalueMessageCase_ = 1;
-              break;
-            }
-            case 18: {
-              KeyValue.ClientResponse.Builder subBuilder = null;
-              if (keyvalueMessageCase_ == 2) {
-                subBuilder = ((KeyValue.ClientResponse) keyvalueMessage_).toBuilder();
-              }
-              keyvalueMessage_ =
-                  input.readMessage(KeyValue.ClientResponse.parser(), extensionRegistry);
-              if (subBuilder != null) {
-                subBuilder.mergeFrom((KeyValue.ClientResponse) keyvalueMessage_);
-                keyvalueMessage_ = subBuilder.buildPartial();
+              if (!((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+                requests_ = new java.util.ArrayList<KeyValue.ClientRequest>();
+                mutable_bitField0_ |= 0x00000001;
               }
-              keyvalueMessageCase_ = 2;
+              requests_.add(
+                  input.readMessage(KeyValue.ClientRequest.parser(), extensionRegistry));
               break;
             }
-            case 26: {
-              KeyValue.ServerRequest.Builder subBuilder = null;
-              if (keyvalueMessageCase_ == 3) {
-                subBuilder = ((KeyValue.ServerRequest) keyvalueMessage_).toBuilder();
-              }
-              keyvalueMessage_ =
-                  input.readMessage(KeyValue.ServerRequest.parser(), extensionRegistry);
-              if (subBuilder != null) {
-                subBuilder.mergeFrom((KeyValue.ServerRequest) keyvalueMessage_);
-                keyvalueMessage_ = subBuilder.buildPartial();
-              }
-              keyvalueMessageCase_ = 3;
+            case 16: {
+
+              deadline_ = input.readUInt64();
               break;
             }
-            case 34: {
-              KeyValue.ServerResponse.Builder subBuilder = null;
-              if (keyvalueMessageCase_ == 4) {
-                subBuilder = ((KeyValue.ServerResponse) keyvalueMessage_).toBuilder();
-              }
-              keyvalueMessage_ =
-                  input.readMessage(KeyValue.ServerResponse.parser(), extensionRegistry);
-              if (subBuilder != null) {
-                subBuilder.mergeFrom((KeyValue.ServerResponse) keyvalueMessage_);
-                keyvalueMessage_ = subBuilder.buildPartial();
-              }
-              keyvalueMessageCase_ = 4;
+            case 24: {
+
+              requestid_ = input.readUInt64();
               break;
             }
           }
@@ -3482,166 +3540,77 @@ public final class KeyValue {
         throw new com.google.protobuf.InvalidProtocolBufferException(
             e).setUnfinishedMessage(this);
       } finally {
+        if (((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+          requests_ = java.util.Collections.unmodifiableList(requests_);
+        }
         this.unknownFields = unknownFields.build();
         makeExtensionsImmutable();
       }
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return KeyValue.internal_static_KeyValueMessage_descriptor;
+      return KeyValue.internal_static_ClientBatchRequest_descriptor;
     }
 
     protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return KeyValue.internal_static_KeyValueMessage_fieldAccessorTable
+      return KeyValue.internal_static_ClientBatchRequest_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              KeyValue.KeyValueMessage.class, KeyValue.KeyValueMessage.Builder.class);
-    }
-
-    private int keyvalueMessageCase_ = 0;
-    private java.lang.Object keyvalueMessage_;
-    public enum KeyvalueMessageCase
-        implements com.google.protobuf.Internal.EnumLite {
-      CLIENTREQUEST(1),
-      CLIENTRESPONSE(2),
-      SERVERREQUEST(3),
-      SERVERRESPONSE(4),
-      KEYVALUEMESSAGE_NOT_SET(0);
-      private final int value;
-      private KeyvalueMessageCase(int value) {
-        this.value = value;
-      }
-      /**
-       * @deprecated Use {@link #forNumber(int)} instead.
-       */
-      @java.lang.Deprecated
-      public static KeyvalueMessageCase valueOf(int value) {
-        return forNumber(value);
-      }
-
-      public static KeyvalueMessageCase forNumber(int value) {
-        switch (value) {
-          case 1: return CLIENTREQUEST;
-          case 2: return CLIENTRESPONSE;
-          case 3: return SERVERREQUEST;
-          case 4: return SERVERRESPONSE;
-          case 0: return KEYVALUEMESSAGE_NOT_SET;
-          default: return null;
-        }
-      }
-      public int getNumber() {
-        return this.value;
-      }
-    };
-
-    public KeyvalueMessageCase
-    getKeyvalueMessageCase() {
-      return KeyvalueMessageCase.forNumber(
-          keyvalueMessageCase_);
+              KeyValue.ClientBatchRequest.class, KeyValue.ClientBatchRequest.Builder.class);
     }
 
-    public static final int CLIENTREQUEST_FIELD_NUMBER = 1;
+    private int bitField0_;
+    public static final int REQUESTS_FIELD_NUMBER = 1;
+    private java.util.List<KeyValue.ClientRequest> requests_;
     /**
-     * <code>.ClientRequest clientRequest = 1;</code>
-     */
-    public boolean hasClientRequest() {
-      return keyvalueMessageCase_ == 1;
-    }
-    /**
-     * <code>.ClientRequest clientRequest = 1;</code>
+     * <code>repeated .ClientRequest requests = 1;</code>
      */
-    public KeyValue.ClientRequest getClientRequest() {
-      if (keyvalueMessageCase_ == 1) {
-         return (KeyValue.ClientRequest) keyvalueMessage_;
-      }
-      return KeyValue.ClientRequest.getDefaultInstance();
+    public java.util.List<KeyValue.ClientRequest> getRequestsList() {
+      return requests_;
     }
     /**
-     * <code>.ClientRequest clientRequest = 1;</code>
+     * <code>repeated .ClientRequest requests = 1;</code>
      */
-    public KeyValue.ClientRequestOrBuilder getClientRequestOrBuilder() {
-      if (keyvalueMessageCase_ == 1) {
-         return (KeyValue.ClientRequest) keyvalueMessage_;
-      }
-      return KeyValue.ClientRequest.getDefaultInstance();
+    public java.util.List<? extends KeyValue.ClientRequestOrBuilder> 
+        getRequestsOrBuilderList() {
+      return requests_;
     }
-
-    public static final int CLIENTRESPONSE_FIELD_NUMBER = 2;
     /**
-     * <code>.ClientResponse clientResponse = 2;</code>
+     * <code>repeated .ClientRequest requests = 1;</code>
      */
-    public boolean hasClientResponse() {
-      return keyvalueMessageCase_ == 2;
+    public int getRequestsCount() {
+      return requests_.size();
     }
     /**
-     * <code>.ClientResponse clientResponse = 2;</code>
+     * <code>repeated .ClientRequest requests = 1;</code>
      */
-    public KeyValue.ClientResponse getClientResponse() {
-      if (keyvalueMessageCase_ == 2) {
-         return (KeyValue.ClientResponse) keyvalueMessage_;
-      }
-      return KeyValue.ClientResponse.getDefaultInstance();
+    public KeyValue.ClientRequest getRequests(int index) {
+      return requests_.get(index);
     }
     /**
-     * <code>.ClientResponse clientResponse = 2;</code>
+     * <code>repeated .ClientRequest requests = 1;</code>
      */
-    public KeyValue.ClientResponseOrBuilder getClientResponseOrBuilder() {
-      if (keyvalueMessageCase_ == 2) {
-         return (KeyValue.ClientResponse) keyvalueMessage_;
-      }
-      return KeyValue.ClientResponse.getDefaultInstance();
+    public KeyValue.ClientRequestOrBuilder getRequestsOrBuilder(
+        int index) {
+      return requests_.get(index);
     }
 
-    public static final int SERVERREQUEST_FIELD_NUMBER = 3;
-    /**
-     * <code>.ServerRequest serverRequest = 3;</code>
-     */
-    public boolean hasServerRequest() {
-      return keyvalueMessageCase_ == 3;
-    }
-    /**
-     * <code>.ServerRequest serverRequest = 3;</code>
-     */
-    public KeyValue.ServerRequest getServerRequest() {
-      if (keyvalueMessageCase_ == 3) {
-         return (KeyValue.ServerRequest) keyvalueMessage_;
-      }
-      return KeyValue.ServerRequest.getDefaultInstance();
-    }
+    public static final int DEADLINE_FIELD_NUMBER = 2;
+    private long deadline_;
     /**
-     * <code>.ServerRequest serverRequest = 3;</code>
+     * <code>uint64 deadline = 2;</code>
      */
-    public KeyValue.ServerRequestOrBuilder getServerRequestOrBuilder() {
-      if (keyvalueMessageCase_ == 3) {
-         return (KeyValue.ServerRequest) keyvalueMessage_;
-      }
-      return KeyValue.ServerRequest.getDefaultInstance();
+    public long getDeadline() {
+      return deadline_;
     }
 
-    public static final int SERVERRESPONSE_FIELD_NUMBER = 4;
-    /**
-     * <code>.ServerResponse serverResponse = 4;</code>
-     */
-    public boolean hasServerResponse() {
-      return keyvalueMessageCase_ == 4;
-    }
+    public static final int REQUESTID_FIELD_NUMBER = 3;
+    private long requestid_;
     /**
-     * <code>.ServerResponse serverResponse = 4;</code>
-     */
-    public KeyValue.ServerResponse getServerResponse() {
-      if (keyvalueMessageCase_ == 4) {
-         return (KeyValue.ServerResponse) keyvalueMessage_;
-      }
-      return KeyValue.ServerResponse.getDefaultInstance();
-    }
-    /**
-     * <code>.ServerResponse serverResponse = 4;</code>
+     * <code>uint64 requestid = 3;</code>
      */
-    public KeyValue.ServerResponseOrBuilder getServerResponseOrBuilder() {
-      if (keyvalueMessageCase_ == 4) {
-         return (KeyValue.ServerResponse) keyvalueMessage_;
-      }
-      return KeyValue.ServerResponse.getDefaultInstance();
+    public long getRequestid() {
+      return requestid_;
     }
 
     private byte memoizedIsInitialized = -1;
@@ -3656,17 +3625,14 @@ public final class KeyValue {
 
     public void writeTo(com.google.protobuf.CodedOutputStream output)
                         throws java.io.IOException {
-      if (keyvalueMessageCase_ == 1) {
-        output.writeMessage(1, (KeyValue.ClientRequest) keyvalueMessage_);
-      }
-      if (keyvalueMessageCase_ == 2) {
-        output.writeMessage(2, (KeyValue.ClientResponse) keyvalueMessage_);
+      for (int i = 0; i < requests_.size(); i++) {
+        output.writeMessage(1, requests_.get(i));
       }
-      if (keyvalueMessageCase_ == 3) {
-        output.writeMessage(3, (KeyValue.ServerRequest) keyvalueMessage_);
+      if (deadline_ != 0L) {
+        output.writeUInt64(2, deadline_);
       }
-      if (keyvalueMessageCase_ == 4) {
-        output.writeMessage(4, (KeyValue.ServerResponse) keyvalueMessage_);
+      if (requestid_ != 0L) {
+        output.writeUInt64(3, requestid_);
       }
       unknownFields.writeTo(output);
     }
@@ -3676,21 +3642,17 @@ public final class KeyValue {
       if (size != -1) return size;
 
       size = 0;
-      if (keyvalueMessageCase_ == 1) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeMessageSize(1, (KeyValue.ClientRequest) keyvalueMessage_);
-      }
-      if (keyvalueMessageCase_ == 2) {
+      for (int i = 0; i < requests_.size(); i++) {
         size += com.google.protobuf.CodedOutputStream
-          .computeMessageSize(2, (KeyValue.ClientResponse) keyvalueMessage_);
+          .computeMessageSize(1, requests_.get(i));
       }
-      if (keyvalueMessageCase_ == 3) {
+      if (deadline_ != 0L) {
         size += com.google.protobuf.CodedOutputStream
-          .computeMessageSize(3, (KeyValue.ServerRequest) keyvalueMessage_);
+          .computeUInt64Size(2, deadline_);
       }
-      if (keyvalueMessageCase_ == 4) {
+      if (requestid_ != 0L) {
         size += com.google.protobuf.CodedOutputStream
-          .computeMessageSize(4, (KeyValue.ServerResponse) keyvalueMessage_);
+          .computeUInt64Size(3, requestid_);
       }
       size += unknownFields.getSerializedSize();
       memoizedSize = size;
@@ -3702,35 +3664,18 @@ public final class KeyValue {
       if (obj == this) {
        return true;
       }
-      if (!(obj instanceof KeyValue.KeyValueMessage)) {
+      if (!(obj instanceof KeyValue.ClientBatchRequest)) {
         return super.equals(obj);
       }
-      KeyValue.KeyValueMessage other = (KeyValue.KeyValueMessage) obj;
+      KeyValue.ClientBatchRequest other = (KeyValue.ClientBatchRequest) obj;
 
       boolean result = true;
-      result = result && getKeyvalueMessageCase().equals(
-          other.getKeyvalueMessageCase());
-      if (!result) return false;
-      switch (keyvalueMessageCase_) {
-        case 1:
-          result = result && getClientRequest()
-              .equals(other.getClientRequest());
-          break;
-        case 2:
-          result = result && getClientResponse()
-              .equals(other.getClientResponse());
-          break;
-        case 3:
-          result = result && getServerRequest()
-              .equals(other.getServerRequest());
-          break;
-        case 4:
-          result = result && getServerResponse()
-              .equals(other.getServerResponse());
-          break;
-        case 0:
-        default:
-      }
+      result = result && getRequestsList()
+          .equals(other.getRequestsList());
+      result = result && (getDeadline()
+          == other.getDeadline());
+      result = result && (getRequestid()
+          == other.getRequestid());
       result = result && unknownFields.equals(other.unknownFields);
       return result;
     }
@@ -3742,94 +3687,84 @@ public final class KeyValue {
       }
       int hash = 41;
       hash = (19 * hash) + getDescriptor().hashCode();
-      switch (keyvalueMessageCase_) {
-        case 1:
-          hash = (37 * hash) + CLIENTREQUEST_FIELD_NUMBER;
-          hash = (53 * hash) + getClientRequest().hashCode();
-          break;
-        case 2:
-          hash = (37 * hash) + CLIENTRESPONSE_FIELD_NUMBER;
-          hash = (53 * hash) + getClientResponse().hashCode();
-          break;
-        case 3:
-          hash = (37 * hash) + SERVERREQUEST_FIELD_NUMBER;
-          hash = (53 * hash) + getServerRequest().hashCode();
-          break;
-        case 4:
-          hash = (37 * hash) + SERVERRESPONSE_FIELD_NUMBER;
-          hash = (53 * hash) + getServerResponse().hashCode();
-          break;
-        case 0:
-        default:
+      if (getRequestsCount() > 0) {
+        hash = (37 * hash) + REQUESTS_FIELD_NUMBER;
+        hash = (53 * hash) + getRequestsList().hashCode();
       }
+      hash = (37 * hash) + DEADLINE_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getDeadline());
+      hash = (37 * hash) + REQUESTID_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getRequestid());
       hash = (29 * hash) + unknownFields.hashCode();
       memoizedHashCode = hash;
       return hash;
     }
 
-    public static KeyValue.KeyValueMessage parseFrom(
+    public static KeyValue.ClientBatchRequest parseFrom(
         java.nio.ByteBuffer data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static KeyValue.KeyValueMessage parseFrom(
+    public static KeyValue.ClientBatchRequest parseFrom(
         java.nio.ByteBuffer data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static KeyValue.KeyValueMessage parseFrom(
+    public static KeyValue.ClientBatchRequest parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static KeyValue.KeyValueMessage parseFrom(
+    public static KeyValue.ClientBatchRequest parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static KeyValue.KeyValueMessage parseFrom(byte[] data)
+    public static KeyValue.ClientBatchRequest parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static KeyValue.KeyValueMessage parseFrom(
+    public static KeyValue.ClientBatchRequest parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static KeyValue.KeyValueMessage parseFrom(java.io.InputStream input)
+    public static KeyValue.ClientBatchRequest parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static KeyValue.KeyValueMessage parseFrom(
+    public static KeyValue.ClientBatchRequest parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input, extensionRegistry);
     }
-    public static KeyValue.KeyValueMessage parseDelimitedFrom(java.io.InputStream input)
+    public static KeyValue.ClientBatchRequest parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input);
     }
-    public static KeyValue.KeyValueMessage parseDelimitedFrom(
+    public static KeyValue.ClientBatchRequest parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
     }
-    public static KeyValue.KeyValueMessage parseFrom(
+    public static KeyValue.ClientBatchRequest parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static KeyValue.KeyValueMessage parseFrom(
+    public static KeyValue.ClientBatchRequest parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -3841,7 +3776,7 @@ public final class KeyValue {
     public static Builder newBuilder() {
       return DEFAULT_INSTANCE.toBuilder();
     }
-    public static Builder newBuilder(KeyValue.KeyValueMessage prototype) {
+    public static Builder newBuilder(KeyValue.ClientBatchRequest prototype) {
       return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
     }
     public Builder toBuilder() {
@@ -3856,25 +3791,25 @@ public final class KeyValue {
       return builder;
     }
     /**
-     * Protobuf type {@code KeyValueMessage}
+     * Protobuf type {@code ClientBatchRequest}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:KeyValueMessage)
-        KeyValue.KeyValueMessageOrBuilder {
+        // @@protoc_insertion_point(builder_implements:ClientBatchRequest)
+        KeyValue.ClientBatchRequestOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return KeyValue.internal_static_KeyValueMessage_descriptor;
+        return KeyValue.internal_static_ClientBatchRequest_descriptor;
       }
 
       protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return KeyValue.internal_static_KeyValueMessage_fieldAccessorTable
+        return KeyValue.internal_static_ClientBatchRequest_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                KeyValue.KeyValueMessage.class, KeyValue.KeyValueMessage.Builder.class);
+                KeyValue.ClientBatchRequest.class, KeyValue.ClientBatchRequest.Builder.class);
       }
 
-      // Construct using KeyValue.KeyValueMessage.newBuilder()
+      // Construct using KeyValue.ClientBatchRequest.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -3887,63 +3822,57 @@ public final class KeyValue {
       private void maybeForceBuilderInitialization() {
         if (com.google.protobuf.GeneratedMessageV3
                 .alwaysUseFieldBuilders) {
+          getRequestsFieldBuilder();
         }
       }
       public Builder clear() {
         super.clear();
-        keyvalueMessageCase_ = 0;
-        keyvalueMessage_ = null;
+        if (requestsBuilder_ == null) {
+          requests_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+        } else {
+          requestsBuilder_.clear();
+        }
+        deadline_ = 0L;
+
+        requestid_ = 0L;
+
         return this;
       }
 
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return KeyValue.internal_static_KeyValueMessage_descriptor;
+        return KeyValue.internal_static_ClientBatchRequest_descriptor;
       }
 
-      public KeyValue.KeyValueMessage getDefaultInstanceForType() {
-        return KeyValue.KeyValueMessage.getDefaultInstance();
+      public KeyValue.ClientBatchRequest getDefaultInstanceForType() {
+        return KeyValue.ClientBatchRequest.getDefaultInstance();
       }
 
-      public KeyValue.KeyValueMessage build() {
-        KeyValue.KeyValueMessage result = buildPartial();
+      public KeyValue.ClientBatchRequest build() {
+        KeyValue.ClientBatchRequest result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
         return result;
       }
 
-      public KeyValue.KeyValueMessage buildPartial() {
-        KeyValue.KeyValueMessage result = new KeyValue.KeyValueMessage(this);
-        if (keyvalueMessageCase_ == 1) {
-          if (clientRequestBuilder_ == null) {
-            result.keyvalueMessage_ = keyvalueMessage_;
-          } else {
-            result.keyvalueMessage_ = clientRequestBuilder_.build();
-          }
-        }
-        if (keyvalueMessageCase_ == 2) {
-          if (clientResponseBuilder_ == null) {
-            result.keyvalueMessage_ = keyvalueMessage_;
-          } else {
-            result.keyvalueMessage_ = clientResponseBuilder_.build();
-          }
-        }
-        if (keyvalueMessageCase_ == 3) {
-          if (serverRequestBuilder_ == null) {
-            result.keyvalueMessage_ = keyvalueMessage_;
-          } else {
-            result.keyvalueMessage_ = serverRequestBuilder_.build();
-          }
-        }
-        if (keyvalueMessageCase_ == 4) {
-          if (serverResponseBuilder_ == null) {
-            result.keyvalueMessage_ = keyvalueMessage_;
-          } else {
-            result.keyvalueMessage_ = serverResponseBuilder_.build();
+      public KeyValue.ClientBatchRequest buildPartial() {
+        KeyValue.ClientBatchRequest result = new KeyValue.ClientBatchRequest(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (requestsBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) == 0x00000001)) {
+            requests_ = java.util.Collections.unmodifiableList(requests_);
+            bitField0_ = (bitField0_ & ~0x00000001);
           }
+          result.requests_ = requests_;
+        } else {
+          result.requests_ = requestsBuilder_.build();
         }
-        result.keyvalueMessageCase_ = keyvalueMessageCase_;
+        result.deadline_ = deadline_;
+        result.requestid_ = requestid_;
+        result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
       }
@@ -3975,37 +3904,48 @@ public final class KeyValue {
         return (Builder) super.addRepeatedField(field, value);
       }
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof KeyValue.KeyValueMessage) {
-          return mergeFrom((KeyValue.KeyValueMessage)other);
+        if (other instanceof KeyValue.ClientBatchRequest) {
+          return mergeFrom((KeyValue.ClientBatchRequest)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(KeyValue.KeyValueMessage other) {
-        if (other == KeyValue.KeyValueMessage.getDefaultInstance()) return this;
-        switch (other.getKeyvalueMessageCase()) {
-          case CLIENTREQUEST: {
-            mergeClientRequest(other.getClientRequest());
-            break;
-          }
-          case CLIENTRESPONSE: {
-            mergeClientResponse(other.getClientResponse());
-            break;
-          }
-          case SERVERREQUEST: {
-            mergeServerRequest(other.getServerRequest());
-            break;
-          }
-          case SERVERRESPONSE: {
-            mergeServerResponse(other.getServerResponse());
-            break;
+      public Builder mergeFrom(KeyValue.ClientBatchRequest other) {
+        if (other == KeyValue.ClientBatchRequest.getDefaultInstance()) return this;
+        if (requestsBuilder_ == null) {
+          if (!other.requests_.isEmpty()) {
+            if (requests_.isEmpty()) {
+              requests_ = other.requests_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+            } else {
+              ensureRequestsIsMutable();
+              requests_.addAll(other.requests_);
+            }
+            onChanged();
           }
-          case KEYVALUEMESSAGE_NOT_SET: {
-            break;
+        } else {
+          if (!other.requests_.isEmpty()) {
+            if (requestsBuilder_.isEmpty()) {
+              requestsBuilder_.dispose();
+              requestsBuilder_ = null;
+              requests_ = other.requests_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+              requestsBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getRequestsFieldBuilder() : null;
+            } else {
+              requestsBuilder_.addAllMessages(other.requests_);
+            }
           }
         }
+        if (other.getDeadline() != 0L) {
+          setDeadline(other.getDeadline());
+        }
+        if (other.getRequestid() != 0L) {
+          setRequestid(other.getRequestid());
+        }
         this.mergeUnknownFields(other.unknownFields);
         onChanged();
         return this;
@@ -4019,11 +3959,11 @@ public final class KeyValue {
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
-        KeyValue.KeyValueMessage parsedMessage = null;
+        KeyValue.ClientBatchRequest parsedMessage = null;
         try {
           parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (KeyValue.KeyValueMessage) e.getUnfinishedMessage();
+          parsedMessage = (KeyValue.ClientBatchRequest) e.getUnfinishedMessage();
           throw e.unwrapIOException();
         } finally {
           if (parsedMessage != null) {
@@ -4032,564 +3972,9120 @@ public final class KeyValue {
         }
         return this;
       }
-      private int keyvalueMessageCase_ = 0;
-      private java.lang.Object keyvalueMessage_;
-      public KeyvalueMessageCase
-          getKeyvalueMessageCase() {
-        return KeyvalueMessageCase.forNumber(
-            keyvalueMessageCase_);
-      }
+      private int bitField0_;
 
-      public Builder clearKeyvalueMessage() {
-        keyvalueMessageCase_ = 0;
-        keyvalueMessage_ = null;
-        onChanged();
-        return this;
+      private java.util.List<KeyValue.ClientRequest> requests_ =
+        java.util.Collections.emptyList();
+      private void ensureRequestsIsMutable() {
+        if (!((bitField0_ & 0x00000001) == 0x00000001)) {
+          requests_ = new java.util.ArrayList<KeyValue.ClientRequest>(requests_);
+          bitField0_ |= 0x00000001;
+         }
       }
 
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          KeyValue.ClientRequest, KeyValue.ClientRequest.Builder, KeyValue.ClientRequestOrBuilder> requestsBuilder_;
 
-      private com.google.protobuf.SingleFieldBuilderV3<
-          KeyValue.ClientRequest, KeyValue.ClientRequest.Builder, KeyValue.ClientRequestOrBuilder> clientRequestBuilder_;
       /**
-       * <code>.ClientRequest clientRequest = 1;</code>
+       * <code>repeated .ClientRequest requests = 1;</code>
        */
-      public boolean hasClientRequest() {
-        return keyvalueMessageCase_ == 1;
+      public java.util.List<KeyValue.ClientRequest> getRequestsList() {
+        if (requestsBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(requests_);
+        } else {
+          return requestsBuilder_.getMessageList();
+        }
       }
       /**
-       * <code>.ClientRequest clientRequest = 1;</code>
+       * <code>repeated .ClientRequest requests = 1;</code>
        */
-      public KeyValue.ClientRequest getClientRequest() {
-        if (clientRequestBuilder_ == null) {
-          if (keyvalueMessageCase_ == 1) {
-            return (KeyValue.ClientRequest) keyvalueMessage_;
+      public int getRequestsCount() {
+        if (requestsBuilder_ == null) {
+          return requests_.size();
+        } else {
+          return requestsBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .ClientRequest requests = 1;</code>
+       */
+      public KeyValue.ClientRequest getRequests(int index) {
+        if (requestsBuilder_ == null) {
+          return requests_.get(index);
+        } else {
+          return requestsBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .ClientRequest requests = 1;</code>
+       */
+      public Builder setRequests(
+          int index, KeyValue.ClientRequest value) {
+        if (requestsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
           }
-          return KeyValue.ClientRequest.getDefaultInstance();
+          ensureRequestsIsMutable();
+          requests_.set(index, value);
+          onChanged();
         } else {
-          if (keyvalueMessageCase_ == 1) {
-            return clientRequestBuilder_.getMessage();
+          requestsBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ClientRequest requests = 1;</code>
+       */
+      public Builder setRequests(
+          int index, KeyValue.ClientRequest.Builder builderForValue) {
+        if (requestsBuilder_ == null) {
+          ensureRequestsIsMutable();
+          requests_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          requestsBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ClientRequest requests = 1;</code>
+       */
+      public Builder addRequests(KeyValue.ClientRequest value) {
+        if (requestsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
           }
-          return KeyValue.ClientRequest.getDefaultInstance();
+          ensureRequestsIsMutable();
+          requests_.add(value);
+          onChanged();
+        } else {
+          requestsBuilder_.addMessage(value);
         }
+        return this;
       }
       /**
-       * <code>.ClientRequest clientRequest = 1;</code>
+       * <code>repeated .ClientRequest requests = 1;</code>
        */
-      public Builder setClientRequest(KeyValue.ClientRequest value) {
-        if (clientRequestBuilder_ == null) {
+      public Builder addRequests(
+          int index, KeyValue.ClientRequest value) {
+        if (requestsBuilder_ == null) {
           if (value == null) {
             throw new NullPointerException();
           }
-          keyvalueMessage_ = value;
+          ensureRequestsIsMutable();
+          requests_.add(index, value);
           onChanged();
         } else {
-          clientRequestBuilder_.setMessage(value);
+          requestsBuilder_.addMessage(index, value);
         }
-        keyvalueMessageCase_ = 1;
         return this;
       }
       /**
-       * <code>.ClientRequest clientRequest = 1;</code>
+       * <code>repeated .ClientRequest requests = 1;</code>
        */
-      public Builder setClientRequest(
+      public Builder addRequests(
           KeyValue.ClientRequest.Builder builderForValue) {
-        if (clientRequestBuilder_ == null) {
+        if (requestsBuilder_ == null) {
+          ensureRequestsIsMutable();
+          requests_.add(builderForValue.build());
+          onChanged();
+        } else {
+          requestsBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ClientRequest requests = 1;</code>
+       */
+      public Builder addRequests(
+          int index, KeyValue.ClientRequest.Builder builderForValue) {
+        if (requestsBuilder_ == null) {
+          ensureRequestsIsMutable();
+          requests_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          requestsBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ClientRequest requests = 1;</code>
+       */
+      public Builder addAllRequests(
+          java.lang.Iterable<? extends KeyValue.ClientRequest> values) {
+        if (requestsBuilder_ == null) {
+          ensureRequestsIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, requests_);
+          onChanged();
+        } else {
+          requestsBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ClientRequest requests = 1;</code>
+       */
+      public Builder clearRequests() {
+        if (requestsBuilder_ == null) {
+          requests_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+          onChanged();
+        } else {
+          requestsBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ClientRequest requests = 1;</code>
+       */
+      public Builder removeRequests(int index) {
+        if (requestsBuilder_ == null) {
+          ensureRequestsIsMutable();
+          requests_.remove(index);
+          onChanged();
+        } else {
+          requestsBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ClientRequest requests = 1;</code>
+       */
+      public KeyValue.ClientRequest.Builder getRequestsBuilder(
+          int index) {
+        return getRequestsFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .ClientRequest requests = 1;</code>
+       */
+      public KeyValue.ClientRequestOrBuilder getRequestsOrBuilder(
+          int index) {
+        if (requestsBuilder_ == null) {
+          return requests_.get(index);  } else {
+          return requestsBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .ClientRequest requests = 1;</code>
+       */
+      public java.util.List<? extends KeyValue.ClientRequestOrBuilder> 
+           getRequestsOrBuilderList() {
+        if (requestsBuilder_ != null) {
+          return requestsBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(requests_);
+        }
+      }
+      /**
+       * <code>repeated .ClientRequest requests = 1;</code>
+       */
+      public KeyValue.ClientRequest.Builder addRequestsBuilder() {
+        return getRequestsFieldBuilder().addBuilder(
+            KeyValue.ClientRequest.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .ClientRequest requests = 1;</code>
+       */
+      public KeyValue.ClientRequest.Builder addRequestsBuilder(
+          int index) {
+        return getRequestsFieldBuilder().addBuilder(
+            index, KeyValue.ClientRequest.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .ClientRequest requests = 1;</code>
+       */
+      public java.util.List<KeyValue.ClientRequest.Builder> 
+           getRequestsBuilderList() {
+        return getRequestsFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          KeyValue.ClientRequest, KeyValue.ClientRequest.Builder, KeyValue.ClientRequestOrBuilder> 
+          getRequestsFieldBuilder() {
+        if (requestsBuilder_ == null) {
+          requestsBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              KeyValue.ClientRequest, KeyValue.ClientRequest.Builder, KeyValue.ClientRequestOrBuilder>(
+                  requests_,
+                  ((bitField0_ & 0x00000001) == 0x00000001),
+                  getParentForChildren(),
+                  isClean());
+          requests_ = null;
+        }
+        return requestsBuilder_;
+      }
+
+      private long deadline_ ;
+      /**
+       * <code>uint64 deadline = 2;</code>
+       */
+      public long getDeadline() {
+        return deadline_;
+      }
+      /**
+       * <code>uint64 deadline = 2;</code>
+       */
+      public Builder setDeadline(long value) {
+        
+        deadline_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>uint64 deadline = 2;</code>
+       */
+      public Builder clearDeadline() {
+        
+        deadline_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private long requestid_ ;
+      /**
+       * <code>uint64 requestid = 3;</code>
+       */
+      public long getRequestid() {
+        return requestid_;
+      }
+      /**
+       * <code>uint64 requestid = 3;</code>
+       */
+      public Builder setRequestid(long value) {
+        
+        requestid_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>uint64 requestid = 3;</code>
+       */
+      public Builder clearRequestid() {
+        
+        requestid_ = 0L;
+        onChanged();
+        return this;
+      }
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFieldsProto3(unknownFields);
+      }
+
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:ClientBatchRequest)
+    }
+
+    // @@protoc_insertion_point(class_scope:ClientBatchRequest)
+    private static final KeyValue.ClientBatchRequest DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new KeyValue.ClientBatchRequest();
+    }
+
+    public static KeyValue.ClientBatchRequest getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<ClientBatchRequest>
+        PARSER = new com.google.protobuf.AbstractParser<ClientBatchRequest>() {
+      public ClientBatchRequest parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new ClientBatchRequest(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<ClientBatchRequest> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<ClientBatchRequest> getParserForType() {
+      return PARSER;
+    }
+
+    public KeyValue.ClientBatchRequest getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface ClientBatchResponseOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:ClientBatchResponse)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>repeated .ClientResponse responses = 1;</code>
+     */
+    java.util.List<KeyValue.ClientResponse> 
+        getResponsesList();
+    /**
+     * <code>repeated .ClientResponse responses = 1;</code>
+     */
+    KeyValue.ClientResponse getResponses(int index);
+    /**
+     * <code>repeated .ClientResponse responses = 1;</code>
+     */
+    int getResponsesCount();
+    /**
+     * <code>repeated .ClientResponse responses = 1;</code>
+     */
+    java.util.List<? extends KeyValue.ClientResponseOrBuilder> 
+        getResponsesOrBuilderList();
+    /**
+     * <code>repeated .ClientResponse responses = 1;</code>
+     */
+    KeyValue.ClientResponseOrBuilder getResponsesOrBuilder(
+        int index);
+
+    /**
+     * <code>uint64 requestid = 2;</code>
+     */
+    long getRequestid();
+  }
+  /**
+   * Protobuf type {@code ClientBatchResponse}
+   */
+  public  static final class ClientBatchResponse extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:ClientBatchResponse)
+      ClientBatchResponseOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use ClientBatchResponse.newBuilder() to construct.
+    private ClientBatchResponse(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private ClientBatchResponse() {
+      responses_ = java.util.Collections.emptyList();
+      requestid_ = 0L;
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private ClientBatchResponse(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownFieldProto3(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 10: {
+              if (!((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+                responses_ = new java.util.ArrayList<KeyValue.ClientResponse>();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              responses_.add(
+                  input.readMessage(KeyValue.ClientResponse.parser(), extensionRegistry));
+              break;
+            }
+            case 16: {
+
+              requestid_ = input.readUInt64();
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+          responses_ = java.util.Collections.unmodifiableList(responses_);
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return KeyValue.internal_static_ClientBatchResponse_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return KeyValue.internal_static_ClientBatchResponse_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              KeyValue.ClientBatchResponse.class, KeyValue.ClientBatchResponse.Builder.class);
+    }
+
+    private int bitField0_;
+    public static final int RESPONSES_FIELD_NUMBER = 1;
+    private java.util.List<KeyValue.ClientResponse> responses_;
+    /**
+     * <code>repeated .ClientResponse responses = 1;</code>
+     */
+    public java.util.List<KeyValue.ClientResponse> getResponsesList() {
+      return responses_;
+    }
+    /**
+     * <code>repeated .ClientResponse responses = 1;</code>
+     */
+    public java.util.List<? extends KeyValue.ClientResponseOrBuilder> 
+        getResponsesOrBuilderList() {
+      return responses_;
+    }
+    /**
+     * <code>repeated .ClientResponse responses = 1;</code>
+     */
+    public int getResponsesCount() {
+      return responses_.size();
+    }
+    /**
+     * <code>repeated .ClientResponse responses = 1;</code>
+     */
+    public KeyValue.ClientResponse getResponses(int index) {
+      return responses_.get(index);
+    }
+    /**
+     * <code>repeated .ClientResponse responses = 1;</code>
+     */
+    public KeyValue.ClientResponseOrBuilder getResponsesOrBuilder(
+        int index) {
+      return responses_.get(index);
+    }
+
+    public static final int REQUESTID_FIELD_NUMBER = 2;
+    private long requestid_;
+    /**
+     * <code>uint64 requestid = 2;</code>
+     */
+    public long getRequestid() {
+      return requestid_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      for (int i = 0; i < responses_.size(); i++) {
+        output.writeMessage(1, responses_.get(i));
+      }
+      if (requestid_ != 0L) {
+        output.writeUInt64(2, requestid_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      for (int i = 0; i < responses_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, responses_.get(i));
+      }
+      if (requestid_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt64Size(2, requestid_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof KeyValue.ClientBatchResponse)) {
+        return super.equals(obj);
+      }
+      KeyValue.ClientBatchResponse other = (KeyValue.ClientBatchResponse) obj;
+
+      boolean result = true;
+      result = result && getResponsesList()
+          .equals(other.getResponsesList());
+      result = result && (getRequestid()
+          == other.getRequestid());
+      result = result && unknownFields.equals(other.unknownFields);
+      return result;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (getResponsesCount() > 0) {
+        hash = (37 * hash) + RESPONSES_FIELD_NUMBER;
+        hash = (53 * hash) + getResponsesList().hashCode();
+      }
+      hash = (37 * hash) + REQUESTID_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getRequestid());
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static KeyValue.ClientBatchResponse parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static KeyValue.ClientBatchResponse parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static KeyValue.ClientBatchResponse parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static KeyValue.ClientBatchResponse parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static KeyValue.ClientBatchResponse parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static KeyValue.ClientBatchResponse parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static KeyValue.ClientBatchResponse parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static KeyValue.ClientBatchResponse parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static KeyValue.ClientBatchResponse parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static KeyValue.ClientBatchResponse parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static KeyValue.ClientBatchResponse parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static KeyValue.ClientBatchResponse parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(KeyValue.ClientBatchResponse prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code ClientBatchResponse}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:ClientBatchResponse)
+        KeyValue.ClientBatchResponseOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return KeyValue.internal_static_ClientBatchResponse_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return KeyValue.internal_static_ClientBatchResponse_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                KeyValue.ClientBatchResponse.class, KeyValue.ClientBatchResponse.Builder.class);
+      }
+
+      // Construct using KeyValue.ClientBatchResponse.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+          getResponsesFieldBuilder();
+        }
+      }
+      public Builder clear() {
+        super.clear();
+        if (responsesBuilder_ == null) {
+          responses_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+        } else {
+          responsesBuilder_.clear();
+        }
+        requestid_ = 0L;
+
+        return this;
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return KeyValue.internal_static_ClientBatchResponse_descriptor;
+      }
+
+      public KeyValue.ClientBatchResponse getDefaultInstanceForType() {
+        return KeyValue.ClientBatchResponse.getDefaultInstance();
+      }
+
+      public KeyValue.ClientBatchResponse build() {
+        KeyValue.ClientBatchResponse result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public KeyValue.ClientBatchResponse buildPartial() {
+        KeyValue.ClientBatchResponse result = new KeyValue.ClientBatchResponse(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (responsesBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) == 0x00000001)) {
+            responses_ = java.util.Collections.unmodifiableList(responses_);
+            bitField0_ = (bitField0_ & ~0x00000001);
+          }
+          result.responses_ = responses_;
+        } else {
+          result.responses_ = responsesBuilder_.build();
+        }
+        result.requestid_ = requestid_;
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder clone() {
+        return (Builder) super.clone();
+      }
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return (Builder) super.setField(field, value);
+      }
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return (Builder) super.clearField(field);
+      }
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return (Builder) super.clearOneof(oneof);
+      }
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return (Builder) super.setRepeatedField(field, index, value);
+      }
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return (Builder) super.addRepeatedField(field, value);
+      }
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof KeyValue.ClientBatchResponse) {
+          return mergeFrom((KeyValue.ClientBatchResponse)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(KeyValue.ClientBatchResponse other) {
+        if (other == KeyValue.ClientBatchResponse.getDefaultInstance()) return this;
+        if (responsesBuilder_ == null) {
+          if (!other.responses_.isEmpty()) {
+            if (responses_.isEmpty()) {
+              responses_ = other.responses_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+            } else {
+              ensureResponsesIsMutable();
+              responses_.addAll(other.responses_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.responses_.isEmpty()) {
+            if (responsesBuilder_.isEmpty()) {
+              responsesBuilder_.dispose();
+              responsesBuilder_ = null;
+              responses_ = other.responses_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+              responsesBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getResponsesFieldBuilder() : null;
+            } else {
+              responsesBuilder_.addAllMessages(other.responses_);
+            }
+          }
+        }
+        if (other.getRequestid() != 0L) {
+          setRequestid(other.getRequestid());
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        KeyValue.ClientBatchResponse parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (KeyValue.ClientBatchResponse) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private java.util.List<KeyValue.ClientResponse> responses_ =
+        java.util.Collections.emptyList();
+      private void ensureResponsesIsMutable() {
+        if (!((bitField0_ & 0x00000001) == 0x00000001)) {
+          responses_ = new java.util.ArrayList<KeyValue.ClientResponse>(responses_);
+          bitField0_ |= 0x00000001;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          KeyValue.ClientResponse, KeyValue.ClientResponse.Builder, KeyValue.ClientResponseOrBuilder> responsesBuilder_;
+
+      /**
+       * <code>repeated .ClientResponse responses = 1;</code>
+       */
+      public java.util.List<KeyValue.ClientResponse> getResponsesList() {
+        if (responsesBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(responses_);
+        } else {
+          return responsesBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .ClientResponse responses = 1;</code>
+       */
+      public int getResponsesCount() {
+        if (responsesBuilder_ == null) {
+          return responses_.size();
+        } else {
+          return responsesBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .ClientResponse responses = 1;</code>
+       */
+      public KeyValue.ClientResponse getResponses(int index) {
+        if (responsesBuilder_ == null) {
+          return responses_.get(index);
+        } else {
+          return responsesBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .ClientResponse responses = 1;</code>
+       */
+      public Builder setResponses(
+          int index, KeyValue.ClientResponse value) {
+        if (responsesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureResponsesIsMutable();
+          responses_.set(index, value);
+          onChanged();
+        } else {
+          responsesBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ClientResponse responses = 1;</code>
+       */
+      public Builder setResponses(
+          int index, KeyValue.ClientResponse.Builder builderForValue) {
+        if (responsesBuilder_ == null) {
+          ensureResponsesIsMutable();
+          responses_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          responsesBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ClientResponse responses = 1;</code>
+       */
+      public Builder addResponses(KeyValue.ClientResponse value) {
+        if (responsesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureResponsesIsMutable();
+          responses_.add(value);
+          onChanged();
+        } else {
+          responsesBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ClientResponse responses = 1;</code>
+       */
+      public Builder addResponses(
+          int index, KeyValue.ClientResponse value) {
+        if (responsesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureResponsesIsMutable();
+          responses_.add(index, value);
+          onChanged();
+        } else {
+          responsesBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ClientResponse responses = 1;</code>
+       */
+      public Builder addResponses(
+          KeyValue.ClientResponse.Builder builderForValue) {
+        if (responsesBuilder_ == null) {
+          ensureResponsesIsMutable();
+          responses_.add(builderForValue.build());
+          onChanged();
+        } else {
+          responsesBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ClientResponse responses = 1;</code>
+       */
+      public Builder addResponses(
+          int index, KeyValue.ClientResponse.Builder builderForValue) {
+        if (responsesBuilder_ == null) {
+          ensureResponsesIsMutable();
+          responses_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          responsesBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ClientResponse responses = 1;</code>
+       */
+      public Builder addAllResponses(
+          java.lang.Iterable<? extends KeyValue.ClientResponse> values) {
+        if (responsesBuilder_ == null) {
+          ensureResponsesIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, responses_);
+          onChanged();
+        } else {
+          responsesBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ClientResponse responses = 1;</code>
+       */
+      public Builder clearResponses() {
+        if (responsesBuilder_ == null) {
+          responses_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+          onChanged();
+        } else {
+          responsesBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ClientResponse responses = 1;</code>
+       */
+      public Builder removeResponses(int index) {
+        if (responsesBuilder_ == null) {
+          ensureResponsesIsMutable();
+          responses_.remove(index);
+          onChanged();
+        } else {
+          responsesBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ClientResponse responses = 1;</code>
+       */
+      public KeyValue.ClientResponse.Builder getResponsesBuilder(
+          int index) {
+        return getResponsesFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .ClientResponse responses = 1;</code>
+       */
+      public KeyValue.ClientResponseOrBuilder getResponsesOrBuilder(
+          int index) {
+        if (responsesBuilder_ == null) {
+          return responses_.get(index);  } else {
+          return responsesBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .ClientResponse responses = 1;</code>
+       */
+      public java.util.List<? extends KeyValue.ClientResponseOrBuilder> 
+           getResponsesOrBuilderList() {
+        if (responsesBuilder_ != null) {
+          return responsesBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(responses_);
+        }
+      }
+      /**
+       * <code>repeated .ClientResponse responses = 1;</code>
+       */
+      public KeyValue.ClientResponse.Builder addResponsesBuilder() {
+        return getResponsesFieldBuilder().addBuilder(
+            KeyValue.ClientResponse.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .ClientResponse responses = 1;</code>
+       */
+      public KeyValue.ClientResponse.Builder addResponsesBuilder(
+          int index) {
+        return getResponsesFieldBuilder().addBuilder(
+            index, KeyValue.ClientResponse.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .ClientResponse responses = 1;</code>
+       */
+      public java.util.List<KeyValue.ClientResponse.Builder> 
+           getResponsesBuilderList() {
+        return getResponsesFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          KeyValue.ClientResponse, KeyValue.ClientResponse.Builder, KeyValue.ClientResponseOrBuilder> 
+          getResponsesFieldBuilder() {
+        if (responsesBuilder_ == null) {
+          responsesBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              KeyValue.ClientResponse, KeyValue.ClientResponse.Builder, KeyValue.ClientResponseOrBuilder>(
+                  responses_,
+                  ((bitField0_ & 0x00000001) == 0x00000001),
+                  getParentForChildren(),
+                  isClean());
+          responses_ = null;
+        }
+        return responsesBuilder_;
+      }
+
+      private long requestid_ ;
+      /**
+       * <code>uint64 requestid = 2;</code>
+       */
+      public long getRequestid() {
+        return requestid_;
+      }
+      /**
+       * <code>uint64 requestid = 2;</code>
+       */
+      public Builder setRequestid(long value) {
+        
+        requestid_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>uint64 requestid = 2;</code>
+       */
+      public Builder clearRequestid() {
+        
+        requestid_ = 0L;
+        onChanged();
+        return this;
+      }
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFieldsProto3(unknownFields);
+      }
+
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:ClientBatchResponse)
+    }
+
+    // @@protoc_insertion_point(class_scope:ClientBatchResponse)
+    private static final KeyValue.ClientBatchResponse DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new KeyValue.ClientBatchResponse();
+    }
+
+    public static KeyValue.ClientBatchResponse getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<ClientBatchResponse>
+        PARSER = new com.google.protobuf.AbstractParser<ClientBatchResponse>() {
+      public ClientBatchResponse parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new ClientBatchResponse(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<ClientBatchResponse> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<ClientBatchResponse> getParserForType() {
+      return PARSER;
+    }
+
+    public KeyValue.ClientBatchResponse getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface ServerBatchRequestOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:ServerBatchRequest)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>repeated .ServerRequest requests = 1;</code>
+     */
+    java.util.List<KeyValue.ServerRequest> 
+        getRequestsList();
+    /**
+     * <code>repeated .ServerRequest requests = 1;</code>
+     */
+    KeyValue.ServerRequest getRequests(int index);
+    /**
+     * <code>repeated .ServerRequest requests = 1;</code>
+     */
+    int getRequestsCount();
+    /**
+     * <code>repeated .ServerRequest requests = 1;</code>
+     */
+    java.util.List<? extends KeyValue.ServerRequestOrBuilder> 
+        getRequestsOrBuilderList();
+    /**
+     * <code>repeated .ServerRequest requests = 1;</code>
+     */
+    KeyValue.ServerRequestOrBuilder getRequestsOrBuilder(
+        int index);
+
+    /**
+     * <code>string replicaname = 2;</code>
+     */
+    java.lang.String getReplicaname();
+    /**
+     * <code>string replicaname = 2;</code>
+     */
+    com.google.protobuf.ByteString
+        getReplicanameBytes();
+
+    /**
+     * <code>uint64 requestid = 3;</code>
+     */
+    long getRequestid();
+
+    /**
+     * <code>uint64 deadline = 4;</code>
+     */
+    long getDeadline();
+  }
+  /**
+   * Protobuf type {@code ServerBatchRequest}
+   */
+  public  static final class ServerBatchRequest extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:ServerBatchRequest)
+      ServerBatchRequestOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use ServerBatchRequest.newBuilder() to construct.
+    private ServerBatchRequest(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private ServerBatchRequest() {
+      requests_ = java.util.Collections.emptyList();
+      replicaname_ = "";
+      requestid_ = 0L;
+      deadline_ = 0L;
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private ServerBatchRequest(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownFieldProto3(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 10: {
+              if (!((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+                requests_ = new java.util.ArrayList<KeyValue.ServerRequest>();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              requests_.add(
+                  input.readMessage(KeyValue.ServerRequest.parser(), extensionRegistry));
+              break;
+            }
+            case 18: {
+              java.lang.String s = input.readStringRequireUtf8();
+
+              replicaname_ = s;
+              break;
+            }
+            case 24: {
+
+              requestid_ = input.readUInt64();
+              break;
+            }
+            case 32: {
+
+              deadline_ = input.readUInt64();
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+          requests_ = java.util.Collections.unmodifiableList(requests_);
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return KeyValue.internal_static_ServerBatchRequest_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return KeyValue.internal_static_ServerBatchRequest_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              KeyValue.ServerBatchRequest.class, KeyValue.ServerBatchRequest.Builder.class);
+    }
+
+    private int bitField0_;
+    public static final int REQUESTS_FIELD_NUMBER = 1;
+    private java.util.List<KeyValue.ServerRequest> requests_;
+    /**
+     * <code>repeated .ServerRequest requests = 1;</code>
+     */
+    public java.util.List<KeyValue.ServerRequest> getRequestsList() {
+      return requests_;
+    }
+    /**
+     * <code>repeated .ServerRequest requests = 1;</code>
+     */
+    public java.util.List<? extends KeyValue.ServerRequestOrBuilder> 
+        getRequestsOrBuilderList() {
+      return requests_;
+    }
+    /**
+     * <code>repeated .ServerRequest requests = 1;</code>
+     */
+    public int getRequestsCount() {
+      return requests_.size();
+    }
+    /**
+     * <code>repeated .ServerRequest requests = 1;</code>
+     */
+    public KeyValue.ServerRequest getRequests(int index) {
+      return requests_.get(index);
+    }
+    /**
+     * <code>repeated .ServerRequest requests = 1;</code>
+     */
+    public KeyValue.ServerRequestOrBuilder getRequestsOrBuilder(
+        int index) {
+      return requests_.get(index);
+    }
+
+    public static final int REPLICANAME_FIELD_NUMBER = 2;
+    private volatile java.lang.Object replicaname_;
+    /**
+     * <code>string replicaname = 2;</code>
+     */
+    public java.lang.String getReplicaname() {
+      java.lang.Object ref = replicaname_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        replicaname_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string replicaname = 2;</code>
+     */
+    public com.google.protobuf.ByteString
+        getReplicanameBytes() {
+      java.lang.Object ref = replicaname_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        replicaname_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int REQUESTID_FIELD_NUMBER = 3;
+    private long requestid_;
+    /**
+     * <code>uint64 requestid = 3;</code>
+     */
+    public long getRequestid() {
+      return requestid_;
+    }
+
+    public static final int DEADLINE_FIELD_NUMBER = 4;
+    private long deadline_;
+    /**
+     * <code>uint64 deadline = 4;</code>
+     */
+    public long getDeadline() {
+      return deadline_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      for (int i = 0; i < requests_.size(); i++) {
+        output.writeMessage(1, requests_.get(i));
+      }
+      if (!getReplicanameBytes().isEmpty()) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, replicaname_);
+      }
+      if (requestid_ != 0L) {
+        output.writeUInt64(3, requestid_);
+      }
+      if (deadline_ != 0L) {
+        output.writeUInt64(4, deadline_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      for (int i = 0; i < requests_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, requests_.get(i));
+      }
+      if (!getReplicanameBytes().isEmpty()) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, replicaname_);
+      }
+      if (requestid_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt64Size(3, requestid_);
+      }
+      if (deadline_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt64Size(4, deadline_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof KeyValue.ServerBatchRequest)) {
+        return super.equals(obj);
+      }
+      KeyValue.ServerBatchRequest other = (KeyValue.ServerBatchRequest) obj;
+
+      boolean result = true;
+      result = result && getRequestsList()
+          .equals(other.getRequestsList());
+      result = result && getReplicaname()
+          .equals(other.getReplicaname());
+      result = result && (getRequestid()
+          == other.getRequestid());
+      result = result && (getDeadline()
+          == other.getDeadline());
+      result = result && unknownFields.equals(other.unknownFields);
+      return result;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (getRequestsCount() > 0) {
+        hash = (37 * hash) + REQUESTS_FIELD_NUMBER;
+        hash = (53 * hash) + getRequestsList().hashCode();
+      }
+      hash = (37 * hash) + REPLICANAME_FIELD_NUMBER;
+      hash = (53 * hash) + getReplicaname().hashCode();
+      hash = (37 * hash) + REQUESTID_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getRequestid());
+      hash = (37 * hash) + DEADLINE_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getDeadline());
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static KeyValue.ServerBatchRequest parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static KeyValue.ServerBatchRequest parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static KeyValue.ServerBatchRequest parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static KeyValue.ServerBatchRequest parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static KeyValue.ServerBatchRequest parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static KeyValue.ServerBatchRequest parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static KeyValue.ServerBatchRequest parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static KeyValue.ServerBatchRequest parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static KeyValue.ServerBatchRequest parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static KeyValue.ServerBatchRequest parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static KeyValue.ServerBatchRequest parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static KeyValue.ServerBatchRequest parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(KeyValue.ServerBatchRequest prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code ServerBatchRequest}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:ServerBatchRequest)
+        KeyValue.ServerBatchRequestOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return KeyValue.internal_static_ServerBatchRequest_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return KeyValue.internal_static_ServerBatchRequest_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                KeyValue.ServerBatchRequest.class, KeyValue.ServerBatchRequest.Builder.class);
+      }
+
+      // Construct using KeyValue.ServerBatchRequest.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+          getRequestsFieldBuilder();
+        }
+      }
+      public Builder clear() {
+        super.clear();
+        if (requestsBuilder_ == null) {
+          requests_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+        } else {
+          requestsBuilder_.clear();
+        }
+        replicaname_ = "";
+
+        requestid_ = 0L;
+
+        deadline_ = 0L;
+
+        return this;
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return KeyValue.internal_static_ServerBatchRequest_descriptor;
+      }
+
+      public KeyValue.ServerBatchRequest getDefaultInstanceForType() {
+        return KeyValue.ServerBatchRequest.getDefaultInstance();
+      }
+
+      public KeyValue.ServerBatchRequest build() {
+        KeyValue.ServerBatchRequest result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public KeyValue.ServerBatchRequest buildPartial() {
+        KeyValue.ServerBatchRequest result = new KeyValue.ServerBatchRequest(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (requestsBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) == 0x00000001)) {
+            requests_ = java.util.Collections.unmodifiableList(requests_);
+            bitField0_ = (bitField0_ & ~0x00000001);
+          }
+          result.requests_ = requests_;
+        } else {
+          result.requests_ = requestsBuilder_.build();
+        }
+        result.replicaname_ = replicaname_;
+        result.requestid_ = requestid_;
+        result.deadline_ = deadline_;
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder clone() {
+        return (Builder) super.clone();
+      }
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return (Builder) super.setField(field, value);
+      }
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return (Builder) super.clearField(field);
+      }
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return (Builder) super.clearOneof(oneof);
+      }
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return (Builder) super.setRepeatedField(field, index, value);
+      }
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return (Builder) super.addRepeatedField(field, value);
+      }
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof KeyValue.ServerBatchRequest) {
+          return mergeFrom((KeyValue.ServerBatchRequest)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(KeyValue.ServerBatchRequest other) {
+        if (other == KeyValue.ServerBatchRequest.getDefaultInstance()) return this;
+        if (requestsBuilder_ == null) {
+          if (!other.requests_.isEmpty()) {
+            if (requests_.isEmpty()) {
+              requests_ = other.requests_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+            } else {
+              ensureRequestsIsMutable();
+              requests_.addAll(other.requests_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.requests_.isEmpty()) {
+            if (requestsBuilder_.isEmpty()) {
+              requestsBuilder_.dispose();
+              requestsBuilder_ = null;
+              requests_ = other.requests_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+              requestsBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getRequestsFieldBuilder() : null;
+            } else {
+              requestsBuilder_.addAllMessages(other.requests_);
+            }
+          }
+        }
+        if (!other.getReplicaname().isEmpty()) {
+          replicaname_ = other.replicaname_;
+          onChanged();
+        }
+        if (other.getRequestid() != 0L) {
+          setRequestid(other.getRequestid());
+        }
+        if (other.getDeadline() != 0L) {
+          setDeadline(other.getDeadline());
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        KeyValue.ServerBatchRequest parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (KeyValue.ServerBatchRequest) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private java.util.List<KeyValue.ServerRequest> requests_ =
+        java.util.Collections.emptyList();
+      private void ensureRequestsIsMutable() {
+        if (!((bitField0_ & 0x00000001) == 0x00000001)) {
+          requests_ = new java.util.ArrayList<KeyValue.ServerRequest>(requests_);
+          bitField0_ |= 0x00000001;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          KeyValue.ServerRequest, KeyValue.ServerRequest.Builder, KeyValue.ServerRequestOrBuilder> requestsBuilder_;
+
+      /**
+       * <code>repeated .ServerRequest requests = 1;</code>
+       */
+      public java.util.List<KeyValue.ServerRequest> getRequestsList() {
+        if (requestsBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(requests_);
+        } else {
+          return requestsBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .ServerRequest requests = 1;</code>
+       */
+      public int getRequestsCount() {
+        if (requestsBuilder_ == null) {
+          return requests_.size();
+        } else {
+          return requestsBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .ServerRequest requests = 1;</code>
+       */
+      public KeyValue.ServerRequest getRequests(int index) {
+        if (requestsBuilder_ == null) {
+          return requests_.get(index);
+        } else {
+          return requestsBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .ServerRequest requests = 1;</code>
+       */
+      public Builder setRequests(
+          int index, KeyValue.ServerRequest value) {
+        if (requestsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureRequestsIsMutable();
+          requests_.set(index, value);
+          onChanged();
+        } else {
+          requestsBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ServerRequest requests = 1;</code>
+       */
+      public Builder setRequests(
+          int index, KeyValue.ServerRequest.Builder builderForValue) {
+        if (requestsBuilder_ == null) {
+          ensureRequestsIsMutable();
+          requests_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          requestsBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ServerRequest requests = 1;</code>
+       */
+      public Builder addRequests(KeyValue.ServerRequest value) {
+        if (requestsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureRequestsIsMutable();
+          requests_.add(value);
+          onChanged();
+        } else {
+          requestsBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ServerRequest requests = 1;</code>
+       */
+      public Builder addRequests(
+          int index, KeyValue.ServerRequest value) {
+        if (requestsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureRequestsIsMutable();
+          requests_.add(index, value);
+          onChanged();
+        } else {
+          requestsBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ServerRequest requests = 1;</code>
+       */
+      public Builder addRequests(
+          KeyValue.ServerRequest.Builder builderForValue) {
+        if (requestsBuilder_ == null) {
+          ensureRequestsIsMutable();
+          requests_.add(builderForValue.build());
+          onChanged();
+        } else {
+          requestsBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ServerRequest requests = 1;</code>
+       */
+      public Builder addRequests(
+          int index, KeyValue.ServerRequest.Builder builderForValue) {
+        if (requestsBuilder_ == null) {
+          ensureRequestsIsMutable();
+          requests_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          requestsBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ServerRequest requests = 1;</code>
+       */
+      public Builder addAllRequests(
+          java.lang.Iterable<? extends KeyValue.ServerRequest> values) {
+        if (requestsBuilder_ == null) {
+          ensureRequestsIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, requests_);
+          onChanged();
+        } else {
+          requestsBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ServerRequest requests = 1;</code>
+       */
+      public Builder clearRequests() {
+        if (requestsBuilder_ == null) {
+          requests_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+          onChanged();
+        } else {
+          requestsBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ServerRequest requests = 1;</code>
+       */
+      public Builder removeRequests(int index) {
+        if (requestsBuilder_ == null) {
+          ensureRequestsIsMutable();
+          requests_.remove(index);
+          onChanged();
+        } else {
+          requestsBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ServerRequest requests = 1;</code>
+       */
+      public KeyValue.ServerRequest.Builder getRequestsBuilder(
+          int index) {
+        return getRequestsFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .ServerRequest requests = 1;</code>
+       */
+      public KeyValue.ServerRequestOrBuilder getRequestsOrBuilder(
+          int index) {
+        if (requestsBuilder_ == null) {
+          return requests_.get(index);  } else {
+          return requestsBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .ServerRequest requests = 1;</code>
+       */
+      public java.util.List<? extends KeyValue.ServerRequestOrBuilder> 
+           getRequestsOrBuilderList() {
+        if (requestsBuilder_ != null) {
+          return requestsBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(requests_);
+        }
+      }
+      /**
+       * <code>repeated .ServerRequest requests = 1;</code>
+       */
+      public KeyValue.ServerRequest.Builder addRequestsBuilder() {
+        return getRequestsFieldBuilder().addBuilder(
+            KeyValue.ServerRequest.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .ServerRequest requests = 1;</code>
+       */
+      public KeyValue.ServerRequest.Builder addRequestsBuilder(
+          int index) {
+        return getRequestsFieldBuilder().addBuilder(
+            index, KeyValue.ServerRequest.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .ServerRequest requests = 1;</code>
+       */
+      public java.util.List<KeyValue.ServerRequest.Builder> 
+           getRequestsBuilderList() {
+        return getRequestsFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          KeyValue.ServerRequest, KeyValue.ServerRequest.Builder, KeyValue.ServerRequestOrBuilder> 
+          getRequestsFieldBuilder() {
+        if (requestsBuilder_ == null) {
+          requestsBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              KeyValue.ServerRequest, KeyValue.ServerRequest.Builder, KeyValue.ServerRequestOrBuilder>(
+                  requests_,
+                  ((bitField0_ & 0x00000001) == 0x00000001),
+                  getParentForChildren(),
+                  isClean());
+          requests_ = null;
+        }
+        return requestsBuilder_;
+      }
+
+      private java.lang.Object replicaname_ = "";
+      /**
+       * <code>string replicaname = 2;</code>
+       */
+      public java.lang.String getReplicaname() {
+        java.lang.Object ref = replicaname_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          replicaname_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string replicaname = 2;</code>
+       */
+      public com.google.protobuf.ByteString
+          getReplicanameBytes() {
+        java.lang.Object ref = replicaname_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          replicaname_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string replicaname = 2;</code>
+       */
+      public Builder setReplicaname(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        replicaname_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string replicaname = 2;</code>
+       */
+      public Builder clearReplicaname() {
+        
+        replicaname_ = getDefaultInstance().getReplicaname();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string replicaname = 2;</code>
+       */
+      public Builder setReplicanameBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        
+        replicaname_ = value;
+        onChanged();
+        return this;
+      }
+
+      private long requestid_ ;
+      /**
+       * <code>uint64 requestid = 3;</code>
+       */
+      public long getRequestid() {
+        return requestid_;
+      }
+      /**
+       * <code>uint64 requestid = 3;</code>
+       */
+      public Builder setRequestid(long value) {
+        
+        requestid_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>uint64 requestid = 3;</code>
+       */
+      public Builder clearRequestid() {
+        
+        requestid_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private long deadline_ ;
+      /**
+       * <code>uint64 deadline = 4;</code>
+       */
+      public long getDeadline() {
+        return deadline_;
+      }
+      /**
+       * <code>uint64 deadline = 4;</code>
+       */
+      public Builder setDeadline(long value) {
+        
+        deadline_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>uint64 deadline = 4;</code>
+       */
+      public Builder clearDeadline() {
+        
+        deadline_ = 0L;
+        onChanged();
+        return this;
+      }
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFieldsProto3(unknownFields);
+      }
+
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:ServerBatchRequest)
+    }
+
+    // @@protoc_insertion_point(class_scope:ServerBatchRequest)
+    private static final KeyValue.ServerBatchRequest DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new KeyValue.ServerBatchRequest();
+    }
+
+    public static KeyValue.ServerBatchRequest getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<ServerBatchRequest>
+        PARSER = new com.google.protobuf.AbstractParser<ServerBatchRequest>() {
+      public ServerBatchRequest parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new ServerBatchRequest(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<ServerBatchRequest> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<ServerBatchRequest> getParserForType() {
+      return PARSER;
+    }
+
+    public KeyValue.ServerBatchRequest getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface ServerBatchResponseOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:ServerBatchResponse)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>repeated .ServerResponse responses = 1;</code>
+     */
+    java.util.List<KeyValue.ServerResponse> 
+        getResponsesList();
+    /**
+     * <code>repeated .ServerResponse responses = 1;</code>
+     */
+    KeyValue.ServerResponse getResponses(int index);
+    /**
+     * <code>repeated .ServerResponse responses = 1;</code>
+     */
+    int getResponsesCount();
+    /**
+     * <code>repeated .ServerResponse responses = 1;</code>
+     */
+    java.util.List<? extends KeyValue.ServerResponseOrBuilder> 
+        getResponsesOrBuilderList();
+    /**
+     * <code>repeated .ServerResponse responses = 1;</code>
+     */
+    KeyValue.ServerResponseOrBuilder getResponsesOrBuilder(
+        int index);
+
+    /**
+     * <code>uint64 requestid = 2;</code>
+     */
+    long getRequestid();
+  }
+  /**
+   * Protobuf type {@code ServerBatchResponse}
+   */
+  public  static final class ServerBatchResponse extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:ServerBatchResponse)
+      ServerBatchResponseOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use ServerBatchResponse.newBuilder() to construct.
+    private ServerBatchResponse(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private ServerBatchResponse() {
+      responses_ = java.util.Collections.emptyList();
+      requestid_ = 0L;
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private ServerBatchResponse(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownFieldProto3(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 10: {
+              if (!((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+                responses_ = new java.util.ArrayList<KeyValue.ServerResponse>();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              responses_.add(
+                  input.readMessage(KeyValue.ServerResponse.parser(), extensionRegistry));
+              break;
+            }
+            case 16: {
+
+              requestid_ = input.readUInt64();
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+          responses_ = java.util.Collections.unmodifiableList(responses_);
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return KeyValue.internal_static_ServerBatchResponse_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return KeyValue.internal_static_ServerBatchResponse_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              KeyValue.ServerBatchResponse.class, KeyValue.ServerBatchResponse.Builder.class);
+    }
+
+    private int bitField0_;
+    public static final int RESPONSES_FIELD_NUMBER = 1;
+    private java.util.List<KeyValue.ServerResponse> responses_;
+    /**
+     * <code>repeated .ServerResponse responses = 1;</code>
+     */
+    public java.util.List<KeyValue.ServerResponse> getResponsesList() {
+      return responses_;
+    }
+    /**
+     * <code>repeated .ServerResponse responses = 1;</code>
+     */
+    public java.util.List<? extends KeyValue.ServerResponseOrBuilder> 
+        getResponsesOrBuilderList() {
+      return responses_;
+    }
+    /**
+     * <code>repeated .ServerResponse responses = 1;</code>
+     */
+    public int getResponsesCount() {
+      return responses_.size();
+    }
+    /**
+     * <code>repeated .ServerResponse responses = 1;</code>
+     */
+    public KeyValue.ServerResponse getResponses(int index) {
+      return responses_.get(index);
+    }
+    /**
+     * <code>repeated .ServerResponse responses = 1;</code>
+     */
+    public KeyValue.ServerResponseOrBuilder getResponsesOrBuilder(
+        int index) {
+      return responses_.get(index);
+    }
+
+    public static final int REQUESTID_FIELD_NUMBER = 2;
+    private long requestid_;
+    /**
+     * <code>uint64 requestid = 2;</code>
+     */
+    public long getRequestid() {
+      return requestid_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      for (int i = 0; i < responses_.size(); i++) {
+        output.writeMessage(1, responses_.get(i));
+      }
+      if (requestid_ != 0L) {
+        output.writeUInt64(2, requestid_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      for (int i = 0; i < responses_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, responses_.get(i));
+      }
+      if (requestid_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt64Size(2, requestid_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof KeyValue.ServerBatchResponse)) {
+        return super.equals(obj);
+      }
+      KeyValue.ServerBatchResponse other = (KeyValue.ServerBatchResponse) obj;
+
+      boolean result = true;
+      result = result && getResponsesList()
+          .equals(other.getResponsesList());
+      result = result && (getRequestid()
+          == other.getRequestid());
+      result = result && unknownFields.equals(other.unknownFields);
+      return result;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (getResponsesCount() > 0) {
+        hash = (37 * hash) + RESPONSES_FIELD_NUMBER;
+        hash = (53 * hash) + getResponsesList().hashCode();
+      }
+      hash = (37 * hash) + REQUESTID_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getRequestid());
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static KeyValue.ServerBatchResponse parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static KeyValue.ServerBatchResponse parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static KeyValue.ServerBatchResponse parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static KeyValue.ServerBatchResponse parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static KeyValue.ServerBatchResponse parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static KeyValue.ServerBatchResponse parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static KeyValue.ServerBatchResponse parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static KeyValue.ServerBatchResponse parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static KeyValue.ServerBatchResponse parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static KeyValue.ServerBatchResponse parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static KeyValue.ServerBatchResponse parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static KeyValue.ServerBatchResponse parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(KeyValue.ServerBatchResponse prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code ServerBatchResponse}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:ServerBatchResponse)
+        KeyValue.ServerBatchResponseOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return KeyValue.internal_static_ServerBatchResponse_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return KeyValue.internal_static_ServerBatchResponse_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                KeyValue.ServerBatchResponse.class, KeyValue.ServerBatchResponse.Builder.class);
+      }
+
+      // Construct using KeyValue.ServerBatchResponse.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+          getResponsesFieldBuilder();
+        }
+      }
+      public Builder clear() {
+        super.clear();
+        if (responsesBuilder_ == null) {
+          responses_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+        } else {
+          responsesBuilder_.clear();
+        }
+        requestid_ = 0L;
+
+        return this;
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return KeyValue.internal_static_ServerBatchResponse_descriptor;
+      }
+
+      public KeyValue.ServerBatchResponse getDefaultInstanceForType() {
+        return KeyValue.ServerBatchResponse.getDefaultInstance();
+      }
+
+      public KeyValue.ServerBatchResponse build() {
+        KeyValue.ServerBatchResponse result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public KeyValue.ServerBatchResponse buildPartial() {
+        KeyValue.ServerBatchResponse result = new KeyValue.ServerBatchResponse(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (responsesBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) == 0x00000001)) {
+            responses_ = java.util.Collections.unmodifiableList(responses_);
+            bitField0_ = (bitField0_ & ~0x00000001);
+          }
+          result.responses_ = responses_;
+        } else {
+          result.responses_ = responsesBuilder_.build();
+        }
+        result.requestid_ = requestid_;
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder clone() {
+        return (Builder) super.clone();
+      }
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return (Builder) super.setField(field, value);
+      }
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return (Builder) super.clearField(field);
+      }
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return (Builder) super.clearOneof(oneof);
+      }
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return (Builder) super.setRepeatedField(field, index, value);
+      }
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return (Builder) super.addRepeatedField(field, value);
+      }
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof KeyValue.ServerBatchResponse) {
+          return mergeFrom((KeyValue.ServerBatchResponse)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(KeyValue.ServerBatchResponse other) {
+        if (other == KeyValue.ServerBatchResponse.getDefaultInstance()) return this;
+        if (responsesBuilder_ == null) {
+          if (!other.responses_.isEmpty()) {
+            if (responses_.isEmpty()) {
+              responses_ = other.responses_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+            } else {
+              ensureResponsesIsMutable();
+              responses_.addAll(other.responses_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.responses_.isEmpty()) {
+            if (responsesBuilder_.isEmpty()) {
+              responsesBuilder_.dispose();
+              responsesBuilder_ = null;
+              responses_ = other.responses_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+              responsesBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getResponsesFieldBuilder() : null;
+            } else {
+              responsesBuilder_.addAllMessages(other.responses_);
+            }
+          }
+        }
+        if (other.getRequestid() != 0L) {
+          setRequestid(other.getRequestid());
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        KeyValue.ServerBatchResponse parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (KeyValue.ServerBatchResponse) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private java.util.List<KeyValue.ServerResponse> responses_ =
+        java.util.Collections.emptyList();
+      private void ensureResponsesIsMutable() {
+        if (!((bitField0_ & 0x00000001) == 0x00000001)) {
+          responses_ = new java.util.ArrayList<KeyValue.ServerResponse>(responses_);
+          bitField0_ |= 0x00000001;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          KeyValue.ServerResponse, KeyValue.ServerResponse.Builder, KeyValue.ServerResponseOrBuilder> responsesBuilder_;
+
+      /**
+       * <code>repeated .ServerResponse responses = 1;</code>
+       */
+      public java.util.List<KeyValue.ServerResponse> getResponsesList() {
+        if (responsesBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(responses_);
+        } else {
+          return responsesBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .ServerResponse responses = 1;</code>
+       */
+      public int getResponsesCount() {
+        if (responsesBuilder_ == null) {
+          return responses_.size();
+        } else {
+          return responsesBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .ServerResponse responses = 1;</code>
+       */
+      public KeyValue.ServerResponse getResponses(int index) {
+        if (responsesBuilder_ == null) {
+          return responses_.get(index);
+        } else {
+          return responsesBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .ServerResponse responses = 1;</code>
+       */
+      public Builder setResponses(
+          int index, KeyValue.ServerResponse value) {
+        if (responsesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureResponsesIsMutable();
+          responses_.set(index, value);
+          onChanged();
+        } else {
+          responsesBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ServerResponse responses = 1;</code>
+       */
+      public Builder setResponses(
+          int index, KeyValue.ServerResponse.Builder builderForValue) {
+        if (responsesBuilder_ == null) {
+          ensureResponsesIsMutable();
+          responses_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          responsesBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ServerResponse responses = 1;</code>
+       */
+      public Builder addResponses(KeyValue.ServerResponse value) {
+        if (responsesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureResponsesIsMutable();
+          responses_.add(value);
+          onChanged();
+        } else {
+          responsesBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ServerResponse responses = 1;</code>
+       */
+      public Builder addResponses(
+          int index, KeyValue.ServerResponse value) {
+        if (responsesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureResponsesIsMutable();
+          responses_.add(index, value);
+          onChanged();
+        } else {
+          responsesBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ServerResponse responses = 1;</code>
+       */
+      public Builder addResponses(
+          KeyValue.ServerResponse.Builder builderForValue) {
+        if (responsesBuilder_ == null) {
+          ensureResponsesIsMutable();
+          responses_.add(builderForValue.build());
+          onChanged();
+        } else {
+          responsesBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ServerResponse responses = 1;</code>
+       */
+      public Builder addResponses(
+          int index, KeyValue.ServerResponse.Builder builderForValue) {
+        if (responsesBuilder_ == null) {
+          ensureResponsesIsMutable();
+          responses_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          responsesBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ServerResponse responses = 1;</code>
+       */
+      public Builder addAllResponses(
+          java.lang.Iterable<? extends KeyValue.ServerResponse> values) {
+        if (responsesBuilder_ == null) {
+          ensureResponsesIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, responses_);
+          onChanged();
+        } else {
+          responsesBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ServerResponse responses = 1;</code>
+       */
+      public Builder clearResponses() {
+        if (responsesBuilder_ == null) {
+          responses_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+          onChanged();
+        } else {
+          responsesBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ServerResponse responses = 1;</code>
+       */
+      public Builder removeResponses(int index) {
+        if (responsesBuilder_ == null) {
+          ensureResponsesIsMutable();
+          responses_.remove(index);
+          onChanged();
+        } else {
+          responsesBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ServerResponse responses = 1;</code>
+       */
+      public KeyValue.ServerResponse.Builder getResponsesBuilder(
+          int index) {
+        return getResponsesFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .ServerResponse responses = 1;</code>
+       */
+      public KeyValue.ServerResponseOrBuilder getResponsesOrBuilder(
+          int index) {
+        if (responsesBuilder_ == null) {
+          return responses_.get(index);  } else {
+          return responsesBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .ServerResponse responses = 1;</code>
+       */
+      public java.util.List<? extends KeyValue.ServerResponseOrBuilder> 
+           getResponsesOrBuilderList() {
+        if (responsesBuilder_ != null) {
+          return responsesBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(responses_);
+        }
+      }
+      /**
+       * <code>repeated .ServerResponse responses = 1;</code>
+       */
+      public KeyValue.ServerResponse.Builder addResponsesBuilder() {
+        return getResponsesFieldBuilder().addBuilder(
+            KeyValue.ServerResponse.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .ServerResponse responses = 1;</code>
+       */
+      public KeyValue.ServerResponse.Builder addResponsesBuilder(
+          int index) {
+        return getResponsesFieldBuilder().addBuilder(
+            index, KeyValue.ServerResponse.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .ServerResponse responses = 1;</code>
+       */
+      public java.util.List<KeyValue.ServerResponse.Builder> 
+           getResponsesBuilderList() {
+        return getResponsesFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          KeyValue.ServerResponse, KeyValue.ServerResponse.Builder, KeyValue.ServerResponseOrBuilder> 
+          getResponsesFieldBuilder() {
+        if (responsesBuilder_ == null) {
+          responsesBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              KeyValue.ServerResponse, KeyValue.ServerResponse.Builder, KeyValue.ServerResponseOrBuilder>(
+                  responses_,
+                  ((bitField0_ & 0x00000001) == 0x00000001),
+                  getParentForChildren(),
+                  isClean());
+          responses_ = null;
+        }
+        return responsesBuilder_;
+      }
+
+      private long requestid_ ;
+      /**
+       * <code>uint64 requestid = 2;</code>
+       */
+      public long getRequestid() {
+        return requestid_;
+      }
+      /**
+       * <code>uint64 requestid = 2;</code>
+       */
+      public Builder setRequestid(long value) {
+        
+        requestid_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>uint64 requestid = 2;</code>
+       */
+      public Builder clearRequestid() {
+        
+        requestid_ = 0L;
+        onChanged();
+        return this;
+      }
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFieldsProto3(unknownFields);
+      }
+
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:ServerBatchResponse)
+    }
+
+    // @@protoc_insertion_point(class_scope:ServerBatchResponse)
+    private static final KeyValue.ServerBatchResponse DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new KeyValue.ServerBatchResponse();
+    }
+
+    public static KeyValue.ServerBatchResponse getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<ServerBatchResponse>
+        PARSER = new com.google.protobuf.AbstractParser<ServerBatchResponse>() {
+      public ServerBatchResponse parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new ServerBatchResponse(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<ServerBatchResponse> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<ServerBatchResponse> getParserForType() {
+      return PARSER;
+    }
+
+    public KeyValue.ServerBatchResponse getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface ScanRequestOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:ScanRequest)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>bytes startkey = 10;</code>
+     */
+    com.google.protobuf.ByteString getStartkey();
+
+    /**
+     * <code>bytes endkey = 11;</code>
+     */
+    com.google.protobuf.ByteString getEndkey();
+
+    /**
+     * <code>uint32 limit = 3;</code>
+     */
+    int getLimit();
+
+    /**
+     * <code>bytes pagingtoken = 4;</code>
+     */
+    com.google.protobuf.ByteString getPagingtoken();
+
+    /**
+     * <code>string consistency = 5;</code>
+     */
+    java.lang.String getConsistency();
+    /**
+     * <code>string consistency = 5;</code>
+     */
+    com.google.protobuf.ByteString
+        getConsistencyBytes();
+
+    /**
+     * <code>string replicaname = 6;</code>
+     */
+    java.lang.String getReplicaname();
+    /**
+     * <code>string replicaname = 6;</code>
+     */
+    com.google.protobuf.ByteString
+        getReplicanameBytes();
+
+    /**
+     * <code>uint64 requestid = 7;</code>
+     */
+    long getRequestid();
+
+    /**
+     * <code>uint64 deadline = 8;</code>
+     */
+    long getDeadline();
+
+    /**
+     * <code>uint32 credits = 9;</code>
+     */
+    int getCredits();
+  }
+  /**
+   * Protobuf type {@code ScanRequest}
+   */
+  public  static final class ScanRequest extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:ScanRequest)
+      ScanRequestOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use ScanRequest.newBuilder() to construct.
+    private ScanRequest(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private ScanRequest() {
+      startkey_ = com.google.protobuf.ByteString.EMPTY;
+      endkey_ = com.google.protobuf.ByteString.EMPTY;
+      limit_ = 0;
+      pagingtoken_ = com.google.protobuf.ByteString.EMPTY;
+      consistency_ = "";
+      replicaname_ = "";
+      requestid_ = 0L;
+      deadline_ = 0L;
+      credits_ = 0;
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private ScanRequest(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownFieldProto3(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 24: {
+
+              limit_ = input.readUInt32();
+              break;
+            }
+            case 34: {
+
+              pagingtoken_ = input.readBytes();
+              break;
+            }
+            case 42: {
+              java.lang.String s = input.readStringRequireUtf8();
+
+              consistency_ = s;
+              break;
+            }
+            case 50: {
+              java.lang.String s = input.readStringRequireUtf8();
+
+              replicaname_ = s;
+              break;
+            }
+            case 56: {
+
+              requestid_ = input.readUInt64();
+              break;
+            }
+            case 64: {
+
+              deadline_ = input.readUInt64();
+              break;
+            }
+            case 72: {
+
+              credits_ = input.readUInt32();
+              break;
+            }
+            case 82: {
+
+              startkey_ = input.readBytes();
+              break;
+            }
+            case 90: {
+
+              endkey_ = input.readBytes();
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return KeyValue.internal_static_ScanRequest_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return KeyValue.internal_static_ScanRequest_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              KeyValue.ScanRequest.class, KeyValue.ScanRequest.Builder.class);
+    }
+
+    public static final int STARTKEY_FIELD_NUMBER = 10;
+    private com.google.protobuf.ByteString startkey_;
+    /**
+     * <code>bytes startkey = 10;</code>
+     */
+    public com.google.protobuf.ByteString getStartkey() {
+      return startkey_;
+    }
+
+    public static final int ENDKEY_FIELD_NUMBER = 11;
+    private com.google.protobuf.ByteString endkey_;
+    /**
+     * <code>bytes endkey = 11;</code>
+     */
+    public com.google.protobuf.ByteString getEndkey() {
+      return endkey_;
+    }
+
+    public static final int LIMIT_FIELD_NUMBER = 3;
+    private int limit_;
+    /**
+     * <code>uint32 limit = 3;</code>
+     */
+    public int getLimit() {
+      return limit_;
+    }
+
+    public static final int PAGINGTOKEN_FIELD_NUMBER = 4;
+    private com.google.protobuf.ByteString pagingtoken_;
+    /**
+     * <code>bytes pagingtoken = 4;</code>
+     */
+    public com.google.protobuf.ByteString getPagingtoken() {
+      return pagingtoken_;
+    }
+
+    public static final int CONSISTENCY_FIELD_NUMBER = 5;
+    private volatile java.lang.Object consistency_;
+    /**
+     * <code>string consistency = 5;</code>
+     */
+    public java.lang.String getConsistency() {
+      java.lang.Object ref = consistency_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        consistency_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string consistency = 5;</code>
+     */
+    public com.google.protobuf.ByteString
+        getConsistencyBytes() {
+      java.lang.Object ref = consistency_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        consistency_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int REPLICANAME_FIELD_NUMBER = 6;
+    private volatile java.lang.Object replicaname_;
+    /**
+     * <code>string replicaname = 6;</code>
+     */
+    public java.lang.String getReplicaname() {
+      java.lang.Object ref = replicaname_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        replicaname_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string replicaname = 6;</code>
+     */
+    public com.google.protobuf.ByteString
+        getReplicanameBytes() {
+      java.lang.Object ref = replicaname_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        replicaname_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int REQUESTID_FIELD_NUMBER = 7;
+    private long requestid_;
+    /**
+     * <code>uint64 requestid = 7;</code>
+     */
+    public long getRequestid() {
+      return requestid_;
+    }
+
+    public static final int DEADLINE_FIELD_NUMBER = 8;
+    private long deadline_;
+    /**
+     * <code>uint64 deadline = 8;</code>
+     */
+    public long getDeadline() {
+      return deadline_;
+    }
+
+    public static final int CREDITS_FIELD_NUMBER = 9;
+    private int credits_;
+    /**
+     * <code>uint32 credits = 9;</code>
+     */
+    public int getCredits() {
+      return credits_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (limit_ != 0) {
+        output.writeUInt32(3, limit_);
+      }
+      if (!pagingtoken_.isEmpty()) {
+        output.writeBytes(4, pagingtoken_);
+      }
+      if (!getConsistencyBytes().isEmpty()) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 5, consistency_);
+      }
+      if (!getReplicanameBytes().isEmpty()) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 6, replicaname_);
+      }
+      if (requestid_ != 0L) {
+        output.writeUInt64(7, requestid_);
+      }
+      if (deadline_ != 0L) {
+        output.writeUInt64(8, deadline_);
+      }
+      if (credits_ != 0) {
+        output.writeUInt32(9, credits_);
+      }
+      if (!startkey_.isEmpty()) {
+        output.writeBytes(10, startkey_);
+      }
+      if (!endkey_.isEmpty()) {
+        output.writeBytes(11, endkey_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (limit_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt32Size(3, limit_);
+      }
+      if (!pagingtoken_.isEmpty()) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(4, pagingtoken_);
+      }
+      if (!getConsistencyBytes().isEmpty()) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(5, consistency_);
+      }
+      if (!getReplicanameBytes().isEmpty()) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(6, replicaname_);
+      }
+      if (requestid_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt64Size(7, requestid_);
+      }
+      if (deadline_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt64Size(8, deadline_);
+      }
+      if (credits_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt32Size(9, credits_);
+      }
+      if (!startkey_.isEmpty()) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(10, startkey_);
+      }
+      if (!endkey_.isEmpty()) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(11, endkey_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof KeyValue.ScanRequest)) {
+        return super.equals(obj);
+      }
+      KeyValue.ScanRequest other = (KeyValue.ScanRequest) obj;
+
+      boolean result = true;
+      result = result && getStartkey()
+          .equals(other.getStartkey());
+      result = result && getEndkey()
+          .equals(other.getEndkey());
+      result = result && (getLimit()
+          == other.getLimit());
+      result = result && getPagingtoken()
+          .equals(other.getPagingtoken());
+      result = result && getConsistency()
+          .equals(other.getConsistency());
+      result = result && getReplicaname()
+          .equals(other.getReplicaname());
+      result = result && (getRequestid()
+          == other.getRequestid());
+      result = result && (getDeadline()
+          == other.getDeadline());
+      result = result && (getCredits()
+          == other.getCredits());
+      result = result && unknownFields.equals(other.unknownFields);
+      return result;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + STARTKEY_FIELD_NUMBER;
+      hash = (53 * hash) + getStartkey().hashCode();
+      hash = (37 * hash) + ENDKEY_FIELD_NUMBER;
+      hash = (53 * hash) + getEndkey().hashCode();
+      hash = (37 * hash) + LIMIT_FIELD_NUMBER;
+      hash = (53 * hash) + getLimit();
+      hash = (37 * hash) + PAGINGTOKEN_FIELD_NUMBER;
+      hash = (53 * hash) + getPagingtoken().hashCode();
+      hash = (37 * hash) + CONSISTENCY_FIELD_NUMBER;
+      hash = (53 * hash) + getConsistency().hashCode();
+      hash = (37 * hash) + REPLICANAME_FIELD_NUMBER;
+      hash = (53 * hash) + getReplicaname().hashCode();
+      hash = (37 * hash) + REQUESTID_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getRequestid());
+      hash = (37 * hash) + DEADLINE_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getDeadline());
+      hash = (37 * hash) + CREDITS_FIELD_NUMBER;
+      hash = (53 * hash) + getCredits();
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static KeyValue.ScanRequest parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static KeyValue.ScanRequest parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static KeyValue.ScanRequest parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static KeyValue.ScanRequest parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static KeyValue.ScanRequest parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static KeyValue.ScanRequest parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static KeyValue.ScanRequest parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static KeyValue.ScanRequest parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static KeyValue.ScanRequest parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static KeyValue.ScanRequest parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static KeyValue.ScanRequest parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static KeyValue.ScanRequest parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(KeyValue.ScanRequest prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code ScanRequest}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:ScanRequest)
+        KeyValue.ScanRequestOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return KeyValue.internal_static_ScanRequest_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return KeyValue.internal_static_ScanRequest_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                KeyValue.ScanRequest.class, KeyValue.ScanRequest.Builder.class);
+      }
+
+      // Construct using KeyValue.ScanRequest.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      public Builder clear() {
+        super.clear();
+        startkey_ = com.google.protobuf.ByteString.EMPTY;
+
+        endkey_ = com.google.protobuf.ByteString.EMPTY;
+
+        limit_ = 0;
+
+        pagingtoken_ = com.google.protobuf.ByteString.EMPTY;
+
+        consistency_ = "";
+
+        replicaname_ = "";
+
+        requestid_ = 0L;
+
+        deadline_ = 0L;
+
+        credits_ = 0;
+
+        return this;
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return KeyValue.internal_static_ScanRequest_descriptor;
+      }
+
+      public KeyValue.ScanRequest getDefaultInstanceForType() {
+        return KeyValue.ScanRequest.getDefaultInstance();
+      }
+
+      public KeyValue.ScanRequest build() {
+        KeyValue.ScanRequest result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public KeyValue.ScanRequest buildPartial() {
+        KeyValue.ScanRequest result = new KeyValue.ScanRequest(this);
+        result.startkey_ = startkey_;
+        result.endkey_ = endkey_;
+        result.limit_ = limit_;
+        result.pagingtoken_ = pagingtoken_;
+        result.consistency_ = consistency_;
+        result.replicaname_ = replicaname_;
+        result.requestid_ = requestid_;
+        result.deadline_ = deadline_;
+        result.credits_ = credits_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder clone() {
+        return (Builder) super.clone();
+      }
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return (Builder) super.setField(field, value);
+      }
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return (Builder) super.clearField(field);
+      }
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return (Builder) super.clearOneof(oneof);
+      }
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return (Builder) super.setRepeatedField(field, index, value);
+      }
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return (Builder) super.addRepeatedField(field, value);
+      }
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof KeyValue.ScanRequest) {
+          return mergeFrom((KeyValue.ScanRequest)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(KeyValue.ScanRequest other) {
+        if (other == KeyValue.ScanRequest.getDefaultInstance()) return this;
+        if (other.getStartkey() != com.google.protobuf.ByteString.EMPTY) {
+          setStartkey(other.getStartkey());
+        }
+        if (other.getEndkey() != com.google.protobuf.ByteString.EMPTY) {
+          setEndkey(other.getEndkey());
+        }
+        if (other.getLimit() != 0) {
+          setLimit(other.getLimit());
+        }
+        if (other.getPagingtoken() != com.google.protobuf.ByteString.EMPTY) {
+          setPagingtoken(other.getPagingtoken());
+        }
+        if (!other.getConsistency().isEmpty()) {
+          consistency_ = other.consistency_;
+          onChanged();
+        }
+        if (!other.getReplicaname().isEmpty()) {
+          replicaname_ = other.replicaname_;
+          onChanged();
+        }
+        if (other.getRequestid() != 0L) {
+          setRequestid(other.getRequestid());
+        }
+        if (other.getDeadline() != 0L) {
+          setDeadline(other.getDeadline());
+        }
+        if (other.getCredits() != 0) {
+          setCredits(other.getCredits());
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        KeyValue.ScanRequest parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (KeyValue.ScanRequest) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+
+      private com.google.protobuf.ByteString startkey_ = com.google.protobuf.ByteString.EMPTY;
+      /**
+       * <code>bytes startkey = 10;</code>
+       */
+      public com.google.protobuf.ByteString getStartkey() {
+        return startkey_;
+      }
+      /**
+       * <code>bytes startkey = 10;</code>
+       */
+      public Builder setStartkey(com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        startkey_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>bytes startkey = 10;</code>
+       */
+      public Builder clearStartkey() {
+        
+        startkey_ = getDefaultInstance().getStartkey();
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.ByteString endkey_ = com.google.protobuf.ByteString.EMPTY;
+      /**
+       * <code>bytes endkey = 11;</code>
+       */
+      public com.google.protobuf.ByteString getEndkey() {
+        return endkey_;
+      }
+      /**
+       * <code>bytes endkey = 11;</code>
+       */
+      public Builder setEndkey(com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        endkey_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>bytes endkey = 11;</code>
+       */
+      public Builder clearEndkey() {
+        
+        endkey_ = getDefaultInstance().getEndkey();
+        onChanged();
+        return this;
+      }
+
+      private int limit_ ;
+      /**
+       * <code>uint32 limit = 3;</code>
+       */
+      public int getLimit() {
+        return limit_;
+      }
+      /**
+       * <code>uint32 limit = 3;</code>
+       */
+      public Builder setLimit(int value) {
+        
+        limit_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>uint32 limit = 3;</code>
+       */
+      public Builder clearLimit() {
+        
+        limit_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.ByteString pagingtoken_ = com.google.protobuf.ByteString.EMPTY;
+      /**
+       * <code>bytes pagingtoken = 4;</code>
+       */
+      public com.google.protobuf.ByteString getPagingtoken() {
+        return pagingtoken_;
+      }
+      /**
+       * <code>bytes pagingtoken = 4;</code>
+       */
+      public Builder setPagingtoken(com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        pagingtoken_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>bytes pagingtoken = 4;</code>
+       */
+      public Builder clearPagingtoken() {
+        
+        pagingtoken_ = getDefaultInstance().getPagingtoken();
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object consistency_ = "";
+      /**
+       * <code>string consistency = 5;</code>
+       */
+      public java.lang.String getConsistency() {
+        java.lang.Object ref = consistency_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          consistency_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string consistency = 5;</code>
+       */
+      public com.google.protobuf.ByteString
+          getConsistencyBytes() {
+        java.lang.Object ref = consistency_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          consistency_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string consistency = 5;</code>
+       */
+      public Builder setConsistency(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        consistency_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string consistency = 5;</code>
+       */
+      public Builder clearConsistency() {
+        
+        consistency_ = getDefaultInstance().getConsistency();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string consistency = 5;</code>
+       */
+      public Builder setConsistencyBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        
+        consistency_ = value;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object replicaname_ = "";
+      /**
+       * <code>string replicaname = 6;</code>
+       */
+      public java.lang.String getReplicaname() {
+        java.lang.Object ref = replicaname_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          replicaname_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string replicaname = 6;</code>
+       */
+      public com.google.protobuf.ByteString
+          getReplicanameBytes() {
+        java.lang.Object ref = replicaname_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          replicaname_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string replicaname = 6;</code>
+       */
+      public Builder setReplicaname(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        replicaname_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string replicaname = 6;</code>
+       */
+      public Builder clearReplicaname() {
+        
+        replicaname_ = getDefaultInstance().getReplicaname();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string replicaname = 6;</code>
+       */
+      public Builder setReplicanameBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        
+        replicaname_ = value;
+        onChanged();
+        return this;
+      }
+
+      private long requestid_ ;
+      /**
+       * <code>uint64 requestid = 7;</code>
+       */
+      public long getRequestid() {
+        return requestid_;
+      }
+      /**
+       * <code>uint64 requestid = 7;</code>
+       */
+      public Builder setRequestid(long value) {
+        
+        requestid_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>uint64 requestid = 7;</code>
+       */
+      public Builder clearRequestid() {
+        
+        requestid_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private long deadline_ ;
+      /**
+       * <code>uint64 deadline = 8;</code>
+       */
+      public long getDeadline() {
+        return deadline_;
+      }
+      /**
+       * <code>uint64 deadline = 8;</code>
+       */
+      public Builder setDeadline(long value) {
+        
+        deadline_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>uint64 deadline = 8;</code>
+       */
+      public Builder clearDeadline() {
+        
+        deadline_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private int credits_ ;
+      /**
+       * <code>uint32 credits = 9;</code>
+       */
+      public int getCredits() {
+        return credits_;
+      }
+      /**
+       * <code>uint32 credits = 9;</code>
+       */
+      public Builder setCredits(int value) {
+        
+        credits_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>uint32 credits = 9;</code>
+       */
+      public Builder clearCredits() {
+        
+        credits_ = 0;
+        onChanged();
+        return this;
+      }
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFieldsProto3(unknownFields);
+      }
+
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:ScanRequest)
+    }
+
+    // @@protoc_insertion_point(class_scope:ScanRequest)
+    private static final KeyValue.ScanRequest DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new KeyValue.ScanRequest();
+    }
+
+    public static KeyValue.ScanRequest getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<ScanRequest>
+        PARSER = new com.google.protobuf.AbstractParser<ScanRequest>() {
+      public ScanRequest parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new ScanRequest(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<ScanRequest> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<ScanRequest> getParserForType() {
+      return PARSER;
+    }
+
+    public KeyValue.ScanRequest getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface ScanEntryOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:ScanEntry)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>bytes key = 4;</code>
+     */
+    com.google.protobuf.ByteString getKey();
+
+    /**
+     * <code>bytes value = 2;</code>
+     */
+    com.google.protobuf.ByteString getValue();
+
+    /**
+     * <code>uint64 timestamp = 3;</code>
+     */
+    long getTimestamp();
+  }
+  /**
+   * Protobuf type {@code ScanEntry}
+   */
+  public  static final class ScanEntry extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:ScanEntry)
+      ScanEntryOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use ScanEntry.newBuilder() to construct.
+    private ScanEntry(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private ScanEntry() {
+      key_ = com.google.protobuf.ByteString.EMPTY;
+      value_ = com.google.protobuf.ByteString.EMPTY;
+      timestamp_ = 0L;
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private ScanEntry(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownFieldProto3(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 18: {
+
+              value_ = input.readBytes();
+              break;
+            }
+            case 24: {
+
+              timestamp_ = input.readUInt64();
+              break;
+            }
+            case 34: {
+
+              key_ = input.readBytes();
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return KeyValue.internal_static_ScanEntry_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return KeyValue.internal_static_ScanEntry_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              KeyValue.ScanEntry.class, KeyValue.ScanEntry.Builder.class);
+    }
+
+    public static final int KEY_FIELD_NUMBER = 4;
+    private com.google.protobuf.ByteString key_;
+    /**
+     * <code>bytes key = 4;</code>
+     */
+    public com.google.protobuf.ByteString getKey() {
+      return key_;
+    }
+
+    public static final int VALUE_FIELD_NUMBER = 2;
+    private com.google.protobuf.ByteString value_;
+    /**
+     * <code>bytes value = 2;</code>
+     */
+    public com.google.protobuf.ByteString getValue() {
+      return value_;
+    }
+
+    public static final int TIMESTAMP_FIELD_NUMBER = 3;
+    private long timestamp_;
+    /**
+     * <code>uint64 timestamp = 3;</code>
+     */
+    public long getTimestamp() {
+      return timestamp_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (!value_.isEmpty()) {
+        output.writeBytes(2, value_);
+      }
+      if (timestamp_ != 0L) {
+        output.writeUInt64(3, timestamp_);
+      }
+      if (!key_.isEmpty()) {
+        output.writeBytes(4, key_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (!value_.isEmpty()) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(2, value_);
+      }
+      if (timestamp_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt64Size(3, timestamp_);
+      }
+      if (!key_.isEmpty()) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(4, key_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof KeyValue.ScanEntry)) {
+        return super.equals(obj);
+      }
+      KeyValue.ScanEntry other = (KeyValue.ScanEntry) obj;
+
+      boolean result = true;
+      result = result && getKey()
+          .equals(other.getKey());
+      result = result && getValue()
+          .equals(other.getValue());
+      result = result && (getTimestamp()
+          == other.getTimestamp());
+      result = result && unknownFields.equals(other.unknownFields);
+      return result;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + KEY_FIELD_NUMBER;
+      hash = (53 * hash) + getKey().hashCode();
+      hash = (37 * hash) + VALUE_FIELD_NUMBER;
+      hash = (53 * hash) + getValue().hashCode();
+      hash = (37 * hash) + TIMESTAMP_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getTimestamp());
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static KeyValue.ScanEntry parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static KeyValue.ScanEntry parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static KeyValue.ScanEntry parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static KeyValue.ScanEntry parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static KeyValue.ScanEntry parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static KeyValue.ScanEntry parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static KeyValue.ScanEntry parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static KeyValue.ScanEntry parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static KeyValue.ScanEntry parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static KeyValue.ScanEntry parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static KeyValue.ScanEntry parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static KeyValue.ScanEntry parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(KeyValue.ScanEntry prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code ScanEntry}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:ScanEntry)
+        KeyValue.ScanEntryOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return KeyValue.internal_static_ScanEntry_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return KeyValue.internal_static_ScanEntry_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                KeyValue.ScanEntry.class, KeyValue.ScanEntry.Builder.class);
+      }
+
+      // Construct using KeyValue.ScanEntry.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      public Builder clear() {
+        super.clear();
+        key_ = com.google.protobuf.ByteString.EMPTY;
+
+        value_ = com.google.protobuf.ByteString.EMPTY;
+
+        timestamp_ = 0L;
+
+        return this;
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return KeyValue.internal_static_ScanEntry_descriptor;
+      }
+
+      public KeyValue.ScanEntry getDefaultInstanceForType() {
+        return KeyValue.ScanEntry.getDefaultInstance();
+      }
+
+      public KeyValue.ScanEntry build() {
+        KeyValue.ScanEntry result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public KeyValue.ScanEntry buildPartial() {
+        KeyValue.ScanEntry result = new KeyValue.ScanEntry(this);
+        result.key_ = key_;
+        result.value_ = value_;
+        result.timestamp_ = timestamp_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder clone() {
+        return (Builder) super.clone();
+      }
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return (Builder) super.setField(field, value);
+      }
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return (Builder) super.clearField(field);
+      }
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return (Builder) super.clearOneof(oneof);
+      }
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return (Builder) super.setRepeatedField(field, index, value);
+      }
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return (Builder) super.addRepeatedField(field, value);
+      }
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof KeyValue.ScanEntry) {
+          return mergeFrom((KeyValue.ScanEntry)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(KeyValue.ScanEntry other) {
+        if (other == KeyValue.ScanEntry.getDefaultInstance()) return this;
+        if (other.getKey() != com.google.protobuf.ByteString.EMPTY) {
+          setKey(other.getKey());
+        }
+        if (other.getValue() != com.google.protobuf.ByteString.EMPTY) {
+          setValue(other.getValue());
+        }
+        if (other.getTimestamp() != 0L) {
+          setTimestamp(other.getTimestamp());
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        KeyValue.ScanEntry parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (KeyValue.ScanEntry) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+
+      private com.google.protobuf.ByteString key_ = com.google.protobuf.ByteString.EMPTY;
+      /**
+       * <code>bytes key = 4;</code>
+       */
+      public com.google.protobuf.ByteString getKey() {
+        return key_;
+      }
+      /**
+       * <code>bytes key = 4;</code>
+       */
+      public Builder setKey(com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        key_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>bytes key = 4;</code>
+       */
+      public Builder clearKey() {
+        
+        key_ = getDefaultInstance().getKey();
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.ByteString value_ = com.google.protobuf.ByteString.EMPTY;
+      /**
+       * <code>bytes value = 2;</code>
+       */
+      public com.google.protobuf.ByteString getValue() {
+        return value_;
+      }
+      /**
+       * <code>bytes value = 2;</code>
+       */
+      public Builder setValue(com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        value_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>bytes value = 2;</code>
+       */
+      public Builder clearValue() {
+        
+        value_ = getDefaultInstance().getValue();
+        onChanged();
+        return this;
+      }
+
+      private long timestamp_ ;
+      /**
+       * <code>uint64 timestamp = 3;</code>
+       */
+      public long getTimestamp() {
+        return timestamp_;
+      }
+      /**
+       * <code>uint64 timestamp = 3;</code>
+       */
+      public Builder setTimestamp(long value) {
+        
+        timestamp_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>uint64 timestamp = 3;</code>
+       */
+      public Builder clearTimestamp() {
+        
+        timestamp_ = 0L;
+        onChanged();
+        return this;
+      }
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFieldsProto3(unknownFields);
+      }
+
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:ScanEntry)
+    }
+
+    // @@protoc_insertion_point(class_scope:ScanEntry)
+    private static final KeyValue.ScanEntry DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new KeyValue.ScanEntry();
+    }
+
+    public static KeyValue.ScanEntry getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<ScanEntry>
+        PARSER = new com.google.protobuf.AbstractParser<ScanEntry>() {
+      public ScanEntry parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new ScanEntry(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<ScanEntry> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<ScanEntry> getParserForType() {
+      return PARSER;
+    }
+
+    public KeyValue.ScanEntry getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface ScanResponseOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:ScanResponse)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>repeated .ScanEntry entries = 1;</code>
+     */
+    java.util.List<KeyValue.ScanEntry> 
+        getEntriesList();
+    /**
+     * <code>repeated .ScanEntry entries = 1;</code>
+     */
+    KeyValue.ScanEntry getEntries(int index);
+    /**
+     * <code>repeated .ScanEntry entries = 1;</code>
+     */
+    int getEntriesCount();
+    /**
+     * <code>repeated .ScanEntry entries = 1;</code>
+     */
+    java.util.List<? extends KeyValue.ScanEntryOrBuilder> 
+        getEntriesOrBuilderList();
+    /**
+     * <code>repeated .ScanEntry entries = 1;</code>
+     */
+    KeyValue.ScanEntryOrBuilder getEntriesOrBuilder(
+        int index);
+
+    /**
+     * <code>bytes pagingtoken = 2;</code>
+     */
+    com.google.protobuf.ByteString getPagingtoken();
+
+    /**
+     * <code>string status = 3;</code>
+     */
+    java.lang.String getStatus();
+    /**
+     * <code>string status = 3;</code>
+     */
+    com.google.protobuf.ByteString
+        getStatusBytes();
+
+    /**
+     * <code>uint64 requestid = 4;</code>
+     */
+    long getRequestid();
+  }
+  /**
+   * Protobuf type {@code ScanResponse}
+   */
+  public  static final class ScanResponse extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:ScanResponse)
+      ScanResponseOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use ScanResponse.newBuilder() to construct.
+    private ScanResponse(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private ScanResponse() {
+      entries_ = java.util.Collections.emptyList();
+      pagingtoken_ = com.google.protobuf.ByteString.EMPTY;
+      status_ = "";
+      requestid_ = 0L;
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private ScanResponse(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownFieldProto3(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 10: {
+              if (!((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+                entries_ = new java.util.ArrayList<KeyValue.ScanEntry>();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              entries_.add(
+                  input.readMessage(KeyValue.ScanEntry.parser(), extensionRegistry));
+              break;
+            }
+            case 18: {
+
+              pagingtoken_ = input.readBytes();
+              break;
+            }
+            case 26: {
+              java.lang.String s = input.readStringRequireUtf8();
+
+              status_ = s;
+              break;
+            }
+            case 32: {
+
+              requestid_ = input.readUInt64();
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+          entries_ = java.util.Collections.unmodifiableList(entries_);
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return KeyValue.internal_static_ScanResponse_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return KeyValue.internal_static_ScanResponse_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              KeyValue.ScanResponse.class, KeyValue.ScanResponse.Builder.class);
+    }
+
+    private int bitField0_;
+    public static final int ENTRIES_FIELD_NUMBER = 1;
+    private java.util.List<KeyValue.ScanEntry> entries_;
+    /**
+     * <code>repeated .ScanEntry entries = 1;</code>
+     */
+    public java.util.List<KeyValue.ScanEntry> getEntriesList() {
+      return entries_;
+    }
+    /**
+     * <code>repeated .ScanEntry entries = 1;</code>
+     */
+    public java.util.List<? extends KeyValue.ScanEntryOrBuilder> 
+        getEntriesOrBuilderList() {
+      return entries_;
+    }
+    /**
+     * <code>repeated .ScanEntry entries = 1;</code>
+     */
+    public int getEntriesCount() {
+      return entries_.size();
+    }
+    /**
+     * <code>repeated .ScanEntry entries = 1;</code>
+     */
+    public KeyValue.ScanEntry getEntries(int index) {
+      return entries_.get(index);
+    }
+    /**
+     * <code>repeated .ScanEntry entries = 1;</code>
+     */
+    public KeyValue.ScanEntryOrBuilder getEntriesOrBuilder(
+        int index) {
+      return entries_.get(index);
+    }
+
+    public static final int PAGINGTOKEN_FIELD_NUMBER = 2;
+    private com.google.protobuf.ByteString pagingtoken_;
+    /**
+     * <code>bytes pagingtoken = 2;</code>
+     */
+    public com.google.protobuf.ByteString getPagingtoken() {
+      return pagingtoken_;
+    }
+
+    public static final int STATUS_FIELD_NUMBER = 3;
+    private volatile java.lang.Object status_;
+    /**
+     * <code>string status = 3;</code>
+     */
+    public java.lang.String getStatus() {
+      java.lang.Object ref = status_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        status_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string status = 3;</code>
+     */
+    public com.google.protobuf.ByteString
+        getStatusBytes() {
+      java.lang.Object ref = status_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        status_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int REQUESTID_FIELD_NUMBER = 4;
+    private long requestid_;
+    /**
+     * <code>uint64 requestid = 4;</code>
+     */
+    public long getRequestid() {
+      return requestid_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      for (int i = 0; i < entries_.size(); i++) {
+        output.writeMessage(1, entries_.get(i));
+      }
+      if (!pagingtoken_.isEmpty()) {
+        output.writeBytes(2, pagingtoken_);
+      }
+      if (!getStatusBytes().isEmpty()) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 3, status_);
+      }
+      if (requestid_ != 0L) {
+        output.writeUInt64(4, requestid_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      for (int i = 0; i < entries_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, entries_.get(i));
+      }
+      if (!pagingtoken_.isEmpty()) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(2, pagingtoken_);
+      }
+      if (!getStatusBytes().isEmpty()) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(3, status_);
+      }
+      if (requestid_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt64Size(4, requestid_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof KeyValue.ScanResponse)) {
+        return super.equals(obj);
+      }
+      KeyValue.ScanResponse other = (KeyValue.ScanResponse) obj;
+
+      boolean result = true;
+      result = result && getEntriesList()
+          .equals(other.getEntriesList());
+      result = result && getPagingtoken()
+          .equals(other.getPagingtoken());
+      result = result && getStatus()
+          .equals(other.getStatus());
+      result = result && (getRequestid()
+          == other.getRequestid());
+      result = result && unknownFields.equals(other.unknownFields);
+      return result;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (getEntriesCount() > 0) {
+        hash = (37 * hash) + ENTRIES_FIELD_NUMBER;
+        hash = (53 * hash) + getEntriesList().hashCode();
+      }
+      hash = (37 * hash) + PAGINGTOKEN_FIELD_NUMBER;
+      hash = (53 * hash) + getPagingtoken().hashCode();
+      hash = (37 * hash) + STATUS_FIELD_NUMBER;
+      hash = (53 * hash) + getStatus().hashCode();
+      hash = (37 * hash) + REQUESTID_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getRequestid());
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static KeyValue.ScanResponse parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static KeyValue.ScanResponse parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static KeyValue.ScanResponse parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static KeyValue.ScanResponse parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static KeyValue.ScanResponse parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static KeyValue.ScanResponse parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static KeyValue.ScanResponse parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static KeyValue.ScanResponse parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static KeyValue.ScanResponse parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static KeyValue.ScanResponse parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static KeyValue.ScanResponse parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static KeyValue.ScanResponse parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(KeyValue.ScanResponse prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code ScanResponse}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:ScanResponse)
+        KeyValue.ScanResponseOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return KeyValue.internal_static_ScanResponse_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return KeyValue.internal_static_ScanResponse_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                KeyValue.ScanResponse.class, KeyValue.ScanResponse.Builder.class);
+      }
+
+      // Construct using KeyValue.ScanResponse.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+          getEntriesFieldBuilder();
+        }
+      }
+      public Builder clear() {
+        super.clear();
+        if (entriesBuilder_ == null) {
+          entries_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+        } else {
+          entriesBuilder_.clear();
+        }
+        pagingtoken_ = com.google.protobuf.ByteString.EMPTY;
+
+        status_ = "";
+
+        requestid_ = 0L;
+
+        return this;
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return KeyValue.internal_static_ScanResponse_descriptor;
+      }
+
+      public KeyValue.ScanResponse getDefaultInstanceForType() {
+        return KeyValue.ScanResponse.getDefaultInstance();
+      }
+
+      public KeyValue.ScanResponse build() {
+        KeyValue.ScanResponse result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public KeyValue.ScanResponse buildPartial() {
+        KeyValue.ScanResponse result = new KeyValue.ScanResponse(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (entriesBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) == 0x00000001)) {
+            entries_ = java.util.Collections.unmodifiableList(entries_);
+            bitField0_ = (bitField0_ & ~0x00000001);
+          }
+          result.entries_ = entries_;
+        } else {
+          result.entries_ = entriesBuilder_.build();
+        }
+        result.pagingtoken_ = pagingtoken_;
+        result.status_ = status_;
+        result.requestid_ = requestid_;
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder clone() {
+        return (Builder) super.clone();
+      }
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return (Builder) super.setField(field, value);
+      }
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return (Builder) super.clearField(field);
+      }
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return (Builder) super.clearOneof(oneof);
+      }
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return (Builder) super.setRepeatedField(field, index, value);
+      }
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return (Builder) super.addRepeatedField(field, value);
+      }
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof KeyValue.ScanResponse) {
+          return mergeFrom((KeyValue.ScanResponse)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(KeyValue.ScanResponse other) {
+        if (other == KeyValue.ScanResponse.getDefaultInstance()) return this;
+        if (entriesBuilder_ == null) {
+          if (!other.entries_.isEmpty()) {
+            if (entries_.isEmpty()) {
+              entries_ = other.entries_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+            } else {
+              ensureEntriesIsMutable();
+              entries_.addAll(other.entries_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.entries_.isEmpty()) {
+            if (entriesBuilder_.isEmpty()) {
+              entriesBuilder_.dispose();
+              entriesBuilder_ = null;
+              entries_ = other.entries_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+              entriesBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getEntriesFieldBuilder() : null;
+            } else {
+              entriesBuilder_.addAllMessages(other.entries_);
+            }
+          }
+        }
+        if (other.getPagingtoken() != com.google.protobuf.ByteString.EMPTY) {
+          setPagingtoken(other.getPagingtoken());
+        }
+        if (!other.getStatus().isEmpty()) {
+          status_ = other.status_;
+          onChanged();
+        }
+        if (other.getRequestid() != 0L) {
+          setRequestid(other.getRequestid());
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        KeyValue.ScanResponse parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (KeyValue.ScanResponse) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private java.util.List<KeyValue.ScanEntry> entries_ =
+        java.util.Collections.emptyList();
+      private void ensureEntriesIsMutable() {
+        if (!((bitField0_ & 0x00000001) == 0x00000001)) {
+          entries_ = new java.util.ArrayList<KeyValue.ScanEntry>(entries_);
+          bitField0_ |= 0x00000001;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          KeyValue.ScanEntry, KeyValue.ScanEntry.Builder, KeyValue.ScanEntryOrBuilder> entriesBuilder_;
+
+      /**
+       * <code>repeated .ScanEntry entries = 1;</code>
+       */
+      public java.util.List<KeyValue.ScanEntry> getEntriesList() {
+        if (entriesBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(entries_);
+        } else {
+          return entriesBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .ScanEntry entries = 1;</code>
+       */
+      public int getEntriesCount() {
+        if (entriesBuilder_ == null) {
+          return entries_.size();
+        } else {
+          return entriesBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .ScanEntry entries = 1;</code>
+       */
+      public KeyValue.ScanEntry getEntries(int index) {
+        if (entriesBuilder_ == null) {
+          return entries_.get(index);
+        } else {
+          return entriesBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .ScanEntry entries = 1;</code>
+       */
+      public Builder setEntries(
+          int index, KeyValue.ScanEntry value) {
+        if (entriesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureEntriesIsMutable();
+          entries_.set(index, value);
+          onChanged();
+        } else {
+          entriesBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ScanEntry entries = 1;</code>
+       */
+      public Builder setEntries(
+          int index, KeyValue.ScanEntry.Builder builderForValue) {
+        if (entriesBuilder_ == null) {
+          ensureEntriesIsMutable();
+          entries_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          entriesBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ScanEntry entries = 1;</code>
+       */
+      public Builder addEntries(KeyValue.ScanEntry value) {
+        if (entriesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureEntriesIsMutable();
+          entries_.add(value);
+          onChanged();
+        } else {
+          entriesBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ScanEntry entries = 1;</code>
+       */
+      public Builder addEntries(
+          int index, KeyValue.ScanEntry value) {
+        if (entriesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureEntriesIsMutable();
+          entries_.add(index, value);
+          onChanged();
+        } else {
+          entriesBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ScanEntry entries = 1;</code>
+       */
+      public Builder addEntries(
+          KeyValue.ScanEntry.Builder builderForValue) {
+        if (entriesBuilder_ == null) {
+          ensureEntriesIsMutable();
+          entries_.add(builderForValue.build());
+          onChanged();
+        } else {
+          entriesBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ScanEntry entries = 1;</code>
+       */
+      public Builder addEntries(
+          int index, KeyValue.ScanEntry.Builder builderForValue) {
+        if (entriesBuilder_ == null) {
+          ensureEntriesIsMutable();
+          entries_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          entriesBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ScanEntry entries = 1;</code>
+       */
+      public Builder addAllEntries(
+          java.lang.Iterable<? extends KeyValue.ScanEntry> values) {
+        if (entriesBuilder_ == null) {
+          ensureEntriesIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, entries_);
+          onChanged();
+        } else {
+          entriesBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ScanEntry entries = 1;</code>
+       */
+      public Builder clearEntries() {
+        if (entriesBuilder_ == null) {
+          entries_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+          onChanged();
+        } else {
+          entriesBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ScanEntry entries = 1;</code>
+       */
+      public Builder removeEntries(int index) {
+        if (entriesBuilder_ == null) {
+          ensureEntriesIsMutable();
+          entries_.remove(index);
+          onChanged();
+        } else {
+          entriesBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ScanEntry entries = 1;</code>
+       */
+      public KeyValue.ScanEntry.Builder getEntriesBuilder(
+          int index) {
+        return getEntriesFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .ScanEntry entries = 1;</code>
+       */
+      public KeyValue.ScanEntryOrBuilder getEntriesOrBuilder(
+          int index) {
+        if (entriesBuilder_ == null) {
+          return entries_.get(index);  } else {
+          return entriesBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .ScanEntry entries = 1;</code>
+       */
+      public java.util.List<? extends KeyValue.ScanEntryOrBuilder> 
+           getEntriesOrBuilderList() {
+        if (entriesBuilder_ != null) {
+          return entriesBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(entries_);
+        }
+      }
+      /**
+       * <code>repeated .ScanEntry entries = 1;</code>
+       */
+      public KeyValue.ScanEntry.Builder addEntriesBuilder() {
+        return getEntriesFieldBuilder().addBuilder(
+            KeyValue.ScanEntry.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .ScanEntry entries = 1;</code>
+       */
+      public KeyValue.ScanEntry.Builder addEntriesBuilder(
+          int index) {
+        return getEntriesFieldBuilder().addBuilder(
+            index, KeyValue.ScanEntry.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .ScanEntry entries = 1;</code>
+       */
+      public java.util.List<KeyValue.ScanEntry.Builder> 
+           getEntriesBuilderList() {
+        return getEntriesFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          KeyValue.ScanEntry, KeyValue.ScanEntry.Builder, KeyValue.ScanEntryOrBuilder> 
+          getEntriesFieldBuilder() {
+        if (entriesBuilder_ == null) {
+          entriesBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              KeyValue.ScanEntry, KeyValue.ScanEntry.Builder, KeyValue.ScanEntryOrBuilder>(
+                  entries_,
+                  ((bitField0_ & 0x00000001) == 0x00000001),
+                  getParentForChildren(),
+                  isClean());
+          entries_ = null;
+        }
+        return entriesBuilder_;
+      }
+
+      private com.google.protobuf.ByteString pagingtoken_ = com.google.protobuf.ByteString.EMPTY;
+      /**
+       * <code>bytes pagingtoken = 2;</code>
+       */
+      public com.google.protobuf.ByteString getPagingtoken() {
+        return pagingtoken_;
+      }
+      /**
+       * <code>bytes pagingtoken = 2;</code>
+       */
+      public Builder setPagingtoken(com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        pagingtoken_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>bytes pagingtoken = 2;</code>
+       */
+      public Builder clearPagingtoken() {
+        
+        pagingtoken_ = getDefaultInstance().getPagingtoken();
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object status_ = "";
+      /**
+       * <code>string status = 3;</code>
+       */
+      public java.lang.String getStatus() {
+        java.lang.Object ref = status_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          status_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string status = 3;</code>
+       */
+      public com.google.protobuf.ByteString
+          getStatusBytes() {
+        java.lang.Object ref = status_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          status_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string status = 3;</code>
+       */
+      public Builder setStatus(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        status_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string status = 3;</code>
+       */
+      public Builder clearStatus() {
+        
+        status_ = getDefaultInstance().getStatus();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string status = 3;</code>
+       */
+      public Builder setStatusBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        
+        status_ = value;
+        onChanged();
+        return this;
+      }
+
+      private long requestid_ ;
+      /**
+       * <code>uint64 requestid = 4;</code>
+       */
+      public long getRequestid() {
+        return requestid_;
+      }
+      /**
+       * <code>uint64 requestid = 4;</code>
+       */
+      public Builder setRequestid(long value) {
+        
+        requestid_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>uint64 requestid = 4;</code>
+       */
+      public Builder clearRequestid() {
+        
+        requestid_ = 0L;
+        onChanged();
+        return this;
+      }
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFieldsProto3(unknownFields);
+      }
+
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:ScanResponse)
+    }
+
+    // @@protoc_insertion_point(class_scope:ScanResponse)
+    private static final KeyValue.ScanResponse DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new KeyValue.ScanResponse();
+    }
+
+    public static KeyValue.ScanResponse getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<ScanResponse>
+        PARSER = new com.google.protobuf.AbstractParser<ScanResponse>() {
+      public ScanResponse parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new ScanResponse(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<ScanResponse> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<ScanResponse> getParserForType() {
+      return PARSER;
+    }
+
+    public KeyValue.ScanResponse getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface ScanCreditOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:ScanCredit)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>uint64 requestid = 1;</code>
+     */
+    long getRequestid();
+
+    /**
+     * <code>uint32 credits = 2;</code>
+     */
+    int getCredits();
+
+    /**
+     * <code>bool cancel = 3;</code>
+     */
+    boolean getCancel();
+  }
+  /**
+   * Protobuf type {@code ScanCredit}
+   */
+  public  static final class ScanCredit extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:ScanCredit)
+      ScanCreditOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use ScanCredit.newBuilder() to construct.
+    private ScanCredit(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private ScanCredit() {
+      requestid_ = 0L;
+      credits_ = 0;
+      cancel_ = false;
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private ScanCredit(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownFieldProto3(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 8: {
+
+              requestid_ = input.readUInt64();
+              break;
+            }
+            case 16: {
+
+              credits_ = input.readUInt32();
+              break;
+            }
+            case 24: {
+
+              cancel_ = input.readBool();
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return KeyValue.internal_static_ScanCredit_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return KeyValue.internal_static_ScanCredit_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              KeyValue.ScanCredit.class, KeyValue.ScanCredit.Builder.class);
+    }
+
+    public static final int REQUESTID_FIELD_NUMBER = 1;
+    private long requestid_;
+    /**
+     * <code>uint64 requestid = 1;</code>
+     */
+    public long getRequestid() {
+      return requestid_;
+    }
+
+    public static final int CREDITS_FIELD_NUMBER = 2;
+    private int credits_;
+    /**
+     * <code>uint32 credits = 2;</code>
+     */
+    public int getCredits() {
+      return credits_;
+    }
+
+    public static final int CANCEL_FIELD_NUMBER = 3;
+    private boolean cancel_;
+    /**
+     * <code>bool cancel = 3;</code>
+     */
+    public boolean getCancel() {
+      return cancel_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (requestid_ != 0L) {
+        output.writeUInt64(1, requestid_);
+      }
+      if (credits_ != 0) {
+        output.writeUInt32(2, credits_);
+      }
+      if (cancel_ != false) {
+        output.writeBool(3, cancel_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (requestid_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt64Size(1, requestid_);
+      }
+      if (credits_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt32Size(2, credits_);
+      }
+      if (cancel_ != false) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(3, cancel_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof KeyValue.ScanCredit)) {
+        return super.equals(obj);
+      }
+      KeyValue.ScanCredit other = (KeyValue.ScanCredit) obj;
+
+      boolean result = true;
+      result = result && (getRequestid()
+          == other.getRequestid());
+      result = result && (getCredits()
+          == other.getCredits());
+      result = result && (getCancel()
+          == other.getCancel());
+      result = result && unknownFields.equals(other.unknownFields);
+      return result;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + REQUESTID_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getRequestid());
+      hash = (37 * hash) + CREDITS_FIELD_NUMBER;
+      hash = (53 * hash) + getCredits();
+      hash = (37 * hash) + CANCEL_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+          getCancel());
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static KeyValue.ScanCredit parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static KeyValue.ScanCredit parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static KeyValue.ScanCredit parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static KeyValue.ScanCredit parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static KeyValue.ScanCredit parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static KeyValue.ScanCredit parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static KeyValue.ScanCredit parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static KeyValue.ScanCredit parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static KeyValue.ScanCredit parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static KeyValue.ScanCredit parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static KeyValue.ScanCredit parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static KeyValue.ScanCredit parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(KeyValue.ScanCredit prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code ScanCredit}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:ScanCredit)
+        KeyValue.ScanCreditOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return KeyValue.internal_static_ScanCredit_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return KeyValue.internal_static_ScanCredit_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                KeyValue.ScanCredit.class, KeyValue.ScanCredit.Builder.class);
+      }
+
+      // Construct using KeyValue.ScanCredit.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      public Builder clear() {
+        super.clear();
+        requestid_ = 0L;
+
+        credits_ = 0;
+
+        cancel_ = false;
+
+        return this;
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return KeyValue.internal_static_ScanCredit_descriptor;
+      }
+
+      public KeyValue.ScanCredit getDefaultInstanceForType() {
+        return KeyValue.ScanCredit.getDefaultInstance();
+      }
+
+      public KeyValue.ScanCredit build() {
+        KeyValue.ScanCredit result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public KeyValue.ScanCredit buildPartial() {
+        KeyValue.ScanCredit result = new KeyValue.ScanCredit(this);
+        result.requestid_ = requestid_;
+        result.credits_ = credits_;
+        result.cancel_ = cancel_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder clone() {
+        return (Builder) super.clone();
+      }
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return (Builder) super.setField(field, value);
+      }
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return (Builder) super.clearField(field);
+      }
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return (Builder) super.clearOneof(oneof);
+      }
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return (Builder) super.setRepeatedField(field, index, value);
+      }
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return (Builder) super.addRepeatedField(field, value);
+      }
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof KeyValue.ScanCredit) {
+          return mergeFrom((KeyValue.ScanCredit)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(KeyValue.ScanCredit other) {
+        if (other == KeyValue.ScanCredit.getDefaultInstance()) return this;
+        if (other.getRequestid() != 0L) {
+          setRequestid(other.getRequestid());
+        }
+        if (other.getCredits() != 0) {
+          setCredits(other.getCredits());
+        }
+        if (other.getCancel() != false) {
+          setCancel(other.getCancel());
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        KeyValue.ScanCredit parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (KeyValue.ScanCredit) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+
+      private long requestid_ ;
+      /**
+       * <code>uint64 requestid = 1;</code>
+       */
+      public long getRequestid() {
+        return requestid_;
+      }
+      /**
+       * <code>uint64 requestid = 1;</code>
+       */
+      public Builder setRequestid(long value) {
+        
+        requestid_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>uint64 requestid = 1;</code>
+       */
+      public Builder clearRequestid() {
+        
+        requestid_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private int credits_ ;
+      /**
+       * <code>uint32 credits = 2;</code>
+       */
+      public int getCredits() {
+        return credits_;
+      }
+      /**
+       * <code>uint32 credits = 2;</code>
+       */
+      public Builder setCredits(int value) {
+        
+        credits_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>uint32 credits = 2;</code>
+       */
+      public Builder clearCredits() {
+        
+        credits_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private boolean cancel_ ;
+      /**
+       * <code>bool cancel = 3;</code>
+       */
+      public boolean getCancel() {
+        return cancel_;
+      }
+      /**
+       * <code>bool cancel = 3;</code>
+       */
+      public Builder setCancel(boolean value) {
+        
+        cancel_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>bool cancel = 3;</code>
+       */
+      public Builder clearCancel() {
+        
+        cancel_ = false;
+        onChanged();
+        return this;
+      }
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFieldsProto3(unknownFields);
+      }
+
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:ScanCredit)
+    }
+
+    // @@protoc_insertion_point(class_scope:ScanCredit)
+    private static final KeyValue.ScanCredit DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new KeyValue.ScanCredit();
+    }
+
+    public static KeyValue.ScanCredit getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<ScanCredit>
+        PARSER = new com.google.protobuf.AbstractParser<ScanCredit>() {
+      public ScanCredit parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new ScanCredit(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<ScanCredit> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<ScanCredit> getParserForType() {
+      return PARSER;
+    }
+
+    public KeyValue.ScanCredit getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface KeyValueMessageOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:KeyValueMessage)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>.ClientRequest clientRequest = 1;</code>
+     */
+    boolean hasClientRequest();
+    /**
+     * <code>.ClientRequest clientRequest = 1;</code>
+     */
+    KeyValue.ClientRequest getClientRequest();
+    /**
+     * <code>.ClientRequest clientRequest = 1;</code>
+     */
+    KeyValue.ClientRequestOrBuilder getClientRequestOrBuilder();
+
+    /**
+     * <code>.ClientResponse clientResponse = 2;</code>
+     */
+    boolean hasClientResponse();
+    /**
+     * <code>.ClientResponse clientResponse = 2;</code>
+     */
+    KeyValue.ClientResponse getClientResponse();
+    /**
+     * <code>.ClientResponse clientResponse = 2;</code>
+     */
+    KeyValue.ClientResponseOrBuilder getClientResponseOrBuilder();
+
+    /**
+     * <code>.ServerRequest serverRequest = 3;</code>
+     */
+    boolean hasServerRequest();
+    /**
+     * <code>.ServerRequest serverRequest = 3;</code>
+     */
+    KeyValue.ServerRequest getServerRequest();
+    /**
+     * <code>.ServerRequest serverRequest = 3;</code>
+     */
+    KeyValue.ServerRequestOrBuilder getServerRequestOrBuilder();
+
+    /**
+     * <code>.ServerResponse serverResponse = 4;</code>
+     */
+    boolean hasServerResponse();
+    /**
+     * <code>.ServerResponse serverResponse = 4;</code>
+     */
+    KeyValue.ServerResponse getServerResponse();
+    /**
+     * <code>.ServerResponse serverResponse = 4;</code>
+     */
+    KeyValue.ServerResponseOrBuilder getServerResponseOrBuilder();
+
+    /**
+     * <code>.ClientBatchRequest clientBatchRequest = 5;</code>
+     */
+    boolean hasClientBatchRequest();
+    /**
+     * <code>.ClientBatchRequest clientBatchRequest = 5;</code>
+     */
+    KeyValue.ClientBatchRequest getClientBatchRequest();
+    /**
+     * <code>.ClientBatchRequest clientBatchRequest = 5;</code>
+     */
+    KeyValue.ClientBatchRequestOrBuilder getClientBatchRequestOrBuilder();
+
+    /**
+     * <code>.ClientBatchResponse clientBatchResponse = 6;</code>
+     */
+    boolean hasClientBatchResponse();
+    /**
+     * <code>.ClientBatchResponse clientBatchResponse = 6;</code>
+     */
+    KeyValue.ClientBatchResponse getClientBatchResponse();
+    /**
+     * <code>.ClientBatchResponse clientBatchResponse = 6;</code>
+     */
+    KeyValue.ClientBatchResponseOrBuilder getClientBatchResponseOrBuilder();
+
+    /**
+     * <code>.ServerBatchRequest serverBatchRequest = 7;</code>
+     */
+    boolean hasServerBatchRequest();
+    /**
+     * <code>.ServerBatchRequest serverBatchRequest = 7;</code>
+     */
+    KeyValue.ServerBatchRequest getServerBatchRequest();
+    /**
+     * <code>.ServerBatchRequest serverBatchRequest = 7;</code>
+     */
+    KeyValue.ServerBatchRequestOrBuilder getServerBatchRequestOrBuilder();
+
+    /**
+     * <code>.ServerBatchResponse serverBatchResponse = 8;</code>
+     */
+    boolean hasServerBatchResponse();
+    /**
+     * <code>.ServerBatchResponse serverBatchResponse = 8;</code>
+     */
+    KeyValue.ServerBatchResponse getServerBatchResponse();
+    /**
+     * <code>.ServerBatchResponse serverBatchResponse = 8;</code>
+     */
+    KeyValue.ServerBatchResponseOrBuilder getServerBatchResponseOrBuilder();
+
+    /**
+     * <code>.ScanRequest scanRequest = 9;</code>
+     */
+    boolean hasScanRequest();
+    /**
+     * <code>.ScanRequest scanRequest = 9;</code>
+     */
+    KeyValue.ScanRequest getScanRequest();
+    /**
+     * <code>.ScanRequest scanRequest = 9;</code>
+     */
+    KeyValue.ScanRequestOrBuilder getScanRequestOrBuilder();
+
+    /**
+     * <code>.ScanResponse scanResponse = 10;</code>
+     */
+    boolean hasScanResponse();
+    /**
+     * <code>.ScanResponse scanResponse = 10;</code>
+     */
+    KeyValue.ScanResponse getScanResponse();
+    /**
+     * <code>.ScanResponse scanResponse = 10;</code>
+     */
+    KeyValue.ScanResponseOrBuilder getScanResponseOrBuilder();
+
+    /**
+     * <code>.ScanCredit scanCredit = 11;</code>
+     */
+    boolean hasScanCredit();
+    /**
+     * <code>.ScanCredit scanCredit = 11;</code>
+     */
+    KeyValue.ScanCredit getScanCredit();
+    /**
+     * <code>.ScanCredit scanCredit = 11;</code>
+     */
+    KeyValue.ScanCreditOrBuilder getScanCreditOrBuilder();
+
+    public KeyValue.KeyValueMessage.KeyvalueMessageCase getKeyvalueMessageCase();
+  }
+  /**
+   * Protobuf type {@code KeyValueMessage}
+   */
+  public  static final class KeyValueMessage extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:KeyValueMessage)
+      KeyValueMessageOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use KeyValueMessage.newBuilder() to construct.
+    private KeyValueMessage(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private KeyValueMessage() {
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private KeyValueMessage(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownFieldProto3(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 10: {
+              KeyValue.ClientRequest.Builder subBuilder = null;
+              if (keyvalueMessageCase_ == 1) {
+                subBuilder = ((KeyValue.ClientRequest) keyvalueMessage_).toBuilder();
+              }
+              keyvalueMessage_ =
+                  input.readMessage(KeyValue.ClientRequest.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom((KeyValue.ClientRequest) keyvalueMessage_);
+                keyvalueMessage_ = subBuilder.buildPartial();
+              }
+              keyvalueMessageCase_ = 1;
+              break;
+            }
+            case 18: {
+              KeyValue.ClientResponse.Builder subBuilder = null;
+              if (keyvalueMessageCase_ == 2) {
+                subBuilder = ((KeyValue.ClientResponse) keyvalueMessage_).toBuilder();
+              }
+              keyvalueMessage_ =
+                  input.readMessage(KeyValue.ClientResponse.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom((KeyValue.ClientResponse) keyvalueMessage_);
+                keyvalueMessage_ = subBuilder.buildPartial();
+              }
+              keyvalueMessageCase_ = 2;
+              break;
+            }
+            case 26: {
+              KeyValue.ServerRequest.Builder subBuilder = null;
+              if (keyvalueMessageCase_ == 3) {
+                subBuilder = ((KeyValue.ServerRequest) keyvalueMessage_).toBuilder();
+              }
+              keyvalueMessage_ =
+                  input.readMessage(KeyValue.ServerRequest.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom((KeyValue.ServerRequest) keyvalueMessage_);
+                keyvalueMessage_ = subBuilder.buildPartial();
+              }
+              keyvalueMessageCase_ = 3;
+              break;
+            }
+            case 34: {
+              KeyValue.ServerResponse.Builder subBuilder = null;
+              if (keyvalueMessageCase_ == 4) {
+                subBuilder = ((KeyValue.ServerResponse) keyvalueMessage_).toBuilder();
+              }
+              keyvalueMessage_ =
+                  input.readMessage(KeyValue.ServerResponse.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom((KeyValue.ServerResponse) keyvalueMessage_);
+                keyvalueMessage_ = subBuilder.buildPartial();
+              }
+              keyvalueMessageCase_ = 4;
+              break;
+            }
+            case 42: {
+              KeyValue.ClientBatchRequest.Builder subBuilder = null;
+              if (keyvalueMessageCase_ == 5) {
+                subBuilder = ((KeyValue.ClientBatchRequest) keyvalueMessage_).toBuilder();
+              }
+              keyvalueMessage_ =
+                  input.readMessage(KeyValue.ClientBatchRequest.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom((KeyValue.ClientBatchRequest) keyvalueMessage_);
+                keyvalueMessage_ = subBuilder.buildPartial();
+              }
+              keyvalueMessageCase_ = 5;
+              break;
+            }
+            case 50: {
+              KeyValue.ClientBatchResponse.Builder subBuilder = null;
+              if (keyvalueMessageCase_ == 6) {
+                subBuilder = ((KeyValue.ClientBatchResponse) keyvalueMessage_).toBuilder();
+              }
+              keyvalueMessage_ =
+                  input.readMessage(KeyValue.ClientBatchResponse.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom((KeyValue.ClientBatchResponse) keyvalueMessage_);
+                keyvalueMessage_ = subBuilder.buildPartial();
+              }
+              keyvalueMessageCase_ = 6;
+              break;
+            }
+            case 58: {
+              KeyValue.ServerBatchRequest.Builder subBuilder = null;
+              if (keyvalueMessageCase_ == 7) {
+                subBuilder = ((KeyValue.ServerBatchRequest) keyvalueMessage_).toBuilder();
+              }
+              keyvalueMessage_ =
+                  input.readMessage(KeyValue.ServerBatchRequest.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom((KeyValue.ServerBatchRequest) keyvalueMessage_);
+                keyvalueMessage_ = subBuilder.buildPartial();
+              }
+              keyvalueMessageCase_ = 7;
+              break;
+            }
+            case 66: {
+              KeyValue.ServerBatchResponse.Builder subBuilder = null;
+              if (keyvalueMessageCase_ == 8) {
+                subBuilder = ((KeyValue.ServerBatchResponse) keyvalueMessage_).toBuilder();
+              }
+              keyvalueMessage_ =
+                  input.readMessage(KeyValue.ServerBatchResponse.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom((KeyValue.ServerBatchResponse) keyvalueMessage_);
+                keyvalueMessage_ = subBuilder.buildPartial();
+              }
+              keyvalueMessageCase_ = 8;
+              break;
+            }
+            case 74: {
+              KeyValue.ScanRequest.Builder subBuilder = null;
+              if (keyvalueMessageCase_ == 9) {
+                subBuilder = ((KeyValue.ScanRequest) keyvalueMessage_).toBuilder();
+              }
+              keyvalueMessage_ =
+                  input.readMessage(KeyValue.ScanRequest.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom((KeyValue.ScanRequest) keyvalueMessage_);
+                keyvalueMessage_ = subBuilder.buildPartial();
+              }
+              keyvalueMessageCase_ = 9;
+              break;
+            }
+            case 82: {
+              KeyValue.ScanResponse.Builder subBuilder = null;
+              if (keyvalueMessageCase_ == 10) {
+                subBuilder = ((KeyValue.ScanResponse) keyvalueMessage_).toBuilder();
+              }
+              keyvalueMessage_ =
+                  input.readMessage(KeyValue.ScanResponse.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom((KeyValue.ScanResponse) keyvalueMessage_);
+                keyvalueMessage_ = subBuilder.buildPartial();
+              }
+              keyvalueMessageCase_ = 10;
+              break;
+            }
+            case 90: {
+              KeyValue.ScanCredit.Builder subBuilder = null;
+              if (keyvalueMessageCase_ == 11) {
+                subBuilder = ((KeyValue.ScanCredit) keyvalueMessage_).toBuilder();
+              }
+              keyvalueMessage_ =
+                  input.readMessage(KeyValue.ScanCredit.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom((KeyValue.ScanCredit) keyvalueMessage_);
+                keyvalueMessage_ = subBuilder.buildPartial();
+              }
+              keyvalueMessageCase_ = 11;
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return KeyValue.internal_static_KeyValueMessage_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return KeyValue.internal_static_KeyValueMessage_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              KeyValue.KeyValueMessage.class, KeyValue.KeyValueMessage.Builder.class);
+    }
+
+    private int keyvalueMessageCase_ = 0;
+    private java.lang.Object keyvalueMessage_;
+    public enum KeyvalueMessageCase
+        implements com.google.protobuf.Internal.EnumLite {
+      CLIENTREQUEST(1),
+      CLIENTRESPONSE(2),
+      SERVERREQUEST(3),
+      SERVERRESPONSE(4),
+      CLIENTBATCHREQUEST(5),
+      CLIENTBATCHRESPONSE(6),
+      SERVERBATCHREQUEST(7),
+      SERVERBATCHRESPONSE(8),
+      SCANREQUEST(9),
+      SCANRESPONSE(10),
+      SCANCREDIT(11),
+      KEYVALUEMESSAGE_NOT_SET(0);
+      private final int value;
+      private KeyvalueMessageCase(int value) {
+        this.value = value;
+      }
+      /**
+       * @deprecated Use {@link #forNumber(int)} instead.
+       */
+      @java.lang.Deprecated
+      public static KeyvalueMessageCase valueOf(int value) {
+        return forNumber(value);
+      }
+
+      public static KeyvalueMessageCase forNumber(int value) {
+        switch (value) {
+          case 1: return CLIENTREQUEST;
+          case 2: return CLIENTRESPONSE;
+          case 3: return SERVERREQUEST;
+          case 4: return SERVERRESPONSE;
+          case 5: return CLIENTBATCHREQUEST;
+          case 6: return CLIENTBATCHRESPONSE;
+          case 7: return SERVERBATCHREQUEST;
+          case 8: return SERVERBATCHRESPONSE;
+          case 9: return SCANREQUEST;
+          case 10: return SCANRESPONSE;
+          case 11: return SCANCREDIT;
+          case 0: return KEYVALUEMESSAGE_NOT_SET;
+          default: return null;
+        }
+      }
+      public int getNumber() {
+        return this.value;
+      }
+    };
+
+    public KeyvalueMessageCase
+    getKeyvalueMessageCase() {
+      return KeyvalueMessageCase.forNumber(
+          keyvalueMessageCase_);
+    }
+
+    public static final int CLIENTREQUEST_FIELD_NUMBER = 1;
+    /**
+     * <code>.ClientRequest clientRequest = 1;</code>
+     */
+    public boolean hasClientRequest() {
+      return keyvalueMessageCase_ == 1;
+    }
+    /**
+     * <code>.ClientRequest clientRequest = 1;</code>
+     */
+    public KeyValue.ClientRequest getClientRequest() {
+      if (keyvalueMessageCase_ == 1) {
+         return (KeyValue.ClientRequest) keyvalueMessage_;
+      }
+      return KeyValue.ClientRequest.getDefaultInstance();
+    }
+    /**
+     * <code>.ClientRequest clientRequest = 1;</code>
+     */
+    public KeyValue.ClientRequestOrBuilder getClientRequestOrBuilder() {
+      if (keyvalueMessageCase_ == 1) {
+         return (KeyValue.ClientRequest) keyvalueMessage_;
+      }
+      return KeyValue.ClientRequest.getDefaultInstance();
+    }
+
+    public static final int CLIENTRESPONSE_FIELD_NUMBER = 2;
+    /**
+     * <code>.ClientResponse clientResponse = 2;</code>
+     */
+    public boolean hasClientResponse() {
+      return keyvalueMessageCase_ == 2;
+    }
+    /**
+     * <code>.ClientResponse clientResponse = 2;</code>
+     */
+    public KeyValue.ClientResponse getClientResponse() {
+      if (keyvalueMessageCase_ == 2) {
+         return (KeyValue.ClientResponse) keyvalueMessage_;
+      }
+      return KeyValue.ClientResponse.getDefaultInstance();
+    }
+    /**
+     * <code>.ClientResponse clientResponse = 2;</code>
+     */
+    public KeyValue.ClientResponseOrBuilder getClientResponseOrBuilder() {
+      if (keyvalueMessageCase_ == 2) {
+         return (KeyValue.ClientResponse) keyvalueMessage_;
+      }
+      return KeyValue.ClientResponse.getDefaultInstance();
+    }
+
+    public static final int SERVERREQUEST_FIELD_NUMBER = 3;
+    /**
+     * <code>.ServerRequest serverRequest = 3;</code>
+     */
+    public boolean hasServerRequest() {
+      return keyvalueMessageCase_ == 3;
+    }
+    /**
+     * <code>.ServerRequest serverRequest = 3;</code>
+     */
+    public KeyValue.ServerRequest getServerRequest() {
+      if (keyvalueMessageCase_ == 3) {
+         return (KeyValue.ServerRequest) keyvalueMessage_;
+      }
+      return KeyValue.ServerRequest.getDefaultInstance();
+    }
+    /**
+     * <code>.ServerRequest serverRequest = 3;</code>
+     */
+    public KeyValue.ServerRequestOrBuilder getServerRequestOrBuilder() {
+      if (keyvalueMessageCase_ == 3) {
+         return (KeyValue.ServerRequest) keyvalueMessage_;
+      }
+      return KeyValue.ServerRequest.getDefaultInstance();
+    }
+
+    public static final int SERVERRESPONSE_FIELD_NUMBER = 4;
+    /**
+     * <code>.ServerResponse serverResponse = 4;</code>
+     */
+    public boolean hasServerResponse() {
+      return keyvalueMessageCase_ == 4;
+    }
+    /**
+     * <code>.ServerResponse serverResponse = 4;</code>
+     */
+    public KeyValue.ServerResponse getServerResponse() {
+      if (keyvalueMessageCase_ == 4) {
+         return (KeyValue.ServerResponse) keyvalueMessage_;
+      }
+      return KeyValue.ServerResponse.getDefaultInstance();
+    }
+    /**
+     * <code>.ServerResponse serverResponse = 4;</code>
+     */
+    public KeyValue.ServerResponseOrBuilder getServerResponseOrBuilder() {
+      if (keyvalueMessageCase_ == 4) {
+         return (KeyValue.ServerResponse) keyvalueMessage_;
+      }
+      return KeyValue.ServerResponse.getDefaultInstance();
+    }
+
+    public static final int CLIENTBATCHREQUEST_FIELD_NUMBER = 5;
+    /**
+     * <code>.ClientBatchRequest clientBatchRequest = 5;</code>
+     */
+    public boolean hasClientBatchRequest() {
+      return keyvalueMessageCase_ == 5;
+    }
+    /**
+     * <code>.ClientBatchRequest clientBatchRequest = 5;</code>
+     */
+    public KeyValue.ClientBatchRequest getClientBatchRequest() {
+      if (keyvalueMessageCase_ == 5) {
+         return (KeyValue.ClientBatchRequest) keyvalueMessage_;
+      }
+      return KeyValue.ClientBatchRequest.getDefaultInstance();
+    }
+    /**
+     * <code>.ClientBatchRequest clientBatchRequest = 5;</code>
+     */
+    public KeyValue.ClientBatchRequestOrBuilder getClientBatchRequestOrBuilder() {
+      if (keyvalueMessageCase_ == 5) {
+         return (KeyValue.ClientBatchRequest) keyvalueMessage_;
+      }
+      return KeyValue.ClientBatchRequest.getDefaultInstance();
+    }
+
+    public static final int CLIENTBATCHRESPONSE_FIELD_NUMBER = 6;
+    /**
+     * <code>.ClientBatchResponse clientBatchResponse = 6;</code>
+     */
+    public boolean hasClientBatchResponse() {
+      return keyvalueMessageCase_ == 6;
+    }
+    /**
+     * <code>.ClientBatchResponse clientBatchResponse = 6;</code>
+     */
+    public KeyValue.ClientBatchResponse getClientBatchResponse() {
+      if (keyvalueMessageCase_ == 6) {
+         return (KeyValue.ClientBatchResponse) keyvalueMessage_;
+      }
+      return KeyValue.ClientBatchResponse.getDefaultInstance();
+    }
+    /**
+     * <code>.ClientBatchResponse clientBatchResponse = 6;</code>
+     */
+    public KeyValue.ClientBatchResponseOrBuilder getClientBatchResponseOrBuilder() {
+      if (keyvalueMessageCase_ == 6) {
+         return (KeyValue.ClientBatchResponse) keyvalueMessage_;
+      }
+      return KeyValue.ClientBatchResponse.getDefaultInstance();
+    }
+
+    public static final int SERVERBATCHREQUEST_FIELD_NUMBER = 7;
+    /**
+     * <code>.ServerBatchRequest serverBatchRequest = 7;</code>
+     */
+    public boolean hasServerBatchRequest() {
+      return keyvalueMessageCase_ == 7;
+    }
+    /**
+     * <code>.ServerBatchRequest serverBatchRequest = 7;</code>
+     */
+    public KeyValue.ServerBatchRequest getServerBatchRequest() {
+      if (keyvalueMessageCase_ == 7) {
+         return (KeyValue.ServerBatchRequest) keyvalueMessage_;
+      }
+      return KeyValue.ServerBatchRequest.getDefaultInstance();
+    }
+    /**
+     * <code>.ServerBatchRequest serverBatchRequest = 7;</code>
+     */
+    public KeyValue.ServerBatchRequestOrBuilder getServerBatchRequestOrBuilder() {
+      if (keyvalueMessageCase_ == 7) {
+         return (KeyValue.ServerBatchRequest) keyvalueMessage_;
+      }
+      return KeyValue.ServerBatchRequest.getDefaultInstance();
+    }
+
+    public static final int SERVERBATCHRESPONSE_FIELD_NUMBER = 8;
+    /**
+     * <code>.ServerBatchResponse serverBatchResponse = 8;</code>
+     */
+    public boolean hasServerBatchResponse() {
+      return keyvalueMessageCase_ == 8;
+    }
+    /**
+     * <code>.ServerBatchResponse serverBatchResponse = 8;</code>
+     */
+    public KeyValue.ServerBatchResponse getServerBatchResponse() {
+      if (keyvalueMessageCase_ == 8) {
+         return (KeyValue.ServerBatchResponse) keyvalueMessage_;
+      }
+      return KeyValue.ServerBatchResponse.getDefaultInstance();
+    }
+    /**
+     * <code>.ServerBatchResponse serverBatchResponse = 8;</code>
+     */
+    public KeyValue.ServerBatchResponseOrBuilder getServerBatchResponseOrBuilder() {
+      if (keyvalueMessageCase_ == 8) {
+         return (KeyValue.ServerBatchResponse) keyvalueMessage_;
+      }
+      return KeyValue.ServerBatchResponse.getDefaultInstance();
+    }
+
+    public static final int SCANREQUEST_FIELD_NUMBER = 9;
+    /**
+     * <code>.ScanRequest scanRequest = 9;</code>
+     */
+    public boolean hasScanRequest() {
+      return keyvalueMessageCase_ == 9;
+    }
+    /**
+     * <code>.ScanRequest scanRequest = 9;</code>
+     */
+    public KeyValue.ScanRequest getScanRequest() {
+      if (keyvalueMessageCase_ == 9) {
+         return (KeyValue.ScanRequest) keyvalueMessage_;
+      }
+      return KeyValue.ScanRequest.getDefaultInstance();
+    }
+    /**
+     * <code>.ScanRequest scanRequest = 9;</code>
+     */
+    public KeyValue.ScanRequestOrBuilder getScanRequestOrBuilder() {
+      if (keyvalueMessageCase_ == 9) {
+         return (KeyValue.ScanRequest) keyvalueMessage_;
+      }
+      return KeyValue.ScanRequest.getDefaultInstance();
+    }
+
+    public static final int SCANRESPONSE_FIELD_NUMBER = 10;
+    /**
+     * <code>.ScanResponse scanResponse = 10;</code>
+     */
+    public boolean hasScanResponse() {
+      return keyvalueMessageCase_ == 10;
+    }
+    /**
+     * <code>.ScanResponse scanResponse = 10;</code>
+     */
+    public KeyValue.ScanResponse getScanResponse() {
+      if (keyvalueMessageCase_ == 10) {
+         return (KeyValue.ScanResponse) keyvalueMessage_;
+      }
+      return KeyValue.ScanResponse.getDefaultInstance();
+    }
+    /**
+     * <code>.ScanResponse scanResponse = 10;</code>
+     */
+    public KeyValue.ScanResponseOrBuilder getScanResponseOrBuilder() {
+      if (keyvalueMessageCase_ == 10) {
+         return (KeyValue.ScanResponse) keyvalueMessage_;
+      }
+      return KeyValue.ScanResponse.getDefaultInstance();
+    }
+
+    public static final int SCANCREDIT_FIELD_NUMBER = 11;
+    /**
+     * <code>.ScanCredit scanCredit = 11;</code>
+     */
+    public boolean hasScanCredit() {
+      return keyvalueMessageCase_ == 11;
+    }
+    /**
+     * <code>.ScanCredit scanCredit = 11;</code>
+     */
+    public KeyValue.ScanCredit getScanCredit() {
+      if (keyvalueMessageCase_ == 11) {
+         return (KeyValue.ScanCredit) keyvalueMessage_;
+      }
+      return KeyValue.ScanCredit.getDefaultInstance();
+    }
+    /**
+     * <code>.ScanCredit scanCredit = 11;</code>
+     */
+    public KeyValue.ScanCreditOrBuilder getScanCreditOrBuilder() {
+      if (keyvalueMessageCase_ == 11) {
+         return (KeyValue.ScanCredit) keyvalueMessage_;
+      }
+      return KeyValue.ScanCredit.getDefaultInstance();
+    }
+
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (keyvalueMessageCase_ == 1) {
+        output.writeMessage(1, (KeyValue.ClientRequest) keyvalueMessage_);
+      }
+      if (keyvalueMessageCase_ == 2) {
+        output.writeMessage(2, (KeyValue.ClientResponse) keyvalueMessage_);
+      }
+      if (keyvalueMessageCase_ == 3) {
+        output.writeMessage(3, (KeyValue.ServerRequest) keyvalueMessage_);
+      }
+      if (keyvalueMessageCase_ == 4) {
+        output.writeMessage(4, (KeyValue.ServerResponse) keyvalueMessage_);
+      }
+      if (keyvalueMessageCase_ == 5) {
+        output.writeMessage(5, (KeyValue.ClientBatchRequest) keyvalueMessage_);
+      }
+      if (keyvalueMessageCase_ == 6) {
+        output.writeMessage(6, (KeyValue.ClientBatchResponse) keyvalueMessage_);
+      }
+      if (keyvalueMessageCase_ == 7) {
+        output.writeMessage(7, (KeyValue.ServerBatchRequest) keyvalueMessage_);
+      }
+      if (keyvalueMessageCase_ == 8) {
+        output.writeMessage(8, (KeyValue.ServerBatchResponse) keyvalueMessage_);
+      }
+      if (keyvalueMessageCase_ == 9) {
+        output.writeMessage(9, (KeyValue.ScanRequest) keyvalueMessage_);
+      }
+      if (keyvalueMessageCase_ == 10) {
+        output.writeMessage(10, (KeyValue.ScanResponse) keyvalueMessage_);
+      }
+      if (keyvalueMessageCase_ == 11) {
+        output.writeMessage(11, (KeyValue.ScanCredit) keyvalueMessage_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (keyvalueMessageCase_ == 1) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, (KeyValue.ClientRequest) keyvalueMessage_);
+      }
+      if (keyvalueMessageCase_ == 2) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(2, (KeyValue.ClientResponse) keyvalueMessage_);
+      }
+      if (keyvalueMessageCase_ == 3) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(3, (KeyValue.ServerRequest) keyvalueMessage_);
+      }
+      if (keyvalueMessageCase_ == 4) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(4, (KeyValue.ServerResponse) keyvalueMessage_);
+      }
+      if (keyvalueMessageCase_ == 5) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(5, (KeyValue.ClientBatchRequest) keyvalueMessage_);
+      }
+      if (keyvalueMessageCase_ == 6) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(6, (KeyValue.ClientBatchResponse) keyvalueMessage_);
+      }
+      if (keyvalueMessageCase_ == 7) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(7, (KeyValue.ServerBatchRequest) keyvalueMessage_);
+      }
+      if (keyvalueMessageCase_ == 8) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(8, (KeyValue.ServerBatchResponse) keyvalueMessage_);
+      }
+      if (keyvalueMessageCase_ == 9) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(9, (KeyValue.ScanRequest) keyvalueMessage_);
+      }
+      if (keyvalueMessageCase_ == 10) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(10, (KeyValue.ScanResponse) keyvalueMessage_);
+      }
+      if (keyvalueMessageCase_ == 11) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(11, (KeyValue.ScanCredit) keyvalueMessage_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof KeyValue.KeyValueMessage)) {
+        return super.equals(obj);
+      }
+      KeyValue.KeyValueMessage other = (KeyValue.KeyValueMessage) obj;
+
+      boolean result = true;
+      result = result && getKeyvalueMessageCase().equals(
+          other.getKeyvalueMessageCase());
+      if (!result) return false;
+      switch (keyvalueMessageCase_) {
+        case 1:
+          result = result && getClientRequest()
+              .equals(other.getClientRequest());
+          break;
+        case 2:
+          result = result && getClientResponse()
+              .equals(other.getClientResponse());
+          break;
+        case 3:
+          result = result && getServerRequest()
+              .equals(other.getServerRequest());
+          break;
+        case 4:
+          result = result && getServerResponse()
+              .equals(other.getServerResponse());
+          break;
+        case 5:
+          result = result && getClientBatchRequest()
+              .equals(other.getClientBatchRequest());
+          break;
+        case 6:
+          result = result && getClientBatchResponse()
+              .equals(other.getClientBatchResponse());
+          break;
+        case 7:
+          result = result && getServerBatchRequest()
+              .equals(other.getServerBatchRequest());
+          break;
+        case 8:
+          result = result && getServerBatchResponse()
+              .equals(other.getServerBatchResponse());
+          break;
+        case 9:
+          result = result && getScanRequest()
+              .equals(other.getScanRequest());
+          break;
+        case 10:
+          result = result && getScanResponse()
+              .equals(other.getScanResponse());
+          break;
+        case 11:
+          result = result && getScanCredit()
+              .equals(other.getScanCredit());
+          break;
+        case 0:
+        default:
+      }
+      result = result && unknownFields.equals(other.unknownFields);
+      return result;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      switch (keyvalueMessageCase_) {
+        case 1:
+          hash = (37 * hash) + CLIENTREQUEST_FIELD_NUMBER;
+          hash = (53 * hash) + getClientRequest().hashCode();
+          break;
+        case 2:
+          hash = (37 * hash) + CLIENTRESPONSE_FIELD_NUMBER;
+          hash = (53 * hash) + getClientResponse().hashCode();
+          break;
+        case 3:
+          hash = (37 * hash) + SERVERREQUEST_FIELD_NUMBER;
+          hash = (53 * hash) + getServerRequest().hashCode();
+          break;
+        case 4:
+          hash = (37 * hash) + SERVERRESPONSE_FIELD_NUMBER;
+          hash = (53 * hash) + getServerResponse().hashCode();
+          break;
+        case 5:
+          hash = (37 * hash) + CLIENTBATCHREQUEST_FIELD_NUMBER;
+          hash = (53 * hash) + getClientBatchRequest().hashCode();
+          break;
+        case 6:
+          hash = (37 * hash) + CLIENTBATCHRESPONSE_FIELD_NUMBER;
+          hash = (53 * hash) + getClientBatchResponse().hashCode();
+          break;
+        case 7:
+          hash = (37 * hash) + SERVERBATCHREQUEST_FIELD_NUMBER;
+          hash = (53 * hash) + getServerBatchRequest().hashCode();
+          break;
+        case 8:
+          hash = (37 * hash) + SERVERBATCHRESPONSE_FIELD_NUMBER;
+          hash = (53 * hash) + getServerBatchResponse().hashCode();
+          break;
+        case 9:
+          hash = (37 * hash) + SCANREQUEST_FIELD_NUMBER;
+          hash = (53 * hash) + getScanRequest().hashCode();
+          break;
+        case 10:
+          hash = (37 * hash) + SCANRESPONSE_FIELD_NUMBER;
+          hash = (53 * hash) + getScanResponse().hashCode();
+          break;
+        case 11:
+          hash = (37 * hash) + SCANCREDIT_FIELD_NUMBER;
+          hash = (53 * hash) + getScanCredit().hashCode();
+          break;
+        case 0:
+        default:
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static KeyValue.KeyValueMessage parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static KeyValue.KeyValueMessage parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static KeyValue.KeyValueMessage parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static KeyValue.KeyValueMessage parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static KeyValue.KeyValueMessage parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static KeyValue.KeyValueMessage parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static KeyValue.KeyValueMessage parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static KeyValue.KeyValueMessage parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static KeyValue.KeyValueMessage parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static KeyValue.KeyValueMessage parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static KeyValue.KeyValueMessage parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static KeyValue.KeyValueMessage parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(KeyValue.KeyValueMessage prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code KeyValueMessage}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:KeyValueMessage)
+        KeyValue.KeyValueMessageOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return KeyValue.internal_static_KeyValueMessage_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return KeyValue.internal_static_KeyValueMessage_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                KeyValue.KeyValueMessage.class, KeyValue.KeyValueMessage.Builder.class);
+      }
+
+      // Construct using KeyValue.KeyValueMessage.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      public Builder clear() {
+        super.clear();
+        keyvalueMessageCase_ = 0;
+        keyvalueMessage_ = null;
+        return this;
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return KeyValue.internal_static_KeyValueMessage_descriptor;
+      }
+
+      public KeyValue.KeyValueMessage getDefaultInstanceForType() {
+        return KeyValue.KeyValueMessage.getDefaultInstance();
+      }
+
+      public KeyValue.KeyValueMessage build() {
+        KeyValue.KeyValueMessage result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public KeyValue.KeyValueMessage buildPartial() {
+        KeyValue.KeyValueMessage result = new KeyValue.KeyValueMessage(this);
+        if (keyvalueMessageCase_ == 1) {
+          if (clientRequestBuilder_ == null) {
+            result.keyvalueMessage_ = keyvalueMessage_;
+          } else {
+            result.keyvalueMessage_ = clientRequestBuilder_.build();
+          }
+        }
+        if (keyvalueMessageCase_ == 2) {
+          if (clientResponseBuilder_ == null) {
+            result.keyvalueMessage_ = keyvalueMessage_;
+          } else {
+            result.keyvalueMessage_ = clientResponseBuilder_.build();
+          }
+        }
+        if (keyvalueMessageCase_ == 3) {
+          if (serverRequestBuilder_ == null) {
+            result.keyvalueMessage_ = keyvalueMessage_;
+          } else {
+            result.keyvalueMessage_ = serverRequestBuilder_.build();
+          }
+        }
+        if (keyvalueMessageCase_ == 4) {
+          if (serverResponseBuilder_ == null) {
+            result.keyvalueMessage_ = keyvalueMessage_;
+          } else {
+            result.keyvalueMessage_ = serverResponseBuilder_.build();
+          }
+        }
+        if (keyvalueMessageCase_ == 5) {
+          if (clientBatchRequestBuilder_ == null) {
+            result.keyvalueMessage_ = keyvalueMessage_;
+          } else {
+            result.keyvalueMessage_ = clientBatchRequestBuilder_.build();
+          }
+        }
+        if (keyvalueMessageCase_ == 6) {
+          if (clientBatchResponseBuilder_ == null) {
+            result.keyvalueMessage_ = keyvalueMessage_;
+          } else {
+            result.keyvalueMessage_ = clientBatchResponseBuilder_.build();
+          }
+        }
+        if (keyvalueMessageCase_ == 7) {
+          if (serverBatchRequestBuilder_ == null) {
+            result.keyvalueMessage_ = keyvalueMessage_;
+          } else {
+            result.keyvalueMessage_ = serverBatchRequestBuilder_.build();
+          }
+        }
+        if (keyvalueMessageCase_ == 8) {
+          if (serverBatchResponseBuilder_ == null) {
+            result.keyvalueMessage_ = keyvalueMessage_;
+          } else {
+            result.keyvalueMessage_ = serverBatchResponseBuilder_.build();
+          }
+        }
+        if (keyvalueMessageCase_ == 9) {
+          if (scanRequestBuilder_ == null) {
+            result.keyvalueMessage_ = keyvalueMessage_;
+          } else {
+            result.keyvalueMessage_ = scanRequestBuilder_.build();
+          }
+        }
+        if (keyvalueMessageCase_ == 10) {
+          if (scanResponseBuilder_ == null) {
+            result.keyvalueMessage_ = keyvalueMessage_;
+          } else {
+            result.keyvalueMessage_ = scanResponseBuilder_.build();
+          }
+        }
+        if (keyvalueMessageCase_ == 11) {
+          if (scanCreditBuilder_ == null) {
+            result.keyvalueMessage_ = keyvalueMessage_;
+          } else {
+            result.keyvalueMessage_ = scanCreditBuilder_.build();
+          }
+        }
+        result.keyvalueMessageCase_ = keyvalueMessageCase_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder clone() {
+        return (Builder) super.clone();
+      }
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return (Builder) super.setField(field, value);
+      }
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return (Builder) super.clearField(field);
+      }
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return (Builder) super.clearOneof(oneof);
+      }
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return (Builder) super.setRepeatedField(field, index, value);
+      }
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return (Builder) super.addRepeatedField(field, value);
+      }
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof KeyValue.KeyValueMessage) {
+          return mergeFrom((KeyValue.KeyValueMessage)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(KeyValue.KeyValueMessage other) {
+        if (other == KeyValue.KeyValueMessage.getDefaultInstance()) return this;
+        switch (other.getKeyvalueMessageCase()) {
+          case CLIENTREQUEST: {
+            mergeClientRequest(other.getClientRequest());
+            break;
+          }
+          case CLIENTRESPONSE: {
+            mergeClientResponse(other.getClientResponse());
+            break;
+          }
+          case SERVERREQUEST: {
+            mergeServerRequest(other.getServerRequest());
+            break;
+          }
+          case SERVERRESPONSE: {
+            mergeServerResponse(other.getServerResponse());
+            break;
+          }
+          case CLIENTBATCHREQUEST: {
+            mergeClientBatchRequest(other.getClientBatchRequest());
+            break;
+          }
+          case CLIENTBATCHRESPONSE: {
+            mergeClientBatchResponse(other.getClientBatchResponse());
+            break;
+          }
+          case SERVERBATCHREQUEST: {
+            mergeServerBatchRequest(other.getServerBatchRequest());
+            break;
+          }
+          case SERVERBATCHRESPONSE: {
+            mergeServerBatchResponse(other.getServerBatchResponse());
+            break;
+          }
+          case SCANREQUEST: {
+            mergeScanRequest(other.getScanRequest());
+            break;
+          }
+          case SCANRESPONSE: {
+            mergeScanResponse(other.getScanResponse());
+            break;
+          }
+          case SCANCREDIT: {
+            mergeScanCredit(other.getScanCredit());
+            break;
+          }
+          case KEYVALUEMESSAGE_NOT_SET: {
+            break;
+          }
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        KeyValue.KeyValueMessage parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (KeyValue.KeyValueMessage) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int keyvalueMessageCase_ = 0;
+      private java.lang.Object keyvalueMessage_;
+      public KeyvalueMessageCase
+          getKeyvalueMessageCase() {
+        return KeyvalueMessageCase.forNumber(
+            keyvalueMessageCase_);
+      }
+
+      public Builder clearKeyvalueMessage() {
+        keyvalueMessageCase_ = 0;
+        keyvalueMessage_ = null;
+        onChanged();
+        return this;
+      }
+
+
+      private com.google.protobuf.SingleFieldBuilderV3<
+          KeyValue.ClientRequest, KeyValue.ClientRequest.Builder, KeyValue.ClientRequestOrBuilder> clientRequestBuilder_;
+      /**
+       * <code>.ClientRequest clientRequest = 1;</code>
+       */
+      public boolean hasClientRequest() {
+        return keyvalueMessageCase_ == 1;
+      }
+      /**
+       * <code>.ClientRequest clientRequest = 1;</code>
+       */
+      public KeyValue.ClientRequest getClientRequest() {
+        if (clientRequestBuilder_ == null) {
+          if (keyvalueMessageCase_ == 1) {
+            return (KeyValue.ClientRequest) keyvalueMessage_;
+          }
+          return KeyValue.ClientRequest.getDefaultInstance();
+        } else {
+          if (keyvalueMessageCase_ == 1) {
+            return clientRequestBuilder_.getMessage();
+          }
+          return KeyValue.ClientRequest.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>.ClientRequest clientRequest = 1;</code>
+       */
+      public Builder setClientRequest(KeyValue.ClientRequest value) {
+        if (clientRequestBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          keyvalueMessage_ = value;
+          onChanged();
+        } else {
+          clientRequestBuilder_.setMessage(value);
+        }
+        keyvalueMessageCase_ = 1;
+        return this;
+      }
+      /**
+       * <code>.ClientRequest clientRequest = 1;</code>
+       */
+      public Builder setClientRequest(
+          KeyValue.ClientRequest.Builder builderForValue) {
+        if (clientRequestBuilder_ == null) {
+          keyvalueMessage_ = builderForValue.build();
+          onChanged();
+        } else {
+          clientRequestBuilder_.setMessage(builderForValue.build());
+        }
+        keyvalueMessageCase_ = 1;
+        return this;
+      }
+      /**
+       * <code>.ClientRequest clientRequest = 1;</code>
+       */
+      public Builder mergeClientRequest(KeyValue.ClientRequest value) {
+        if (clientRequestBuilder_ == null) {
+          if (keyvalueMessageCase_ == 1 &&
+              keyvalueMessage_ != KeyValue.ClientRequest.getDefaultInstance()) {
+            keyvalueMessage_ = KeyValue.ClientRequest.newBuilder((KeyValue.ClientRequest) keyvalueMessage_)
+                .mergeFrom(value).buildPartial();
+          } else {
+            keyvalueMessage_ = value;
+          }
+          onChanged();
+        } else {
+          if (keyvalueMessageCase_ == 1) {
+            clientRequestBuilder_.mergeFrom(value);
+          }
+          clientRequestBuilder_.setMessage(value);
+        }
+        keyvalueMessageCase_ = 1;
+        return this;
+      }
+      /**
+       * <code>.ClientRequest clientRequest = 1;</code>
+       */
+      public Builder clearClientRequest() {
+        if (clientRequestBuilder_ == null) {
+          if (keyvalueMessageCase_ == 1) {
+            keyvalueMessageCase_ = 0;
+            keyvalueMessage_ = null;
+            onChanged();
+          }
+        } else {
+          if (keyvalueMessageCase_ == 1) {
+            keyvalueMessageCase_ = 0;
+            keyvalueMessage_ = null;
+          }
+          clientRequestBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>.ClientRequest clientRequest = 1;</code>
+       */
+      public KeyValue.ClientRequest.Builder getClientRequestBuilder() {
+        return getClientRequestFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.ClientRequest clientRequest = 1;</code>
+       */
+      public KeyValue.ClientRequestOrBuilder getClientRequestOrBuilder() {
+        if ((keyvalueMessageCase_ == 1) && (clientRequestBuilder_ != null)) {
+          return clientRequestBuilder_.getMessageOrBuilder();
+        } else {
+          if (keyvalueMessageCase_ == 1) {
+            return (KeyValue.ClientRequest) keyvalueMessage_;
+          }
+          return KeyValue.ClientRequest.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>.ClientRequest clientRequest = 1;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          KeyValue.ClientRequest, KeyValue.ClientRequest.Builder, KeyValue.ClientRequestOrBuilder> 
+          getClientRequestFieldBuilder() {
+        if (clientRequestBuilder_ == null) {
+          if (!(keyvalueMessageCase_ == 1)) {
+            keyvalueMessage_ = KeyValue.ClientRequest.getDefaultInstance();
+          }
+          clientRequestBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              KeyValue.ClientRequest, KeyValue.ClientRequest.Builder, KeyValue.ClientRequestOrBuilder>(
+                  (KeyValue.ClientRequest) keyvalueMessage_,
+                  getParentForChildren(),
+                  isClean());
+          keyvalueMessage_ = null;
+        }
+        keyvalueMessageCase_ = 1;
+        onChanged();;
+        return clientRequestBuilder_;
+      }
+
+      private com.google.protobuf.SingleFieldBuilderV3<
+          KeyValue.ClientResponse, KeyValue.ClientResponse.Builder, KeyValue.ClientResponseOrBuilder> clientResponseBuilder_;
+      /**
+       * <code>.ClientResponse clientResponse = 2;</code>
+       */
+      public boolean hasClientResponse() {
+        return keyvalueMessageCase_ == 2;
+      }
+      /**
+       * <code>.ClientResponse clientResponse = 2;</code>
+       */
+      public KeyValue.ClientResponse getClientResponse() {
+        if (clientResponseBuilder_ == null) {
+          if (keyvalueMessageCase_ == 2) {
+            return (KeyValue.ClientResponse) keyvalueMessage_;
+          }
+          return KeyValue.ClientResponse.getDefaultInstance();
+        } else {
+          if (keyvalueMessageCase_ == 2) {
+            return clientResponseBuilder_.getMessage();
+          }
+          return KeyValue.ClientResponse.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>.ClientResponse clientResponse = 2;</code>
+       */
+      public Builder setClientResponse(KeyValue.ClientResponse value) {
+        if (clientResponseBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          keyvalueMessage_ = value;
+          onChanged();
+        } else {
+          clientResponseBuilder_.setMessage(value);
+        }
+        keyvalueMessageCase_ = 2;
+        return this;
+      }
+      /**
+       * <code>.ClientResponse clientResponse = 2;</code>
+       */
+      public Builder setClientResponse(
+          KeyValue.ClientResponse.Builder builderForValue) {
+        if (clientResponseBuilder_ == null) {
+          keyvalueMessage_ = builderForValue.build();
+          onChanged();
+        } else {
+          clientResponseBuilder_.setMessage(builderForValue.build());
+        }
+        keyvalueMessageCase_ = 2;
+        return this;
+      }
+      /**
+       * <code>.ClientResponse clientResponse = 2;</code>
+       */
+      public Builder mergeClientResponse(KeyValue.ClientResponse value) {
+        if (clientResponseBuilder_ == null) {
+          if (keyvalueMessageCase_ == 2 &&
+              keyvalueMessage_ != KeyValue.ClientResponse.getDefaultInstance()) {
+            keyvalueMessage_ = KeyValue.ClientResponse.newBuilder((KeyValue.ClientResponse) keyvalueMessage_)
+                .mergeFrom(value).buildPartial();
+          } else {
+            keyvalueMessage_ = value;
+          }
+          onChanged();
+        } else {
+          if (keyvalueMessageCase_ == 2) {
+            clientResponseBuilder_.mergeFrom(value);
+          }
+          clientResponseBuilder_.setMessage(value);
+        }
+        keyvalueMessageCase_ = 2;
+        return this;
+      }
+      /**
+       * <code>.ClientResponse clientResponse = 2;</code>
+       */
+      public Builder clearClientResponse() {
+        if (clientResponseBuilder_ == null) {
+          if (keyvalueMessageCase_ == 2) {
+            keyvalueMessageCase_ = 0;
+            keyvalueMessage_ = null;
+            onChanged();
+          }
+        } else {
+          if (keyvalueMessageCase_ == 2) {
+            keyvalueMessageCase_ = 0;
+            keyvalueMessage_ = null;
+          }
+          clientResponseBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>.ClientResponse clientResponse = 2;</code>
+       */
+      public KeyValue.ClientResponse.Builder getClientResponseBuilder() {
+        return getClientResponseFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.ClientResponse clientResponse = 2;</code>
+       */
+      public KeyValue.ClientResponseOrBuilder getClientResponseOrBuilder() {
+        if ((keyvalueMessageCase_ == 2) && (clientResponseBuilder_ != null)) {
+          return clientResponseBuilder_.getMessageOrBuilder();
+        } else {
+          if (keyvalueMessageCase_ == 2) {
+            return (KeyValue.ClientResponse) keyvalueMessage_;
+          }
+          return KeyValue.ClientResponse.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>.ClientResponse clientResponse = 2;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          KeyValue.ClientResponse, KeyValue.ClientResponse.Builder, KeyValue.ClientResponseOrBuilder> 
+          getClientResponseFieldBuilder() {
+        if (clientResponseBuilder_ == null) {
+          if (!(keyvalueMessageCase_ == 2)) {
+            keyvalueMessage_ = KeyValue.ClientResponse.getDefaultInstance();
+          }
+          clientResponseBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              KeyValue.ClientResponse, KeyValue.ClientResponse.Builder, KeyValue.ClientResponseOrBuilder>(
+                  (KeyValue.ClientResponse) keyvalueMessage_,
+                  getParentForChildren(),
+                  isClean());
+          keyvalueMessage_ = null;
+        }
+        keyvalueMessageCase_ = 2;
+        onChanged();;
+        return clientResponseBuilder_;
+      }
+
+      private com.google.protobuf.SingleFieldBuilderV3<
+          KeyValue.ServerRequest, KeyValue.ServerRequest.Builder, KeyValue.ServerRequestOrBuilder> serverRequestBuilder_;
+      /**
+       * <code>.ServerRequest serverRequest = 3;</code>
+       */
+      public boolean hasServerRequest() {
+        return keyvalueMessageCase_ == 3;
+      }
+      /**
+       * <code>.ServerRequest serverRequest = 3;</code>
+       */
+      public KeyValue.ServerRequest getServerRequest() {
+        if (serverRequestBuilder_ == null) {
+          if (keyvalueMessageCase_ == 3) {
+            return (KeyValue.ServerRequest) keyvalueMessage_;
+          }
+          return KeyValue.ServerRequest.getDefaultInstance();
+        } else {
+          if (keyvalueMessageCase_ == 3) {
+            return serverRequestBuilder_.getMessage();
+          }
+          return KeyValue.ServerRequest.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>.ServerRequest serverRequest = 3;</code>
+       */
+      public Builder setServerRequest(KeyValue.ServerRequest value) {
+        if (serverRequestBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          keyvalueMessage_ = value;
+          onChanged();
+        } else {
+          serverRequestBuilder_.setMessage(value);
+        }
+        keyvalueMessageCase_ = 3;
+        return this;
+      }
+      /**
+       * <code>.ServerRequest serverRequest = 3;</code>
+       */
+      public Builder setServerRequest(
+          KeyValue.ServerRequest.Builder builderForValue) {
+        if (serverRequestBuilder_ == null) {
+          keyvalueMessage_ = builderForValue.build();
+          onChanged();
+        } else {
+          serverRequestBuilder_.setMessage(builderForValue.build());
+        }
+        keyvalueMessageCase_ = 3;
+        return this;
+      }
+      /**
+       * <code>.ServerRequest serverRequest = 3;</code>
+       */
+      public Builder mergeServerRequest(KeyValue.ServerRequest value) {
+        if (serverRequestBuilder_ == null) {
+          if (keyvalueMessageCase_ == 3 &&
+              keyvalueMessage_ != KeyValue.ServerRequest.getDefaultInstance()) {
+            keyvalueMessage_ = KeyValue.ServerRequest.newBuilder((KeyValue.ServerRequest) keyvalueMessage_)
+                .mergeFrom(value).buildPartial();
+          } else {
+            keyvalueMessage_ = value;
+          }
+          onChanged();
+        } else {
+          if (keyvalueMessageCase_ == 3) {
+            serverRequestBuilder_.mergeFrom(value);
+          }
+          serverRequestBuilder_.setMessage(value);
+        }
+        keyvalueMessageCase_ = 3;
+        return this;
+      }
+      /**
+       * <code>.ServerRequest serverRequest = 3;</code>
+       */
+      public Builder clearServerRequest() {
+        if (serverRequestBuilder_ == null) {
+          if (keyvalueMessageCase_ == 3) {
+            keyvalueMessageCase_ = 0;
+            keyvalueMessage_ = null;
+            onChanged();
+          }
+        } else {
+          if (keyvalueMessageCase_ == 3) {
+            keyvalueMessageCase_ = 0;
+            keyvalueMessage_ = null;
+          }
+          serverRequestBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>.ServerRequest serverRequest = 3;</code>
+       */
+      public KeyValue.ServerRequest.Builder getServerRequestBuilder() {
+        return getServerRequestFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.ServerRequest serverRequest = 3;</code>
+       */
+      public KeyValue.ServerRequestOrBuilder getServerRequestOrBuilder() {
+        if ((keyvalueMessageCase_ == 3) && (serverRequestBuilder_ != null)) {
+          return serverRequestBuilder_.getMessageOrBuilder();
+        } else {
+          if (keyvalueMessageCase_ == 3) {
+            return (KeyValue.ServerRequest) keyvalueMessage_;
+          }
+          return KeyValue.ServerRequest.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>.ServerRequest serverRequest = 3;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          KeyValue.ServerRequest, KeyValue.ServerRequest.Builder, KeyValue.ServerRequestOrBuilder> 
+          getServerRequestFieldBuilder() {
+        if (serverRequestBuilder_ == null) {
+          if (!(keyvalueMessageCase_ == 3)) {
+            keyvalueMessage_ = KeyValue.ServerRequest.getDefaultInstance();
+          }
+          serverRequestBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              KeyValue.ServerRequest, KeyValue.ServerRequest.Builder, KeyValue.ServerRequestOrBuilder>(
+                  (KeyValue.ServerRequest) keyvalueMessage_,
+                  getParentForChildren(),
+                  isClean());
+          keyvalueMessage_ = null;
+        }
+        keyvalueMessageCase_ = 3;
+        onChanged();;
+        return serverRequestBuilder_;
+      }
+
+      private com.google.protobuf.SingleFieldBuilderV3<
+          KeyValue.ServerResponse, KeyValue.ServerResponse.Builder, KeyValue.ServerResponseOrBuilder> serverResponseBuilder_;
+      /**
+       * <code>.ServerResponse serverResponse = 4;</code>
+       */
+      public boolean hasServerResponse() {
+        return keyvalueMessageCase_ == 4;
+      }
+      /**
+       * <code>.ServerResponse serverResponse = 4;</code>
+       */
+      public KeyValue.ServerResponse getServerResponse() {
+        if (serverResponseBuilder_ == null) {
+          if (keyvalueMessageCase_ == 4) {
+            return (KeyValue.ServerResponse) keyvalueMessage_;
+          }
+          return KeyValue.ServerResponse.getDefaultInstance();
+        } else {
+          if (keyvalueMessageCase_ == 4) {
+            return serverResponseBuilder_.getMessage();
+          }
+          return KeyValue.ServerResponse.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>.ServerResponse serverResponse = 4;</code>
+       */
+      public Builder setServerResponse(KeyValue.ServerResponse value) {
+        if (serverResponseBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          keyvalueMessage_ = value;
+          onChanged();
+        } else {
+          serverResponseBuilder_.setMessage(value);
+        }
+        keyvalueMessageCase_ = 4;
+        return this;
+      }
+      /**
+       * <code>.ServerResponse serverResponse = 4;</code>
+       */
+      public Builder setServerResponse(
+          KeyValue.ServerResponse.Builder builderForValue) {
+        if (serverResponseBuilder_ == null) {
+          keyvalueMessage_ = builderForValue.build();
+          onChanged();
+        } else {
+          serverResponseBuilder_.setMessage(builderForValue.build());
+        }
+        keyvalueMessageCase_ = 4;
+        return this;
+      }
+      /**
+       * <code>.ServerResponse serverResponse = 4;</code>
+       */
+      public Builder mergeServerResponse(KeyValue.ServerResponse value) {
+        if (serverResponseBuilder_ == null) {
+          if (keyvalueMessageCase_ == 4 &&
+              keyvalueMessage_ != KeyValue.ServerResponse.getDefaultInstance()) {
+            keyvalueMessage_ = KeyValue.ServerResponse.newBuilder((KeyValue.ServerResponse) keyvalueMessage_)
+                .mergeFrom(value).buildPartial();
+          } else {
+            keyvalueMessage_ = value;
+          }
+          onChanged();
+        } else {
+          if (keyvalueMessageCase_ == 4) {
+            serverResponseBuilder_.mergeFrom(value);
+          }
+          serverResponseBuilder_.setMessage(value);
+        }
+        keyvalueMessageCase_ = 4;
+        return this;
+      }
+      /**
+       * <code>.ServerResponse serverResponse = 4;</code>
+       */
+      public Builder clearServerResponse() {
+        if (serverResponseBuilder_ == null) {
+          if (keyvalueMessageCase_ == 4) {
+            keyvalueMessageCase_ = 0;
+            keyvalueMessage_ = null;
+            onChanged();
+          }
+        } else {
+          if (keyvalueMessageCase_ == 4) {
+            keyvalueMessageCase_ = 0;
+            keyvalueMessage_ = null;
+          }
+          serverResponseBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>.ServerResponse serverResponse = 4;</code>
+       */
+      public KeyValue.ServerResponse.Builder getServerResponseBuilder() {
+        return getServerResponseFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.ServerResponse serverResponse = 4;</code>
+       */
+      public KeyValue.ServerResponseOrBuilder getServerResponseOrBuilder() {
+        if ((keyvalueMessageCase_ == 4) && (serverResponseBuilder_ != null)) {
+          return serverResponseBuilder_.getMessageOrBuilder();
+        } else {
+          if (keyvalueMessageCase_ == 4) {
+            return (KeyValue.ServerResponse) keyvalueMessage_;
+          }
+          return KeyValue.ServerResponse.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>.ServerResponse serverResponse = 4;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          KeyValue.ServerResponse, KeyValue.ServerResponse.Builder, KeyValue.ServerResponseOrBuilder> 
+          getServerResponseFieldBuilder() {
+        if (serverResponseBuilder_ == null) {
+          if (!(keyvalueMessageCase_ == 4)) {
+            keyvalueMessage_ = KeyValue.ServerResponse.getDefaultInstance();
+          }
+          serverResponseBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              KeyValue.ServerResponse, KeyValue.ServerResponse.Builder, KeyValue.ServerResponseOrBuilder>(
+                  (KeyValue.ServerResponse) keyvalueMessage_,
+                  getParentForChildren(),
+                  isClean());
+          keyvalueMessage_ = null;
+        }
+        keyvalueMessageCase_ = 4;
+        onChanged();;
+        return serverResponseBuilder_;
+      }
+
+      private com.google.protobuf.SingleFieldBuilderV3<
+          KeyValue.ClientBatchRequest, KeyValue.ClientBatchRequest.Builder, KeyValue.ClientBatchRequestOrBuilder> clientBatchRequestBuilder_;
+      /**
+       * <code>.ClientBatchRequest clientBatchRequest = 5;</code>
+       */
+      public boolean hasClientBatchRequest() {
+        return keyvalueMessageCase_ == 5;
+      }
+      /**
+       * <code>.ClientBatchRequest clientBatchRequest = 5;</code>
+       */
+      public KeyValue.ClientBatchRequest getClientBatchRequest() {
+        if (clientBatchRequestBuilder_ == null) {
+          if (keyvalueMessageCase_ == 5) {
+            return (KeyValue.ClientBatchRequest) keyvalueMessage_;
+          }
+          return KeyValue.ClientBatchRequest.getDefaultInstance();
+        } else {
+          if (keyvalueMessageCase_ == 5) {
+            return clientBatchRequestBuilder_.getMessage();
+          }
+          return KeyValue.ClientBatchRequest.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>.ClientBatchRequest clientBatchRequest = 5;</code>
+       */
+      public Builder setClientBatchRequest(KeyValue.ClientBatchRequest value) {
+        if (clientBatchRequestBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          keyvalueMessage_ = value;
+          onChanged();
+        } else {
+          clientBatchRequestBuilder_.setMessage(value);
+        }
+        keyvalueMessageCase_ = 5;
+        return this;
+      }
+      /**
+       * <code>.ClientBatchRequest clientBatchRequest = 5;</code>
+       */
+      public Builder setClientBatchRequest(
+          KeyValue.ClientBatchRequest.Builder builderForValue) {
+        if (clientBatchRequestBuilder_ == null) {
+          keyvalueMessage_ = builderForValue.build();
+          onChanged();
+        } else {
+          clientBatchRequestBuilder_.setMessage(builderForValue.build());
+        }
+        keyvalueMessageCase_ = 5;
+        return this;
+      }
+      /**
+       * <code>.ClientBatchRequest clientBatchRequest = 5;</code>
+       */
+      public Builder mergeClientBatchRequest(KeyValue.ClientBatchRequest value) {
+        if (clientBatchRequestBuilder_ == null) {
+          if (keyvalueMessageCase_ == 5 &&
+              keyvalueMessage_ != KeyValue.ClientBatchRequest.getDefaultInstance()) {
+            keyvalueMessage_ = KeyValue.ClientBatchRequest.newBuilder((KeyValue.ClientBatchRequest) keyvalueMessage_)
+                .mergeFrom(value).buildPartial();
+          } else {
+            keyvalueMessage_ = value;
+          }
+          onChanged();
+        } else {
+          if (keyvalueMessageCase_ == 5) {
+            clientBatchRequestBuilder_.mergeFrom(value);
+          }
+          clientBatchRequestBuilder_.setMessage(value);
+        }
+        keyvalueMessageCase_ = 5;
+        return this;
+      }
+      /**
+       * <code>.ClientBatchRequest clientBatchRequest = 5;</code>
+       */
+      public Builder clearClientBatchRequest() {
+        if (clientBatchRequestBuilder_ == null) {
+          if (keyvalueMessageCase_ == 5) {
+            keyvalueMessageCase_ = 0;
+            keyvalueMessage_ = null;
+            onChanged();
+          }
+        } else {
+          if (keyvalueMessageCase_ == 5) {
+            keyvalueMessageCase_ = 0;
+            keyvalueMessage_ = null;
+          }
+          clientBatchRequestBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>.ClientBatchRequest clientBatchRequest = 5;</code>
+       */
+      public KeyValue.ClientBatchRequest.Builder getClientBatchRequestBuilder() {
+        return getClientBatchRequestFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.ClientBatchRequest clientBatchRequest = 5;</code>
+       */
+      public KeyValue.ClientBatchRequestOrBuilder getClientBatchRequestOrBuilder() {
+        if ((keyvalueMessageCase_ == 5) && (clientBatchRequestBuilder_ != null)) {
+          return clientBatchRequestBuilder_.getMessageOrBuilder();
+        } else {
+          if (keyvalueMessageCase_ == 5) {
+            return (KeyValue.ClientBatchRequest) keyvalueMessage_;
+          }
+          return KeyValue.ClientBatchRequest.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>.ClientBatchRequest clientBatchRequest = 5;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          KeyValue.ClientBatchRequest, KeyValue.ClientBatchRequest.Builder, KeyValue.ClientBatchRequestOrBuilder> 
+          getClientBatchRequestFieldBuilder() {
+        if (clientBatchRequestBuilder_ == null) {
+          if (!(keyvalueMessageCase_ == 5)) {
+            keyvalueMessage_ = KeyValue.ClientBatchRequest.getDefaultInstance();
+          }
+          clientBatchRequestBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              KeyValue.ClientBatchRequest, KeyValue.ClientBatchRequest.Builder, KeyValue.ClientBatchRequestOrBuilder>(
+                  (KeyValue.ClientBatchRequest) keyvalueMessage_,
+                  getParentForChildren(),
+                  isClean());
+          keyvalueMessage_ = null;
+        }
+        keyvalueMessageCase_ = 5;
+        onChanged();;
+        return clientBatchRequestBuilder_;
+      }
+
+      private com.google.protobuf.SingleFieldBuilderV3<
+          KeyValue.ClientBatchResponse, KeyValue.ClientBatchResponse.Builder, KeyValue.ClientBatchResponseOrBuilder> clientBatchResponseBuilder_;
+      /**
+       * <code>.ClientBatchResponse clientBatchResponse = 6;</code>
+       */
+      public boolean hasClientBatchResponse() {
+        return keyvalueMessageCase_ == 6;
+      }
+      /**
+       * <code>.ClientBatchResponse clientBatchResponse = 6;</code>
+       */
+      public KeyValue.ClientBatchResponse getClientBatchResponse() {
+        if (clientBatchResponseBuilder_ == null) {
+          if (keyvalueMessageCase_ == 6) {
+            return (KeyValue.ClientBatchResponse) keyvalueMessage_;
+          }
+          return KeyValue.ClientBatchResponse.getDefaultInstance();
+        } else {
+          if (keyvalueMessageCase_ == 6) {
+            return clientBatchResponseBuilder_.getMessage();
+          }
+          return KeyValue.ClientBatchResponse.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>.ClientBatchResponse clientBatchResponse = 6;</code>
+       */
+      public Builder setClientBatchResponse(KeyValue.ClientBatchResponse value) {
+        if (clientBatchResponseBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          keyvalueMessage_ = value;
+          onChanged();
+        } else {
+          clientBatchResponseBuilder_.setMessage(value);
+        }
+        keyvalueMessageCase_ = 6;
+        return this;
+      }
+      /**
+       * <code>.ClientBatchResponse clientBatchResponse = 6;</code>
+       */
+      public Builder setClientBatchResponse(
+          KeyValue.ClientBatchResponse.Builder builderForValue) {
+        if (clientBatchResponseBuilder_ == null) {
+          keyvalueMessage_ = builderForValue.build();
+          onChanged();
+        } else {
+          clientBatchResponseBuilder_.setMessage(builderForValue.build());
+        }
+        keyvalueMessageCase_ = 6;
+        return this;
+      }
+      /**
+       * <code>.ClientBatchResponse clientBatchResponse = 6;</code>
+       */
+      public Builder mergeClientBatchResponse(KeyValue.ClientBatchResponse value) {
+        if (clientBatchResponseBuilder_ == null) {
+          if (keyvalueMessageCase_ == 6 &&
+              keyvalueMessage_ != KeyValue.ClientBatchResponse.getDefaultInstance()) {
+            keyvalueMessage_ = KeyValue.ClientBatchResponse.newBuilder((KeyValue.ClientBatchResponse) keyvalueMessage_)
+                .mergeFrom(value).buildPartial();
+          } else {
+            keyvalueMessage_ = value;
+          }
+          onChanged();
+        } else {
+          if (keyvalueMessageCase_ == 6) {
+            clientBatchResponseBuilder_.mergeFrom(value);
+          }
+          clientBatchResponseBuilder_.setMessage(value);
+        }
+        keyvalueMessageCase_ = 6;
+        return this;
+      }
+      /**
+       * <code>.ClientBatchResponse clientBatchResponse = 6;</code>
+       */
+      public Builder clearClientBatchResponse() {
+        if (clientBatchResponseBuilder_ == null) {
+          if (keyvalueMessageCase_ == 6) {
+            keyvalueMessageCase_ = 0;
+            keyvalueMessage_ = null;
+            onChanged();
+          }
+        } else {
+          if (keyvalueMessageCase_ == 6) {
+            keyvalueMessageCase_ = 0;
+            keyvalueMessage_ = null;
+          }
+          clientBatchResponseBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>.ClientBatchResponse clientBatchResponse = 6;</code>
+       */
+      public KeyValue.ClientBatchResponse.Builder getClientBatchResponseBuilder() {
+        return getClientBatchResponseFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.ClientBatchResponse clientBatchResponse = 6;</code>
+       */
+      public KeyValue.ClientBatchResponseOrBuilder getClientBatchResponseOrBuilder() {
+        if ((keyvalueMessageCase_ == 6) && (clientBatchResponseBuilder_ != null)) {
+          return clientBatchResponseBuilder_.getMessageOrBuilder();
+        } else {
+          if (keyvalueMessageCase_ == 6) {
+            return (KeyValue.ClientBatchResponse) keyvalueMessage_;
+          }
+          return KeyValue.ClientBatchResponse.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>.ClientBatchResponse clientBatchResponse = 6;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          KeyValue.ClientBatchResponse, KeyValue.ClientBatchResponse.Builder, KeyValue.ClientBatchResponseOrBuilder> 
+          getClientBatchResponseFieldBuilder() {
+        if (clientBatchResponseBuilder_ == null) {
+          if (!(keyvalueMessageCase_ == 6)) {
+            keyvalueMessage_ = KeyValue.ClientBatchResponse.getDefaultInstance();
+          }
+          clientBatchResponseBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              KeyValue.ClientBatchResponse, KeyValue.ClientBatchResponse.Builder, KeyValue.ClientBatchResponseOrBuilder>(
+                  (KeyValue.ClientBatchResponse) keyvalueMessage_,
+                  getParentForChildren(),
+                  isClean());
+          keyvalueMessage_ = null;
+        }
+        keyvalueMessageCase_ = 6;
+        onChanged();;
+        return clientBatchResponseBuilder_;
+      }
+
+      private com.google.protobuf.SingleFieldBuilderV3<
+          KeyValue.ServerBatchRequest, KeyValue.ServerBatchRequest.Builder, KeyValue.ServerBatchRequestOrBuilder> serverBatchRequestBuilder_;
+      /**
+       * <code>.ServerBatchRequest serverBatchRequest = 7;</code>
+       */
+      public boolean hasServerBatchRequest() {
+        return keyvalueMessageCase_ == 7;
+      }
+      /**
+       * <code>.ServerBatchRequest serverBatchRequest = 7;</code>
+       */
+      public KeyValue.ServerBatchRequest getServerBatchRequest() {
+        if (serverBatchRequestBuilder_ == null) {
+          if (keyvalueMessageCase_ == 7) {
+            return (KeyValue.ServerBatchRequest) keyvalueMessage_;
+          }
+          return KeyValue.ServerBatchRequest.getDefaultInstance();
+        } else {
+          if (keyvalueMessageCase_ == 7) {
+            return serverBatchRequestBuilder_.getMessage();
+          }
+          return KeyValue.ServerBatchRequest.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>.ServerBatchRequest serverBatchRequest = 7;</code>
+       */
+      public Builder setServerBatchRequest(KeyValue.ServerBatchRequest value) {
+        if (serverBatchRequestBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          keyvalueMessage_ = value;
+          onChanged();
+        } else {
+          serverBatchRequestBuilder_.setMessage(value);
+        }
+        keyvalueMessageCase_ = 7;
+        return this;
+      }
+      /**
+       * <code>.ServerBatchRequest serverBatchRequest = 7;</code>
+       */
+      public Builder setServerBatchRequest(
+          KeyValue.ServerBatchRequest.Builder builderForValue) {
+        if (serverBatchRequestBuilder_ == null) {
+          keyvalueMessage_ = builderForValue.build();
+          onChanged();
+        } else {
+          serverBatchRequestBuilder_.setMessage(builderForValue.build());
+        }
+        keyvalueMessageCase_ = 7;
+        return this;
+      }
+      /**
+       * <code>.ServerBatchRequest serverBatchRequest = 7;</code>
+       */
+      public Builder mergeServerBatchRequest(KeyValue.ServerBatchRequest value) {
+        if (serverBatchRequestBuilder_ == null) {
+          if (keyvalueMessageCase_ == 7 &&
+              keyvalueMessage_ != KeyValue.ServerBatchRequest.getDefaultInstance()) {
+            keyvalueMessage_ = KeyValue.ServerBatchRequest.newBuilder((KeyValue.ServerBatchRequest) keyvalueMessage_)
+                .mergeFrom(value).buildPartial();
+          } else {
+            keyvalueMessage_ = value;
+          }
+          onChanged();
+        } else {
+          if (keyvalueMessageCase_ == 7) {
+            serverBatchRequestBuilder_.mergeFrom(value);
+          }
+          serverBatchRequestBuilder_.setMessage(value);
+        }
+        keyvalueMessageCase_ = 7;
+        return this;
+      }
+      /**
+       * <code>.ServerBatchRequest serverBatchRequest = 7;</code>
+       */
+      public Builder clearServerBatchRequest() {
+        if (serverBatchRequestBuilder_ == null) {
+          if (keyvalueMessageCase_ == 7) {
+            keyvalueMessageCase_ = 0;
+            keyvalueMessage_ = null;
+            onChanged();
+          }
+        } else {
+          if (keyvalueMessageCase_ == 7) {
+            keyvalueMessageCase_ = 0;
+            keyvalueMessage_ = null;
+          }
+          serverBatchRequestBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>.ServerBatchRequest serverBatchRequest = 7;</code>
+       */
+      public KeyValue.ServerBatchRequest.Builder getServerBatchRequestBuilder() {
+        return getServerBatchRequestFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.ServerBatchRequest serverBatchRequest = 7;</code>
+       */
+      public KeyValue.ServerBatchRequestOrBuilder getServerBatchRequestOrBuilder() {
+        if ((keyvalueMessageCase_ == 7) && (serverBatchRequestBuilder_ != null)) {
+          return serverBatchRequestBuilder_.getMessageOrBuilder();
+        } else {
+          if (keyvalueMessageCase_ == 7) {
+            return (KeyValue.ServerBatchRequest) keyvalueMessage_;
+          }
+          return KeyValue.ServerBatchRequest.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>.ServerBatchRequest serverBatchRequest = 7;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          KeyValue.ServerBatchRequest, KeyValue.ServerBatchRequest.Builder, KeyValue.ServerBatchRequestOrBuilder> 
+          getServerBatchRequestFieldBuilder() {
+        if (serverBatchRequestBuilder_ == null) {
+          if (!(keyvalueMessageCase_ == 7)) {
+            keyvalueMessage_ = KeyValue.ServerBatchRequest.getDefaultInstance();
+          }
+          serverBatchRequestBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              KeyValue.ServerBatchRequest, KeyValue.ServerBatchRequest.Builder, KeyValue.ServerBatchRequestOrBuilder>(
+                  (KeyValue.ServerBatchRequest) keyvalueMessage_,
+                  getParentForChildren(),
+                  isClean());
+          keyvalueMessage_ = null;
+        }
+        keyvalueMessageCase_ = 7;
+        onChanged();;
+        return serverBatchRequestBuilder_;
+      }
+
+      private com.google.protobuf.SingleFieldBuilderV3<
+          KeyValue.ServerBatchResponse, KeyValue.ServerBatchResponse.Builder, KeyValue.ServerBatchResponseOrBuilder> serverBatchResponseBuilder_;
+      /**
+       * <code>.ServerBatchResponse serverBatchResponse = 8;</code>
+       */
+      public boolean hasServerBatchResponse() {
+        return keyvalueMessageCase_ == 8;
+      }
+      /**
+       * <code>.ServerBatchResponse serverBatchResponse = 8;</code>
+       */
+      public KeyValue.ServerBatchResponse getServerBatchResponse() {
+        if (serverBatchResponseBuilder_ == null) {
+          if (keyvalueMessageCase_ == 8) {
+            return (KeyValue.ServerBatchResponse) keyvalueMessage_;
+          }
+          return KeyValue.ServerBatchResponse.getDefaultInstance();
+        } else {
+          if (keyvalueMessageCase_ == 8) {
+            return serverBatchResponseBuilder_.getMessage();
+          }
+          return KeyValue.ServerBatchResponse.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>.ServerBatchResponse serverBatchResponse = 8;</code>
+       */
+      public Builder setServerBatchResponse(KeyValue.ServerBatchResponse value) {
+        if (serverBatchResponseBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          keyvalueMessage_ = value;
+          onChanged();
+        } else {
+          serverBatchResponseBuilder_.setMessage(value);
+        }
+        keyvalueMessageCase_ = 8;
+        return this;
+      }
+      /**
+       * <code>.ServerBatchResponse serverBatchResponse = 8;</code>
+       */
+      public Builder setServerBatchResponse(
+          KeyValue.ServerBatchResponse.Builder builderForValue) {
+        if (serverBatchResponseBuilder_ == null) {
           keyvalueMessage_ = builderForValue.build();
           onChanged();
         } else {
-          clientRequestBuilder_.setMessage(builderForValue.build());
+          serverBatchResponseBuilder_.setMessage(builderForValue.build());
         }
-        keyvalueMessageCase_ = 1;
+        keyvalueMessageCase_ = 8;
         return this;
       }
       /**
-       * <code>.ClientRequest clientRequest = 1;</code>
+       * <code>.ServerBatchResponse serverBatchResponse = 8;</code>
        */
-      public Builder mergeClientRequest(KeyValue.ClientRequest value) {
-        if (clientRequestBuilder_ == null) {
-          if (keyvalueMessageCase_ == 1 &&
-              keyvalueMessage_ != KeyValue.ClientRequest.getDefaultInstance()) {
-            keyvalueMessage_ = KeyValue.ClientRequest.newBuilder((KeyValue.ClientRequest) keyvalueMessage_)
+      public Builder mergeServerBatchResponse(KeyValue.ServerBatchResponse value) {
+        if (serverBatchResponseBuilder_ == null) {
+          if (keyvalueMessageCase_ == 8 &&
+              keyvalueMessage_ != KeyValue.ServerBatchResponse.getDefaultInstance()) {
+            keyvalueMessage_ = KeyValue.ServerBatchResponse.newBuilder((KeyValue.ServerBatchResponse) keyvalueMessage_)
                 .mergeFrom(value).buildPartial();
           } else {
             keyvalueMessage_ = value;
           }
           onChanged();
         } else {
-          if (keyvalueMessageCase_ == 1) {
-            clientRequestBuilder_.mergeFrom(value);
+          if (keyvalueMessageCase_ == 8) {
+            serverBatchResponseBuilder_.mergeFrom(value);
           }
-          clientRequestBuilder_.setMessage(value);
+          serverBatchResponseBuilder_.setMessage(value);
         }
-        keyvalueMessageCase_ = 1;
+        keyvalueMessageCase_ = 8;
         return this;
       }
       /**
-       * <code>.ClientRequest clientRequest = 1;</code>
+       * <code>.ServerBatchResponse serverBatchResponse = 8;</code>
        */
-      public Builder clearClientRequest() {
-        if (clientRequestBuilder_ == null) {
-          if (keyvalueMessageCase_ == 1) {
+      public Builder clearServerBatchResponse() {
+        if (serverBatchResponseBuilder_ == null) {
+          if (keyvalueMessageCase_ == 8) {
             keyvalueMessageCase_ = 0;
             keyvalueMessage_ = null;
             onChanged();
           }
         } else {
-          if (keyvalueMessageCase_ == 1) {
+          if (keyvalueMessageCase_ == 8) {
             keyvalueMessageCase_ = 0;
             keyvalueMessage_ = null;
           }
-          clientRequestBuilder_.clear();
+          serverBatchResponseBuilder_.clear();
         }
         return this;
       }
       /**
-       * <code>.ClientRequest clientRequest = 1;</code>
+       * <code>.ServerBatchResponse serverBatchResponse = 8;</code>
        */
-      public KeyValue.ClientRequest.Builder getClientRequestBuilder() {
-        return getClientRequestFieldBuilder().getBuilder();
+      public KeyValue.ServerBatchResponse.Builder getServerBatchResponseBuilder() {
+        return getServerBatchResponseFieldBuilder().getBuilder();
       }
       /**
-       * <code>.ClientRequest clientRequest = 1;</code>
+       * <code>.ServerBatchResponse serverBatchResponse = 8;</code>
        */
-      public KeyValue.ClientRequestOrBuilder getClientRequestOrBuilder() {
-        if ((keyvalueMessageCase_ == 1) && (clientRequestBuilder_ != null)) {
-          return clientRequestBuilder_.getMessageOrBuilder();
+      public KeyValue.ServerBatchResponseOrBuilder getServerBatchResponseOrBuilder() {
+        if ((keyvalueMessageCase_ == 8) && (serverBatchResponseBuilder_ != null)) {
+          return serverBatchResponseBuilder_.getMessageOrBuilder();
         } else {
-          if (keyvalueMessageCase_ == 1) {
-            return (KeyValue.ClientRequest) keyvalueMessage_;
+          if (keyvalueMessageCase_ == 8) {
+            return (KeyValue.ServerBatchResponse) keyvalueMessage_;
           }
-          return KeyValue.ClientRequest.getDefaultInstance();
+          return KeyValue.ServerBatchResponse.getDefaultInstance();
         }
       }
       /**
-       * <code>.ClientRequest clientRequest = 1;</code>
+       * <code>.ServerBatchResponse serverBatchResponse = 8;</code>
        */
       private com.google.protobuf.SingleFieldBuilderV3<
-          KeyValue.ClientRequest, KeyValue.ClientRequest.Builder, KeyValue.ClientRequestOrBuilder> 
-          getClientRequestFieldBuilder() {
-        if (clientRequestBuilder_ == null) {
-          if (!(keyvalueMessageCase_ == 1)) {
-            keyvalueMessage_ = KeyValue.ClientRequest.getDefaultInstance();
+          KeyValue.ServerBatchResponse, KeyValue.ServerBatchResponse.Builder, KeyValue.ServerBatchResponseOrBuilder> 
+          getServerBatchResponseFieldBuilder() {
+        if (serverBatchResponseBuilder_ == null) {
+          if (!(keyvalueMessageCase_ == 8)) {
+            keyvalueMessage_ = KeyValue.ServerBatchResponse.getDefaultInstance();
           }
-          clientRequestBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
-              KeyValue.ClientRequest, KeyValue.ClientRequest.Builder, KeyValue.ClientRequestOrBuilder>(
-                  (KeyValue.ClientRequest) keyvalueMessage_,
+          serverBatchResponseBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              KeyValue.ServerBatchResponse, KeyValue.ServerBatchResponse.Builder, KeyValue.ServerBatchResponseOrBuilder>(
+                  (KeyValue.ServerBatchResponse) keyvalueMessage_,
                   getParentForChildren(),
                   isClean());
           keyvalueMessage_ = null;
         }
-        keyvalueMessageCase_ = 1;
+        keyvalueMessageCase_ = 8;
         onChanged();;
-        return clientRequestBuilder_;
+        return serverBatchResponseBuilder_;
       }
 
       private com.google.protobuf.SingleFieldBuilderV3<
-          KeyValue.ClientResponse, KeyValue.ClientResponse.Builder, KeyValue.ClientResponseOrBuilder> clientResponseBuilder_;
+          KeyValue.ScanRequest, KeyValue.ScanRequest.Builder, KeyValue.ScanRequestOrBuilder> scanRequestBuilder_;
       /**
-       * <code>.ClientResponse clientResponse = 2;</code>
+       * <code>.ScanRequest scanRequest = 9;</code>
        */
-      public boolean hasClientResponse() {
-        return keyvalueMessageCase_ == 2;
+      public boolean hasScanRequest() {
+        return keyvalueMessageCase_ == 9;
       }
       /**
-       * <code>.ClientResponse clientResponse = 2;</code>
+       * <code>.ScanRequest scanRequest = 9;</code>
        */
-      public KeyValue.ClientResponse getClientResponse() {
-        if (clientResponseBuilder_ == null) {
-          if (keyvalueMessageCase_ == 2) {
-            return (KeyValue.ClientResponse) keyvalueMessage_;
+      public KeyValue.ScanRequest getScanRequest() {
+        if (scanRequestBuilder_ == null) {
+          if (keyvalueMessageCase_ == 9) {
+            return (KeyValue.ScanRequest) keyvalueMessage_;
           }
-          return KeyValue.ClientResponse.getDefaultInstance();
+          return KeyValue.ScanRequest.getDefaultInstance();
         } else {
-          if (keyvalueMessageCase_ == 2) {
-            return clientResponseBuilder_.getMessage();
+          if (keyvalueMessageCase_ == 9) {
+            return scanRequestBuilder_.getMessage();
           }
-          return KeyValue.ClientResponse.getDefaultInstance();
+          return KeyValue.ScanRequest.getDefaultInstance();
         }
       }
       /**
-       * <code>.ClientResponse clientResponse = 2;</code>
+       * <code>.ScanRequest scanRequest = 9;</code>
        */
-      public Builder setClientResponse(KeyValue.ClientResponse value) {
-        if (clientResponseBuilder_ == null) {
+      public Builder setScanRequest(KeyValue.ScanRequest value) {
+        if (scanRequestBuilder_ == null) {
           if (value == null) {
             throw new NullPointerException();
           }
           keyvalueMessage_ = value;
           onChanged();
         } else {
-          clientResponseBuilder_.setMessage(value);
+          scanRequestBuilder_.setMessage(value);
         }
-        keyvalueMessageCase_ = 2;
+        keyvalueMessageCase_ = 9;
         return this;
       }
       /**
-       * <code>.ClientResponse clientResponse = 2;</code>
+       * <code>.ScanRequest scanRequest = 9;</code>
        */
-      public Builder setClientResponse(
-          KeyValue.ClientResponse.Builder builderForValue) {
-        if (clientResponseBuilder_ == null) {
+      public Builder setScanRequest(
+          KeyValue.ScanRequest.Builder builderForValue) {
+        if (scanRequestBuilder_ == null) {
           keyvalueMessage_ = builderForValue.build();
           onChanged();
         } else {
-          clientResponseBuilder_.setMessage(builderForValue.build());
+          scanRequestBuilder_.setMessage(builderForValue.build());
         }
-        keyvalueMessageCase_ = 2;
+        keyvalueMessageCase_ = 9;
         return this;
       }
       /**
-       * <code>.ClientResponse clientResponse = 2;</code>
+       * <code>.ScanRequest scanRequest = 9;</code>
        */
-      public Builder mergeClientResponse(KeyValue.ClientResponse value) {
-        if (clientResponseBuilder_ == null) {
-          if (keyvalueMessageCase_ == 2 &&
-              keyvalueMessage_ != KeyValue.ClientResponse.getDefaultInstance()) {
-            keyvalueMessage_ = KeyValue.ClientResponse.newBuilder((KeyValue.ClientResponse) keyvalueMessage_)
+      public Builder mergeScanRequest(KeyValue.ScanRequest value) {
+        if (scanRequestBuilder_ == null) {
+          if (keyvalueMessageCase_ == 9 &&
+              keyvalueMessage_ != KeyValue.ScanRequest.getDefaultInstance()) {
+            keyvalueMessage_ = KeyValue.ScanRequest.newBuilder((KeyValue.ScanRequest) keyvalueMessage_)
                 .mergeFrom(value).buildPartial();
           } else {
             keyvalueMessage_ = value;
           }
           onChanged();
         } else {
-          if (keyvalueMessageCase_ == 2) {
-            clientResponseBuilder_.mergeFrom(value);
+          if (keyvalueMessageCase_ == 9) {
+            scanRequestBuilder_.mergeFrom(value);
           }
-          clientResponseBuilder_.setMessage(value);
+          scanRequestBuilder_.setMessage(value);
         }
-        keyvalueMessageCase_ = 2;
+        keyvalueMessageCase_ = 9;
         return this;
       }
       /**
-       * <code>.ClientResponse clientResponse = 2;</code>
+       * <code>.ScanRequest scanRequest = 9;</code>
        */
-      public Builder clearClientResponse() {
-        if (clientResponseBuilder_ == null) {
-          if (keyvalueMessageCase_ == 2) {
+      public Builder clearScanRequest() {
+        if (scanRequestBuilder_ == null) {
+          if (keyvalueMessageCase_ == 9) {
             keyvalueMessageCase_ = 0;
             keyvalueMessage_ = null;
             onChanged();
           }
         } else {
-          if (keyvalueMessageCase_ == 2) {
+          if (keyvalueMessageCase_ == 9) {
             keyvalueMessageCase_ = 0;
             keyvalueMessage_ = null;
           }
-          clientResponseBuilder_.clear();
+          scanRequestBuilder_.clear();
         }
         return this;
       }
       /**
-       * <code>.ClientResponse clientResponse = 2;</code>
+       * <code>.ScanRequest scanRequest = 9;</code>
        */
-      public KeyValue.ClientResponse.Builder getClientResponseBuilder() {
-        return getClientResponseFieldBuilder().getBuilder();
+      public KeyValue.ScanRequest.Builder getScanRequestBuilder() {
+        return getScanRequestFieldBuilder().getBuilder();
       }
       /**
-       * <code>.ClientResponse clientResponse = 2;</code>
+       * <code>.ScanRequest scanRequest = 9;</code>
        */
-      public KeyValue.ClientResponseOrBuilder getClientResponseOrBuilder() {
-        if ((keyvalueMessageCase_ == 2) && (clientResponseBuilder_ != null)) {
-          return clientResponseBuilder_.getMessageOrBuilder();
+      public KeyValue.ScanRequestOrBuilder getScanRequestOrBuilder() {
+        if ((keyvalueMessageCase_ == 9) && (scanRequestBuilder_ != null)) {
+          return scanRequestBuilder_.getMessageOrBuilder();
         } else {
-          if (keyvalueMessageCase_ == 2) {
-            return (KeyValue.ClientResponse) keyvalueMessage_;
+          if (keyvalueMessageCase_ == 9) {
+            return (KeyValue.ScanRequest) keyvalueMessage_;
           }
-          return KeyValue.ClientResponse.getDefaultInstance();
+          return KeyValue.ScanRequest.getDefaultInstance();
         }
       }
       /**
-       * <code>.ClientResponse clientResponse = 2;</code>
+       * <code>.ScanRequest scanRequest = 9;</code>
        */
       private com.google.protobuf.SingleFieldBuilderV3<
-          KeyValue.ClientResponse, KeyValue.ClientResponse.Builder, KeyValue.ClientResponseOrBuilder> 
-          getClientResponseFieldBuilder() {
-        if (clientResponseBuilder_ == null) {
-          if (!(keyvalueMessageCase_ == 2)) {
-            keyvalueMessage_ = KeyValue.ClientResponse.getDefaultInstance();
+          KeyValue.ScanRequest, KeyValue.ScanRequest.Builder, KeyValue.ScanRequestOrBuilder> 
+          getScanRequestFieldBuilder() {
+        if (scanRequestBuilder_ == null) {
+          if (!(keyvalueMessageCase_ == 9)) {
+            keyvalueMessage_ = KeyValue.ScanRequest.getDefaultInstance();
           }
-          clientResponseBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
-              KeyValue.ClientResponse, KeyValue.ClientResponse.Builder, KeyValue.ClientResponseOrBuilder>(
-                  (KeyValue.ClientResponse) keyvalueMessage_,
+          scanRequestBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              KeyValue.ScanRequest, KeyValue.ScanRequest.Builder, KeyValue.ScanRequestOrBuilder>(
+                  (KeyValue.ScanRequest) keyvalueMessage_,
                   getParentForChildren(),
                   isClean());
           keyvalueMessage_ = null;
         }
-        keyvalueMessageCase_ = 2;
+        keyvalueMessageCase_ = 9;
         onChanged();;
-        return clientResponseBuilder_;
+        return scanRequestBuilder_;
       }
 
       private com.google.protobuf.SingleFieldBuilderV3<
-          KeyValue.ServerRequest, KeyValue.ServerRequest.Builder, KeyValue.ServerRequestOrBuilder> serverRequestBuilder_;
+          KeyValue.ScanResponse, KeyValue.ScanResponse.Builder, KeyValue.ScanResponseOrBuilder> scanResponseBuilder_;
       /**
-       * <code>.ServerRequest serverRequest = 3;</code>
+       * <code>.ScanResponse scanResponse = 10;</code>
        */
-      public boolean hasServerRequest() {
-        return keyvalueMessageCase_ == 3;
+      public boolean hasScanResponse() {
+        return keyvalueMessageCase_ == 10;
       }
       /**
-       * <code>.ServerRequest serverRequest = 3;</code>
+       * <code>.ScanResponse scanResponse = 10;</code>
        */
-      public KeyValue.ServerRequest getServerRequest() {
-        if (serverRequestBuilder_ == null) {
-          if (keyvalueMessageCase_ == 3) {
-            return (KeyValue.ServerRequest) keyvalueMessage_;
+      public KeyValue.ScanResponse getScanResponse() {
+        if (scanResponseBuilder_ == null) {
+          if (keyvalueMessageCase_ == 10) {
+            return (KeyValue.ScanResponse) keyvalueMessage_;
           }
-          return KeyValue.ServerRequest.getDefaultInstance();
+          return KeyValue.ScanResponse.getDefaultInstance();
         } else {
-          if (keyvalueMessageCase_ == 3) {
-            return serverRequestBuilder_.getMessage();
+          if (keyvalueMessageCase_ == 10) {
+            return scanResponseBuilder_.getMessage();
           }
-          return KeyValue.ServerRequest.getDefaultInstance();
+          return KeyValue.ScanResponse.getDefaultInstance();
         }
       }
       /**
-       * <code>.ServerRequest serverRequest = 3;</code>
+       * <code>.ScanResponse scanResponse = 10;</code>
        */
-      public Builder setServerRequest(KeyValue.ServerRequest value) {
-        if (serverRequestBuilder_ == null) {
+      public Builder setScanResponse(KeyValue.ScanResponse value) {
+        if (scanResponseBuilder_ == null) {
           if (value == null) {
             throw new NullPointerException();
           }
           keyvalueMessage_ = value;
           onChanged();
         } else {
-          serverRequestBuilder_.setMessage(value);
+          scanResponseBuilder_.setMessage(value);
         }
-        keyvalueMessageCase_ = 3;
+        keyvalueMessageCase_ = 10;
         return this;
       }
       /**
-       * <code>.ServerRequest serverRequest = 3;</code>
+       * <code>.ScanResponse scanResponse = 10;</code>
        */
-      public Builder setServerRequest(
-          KeyValue.ServerRequest.Builder builderForValue) {
-        if (serverRequestBuilder_ == null) {
+      public Builder setScanResponse(
+          KeyValue.ScanResponse.Builder builderForValue) {
+        if (scanResponseBuilder_ == null) {
           keyvalueMessage_ = builderForValue.build();
           onChanged();
         } else {
-          serverRequestBuilder_.setMessage(builderForValue.build());
+          scanResponseBuilder_.setMessage(builderForValue.build());
         }
-        keyvalueMessageCase_ = 3;
+        keyvalueMessageCase_ = 10;
         return this;
       }
       /**
-       * <code>.ServerRequest serverRequest = 3;</code>
+       * <code>.ScanResponse scanResponse = 10;</code>
        */
-      public Builder mergeServerRequest(KeyValue.ServerRequest value) {
-        if (serverRequestBuilder_ == null) {
-          if (keyvalueMessageCase_ == 3 &&
-              keyvalueMessage_ != KeyValue.ServerRequest.getDefaultInstance()) {
-            keyvalueMessage_ = KeyValue.ServerRequest.newBuilder((KeyValue.ServerRequest) keyvalueMessage_)
+      public Builder mergeScanResponse(KeyValue.ScanResponse value) {
+        if (scanResponseBuilder_ == null) {
+          if (keyvalueMessageCase_ == 10 &&
+              keyvalueMessage_ != KeyValue.ScanResponse.getDefaultInstance()) {
+            keyvalueMessage_ = KeyValue.ScanResponse.newBuilder((KeyValue.ScanResponse) keyvalueMessage_)
                 .mergeFrom(value).buildPartial();
           } else {
             keyvalueMessage_ = value;
           }
           onChanged();
         } else {
-          if (keyvalueMessageCase_ == 3) {
-            serverRequestBuilder_.mergeFrom(value);
+          if (keyvalueMessageCase_ == 10) {
+            scanResponseBuilder_.mergeFrom(value);
           }
-          serverRequestBuilder_.setMessage(value);
+          scanResponseBuilder_.setMessage(value);
         }
-        keyvalueMessageCase_ = 3;
+        keyvalueMessageCase_ = 10;
         return this;
       }
       /**
-       * <code>.ServerRequest serverRequest = 3;</code>
+       * <code>.ScanResponse scanResponse = 10;</code>
        */
-      public Builder clearServerRequest() {
-        if (serverRequestBuilder_ == null) {
-          if (keyvalueMessageCase_ == 3) {
+      public Builder clearScanResponse() {
+        if (scanResponseBuilder_ == null) {
+          if (keyvalueMessageCase_ == 10) {
             keyvalueMessageCase_ = 0;
             keyvalueMessage_ = null;
             onChanged();
           }
         } else {
-          if (keyvalueMessageCase_ == 3) {
+          if (keyvalueMessageCase_ == 10) {
             keyvalueMessageCase_ = 0;
             keyvalueMessage_ = null;
           }
-          serverRequestBuilder_.clear();
+          scanResponseBuilder_.clear();
         }
         return this;
       }
       /**
-       * <code>.ServerRequest serverRequest = 3;</code>
+       * <code>.ScanResponse scanResponse = 10;</code>
        */
-      public KeyValue.ServerRequest.Builder getServerRequestBuilder() {
-        return getServerRequestFieldBuilder().getBuilder();
+      public KeyValue.ScanResponse.Builder getScanResponseBuilder() {
+        return getScanResponseFieldBuilder().getBuilder();
       }
       /**
-       * <code>.ServerRequest serverRequest = 3;</code>
+       * <code>.ScanResponse scanResponse = 10;</code>
        */
-      public KeyValue.ServerRequestOrBuilder getServerRequestOrBuilder() {
-        if ((keyvalueMessageCase_ == 3) && (serverRequestBuilder_ != null)) {
-          return serverRequestBuilder_.getMessageOrBuilder();
+      public KeyValue.ScanResponseOrBuilder getScanResponseOrBuilder() {
+        if ((keyvalueMessageCase_ == 10) && (scanResponseBuilder_ != null)) {
+          return scanResponseBuilder_.getMessageOrBuilder();
         } else {
-          if (keyvalueMessageCase_ == 3) {
-            return (KeyValue.ServerRequest) keyvalueMessage_;
+          if (keyvalueMessageCase_ == 10) {
+            return (KeyValue.ScanResponse) keyvalueMessage_;
           }
-          return KeyValue.ServerRequest.getDefaultInstance();
+          return KeyValue.ScanResponse.getDefaultInstance();
         }
       }
       /**
-       * <code>.ServerRequest serverRequest = 3;</code>
+       * <code>.ScanResponse scanResponse = 10;</code>
        */
       private com.google.protobuf.SingleFieldBuilderV3<
-          KeyValue.ServerRequest, KeyValue.ServerRequest.Builder, KeyValue.ServerRequestOrBuilder> 
-          getServerRequestFieldBuilder() {
-        if (serverRequestBuilder_ == null) {
-          if (!(keyvalueMessageCase_ == 3)) {
-            keyvalueMessage_ = KeyValue.ServerRequest.getDefaultInstance();
+          KeyValue.ScanResponse, KeyValue.ScanResponse.Builder, KeyValue.ScanResponseOrBuilder> 
+          getScanResponseFieldBuilder() {
+        if (scanResponseBuilder_ == null) {
+          if (!(keyvalueMessageCase_ == 10)) {
+            keyvalueMessage_ = KeyValue.ScanResponse.getDefaultInstance();
           }
-          serverRequestBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
-              KeyValue.ServerRequest, KeyValue.ServerRequest.Builder, KeyValue.ServerRequestOrBuilder>(
-                  (KeyValue.ServerRequest) keyvalueMessage_,
+          scanResponseBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              KeyValue.ScanResponse, KeyValue.ScanResponse.Builder, KeyValue.ScanResponseOrBuilder>(
+                  (KeyValue.ScanResponse) keyvalueMessage_,
                   getParentForChildren(),
                   isClean());
           keyvalueMessage_ = null;
         }
-        keyvalueMessageCase_ = 3;
+        keyvalueMessageCase_ = 10;
         onChanged();;
-        return serverRequestBuilder_;
+        return scanResponseBuilder_;
       }
 
       private com.google.protobuf.SingleFieldBuilderV3<
-          KeyValue.ServerResponse, KeyValue.ServerResponse.Builder, KeyValue.ServerResponseOrBuilder> serverResponseBuilder_;
+          KeyValue.ScanCredit, KeyValue.ScanCredit.Builder, KeyValue.ScanCreditOrBuilder> scanCreditBuilder_;
       /**
-       * <code>.ServerResponse serverResponse = 4;</code>
+       * <code>.ScanCredit scanCredit = 11;</code>
        */
-      public boolean hasServerResponse() {
-        return keyvalueMessageCase_ == 4;
+      public boolean hasScanCredit() {
+        return keyvalueMessageCase_ == 11;
       }
       /**
-       * <code>.ServerResponse serverResponse = 4;</code>
+       * <code>.ScanCredit scanCredit = 11;</code>
        */
-      public KeyValue.ServerResponse getServerResponse() {
-        if (serverResponseBuilder_ == null) {
-          if (keyvalueMessageCase_ == 4) {
-            return (KeyValue.ServerResponse) keyvalueMessage_;
+      public KeyValue.ScanCredit getScanCredit() {
+        if (scanCreditBuilder_ == null) {
+          if (keyvalueMessageCase_ == 11) {
+            return (KeyValue.ScanCredit) keyvalueMessage_;
           }
-          return KeyValue.ServerResponse.getDefaultInstance();
+          return KeyValue.ScanCredit.getDefaultInstance();
         } else {
-          if (keyvalueMessageCase_ == 4) {
-            return serverResponseBuilder_.getMessage();
+          if (keyvalueMessageCase_ == 11) {
+            return scanCreditBuilder_.getMessage();
           }
-          return KeyValue.ServerResponse.getDefaultInstance();
+          return KeyValue.ScanCredit.getDefaultInstance();
         }
       }
       /**
-       * <code>.ServerResponse serverResponse = 4;</code>
+       * <code>.ScanCredit scanCredit = 11;</code>
        */
-      public Builder setServerResponse(KeyValue.ServerResponse value) {
-        if (serverResponseBuilder_ == null) {
+      public Builder setScanCredit(KeyValue.ScanCredit value) {
+        if (scanCreditBuilder_ == null) {
           if (value == null) {
             throw new NullPointerException();
           }
           keyvalueMessage_ = value;
           onChanged();
         } else {
-          serverResponseBuilder_.setMessage(value);
+          scanCreditBuilder_.setMessage(value);
         }
-        keyvalueMessageCase_ = 4;
+        keyvalueMessageCase_ = 11;
         return this;
       }
       /**
-       * <code>.ServerResponse serverResponse = 4;</code>
+       * <code>.ScanCredit scanCredit = 11;</code>
        */
-      public Builder setServerResponse(
-          KeyValue.ServerResponse.Builder builderForValue) {
-        if (serverResponseBuilder_ == null) {
+      public Builder setScanCredit(
+          KeyValue.ScanCredit.Builder builderForValue) {
+        if (scanCreditBuilder_ == null) {
           keyvalueMessage_ = builderForValue.build();
           onChanged();
         } else {
-          serverResponseBuilder_.setMessage(builderForValue.build());
+          scanCreditBuilder_.setMessage(builderForValue.build());
         }
-        keyvalueMessageCase_ = 4;
+        keyvalueMessageCase_ = 11;
         return this;
       }
       /**
-       * <code>.ServerResponse serverResponse = 4;</code>
+       * <code>.ScanCredit scanCredit = 11;</code>
        */
-      public Builder mergeServerResponse(KeyValue.ServerResponse value) {
-        if (serverResponseBuilder_ == null) {
-          if (keyvalueMessageCase_ == 4 &&
-              keyvalueMessage_ != KeyValue.ServerResponse.getDefaultInstance()) {
-            keyvalueMessage_ = KeyValue.ServerResponse.newBuilder((KeyValue.ServerResponse) keyvalueMessage_)
+      public Builder mergeScanCredit(KeyValue.ScanCredit value) {
+        if (scanCreditBuilder_ == null) {
+          if (keyvalueMessageCase_ == 11 &&
+              keyvalueMessage_ != KeyValue.ScanCredit.getDefaultInstance()) {
+            keyvalueMessage_ = KeyValue.ScanCredit.newBuilder((KeyValue.ScanCredit) keyvalueMessage_)
                 .mergeFrom(value).buildPartial();
           } else {
             keyvalueMessage_ = value;
           }
           onChanged();
         } else {
-          if (keyvalueMessageCase_ == 4) {
-            serverResponseBuilder_.mergeFrom(value);
+          if (keyvalueMessageCase_ == 11) {
+            scanCreditBuilder_.mergeFrom(value);
           }
-          serverResponseBuilder_.setMessage(value);
+          scanCreditBuilder_.setMessage(value);
         }
-        keyvalueMessageCase_ = 4;
+        keyvalueMessageCase_ = 11;
         return this;
       }
       /**
-       * <code>.ServerResponse serverResponse = 4;</code>
+       * <code>.ScanCredit scanCredit = 11;</code>
        */
-      public Builder clearServerResponse() {
-        if (serverResponseBuilder_ == null) {
-          if (keyvalueMessageCase_ == 4) {
+      public Builder clearScanCredit() {
+        if (scanCreditBuilder_ == null) {
+          if (keyvalueMessageCase_ == 11) {
             keyvalueMessageCase_ = 0;
             keyvalueMessage_ = null;
             onChanged();
           }
         } else {
-          if (keyvalueMessageCase_ == 4) {
+          if (keyvalueMessageCase_ == 11) {
             keyvalueMessageCase_ = 0;
             keyvalueMessage_ = null;
           }
-          serverResponseBuilder_.clear();
+          scanCreditBuilder_.clear();
         }
         return this;
       }
       /**
-       * <code>.ServerResponse serverResponse = 4;</code>
+       * <code>.ScanCredit scanCredit = 11;</code>
        */
-      public KeyValue.ServerResponse.Builder getServerResponseBuilder() {
-        return getServerResponseFieldBuilder().getBuilder();
+      public KeyValue.ScanCredit.Builder getScanCreditBuilder() {
+        return getScanCreditFieldBuilder().getBuilder();
       }
       /**
-       * <code>.ServerResponse serverResponse = 4;</code>
+       * <code>.ScanCredit scanCredit = 11;</code>
        */
-      public KeyValue.ServerResponseOrBuilder getServerResponseOrBuilder() {
-        if ((keyvalueMessageCase_ == 4) && (serverResponseBuilder_ != null)) {
-          return serverResponseBuilder_.getMessageOrBuilder();
+      public KeyValue.ScanCreditOrBuilder getScanCreditOrBuilder() {
+        if ((keyvalueMessageCase_ == 11) && (scanCreditBuilder_ != null)) {
+          return scanCreditBuilder_.getMessageOrBuilder();
         } else {
-          if (keyvalueMessageCase_ == 4) {
-            return (KeyValue.ServerResponse) keyvalueMessage_;
+          if (keyvalueMessageCase_ == 11) {
+            return (KeyValue.ScanCredit) keyvalueMessage_;
           }
-          return KeyValue.ServerResponse.getDefaultInstance();
+          return KeyValue.ScanCredit.getDefaultInstance();
         }
       }
       /**
-       * <code>.ServerResponse serverResponse = 4;</code>
+       * <code>.ScanCredit scanCredit = 11;</code>
        */
       private com.google.protobuf.SingleFieldBuilderV3<
-          KeyValue.ServerResponse, KeyValue.ServerResponse.Builder, KeyValue.ServerResponseOrBuilder> 
-          getServerResponseFieldBuilder() {
-        if (serverResponseBuilder_ == null) {
-          if (!(keyvalueMessageCase_ == 4)) {
-            keyvalueMessage_ = KeyValue.ServerResponse.getDefaultInstance();
+          KeyValue.ScanCredit, KeyValue.ScanCredit.Builder, KeyValue.ScanCreditOrBuilder> 
+          getScanCreditFieldBuilder() {
+        if (scanCreditBuilder_ == null) {
+          if (!(keyvalueMessageCase_ == 11)) {
+            keyvalueMessage_ = KeyValue.ScanCredit.getDefaultInstance();
           }
-          serverResponseBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
-              KeyValue.ServerResponse, KeyValue.ServerResponse.Builder, KeyValue.ServerResponseOrBuilder>(
-                  (KeyValue.ServerResponse) keyvalueMessage_,
+          scanCreditBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              KeyValue.ScanCredit, KeyValue.ScanCredit.Builder, KeyValue.ScanCreditOrBuilder>(
+                  (KeyValue.ScanCredit) keyvalueMessage_,
                   getParentForChildren(),
                   isClean());
           keyvalueMessage_ = null;
         }
-        keyvalueMessageCase_ = 4;
+        keyvalueMessageCase_ = 11;
         onChanged();;
-        return serverResponseBuilder_;
+        return scanCreditBuilder_;
       }
       public final Builder setUnknownFields(
           final com.google.protobuf.UnknownFieldSet unknownFields) {
@@ -4660,6 +13156,46 @@ public final class KeyValue {
   private static final 
     com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
       internal_static_ServerResponse_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_ClientBatchRequest_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_ClientBatchRequest_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_ClientBatchResponse_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_ClientBatchResponse_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_ServerBatchRequest_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_ServerBatchRequest_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_ServerBatchResponse_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_ServerBatchResponse_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_ScanRequest_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_ScanRequest_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_ScanEntry_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_ScanEntry_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_ScanResponse_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_ScanResponse_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_ScanCredit_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_ScanCredit_fieldAccessorTable;
   private static final com.google.protobuf.Descriptors.Descriptor
     internal_static_KeyValueMessage_descriptor;
   private static final 
@@ -4674,20 +13210,51 @@ public final class KeyValue {
       descriptor;
   static {
     java.lang.String[] descriptorData = {
-      "\n\016KeyValue.proto\"N\n\rClientRequest\022\013\n\003key" +
-      "\030\001 \001(\r\022\r\n\005value\030\002 \001(\t\022\014\n\004type\030\003 \001(\t\022\023\n\013c" +
-      "onsistency\030\004 \001(\t\"<\n\016ClientResponse\022\013\n\003ke" +
-      "y\030\001 \001(\r\022\r\n\005value\030\002 \001(\t\022\016\n\006status\030\003 \001(\t\"a" +
-      "\n\rServerRequest\022\013\n\003key\030\001 \001(\r\022\r\n\005value\030\002 " +
-      "\001(\t\022\021\n\ttimestamp\030\003 \001(\004\022\014\n\004type\030\004 \001(\t\022\023\n\013" +
-      "replicaname\030\005 \001(\t\"O\n\016ServerResponse\022\013\n\003k" +
-      "ey\030\001 \001(\r\022\r\n\005value\030\002 \001(\t\022\021\n\ttimestamp\030\003 \001" +
-      "(\004\022\016\n\006status\030\004 \001(\t\"\315\001\n\017KeyValueMessage\022\'" +
-      "\n\rclientRequest\030\001 \001(\0132\016.ClientRequestH\000\022" +
-      ")\n\016clientResponse\030\002 \001(\0132\017.ClientResponse" +
-      "H\000\022\'\n\rserverRequest\030\003 \001(\0132\016.ServerReques" +
-      "tH\000\022)\n\016serverResponse\030\004 \001(\0132\017.ServerResp" +
-      "onseH\000B\022\n\020keyvalue_messageb\006proto3"
+      "\n\016KeyValue.proto\"y\n\rClientRequest\022\013\n\003key" +
+      "\030\007 \001(\014\022\r\n\005value\030\002 \001(\014\022\014\n\004type\030\003 \001(\t\022\023\n\013c" +
+      "onsistency\030\004 \001(\t\022\020\n\010deadline\030\005 \001(\004\022\021\n\tre" +
+      "questid\030\006 \001(\004J\004\010\001\020\002\"U\n\016ClientResponse\022\013\n" +
+      "\003key\030\005 \001(\014\022\r\n\005value\030\002 \001(\014\022\016\n\006status\030\003 \001(" +
+      "\t\022\021\n\trequestid\030\004 \001(\004J\004\010\001\020\002\"\214\001\n\rServerReq" +
+      "uest\022\013\n\003key\030\010 \001(\014\022\r\n\005value\030\002 \001(\014\022\021\n\ttime" +
+      "stamp\030\003 \001(\004\022\014\n\004type\030\004 \001(\t\022\023\n\013replicaname" +
+      "\030\005 \001(\t\022\021\n\trequestid\030\006 \001(\004\022\020\n\010deadline\030\007 " +
+      "\001(\004J\004\010\001\020\002\"h\n\016ServerResponse\022\013\n\003key\030\006 \001(\014" +
+      "\022\r\n\005value\030\002 \001(\014\022\021\n\ttimestamp\030\003 \001(\004\022\016\n\006st" +
+      "atus\030\004 \001(\t\022\021\n\trequestid\030\005 \001(\004J\004\010\001\020\002\"[\n\022C" +
+      "lientBatchRequest\022 \n\010requests\030\001 \003(\0132\016.Cl" +
+      "ientRequest\022\020\n\010deadline\030\002 \001(\004\022\021\n\trequest" +
+      "id\030\003 \001(\004\"L\n\023ClientBatchResponse\022\"\n\trespo" +
+      "nses\030\001 \003(\0132\017.ClientResponse\022\021\n\trequestid" +
+      "\030\002 \001(\004\"p\n\022ServerBatchRequest\022 \n\010requests" +
+      "\030\001 \003(\0132\016.ServerRequest\022\023\n\013replicaname\030\002 " +
+      "\001(\t\022\021\n\trequestid\030\003 \001(\004\022\020\n\010deadline\030\004 \001(\004" +
+      "\"L\n\023ServerBatchResponse\022\"\n\tresponses\030\001 \003" +
+      "(\0132\017.ServerResponse\022\021\n\trequestid\030\002 \001(\004\"\277" +
+      "\001\n\013ScanRequest\022\020\n\010startkey\030\n \001(\014\022\016\n\006endk" +
+      "ey\030\013 \001(\014\022\r\n\005limit\030\003 \001(\r\022\023\n\013pagingtoken\030\004" +
+      " \001(\014\022\023\n\013consistency\030\005 \001(\t\022\023\n\013replicaname" +
+      "\030\006 \001(\t\022\021\n\trequestid\030\007 \001(\004\022\020\n\010deadline\030\010 " +
+      "\001(\004\022\017\n\007credits\030\t \001(\rJ\004\010\001\020\002J\004\010\002\020\003\"@\n\tScan" +
+      "Entry\022\013\n\003key\030\004 \001(\014\022\r\n\005value\030\002 \001(\014\022\021\n\ttim" +
+      "estamp\030\003 \001(\004J\004\010\001\020\002\"c\n\014ScanResponse\022\033\n\007en" +
+      "tries\030\001 \003(\0132\n.ScanEntry\022\023\n\013pagingtoken\030\002" +
+      " \001(\014\022\016\n\006status\030\003 \001(\t\022\021\n\trequestid\030\004 \001(\004\"" +
+      "@\n\nScanCredit\022\021\n\trequestid\030\001 \001(\004\022\017\n\007cred" +
+      "its\030\002 \001(\r\022\016\n\006cancel\030\003 \001(\010\"\214\004\n\017KeyValueMe" +
+      "ssage\022\'\n\rclientRequest\030\001 \001(\0132\016.ClientReq" +
+      "uestH\000\022)\n\016clientResponse\030\002 \001(\0132\017.ClientR" +
+      "esponseH\000\022\'\n\rserverRequest\030\003 \001(\0132\016.Serve" +
+      "rRequestH\000\022)\n\016serverResponse\030\004 \001(\0132\017.Ser" +
+      "verResponseH\000\0221\n\022clientBatchRequest\030\005 \001(" +
+      "\0132\023.ClientBatchRequestH\000\0223\n\023clientBatchR" +
+      "esponse\030\006 \001(\0132\024.ClientBatchResponseH\000\0221\n" +
+      "\022serverBatchRequest\030\007 \001(\0132\023.ServerBatchR" +
+      "equestH\000\0223\n\023serverBatchResponse\030\010 \001(\0132\024." +
+      "ServerBatchResponseH\000\022#\n\013scanRequest\030\t \001" +
+      "(\0132\014.ScanRequestH\000\022%\n\014scanResponse\030\n \001(\013" +
+      "2\r.ScanResponseH\000\022!\n\nscanCredit\030\013 \001(\0132\013." +
+      "ScanCreditH\000B\022\n\020keyvalue_messageb\006proto3"
     };
     com.google.protobuf.Descriptors.FileDescriptor.InternalDescriptorAssigner assigner =
         new com.google.protobuf.Descriptors.FileDescriptor.    InternalDescriptorAssigner() {
@@ -4706,31 +13273,79 @@ public final class KeyValue {
     internal_static_ClientRequest_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_ClientRequest_descriptor,
-        new java.lang.String[] { "Key", "Value", "Type", "Consistency", });
+        new java.lang.String[] { "Key", "Value", "Type", "Consistency", "Deadline", "Requestid", });
     internal_static_ClientResponse_descriptor =
       getDescriptor().getMessageTypes().get(1);
     internal_static_ClientResponse_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_ClientResponse_descriptor,
-        new java.lang.String[] { "Key", "Value", "Status", });
+        new java.lang.String[] { "Key", "Value", "Status", "Requestid", });
     internal_static_ServerRequest_descriptor =
       getDescriptor().getMessageTypes().get(2);
     internal_static_ServerRequest_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_ServerRequest_descriptor,
-        new java.lang.String[] { "Key", "Value", "Timestamp", "Type", "Replicaname", });
+        new java.lang.String[] { "Key", "Value", "Timestamp", "Type", "Replicaname", "Requestid", "Deadline", });
     internal_static_ServerResponse_descriptor =
       getDescriptor().getMessageTypes().get(3);
     internal_static_ServerResponse_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_ServerResponse_descriptor,
-        new java.lang.String[] { "Key", "Value", "Timestamp", "Status", });
-    internal_static_KeyValueMessage_descriptor =
+        new java.lang.String[] { "Key", "Value", "Timestamp", "Status", "Requestid", });
+    internal_static_ClientBatchRequest_descriptor =
       getDescriptor().getMessageTypes().get(4);
+    internal_static_ClientBatchRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_ClientBatchRequest_descriptor,
+        new java.lang.String[] { "Requests", "Deadline", "Requestid", });
+    internal_static_ClientBatchResponse_descriptor =
+      getDescriptor().getMessageTypes().get(5);
+    internal_static_ClientBatchResponse_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_ClientBatchResponse_descriptor,
+        new java.lang.String[] { "Responses", "Requestid", });
+    internal_static_ServerBatchRequest_descriptor =
+      getDescriptor().getMessageTypes().get(6);
+    internal_static_ServerBatchRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_ServerBatchRequest_descriptor,
+        new java.lang.String[] { "Requests", "Replicaname", "Requestid", "Deadline", });
+    internal_static_ServerBatchResponse_descriptor =
+      getDescriptor().getMessageTypes().get(7);
+    internal_static_ServerBatchResponse_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_ServerBatchResponse_descriptor,
+        new java.lang.String[] { "Responses", "Requestid", });
+    internal_static_ScanRequest_descriptor =
+      getDescriptor().getMessageTypes().get(8);
+    internal_static_ScanRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_ScanRequest_descriptor,
+        new java.lang.String[] { "Startkey", "Endkey", "Limit", "Pagingtoken", "Consistency", "Replicaname", "Requestid", "Deadline", "Credits", });
+    internal_static_ScanEntry_descriptor =
+      getDescriptor().getMessageTypes().get(9);
+    internal_static_ScanEntry_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_ScanEntry_descriptor,
+        new java.lang.String[] { "Key", "Value", "Timestamp", });
+    internal_static_ScanResponse_descriptor =
+      getDescriptor().getMessageTypes().get(10);
+    internal_static_ScanResponse_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_ScanResponse_descriptor,
+        new java.lang.String[] { "Entries", "Pagingtoken", "Status", "Requestid", });
+    internal_static_ScanCredit_descriptor =
+      getDescriptor().getMessageTypes().get(11);
+    internal_static_ScanCredit_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_ScanCredit_descriptor,
+        new java.lang.String[] { "Requestid", "Credits", "Cancel", });
+    internal_static_KeyValueMessage_descriptor =
+      getDescriptor().getMessageTypes().get(12);
     internal_static_KeyValueMessage_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_KeyValueMessage_descriptor,
-        new java.lang.String[] { "ClientRequest", "ClientResponse", "ServerRequest", "ServerResponse", "KeyvalueMessage", });
+        new java.lang.String[] { "ClientRequest", "ClientResponse", "ServerRequest", "ServerResponse", "ClientBatchRequest", "ClientBatchResponse", "ServerBatchRequest", "ServerBatchResponse", "ScanRequest", "ScanResponse", "ScanCredit", "KeyvalueMessage", });
   }
 
   // @@protoc_insertion_point(outer_class_scope)
@@ -0,0 +1,473 @@
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import com.google.protobuf.ByteString;
+
+/**
+ * Class representing a client of the key-value store which sends every
+ *  request straight to a replica owning the key. It builds the same token
+ *  ring as the replicas from the replicas file, so the coordinator of a
+ *  request answers for itself instead of forwarding it to the owners.
+ *  The owners of a key take turns as coordinator, and a request falls back
+ *  to the next owner when one cannot be reached. The ring settings
+ *  (kv.virtualNodes, kv.replicationFactor) have to match the replicas.
+ * Requests are sent without waiting over a few long-lived connections per
+ *  replica (kv.peerConnections), many of them outstanding on a connection
+ *  at once. Neither sending nor connecting blocks the caller. The futures
+ *  complete on the thread reading the connection, so their callbacks should
+ *  not block; the fallbacks to other replicas run on threads of the client.
+ * The class is thread-safe
+ */
+public class KeyValueClient implements Closeable
+{
+	private HashMap<String, Replica> replicas;
+	private List<String> replicaNames;
+	private Partitioner partitioner;
+	private PeerConnectionPool connectionPool;
+	private AtomicInteger nextOwner;
+	private ExecutorService fallbackExecutor;
+
+	/**
+	 * @param replicas The replicas of the store
+	 */
+	public KeyValueClient(List<Replica> replicas)
+	{
+		this.replicas = new HashMap<String, Replica>();
+		replicaNames = new ArrayList<String>();
+		for(Replica replica : replicas)
+		{
+			this.replicas.put(replica.getReplicaName(), replica);
+			replicaNames.add(replica.getReplicaName());
+		}
+		partitioner = new TokenRing(replicaNames, Config.VIRTUAL_NODES, Config.REPLICATION_FACTOR);
+		connectionPool = new PeerConnectionPool(this.replicas);
+		nextOwner = new AtomicInteger();
+
+		//Sending again to the next replica off the threads reading the connections and timing out the requests
+		fallbackExecutor = Executors.newCachedThreadPool(runnable ->
+		{
+			Thread thread = new Thread(runnable, "kv-client-fallback");
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	/**
+	 * Function for creating a client from a replicas file
+	 * @param replicasFilePath The path to the file, in the format "ReplicaName IP Port"
+	 * @return The client
+	 * @throws IOException When the file cannot be read
+	 */
+	public static KeyValueClient fromReplicasFile(String replicasFilePath) throws IOException
+	{
+		List<Replica> replicas = new ArrayList<Replica>();
+		FileProcessor fp = new FileProcessor(replicasFilePath);
+		String line = null;
+		while((line = fp.readLine()) != null)
+		{
+			if(line.isEmpty())
+				continue;
+
+			String arr[] = line.split("\\s");
+			Replica replica = new Replica();
+			replica.setReplicaName(arr[0]);
+			replica.setIp(arr[1]);
+			replica.setPort(Integer.parseInt(arr[2]));
+			replicas.add(replica);
+		}
+		return new KeyValueClient(replicas);
+	}
+
+	/**
+	 * Function for reading the value of a key without waiting for the response
+	 * @param key The key
+	 * @param consistency ONE or QUORUM
+	 * @return The future completed with the response of the coordinator, or
+	 *  completed exceptionally when no owner of the key answered in time
+	 */
+	public CompletableFuture<KeyValue.ClientResponse> getAsync(ByteString key, String consistency)
+	{
+		KeyValue.ClientRequest.Builder request = KeyValue.ClientRequest.newBuilder();
+		request.setKey(key);
+		request.setType("GET");
+		request.setConsistency(consistency);
+		return send(request);
+	}
+
+	/**
+	 * Function for writing the value of a key without waiting for the response
+	 * @param key The key
+	 * @param value The value
+	 * @param consistency ONE or QUORUM
+	 * @return The future completed with the response of the coordinator, or
+	 *  completed exceptionally when no owner of the key answered in time
+	 */
+	public CompletableFuture<KeyValue.ClientResponse> putAsync(ByteString key, ByteString value, String consistency)
+	{
+		KeyValue.ClientRequest.Builder request = KeyValue.ClientRequest.newBuilder();
+		request.setKey(key);
+		request.setType("PUT");
+		request.setValue(value);
+		request.setConsistency(consistency);
+		return send(request);
+	}
+
+	/**
+	 * Function for reading the value of a key
+	 * @param key The key
+	 * @param consistency ONE or QUORUM
+	 * @return The response of the coordinator
+	 * @throws IOException When no owner of the key answered in time
+	 */
+	public KeyValue.ClientResponse get(ByteString key, String consistency) throws IOException
+	{
+		return await(getAsync(key, consistency));
+	}
+
+	/**
+	 * Function for writing the value of a key
+	 * @param key The key
+	 * @param value The value
+	 * @param consistency ONE or QUORUM
+	 * @return The response of the coordinator
+	 * @throws IOException When no owner of the key answered in time
+	 */
+	public KeyValue.ClientResponse put(ByteString key, ByteString value, String consistency) throws IOException
+	{
+		return await(putAsync(key, value, consistency));
+	}
+
+	/**
+	 * Function for reading the values of several keys without waiting for
+	 *  the responses. The keys are sent in one message per coordinator
+	 * @param keys The keys
+	 * @param consistency ONE or QUORUM
+	 * @return The future completed with the responses, in the order of the keys
+	 */
+	public CompletableFuture<List<KeyValue.ClientResponse>> getAllAsync(List<ByteString> keys, String consistency)
+	{
+		List<KeyValue.ClientRequest.Builder> requests = new ArrayList<KeyValue.ClientRequest.Builder>();
+		for(ByteString key : keys)
+		{
+			KeyValue.ClientRequest.Builder request = KeyValue.ClientRequest.newBuilder();
+			request.setKey(key);
+			request.setType("GET");
+			request.setConsistency(consistency);
+			requests.add(request);
+		}
+		return sendBatch(requests);
+	}
+
+	/**
+	 * Function for writing the values of several keys without waiting for
+	 *  the responses. The keys are sent in one message per coordinator
+	 * @param values The values by key
+	 * @param consistency ONE or QUORUM
+	 * @return The future completed with the responses, in the iteration order of the values
+	 */
+	public CompletableFuture<List<KeyValue.ClientResponse>> putAllAsync(Map<ByteString, ByteString> values, String consistency)
+	{
+		List<KeyValue.ClientRequest.Builder> requests = new ArrayList<KeyValue.ClientRequest.Builder>();
+		for(Map.Entry<ByteString, ByteString> value : values.entrySet())
+		{
+			KeyValue.ClientRequest.Builder request = KeyValue.ClientRequest.newBuilder();
+			request.setKey(value.getKey());
+			request.setType("PUT");
+			request.setValue(value.getValue());
+			request.setConsistency(consistency);
+			requests.add(request);
+		}
+		return sendBatch(requests);
+	}
+
+	/**
+	 * Function for reading the values of several keys
+	 * @param keys The keys
+	 * @param consistency ONE or QUORUM
+	 * @return The responses, in the order of the keys
+	 * @throws IOException When no owner of a key answered in time
+	 */
+	public List<KeyValue.ClientResponse> getAll(List<ByteString> keys, String consistency) throws IOException
+	{
+		return await(getAllAsync(keys, consistency));
+	}
+
+	/**
+	 * Function for writing the values of several keys
+	 * @param values The values by key
+	 * @param consistency ONE or QUORUM
+	 * @return The responses, in the iteration order of the values
+	 * @throws IOException When no owner of a key answered in time
+	 */
+	public List<KeyValue.ClientResponse> putAll(Map<ByteString, ByteString> values, String consistency) throws IOException
+	{
+		return await(putAllAsync(values, consistency));
+	}
+
+	/**
+	 * Function for reading a page of the entries of a range of keys without
+	 *  waiting for the response. Any replica coordinates a scan, they take
+	 *  turns and the scan falls back to the next one when one cannot be reached
+	 * @param startKey The first key of the range
+	 * @param endKey The last key of the range, included, empty for a range without end
+	 * @param limit The largest number of entries of the page, 0 for kv.scanPageSize
+	 * @param pagingToken The paging token of the previous page, empty for the first page
+	 * @param consistency ONE or QUORUM
+	 * @return The future completed with the page in key order, whose
+	 *  paging token is empty once the range is exhausted
+	 */
+	public CompletableFuture<KeyValue.ScanResponse> scanAsync(ByteString startKey, ByteString endKey, int limit, ByteString pagingToken, String consistency)
+	{
+		KeyValue.ScanRequest.Builder request = KeyValue.ScanRequest.newBuilder();
+		request.setStartkey(startKey);
+		request.setEndkey(endKey);
+		request.setLimit(limit);
+		request.setPagingtoken(pagingToken);
+		request.setConsistency(consistency);
+		request.setDeadline(System.currentTimeMillis() + Config.REQUEST_TIMEOUT);
+		return sendScan(request, Math.floorMod(nextOwner.getAndIncrement(), replicaNames.size()), 0);
+	}
+
+	/**
+	 * Function for reading a page of the entries of a range of keys
+	 * @param startKey The first key of the range
+	 * @param endKey The last key of the range, included, empty for a range without end
+	 * @param limit The largest number of entries of the page, 0 for kv.scanPageSize
+	 * @param pagingToken The paging token of the previous page, empty for the first page
+	 * @param consistency ONE or QUORUM
+	 * @return The page in key order, whose paging token is empty once
+	 *  the range is exhausted
+	 * @throws IOException When no replica answered in time
+	 */
+	public KeyValue.ScanResponse scan(ByteString startKey, ByteString endKey, int limit, ByteString pagingToken, String consistency) throws IOException
+	{
+		return await(scanAsync(startKey, endKey, limit, pagingToken, consistency));
+	}
+
+	/**
+	 * Function for streaming the entries of a whole range of keys. The
+	 *  coordinator sends them in chunks as it reads them, at most
+	 *  kv.scanCredits chunks ahead of the caller, so the range never has to
+	 *  fit in memory
+	 * @param startKey The first key of the range
+	 * @param endKey The last key of the range, included, empty for a range without end
+	 * @param chunkSize The number of entries of a chunk, 0 for kv.scanPageSize
+	 * @param consistency ONE or QUORUM
+	 * @return The stream of the entries in key order, to be closed
+	 *  when it is left before the end of the range
+	 */
+	public ScanStream scanStream(ByteString startKey, ByteString endKey, int chunkSize, String consistency)
+	{
+		KeyValue.ScanRequest.Builder request = KeyValue.ScanRequest.newBuilder();
+		request.setStartkey(startKey);
+		request.setEndkey(endKey);
+		request.setLimit(chunkSize);
+		request.setConsistency(consistency);
+		request.setCredits(Config.SCAN_CREDITS);
+		return new ScanStream(connectionPool, replicaNames, Math.floorMod(nextOwner.getAndIncrement(), replicaNames.size()), request);
+	}
+
+	/**
+	 * Function for sending a scan to one replica, and to the next replica if
+	 *  it fails while the deadline has not passed
+	 * @param request The scan
+	 * @param first The position of the first replica tried
+	 * @param attempt The number of replicas tried before
+	 * @return The future completed with the page
+	 */
+	private CompletableFuture<KeyValue.ScanResponse> sendScan(KeyValue.ScanRequest.Builder request, int first, int attempt)
+	{
+		String coordinator = replicaNames.get((first + attempt) % replicaNames.size());
+		return connectionPool.send(coordinator, request.clone()).handle((message, e) ->
+		{
+			if(e == null)
+				return CompletableFuture.completedFuture(message.getScanResponse());
+
+			//Trying the next replica
+			if(attempt + 1 < replicaNames.size() && request.getDeadline() > System.currentTimeMillis())
+				return fallback(() -> sendScan(request, first, attempt + 1));
+			return CompletableFuture.<KeyValue.ScanResponse>failedFuture(e);
+		}).thenCompose(response -> response);
+	}
+
+	/**
+	 * Function for sending requests grouped by coordinator, one owner of
+	 *  every key. The keys of a batch which fails are sent again one by one
+	 *  to their other owners
+	 * @param requests The requests, their deadline is set here
+	 * @return The future completed with the responses, in the order of the requests
+	 */
+	private CompletableFuture<List<KeyValue.ClientResponse>> sendBatch(List<KeyValue.ClientRequest.Builder> requests)
+	{
+		long deadline = System.currentTimeMillis() + Config.REQUEST_TIMEOUT;
+		int turn = nextOwner.getAndIncrement();
+
+		//Grouping the keys by coordinator, the same turn of owners for every key
+		HashMap<String, List<Integer>> requestsByCoordinator = new HashMap<String, List<Integer>>();
+		int[] coordinators = new int[requests.size()];
+		for(int i = 0; i < requests.size(); i++)
+		{
+			KeyValue.ClientRequest.Builder request = requests.get(i);
+			request.setDeadline(deadline);
+			List<String> owners = getOwners(request.getKey());
+			coordinators[i] = Math.floorMod(turn, owners.size());
+			requestsByCoordinator.computeIfAbsent(owners.get(coordinators[i]), name -> new ArrayList<Integer>()).add(i);
+		}
+
+		List<CompletableFuture<KeyValue.ClientResponse>> responses = new ArrayList<CompletableFuture<KeyValue.ClientResponse>>(Collections.nCopies(requests.size(), null));
+		for(Map.Entry<String, List<Integer>> coordinatorRequests : requestsByCoordinator.entrySet())
+		{
+			List<Integer> indexes = coordinatorRequests.getValue();
+			KeyValue.ClientBatchRequest.Builder batchRequest = KeyValue.ClientBatchRequest.newBuilder();
+			for(int i : indexes)
+			{
+				batchRequest.addRequests(requests.get(i));
+			}
+			batchRequest.setDeadline(deadline);
+
+			CompletableFuture<KeyValue.KeyValueMessage> batchResponse = connectionPool.send(coordinatorRequests.getKey(), batchRequest);
+			for(int j = 0; j < indexes.size(); j++)
+			{
+				int position = j;
+				int i = indexes.get(j);
+				responses.set(i, batchResponse.handle((message, e) ->
+				{
+					if(e == null && message.hasClientBatchResponse() && message.getClientBatchResponse().getResponsesCount() == indexes.size())
+						return CompletableFuture.completedFuture(message.getClientBatchResponse().getResponses(position));
+
+					//Trying the next owners of the key
+					List<String> owners = getOwners(requests.get(i).getKey());
+					if(owners.size() > 1 && deadline > System.currentTimeMillis())
+						return fallback(() -> sendToOwner(requests.get(i), owners, coordinators[i], 1));
+					return CompletableFuture.<KeyValue.ClientResponse>failedFuture(e != null ? e : new IOException("Unexpected response from " + coordinatorRequests.getKey()));
+				}).thenCompose(response -> response));
+			}
+		}
+
+		return CompletableFuture.allOf(responses.toArray(new CompletableFuture<?>[0])).thenApply(done ->
+		{
+			List<KeyValue.ClientResponse> results = new ArrayList<KeyValue.ClientResponse>(responses.size());
+			for(CompletableFuture<KeyValue.ClientResponse> response : responses)
+			{
+				results.add(response.join());
+			}
+			return results;
+		});
+	}
+
+	/**
+	 * Function for sending a request to the owners of its key in turn, until
+	 *  one of them answers
+	 * @param request The request, its deadline is set here
+	 * @return The future completed with the response of the coordinator
+	 */
+	private CompletableFuture<KeyValue.ClientResponse> send(KeyValue.ClientRequest.Builder request)
+	{
+		request.setDeadline(System.currentTimeMillis() + Config.REQUEST_TIMEOUT);
+		List<String> owners = getOwners(request.getKey());
+		int first = Math.floorMod(nextOwner.getAndIncrement(), owners.size());
+		return sendToOwner(request, owners, first, 0);
+	}
+
+	/**
+	 * Function for sending a request to one owner of its key, and to the next
+	 *  owner if it fails while the deadline has not passed
+	 * @param request The request
+	 * @param owners The owners of the key
+	 * @param first The position of the first owner tried
+	 * @param attempt The number of owners tried before
+	 * @return The future completed with the response of the coordinator
+	 */
+	private CompletableFuture<KeyValue.ClientResponse> sendToOwner(KeyValue.ClientRequest.Builder request, List<String> owners, int first, int attempt)
+	{
+		String owner = owners.get((first + attempt) % owners.size());
+		return connectionPool.send(owner, request.clone()).handle((message, e) ->
+		{
+			if(e == null)
+				return CompletableFuture.completedFuture(message.getClientResponse());
+
+			//Trying the next owner of the key
+			if(attempt + 1 < owners.size() && request.getDeadline() > System.currentTimeMillis())
+				return fallback(() -> sendToOwner(request, owners, first, attempt + 1));
+			return CompletableFuture.<KeyValue.ClientResponse>failedFuture(e);
+		}).thenCompose(response -> response);
+	}
+
+	/**
+	 * Function for sending a request again on the fallback executor, since
+	 *  the failure of the previous attempt completes on the thread reading
+	 *  its connection or on the thread timing out the requests
+	 * @param attempt Sends the request to the next replica
+	 * @return The future completed with the response of the next replica
+	 */
+	private <T> CompletableFuture<T> fallback(Supplier<CompletableFuture<T>> attempt)
+	{
+		return CompletableFuture.supplyAsync(attempt, fallbackExecutor).thenCompose(response -> response);
+	}
+
+	/**
+	 * Function for waiting for the response of a request
+	 * @param response The future of the response
+	 * @return The response
+	 * @throws IOException When the request failed or timed out
+	 */
+	private static <T> T await(CompletableFuture<T> response) throws IOException
+	{
+		try
+		{
+			return response.get();
+		}
+		catch(ExecutionException e)
+		{
+			if(e.getCause() instanceof IOException)
+				throw (IOException)e.getCause();
+			if(e.getCause() instanceof TimeoutException)
+				throw new IOException("No response within " + Config.REQUEST_TIMEOUT + " ms");
+			throw new IOException(e.getCause());
+		}
+		catch(InterruptedException e)
+		{
+			Thread.currentThread().interrupt();
+			throw new IOException(e);
+		}
+	}
+
+	/**
+	 * Function for getting the replicas owning a key
+	 * @param key The key
+	 * @return The names of the owners
+	 */
+	public List<String> getOwners(ByteString key)
+	{
+		return partitioner.getOwners(key);
+	}
+
+	/**
+	 * Function for closing the connections, failing the requests which are
+	 *  still waiting for a response
+	 */
+	@Override
+	public void close()
+	{
+		connectionPool.close();
+		fallbackExecutor.shutdown();
+	}
+
+	@Override
+	public String toString()
+	{
+		return "KeyValueClient [replicas=" + replicas.keySet() + ", " + partitioner + "]";
+	}
+}
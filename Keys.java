@@ -0,0 +1,139 @@
+import java.nio.ByteBuffer;
+import java.util.Comparator;
+
+import com.google.protobuf.ByteString;
+
+/**
+ * Class holding the operations on keys. A key is a string of up to
+ *  kv.maxKeySize bytes, keys are ordered by their unsigned bytes and a key
+ *  comes before the longer keys it starts. The keys of earlier versions were
+ *  unsigned 32 bit integers, they are the keys of 4 bytes holding the
+ *  integer in big-endian order: those sort like the integers did and keep
+ *  their hash, so their owners on the ring and the Bloom filters of the
+ *  tables written before stay the same
+ */
+public class Keys
+{
+	//The order of the keys
+	static final Comparator<ByteString> ORDER = Keys::compare;
+
+	//Appended to a key to get the first key after it
+	private static final ByteString ZERO = ByteString.copyFrom(new byte[1]);
+
+	private Keys()
+	{
+	}
+
+	/**
+	 * Function for comparing two keys by their unsigned bytes
+	 * @param a The first key
+	 * @param b The second key
+	 * @return A negative number, zero or a positive number as a comes before, is equal to or comes after b
+	 */
+	static int compare(ByteString a, ByteString b)
+	{
+		int length = Math.min(a.size(), b.size());
+		for(int i = 0; i < length; i++)
+		{
+			int byBytes = Integer.compare(a.byteAt(i) & 0xFF, b.byteAt(i) & 0xFF);
+			if(byBytes != 0)
+				return byBytes;
+		}
+		return Integer.compare(a.size(), b.size());
+	}
+
+	/**
+	 * Function for checking if a key is not after the end of a range
+	 * @param key The key
+	 * @param endKey The last key of the range, empty for a range without end
+	 * @return Returns true if the key is not after the end key
+	 */
+	static boolean notAfter(ByteString key, ByteString endKey)
+	{
+		return endKey.isEmpty() || compare(key, endKey) <= 0;
+	}
+
+	/**
+	 * Function for getting the first key after a key, which continues a range
+	 *  after it
+	 * @param key The key
+	 * @return The key followed by a zero byte
+	 */
+	static ByteString successor(ByteString key)
+	{
+		return key.concat(ZERO);
+	}
+
+	/**
+	 * Function for checking if a client may read or write a key
+	 * @param key The key
+	 * @return Returns true if the key is not empty and not longer than kv.maxKeySize
+	 */
+	static boolean isValid(ByteString key)
+	{
+		return !key.isEmpty() && key.size() <= Config.MAX_KEY_SIZE;
+	}
+
+	/**
+	 * Function for getting the key of an unsigned 32 bit integer key of the
+	 *  earlier versions
+	 * @param key The integer key
+	 * @return The 4 bytes of the integer in big-endian order
+	 */
+	static ByteString ofInt(int key)
+	{
+		return ByteString.copyFrom(ByteBuffer.allocate(4).putInt(0, key));
+	}
+
+	/**
+	 * Function for spreading the bytes of a key over 64 bits. The keys of 4
+	 *  bytes get the hash their integer had
+	 * @param key The key
+	 * @return The hash of the key
+	 */
+	static long hash(ByteString key)
+	{
+		if(key.size() == 4)
+			return mix(key.asReadOnlyByteBuffer().getInt());
+
+		long h = key.size() * 0x9E3779B97F4A7C15L;
+		for(int i = 0; i < key.size(); i++)
+		{
+			h = (h ^ (key.byteAt(i) & 0xFF)) * 0xBF58476D1CE4E5B9L;
+			h ^= h >>> 29;
+		}
+		return mix((int)h ^ (int)(h >>> 32)) ^ h;
+	}
+
+	/**
+	 * Function for spreading the bits of an integer over 64 bits
+	 * @param value The integer
+	 * @return The hash of the integer
+	 */
+	static long mix(int value)
+	{
+		long h = value * 0x9E3779B97F4A7C15L;
+		h = (h ^ (h >>> 30)) * 0xBF58476D1CE4E5B9L;
+		h = (h ^ (h >>> 27)) * 0x94D049BB133111EBL;
+		return h ^ (h >>> 31);
+	}
+
+	/**
+	 * Function for printing a key, as text when it is printable UTF-8 and as
+	 *  hexadecimal bytes otherwise
+	 * @param key The key
+	 * @return The printable form of the key
+	 */
+	static String toString(ByteString key)
+	{
+		if(key.isValidUtf8() && key.toStringUtf8().chars().allMatch(c -> c >= 0x20 && c != 0x7F))
+			return key.toStringUtf8();
+
+		StringBuilder builder = new StringBuilder("0x");
+		for(int i = 0; i < key.size(); i++)
+		{
+			builder.append(String.format("%02x", key.byteAt(i) & 0xFF));
+		}
+		return builder.toString();
+	}
+}
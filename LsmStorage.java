@@ -0,0 +1,970 @@
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.ClosedChannelException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import com.google.protobuf.ByteString;
+
+/**
+ * Class representing a log-structured merge storage engine. Writes go to a
+ *  sorted in-memory memtable. Once the memtable reaches the memtable size it
+ *  is frozen and a background thread flushes it to an immutable sorted table
+ *  file, so the data held is not limited by the memory. Reads look at the
+ *  memtable, then the frozen memtables and then the tables, from the newest
+ *  to the oldest, and keep the entry with the latest timestamp.
+ * The write-ahead log stays the commit log: a checkpoint flushes every
+ *  memtable, after which the log segments are no longer needed.
+ * The tables written by versions before byte keys are rewritten once when
+ *  the storage opens them, see SortedTable.upgrade.
+ * A background thread compacts the tables: adjacent tables of similar size
+ *  are merged into one once there are enough of them, keeping only the
+ *  latest entry of every key. The merged table is written under a new
+ *  number and takes the place and the sequence of the newest table it
+ *  replaces, so a table file is never overwritten while reads of an older
+ *  version may still open it. The class is thread-safe
+ */
+public class LsmStorage implements StorageEngine
+{
+	//Suffix of the table files, which are numbered in the order they are written
+	static final String TABLE_SUFFIX = ".sst";
+
+	//Tables whose sizes have the same base 4 logarithm are compacted together
+	static final int TIER_BITS = 2;
+
+	private Path directory;
+	private long memtableSize;
+	private int indexInterval;
+	private Object[] locks;
+	private ReadWriteLock switchLock;
+	private volatile Version version;
+	private AtomicLong nextTableNumber;
+	private ExecutorService flushExecutor;
+	private int compactionThreshold;
+	private long compactionRate;
+	private ExecutorService compactionExecutor;
+	private AtomicLong compactions;
+	private AtomicLong compactedBytes;
+	private AtomicLong reclaimedBytes;
+	private AtomicLong tableReads;
+	private AtomicLong filteredReads;
+
+	/**
+	 * Class representing a memtable with the estimated bytes of its entries,
+	 *  which are counted by the puts that wrote them
+	 */
+	private static class Memtable
+	{
+		private ConcurrentSkipListMap<ByteString, DataStoreEntry> entries = new ConcurrentSkipListMap<ByteString, DataStoreEntry>(Keys.ORDER);
+		private AtomicLong bytes = new AtomicLong();
+	}
+
+	/**
+	 * Class representing the memtables and tables at one point in time. A new
+	 *  version replaces the previous one whenever they change, so that reads
+	 *  see either a memtable or the table it was flushed to
+	 */
+	private static class Version
+	{
+		private Memtable memtable;
+		private List<Memtable> frozen;
+		private List<SortedTable> tables;
+
+		private Version(Memtable memtable, List<Memtable> frozen, List<SortedTable> tables)
+		{
+			this.memtable = memtable;
+			this.frozen = Collections.unmodifiableList(frozen);
+			this.tables = Collections.unmodifiableList(tables);
+		}
+	}
+
+	/**
+	 * @param directory The directory of the table files, created if missing
+	 * @param memtableSize The approximate bytes of a memtable before it is flushed
+	 * @param indexInterval The bytes of records between two entries of a table index
+	 * @param stripes The number of locks handed out by lockFor
+	 * @param compactionThreshold The number of similar tables which are compacted together
+	 * @param compactionRate The bytes per second a compaction may write, 0 for no limit
+	 * @throws IOException When the tables cannot be opened
+	 */
+	public LsmStorage(Path directory, long memtableSize, int indexInterval, int stripes, int compactionThreshold, long compactionRate) throws IOException
+	{
+		this.directory = directory;
+		this.memtableSize = memtableSize;
+		this.indexInterval = indexInterval;
+		this.compactionThreshold = Math.max(2, compactionThreshold);
+		this.compactionRate = compactionRate;
+		Files.createDirectories(directory);
+
+		int count = Integer.highestOneBit(Math.max(2, stripes) - 1) << 1;
+		locks = new Object[count];
+		for(int i = 0; i < count; i++)
+		{
+			locks[i] = new Object();
+		}
+		switchLock = new ReentrantReadWriteLock();
+		compactions = new AtomicLong();
+		compactedBytes = new AtomicLong();
+		reclaimedBytes = new AtomicLong();
+		tableReads = new AtomicLong();
+		filteredReads = new AtomicLong();
+
+		//Opening the tables, flushes and compactions interrupted by a crash left only temporary files
+		TreeMap<Long, Path> tableFiles = new TreeMap<Long, Path>(Collections.reverseOrder());
+		try(DirectoryStream<Path> files = Files.newDirectoryStream(directory))
+		{
+			for(Path file : files)
+			{
+				String name = file.getFileName().toString();
+				if(name.endsWith(TABLE_SUFFIX + ".tmp"))
+				{
+					Files.delete(file);
+				}
+				else if(name.endsWith(TABLE_SUFFIX))
+				{
+					tableFiles.put(numberOf(file), file);
+				}
+			}
+		}
+		List<SortedTable> tables = new ArrayList<SortedTable>();
+		for(Path file : tableFiles.values())
+		{
+			tables.add(SortedTable.open(file));
+		}
+		nextTableNumber = new AtomicLong(tableFiles.isEmpty() ? 1 : tableFiles.firstKey() + 1);
+
+		//Rewriting the tables of int keys under a new number, a crash in between leaves both with the same entries
+		for(int i = 0; i < tables.size(); i++)
+		{
+			SortedTable table = tables.get(i);
+			if(table.getVersion() < SortedTable.VERSION)
+			{
+				SortedTable upgraded = table.upgrade(directory.resolve(nextTableNumber.getAndIncrement() + TABLE_SUFFIX), indexInterval,
+						Config.BLOOM_BITS_PER_KEY, sequenceOf(table));
+				table.close();
+				Files.delete(table.getPath());
+				tables.set(i, upgraded);
+				System.out.println("Upgraded " + table.getPath() + " to " + upgraded.getPath());
+			}
+		}
+
+		/*Ordering the tables from the newest by sequence, the tables written
+		   before the sequence was stored take their number. A crash between a
+		   compaction and the deletion of its tables leaves the merged table
+		   next to them with the same sequence, it comes first as its number
+		   is higher*/
+		tables.sort((a, b) ->
+		{
+			int bySequence = Long.compare(sequenceOf(b), sequenceOf(a));
+			return bySequence != 0 ? bySequence : Long.compare(numberOf(b.getPath()), numberOf(a.getPath()));
+		});
+		version = new Version(new Memtable(), new ArrayList<Memtable>(), tables);
+
+		flushExecutor = Executors.newSingleThreadExecutor(runnable ->
+		{
+			Thread thread = new Thread(runnable, "lsm-flush");
+			thread.setDaemon(true);
+			return thread;
+		});
+		compactionExecutor = Executors.newSingleThreadExecutor(runnable ->
+		{
+			Thread thread = new Thread(runnable, "lsm-compaction");
+			thread.setDaemon(true);
+			thread.setPriority(Thread.MIN_PRIORITY);
+			return thread;
+		});
+
+		//Catching up with the tables left by the previous run
+		compactionExecutor.execute(this::compact);
+	}
+
+	@Override
+	public ByteString getValue(ByteString key)
+	{
+		DataStoreEntry entry = getEntry(key);
+		return entry == null ? null : entry.getValue();
+	}
+
+	@Override
+	public long getTimestamp(ByteString key)
+	{
+		DataStoreEntry entry = getEntry(key);
+		return entry == null ? NO_TIMESTAMP : entry.getTimestamp();
+	}
+
+	@Override
+	public DataStoreEntry getEntry(ByteString key)
+	{
+		while(true)
+		{
+			Version current = version;
+			DataStoreEntry latest = current.memtable.entries.get(key);
+			for(Memtable memtable : current.frozen)
+			{
+				latest = newer(latest, memtable.entries.get(key));
+			}
+			try
+			{
+				for(SortedTable table : current.tables)
+				{
+					//Most tables lack most keys, their filter answers without reading the file
+					if(!table.mightContain(key))
+					{
+						filteredReads.incrementAndGet();
+						continue;
+					}
+					tableReads.incrementAndGet();
+					latest = newer(latest, table.get(key));
+				}
+				return latest;
+			}
+			catch(ClosedChannelException e)
+			{
+				//A compaction replaced the table, reading again from the new version
+				if(version == current)
+					throw new UncheckedIOException(e);
+			}
+			catch(IOException e)
+			{
+				throw new UncheckedIOException(e);
+			}
+		}
+	}
+
+	@Override
+	public void put(ByteString key, ByteString value, long timestamp)
+	{
+		DataStoreEntry entry = new DataStoreEntry();
+		entry.setValue(value);
+		entry.setTimestamp(timestamp);
+
+		//A memtable is never written once it is frozen, its bytes are counted with its entries
+		Memtable memtable;
+		long bytes;
+		switchLock.readLock().lock();
+		try
+		{
+			memtable = version.memtable;
+			memtable.entries.put(key, entry);
+			bytes = memtable.bytes.addAndGet(estimateSize(key, value));
+		}
+		finally
+		{
+			switchLock.readLock().unlock();
+		}
+
+		/*Freezing the memtable the put wrote to once it is full, the puts racing
+		   with the freeze find it frozen and a full memtable is frozen only once*/
+		if(bytes >= memtableSize && version.memtable == memtable && freezeMemtable(memtable))
+		{
+			flushExecutor.execute(this::flushInBackground);
+		}
+	}
+
+	@Override
+	public boolean putIfNewer(ByteString key, ByteString value, long timestamp)
+	{
+		synchronized(lockFor(key))
+		{
+			return StorageEngine.super.putIfNewer(key, value, timestamp);
+		}
+	}
+
+	@Override
+	public Object lockFor(ByteString key)
+	{
+		int h = key.hashCode() * 0x85EBCA6B;
+		return locks[(h ^ (h >>> 15)) & (locks.length - 1)];
+	}
+
+	/**
+	 * Function for counting the keys, which merges every memtable and table
+	 * @return The number of keys
+	 */
+	@Override
+	public int size()
+	{
+		int[] size = {0};
+		forEach((key, value, timestamp) -> size[0]++);
+		return size[0];
+	}
+
+	/**
+	 * Function for visiting every entry in key order, merging every memtable
+	 *  and table. The tables are read sequentially
+	 * @param visitor The visitor called for every entry
+	 */
+	@Override
+	public void forEach(EntryVisitor visitor)
+	{
+		try(MergeIterator entries = openMergeIterator())
+		{
+			while(entries.hasNext())
+			{
+				Map.Entry<ByteString, DataStoreEntry> entry = entries.next();
+				visitor.visit(entry.getKey(), entry.getValue().getValue(), entry.getValue().getTimestamp());
+			}
+		}
+		catch(IOException e)
+		{
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * Function for reading the entries of a range of keys. Every table is read
+	 *  from the indexed record before the start of the range
+	 * @param startKey The first key of the range
+	 * @param endKey The last key of the range, included, empty for a range without end
+	 * @param limit The largest number of entries returned
+	 * @return The first entries of the range in key order
+	 */
+	@Override
+	public List<Map.Entry<ByteString, DataStoreEntry>> scan(ByteString startKey, ByteString endKey, int limit)
+	{
+		List<Map.Entry<ByteString, DataStoreEntry>> entries = new ArrayList<Map.Entry<ByteString, DataStoreEntry>>();
+		if(limit <= 0 || !Keys.notAfter(startKey, endKey))
+			return entries;
+
+		try(MergeIterator merged = openMergeIterator(startKey, endKey))
+		{
+			while(merged.hasNext() && entries.size() < limit)
+			{
+				Map.Entry<ByteString, DataStoreEntry> entry = merged.next();
+				if(!Keys.notAfter(entry.getKey(), endKey))
+					break;
+				if(Keys.compare(entry.getKey(), startKey) >= 0)
+					entries.add(entry);
+			}
+		}
+		catch(IOException e)
+		{
+			throw new UncheckedIOException(e);
+		}
+		return entries;
+	}
+
+	/**
+	 * Function for opening a merged iteration over the current version. An
+	 *  open table stays readable once compacted, but one deleted before it is
+	 *  opened makes the iteration start again from the new version
+	 * @return The iterator
+	 * @throws IOException When a table cannot be opened
+	 */
+	private MergeIterator openMergeIterator() throws IOException
+	{
+		while(true)
+		{
+			Version current = version;
+			try
+			{
+				return new MergeIterator(current);
+			}
+			catch(NoSuchFileException e)
+			{
+				if(version == current)
+					throw e;
+			}
+		}
+	}
+
+	/**
+	 * Function for opening a merged iteration over a range of keys of the
+	 *  current version, which may return a few smaller keys first
+	 * @param fromKey The first key of the range
+	 * @param toKey The last key of the memtables read, empty for no end
+	 * @return The iterator
+	 * @throws IOException When a table cannot be opened
+	 */
+	private MergeIterator openMergeIterator(ByteString fromKey, ByteString toKey) throws IOException
+	{
+		while(true)
+		{
+			Version current = version;
+			try
+			{
+				return new MergeIterator(current, fromKey, toKey);
+			}
+			catch(NoSuchFileException e)
+			{
+				if(version == current)
+					throw e;
+			}
+		}
+	}
+
+	/**
+	 * Function for copying the storage into memory, which holds every entry
+	 *  on the heap
+	 * @return The copy
+	 */
+	@Override
+	public StorageEngine copy()
+	{
+		HashStorage copy = new HashStorage();
+		forEach(copy::put);
+		return copy;
+	}
+
+	/**
+	 * Function for flushing every memtable to a table, so that the snapshot
+	 *  has nothing left to hold
+	 * @return An empty storage
+	 * @throws IOException When a memtable cannot be flushed
+	 */
+	@Override
+	public StorageEngine prepareCheckpoint() throws IOException
+	{
+		//A write logged before the roll holds the lock of its key until it is applied
+		for(Object lock : locks)
+		{
+			synchronized(lock)
+			{
+			}
+		}
+		freezeMemtable(version.memtable);
+
+		try
+		{
+			flushExecutor.submit(() ->
+			{
+				flushFrozen();
+				return null;
+			}).get();
+		}
+		catch(ExecutionException e)
+		{
+			if(e.getCause() instanceof IOException)
+				throw (IOException)e.getCause();
+			throw new IOException(e.getCause());
+		}
+		catch(InterruptedException e)
+		{
+			Thread.currentThread().interrupt();
+			throw new IOException("Interrupted while flushing the memtables");
+		}
+		return new HashStorage(0);
+	}
+
+	/**
+	 * Function for freezing the memtable and starting a new one, unless it
+	 *  was frozen already
+	 * @param memtable The memtable to be frozen
+	 * @return Returns true if the memtable was frozen by this call
+	 */
+	private boolean freezeMemtable(Memtable memtable)
+	{
+		switchLock.writeLock().lock();
+		try
+		{
+			Version current = version;
+			if(current.memtable != memtable || memtable.entries.isEmpty())
+				return false;
+
+			List<Memtable> frozen = new ArrayList<Memtable>();
+			frozen.add(memtable);
+			frozen.addAll(current.frozen);
+			version = new Version(new Memtable(), frozen, current.tables);
+			return true;
+		}
+		finally
+		{
+			switchLock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * Function for flushing the frozen memtables from the flush thread,
+	 *  a failed flush keeps the memtable and is retried by the next one
+	 */
+	private void flushInBackground()
+	{
+		try
+		{
+			flushFrozen();
+		}
+		catch(IOException e)
+		{
+			e.printStackTrace();
+		}
+	}
+
+	/**
+	 * Function for writing the frozen memtables to tables, from the oldest.
+	 *  It only runs on the flush thread
+	 * @throws IOException When a table cannot be written
+	 */
+	private void flushFrozen() throws IOException
+	{
+		while(!version.frozen.isEmpty())
+		{
+			List<Memtable> frozen = version.frozen;
+			ConcurrentSkipListMap<ByteString, DataStoreEntry> memtable = frozen.get(frozen.size() - 1).entries;
+
+			long startTime = System.currentTimeMillis();
+			long number = nextTableNumber.getAndIncrement();
+			SortedTable table = SortedTable.write(directory.resolve(number + TABLE_SUFFIX), memtable.entrySet().iterator(), indexInterval,
+					memtable.size(), Config.BLOOM_BITS_PER_KEY, number);
+
+			//Replacing the memtable by its table
+			switchLock.writeLock().lock();
+			try
+			{
+				Version current = version;
+				List<Memtable> remaining = new ArrayList<Memtable>(current.frozen);
+				remaining.remove(remaining.size() - 1);
+				List<SortedTable> tables = new ArrayList<SortedTable>();
+				tables.add(table);
+				tables.addAll(current.tables);
+				version = new Version(current.memtable, remaining, tables);
+			}
+			finally
+			{
+				switchLock.writeLock().unlock();
+			}
+			System.out.println("Flushed " + memtable.size() + " key(s) to " + table.getPath() + " in " + (System.currentTimeMillis() - startTime) + " ms");
+			compactionExecutor.execute(this::compact);
+		}
+	}
+
+	/**
+	 * Function for compacting the tables until no run of similar tables is
+	 *  long enough. It only runs on the compaction thread
+	 */
+	private void compact()
+	{
+		try
+		{
+			List<SortedTable> run;
+			while((run = findRuns(version.tables).stream().findFirst().orElse(null)) != null)
+			{
+				compactRun(run);
+			}
+		}
+		catch(IOException | UncheckedIOException e)
+		{
+			e.printStackTrace();
+		}
+	}
+
+	/**
+	 * Function for finding the runs of adjacent tables of the same size tier
+	 *  which hold enough tables to be compacted
+	 * @param tables The tables, from the newest
+	 * @return The runs, from the newest
+	 * @throws IOException When the size of a table cannot be read
+	 */
+	private List<List<SortedTable>> findRuns(List<SortedTable> tables) throws IOException
+	{
+		List<List<SortedTable>> runs = new ArrayList<List<SortedTable>>();
+		int start = 0;
+		while(start < tables.size())
+		{
+			int tier = tierOf(tables.get(start).getSize());
+			int end = start + 1;
+			while(end < tables.size() && tierOf(tables.get(end).getSize()) == tier)
+			{
+				end++;
+			}
+			if(end - start >= compactionThreshold)
+			{
+				runs.add(tables.subList(start, end));
+			}
+			start = end;
+		}
+		return runs;
+	}
+
+	private static int tierOf(long size)
+	{
+		return (63 - Long.numberOfLeadingZeros(Math.max(1, size))) / TIER_BITS;
+	}
+
+	/**
+	 * Function for merging a run of adjacent tables into one table, which
+	 *  takes the place of the run with the sequence of its newest table
+	 * @param run The tables, from the newest
+	 * @throws IOException When the merged table cannot be written
+	 */
+	private void compactRun(List<SortedTable> run) throws IOException
+	{
+		long startTime = System.currentTimeMillis();
+		long inputBytes = 0;
+		long inputEntries = 0;
+		List<Iterator<Map.Entry<ByteString, DataStoreEntry>>> sources = new ArrayList<Iterator<Map.Entry<ByteString, DataStoreEntry>>>();
+		for(SortedTable table : run)
+		{
+			inputBytes += table.getSize();
+			inputEntries += table.getEntryCount();
+			sources.add(table.iterator());
+		}
+
+		SortedTable merged;
+		try(MergeIterator entries = new MergeIterator(sources))
+		{
+			//Sized for the entries of all the tables, the overwritten ones only make the filter sparser
+			merged = SortedTable.write(directory.resolve(nextTableNumber.getAndIncrement() + TABLE_SUFFIX), throttle(entries), indexInterval, inputEntries,
+					Config.BLOOM_BITS_PER_KEY, sequenceOf(run.get(0)));
+		}
+
+		//Replacing the run by the merged table, only compactions remove tables
+		switchLock.writeLock().lock();
+		try
+		{
+			Version current = version;
+			List<SortedTable> tables = new ArrayList<SortedTable>(current.tables);
+			int position = tables.indexOf(run.get(0));
+			tables.subList(position, position + run.size()).clear();
+			tables.add(position, merged);
+			version = new Version(current.memtable, current.frozen, tables);
+		}
+		finally
+		{
+			switchLock.writeLock().unlock();
+		}
+
+		//Reads still on the previous version retry on the closed or deleted tables
+		for(SortedTable table : run)
+		{
+			table.close();
+			Files.delete(table.getPath());
+		}
+
+		long reclaimed = inputBytes - merged.getSize();
+		compactions.incrementAndGet();
+		compactedBytes.addAndGet(inputBytes);
+		reclaimedBytes.addAndGet(reclaimed);
+		System.out.println(String.format("Compacted %d table(s) of %.1f MB into %s (%.1f MB) in %d ms, reclaimed %.1f MB, backlog %.1f MB",
+				run.size(), inputBytes / 1048576.0, merged.getPath().getFileName(), merged.getSize() / 1048576.0,
+				System.currentTimeMillis() - startTime, reclaimed / 1048576.0, getCompactionBacklog() / 1048576.0));
+	}
+
+	/**
+	 * Function for limiting the rate at which a compaction reads and writes
+	 * @param entries The merged entries
+	 * @return The entries, handed out no faster than the compaction rate
+	 */
+	private Iterator<Map.Entry<ByteString, DataStoreEntry>> throttle(Iterator<Map.Entry<ByteString, DataStoreEntry>> entries)
+	{
+		if(compactionRate <= 0)
+			return entries;
+
+		long startTime = System.nanoTime();
+		return new Iterator<Map.Entry<ByteString, DataStoreEntry>>()
+		{
+			private long bytes;
+
+			@Override
+			public boolean hasNext()
+			{
+				return entries.hasNext();
+			}
+
+			@Override
+			public Map.Entry<ByteString, DataStoreEntry> next()
+			{
+				Map.Entry<ByteString, DataStoreEntry> entry = entries.next();
+				bytes += SortedTable.RECORD_HEADER_SIZE + entry.getKey().size() + entry.getValue().getValue().size();
+
+				//Sleeping until the bytes so far are within the rate
+				long ahead = startTime + bytes * 1000000000L / compactionRate - System.nanoTime();
+				if(ahead > 1000000)
+				{
+					LockSupport.parkNanos(ahead);
+				}
+				return entry;
+			}
+		};
+	}
+
+	/**
+	 * Function for getting the number of compactions done
+	 * @return The number of compactions
+	 */
+	public long getCompactions()
+	{
+		return compactions.get();
+	}
+
+	/**
+	 * Function for getting the bytes of the tables compacted so far
+	 * @return The bytes read by the compactions
+	 */
+	public long getCompactedBytes()
+	{
+		return compactedBytes.get();
+	}
+
+	/**
+	 * Function for getting the disk space freed by the compactions, mostly
+	 *  taken by overwritten entries
+	 * @return The bytes reclaimed
+	 */
+	public long getReclaimedBytes()
+	{
+		return reclaimedBytes.get();
+	}
+
+	/**
+	 * Function for getting the lookups which had to read a table
+	 * @return The number of table reads
+	 */
+	public long getTableReads()
+	{
+		return tableReads.get();
+	}
+
+	/**
+	 * Function for getting the lookups which a Bloom filter answered without
+	 *  reading the table
+	 * @return The number of table reads saved
+	 */
+	public long getFilteredReads()
+	{
+		return filteredReads.get();
+	}
+
+	/**
+	 * Function for getting the bytes of the tables waiting for a compaction
+	 * @return The bytes of the runs long enough to be compacted
+	 */
+	public long getCompactionBacklog()
+	{
+		long backlog = 0;
+		try
+		{
+			for(List<SortedTable> run : findRuns(version.tables))
+			{
+				for(SortedTable table : run)
+				{
+					backlog += table.getSize();
+				}
+			}
+		}
+		catch(IOException e)
+		{
+			//A table compacted meanwhile, the backlog is only an estimate
+		}
+		return backlog;
+	}
+
+	/**
+	 * Function for getting the sequence ordering a table among the others
+	 * @param table The table
+	 * @return The sequence stored in the table, or its number for the tables without one
+	 */
+	private static long sequenceOf(SortedTable table)
+	{
+		return table.getSequence() != 0 ? table.getSequence() : numberOf(table.getPath());
+	}
+
+	private static long numberOf(Path path)
+	{
+		String name = path.getFileName().toString();
+		return Long.parseLong(name.substring(0, name.length() - TABLE_SUFFIX.length()));
+	}
+
+	/**
+	 * Function for estimating the heap taken by an entry of a memtable
+	 * @param key The key
+	 * @param value The value
+	 * @return The estimated bytes
+	 */
+	private static long estimateSize(ByteString key, ByteString value)
+	{
+		return 96 + key.size() + value.size();
+	}
+
+	/**
+	 * Function for choosing the newer of two entries, the first one wins a tie
+	 * @param first The entry of the newer source, may be null
+	 * @param second The entry of the older source, may be null
+	 * @return The newer entry
+	 */
+	private static DataStoreEntry newer(DataStoreEntry first, DataStoreEntry second)
+	{
+		if(first == null)
+			return second;
+		if(second == null || second.getTimestamp() <= first.getTimestamp())
+			return first;
+		return second;
+	}
+
+	/**
+	 * Class representing an iteration in key order over several sorted
+	 *  sources, keeping the entry with the latest timestamp of every key.
+	 *  Equal timestamps keep the entry of the newest source
+	 */
+	static class MergeIterator implements Iterator<Map.Entry<ByteString, DataStoreEntry>>, Closeable
+	{
+		private PriorityQueue<Source> queue;
+		private List<Closeable> closeables;
+
+		/**
+		 * Class representing a source and its next entry
+		 */
+		private static class Source
+		{
+			private Iterator<Map.Entry<ByteString, DataStoreEntry>> iterator;
+			private Map.Entry<ByteString, DataStoreEntry> head;
+			private int age;
+		}
+
+		private MergeIterator(Version version) throws IOException
+		{
+			this(sourcesOf(version));
+		}
+
+		private MergeIterator(Version version, ByteString fromKey, ByteString toKey) throws IOException
+		{
+			this(sourcesOf(version, fromKey, toKey));
+		}
+
+		/**
+		 * @param sources The iterators of the sources ordered from the newest,
+		 *  the closeable ones are closed by close
+		 */
+		MergeIterator(List<Iterator<Map.Entry<ByteString, DataStoreEntry>>> sources)
+		{
+			queue = new PriorityQueue<Source>(Math.max(1, sources.size()), (a, b) ->
+			{
+				int byKey = Keys.compare(a.head.getKey(), b.head.getKey());
+				return byKey != 0 ? byKey : Integer.compare(a.age, b.age);
+			});
+			closeables = new ArrayList<Closeable>();
+			for(int i = 0; i < sources.size(); i++)
+			{
+				if(sources.get(i) instanceof Closeable)
+				{
+					closeables.add((Closeable)sources.get(i));
+				}
+				Source source = new Source();
+				source.iterator = sources.get(i);
+				source.age = i;
+				advance(source);
+			}
+		}
+
+		private static List<Iterator<Map.Entry<ByteString, DataStoreEntry>>> sourcesOf(Version version) throws IOException
+		{
+			List<Iterator<Map.Entry<ByteString, DataStoreEntry>>> sources = new ArrayList<Iterator<Map.Entry<ByteString, DataStoreEntry>>>();
+			sources.add(version.memtable.entries.entrySet().iterator());
+			for(Memtable memtable : version.frozen)
+			{
+				sources.add(memtable.entries.entrySet().iterator());
+			}
+			for(SortedTable table : version.tables)
+			{
+				sources.add(table.iterator());
+			}
+			return sources;
+		}
+
+		private static List<Iterator<Map.Entry<ByteString, DataStoreEntry>>> sourcesOf(Version version, ByteString fromKey, ByteString toKey) throws IOException
+		{
+			List<Iterator<Map.Entry<ByteString, DataStoreEntry>>> sources = new ArrayList<Iterator<Map.Entry<ByteString, DataStoreEntry>>>();
+			sources.add(rangeOf(version.memtable.entries, fromKey, toKey).entrySet().iterator());
+			for(Memtable memtable : version.frozen)
+			{
+				sources.add(rangeOf(memtable.entries, fromKey, toKey).entrySet().iterator());
+			}
+			try
+			{
+				for(SortedTable table : version.tables)
+				{
+					sources.add(table.iterator(fromKey));
+				}
+			}
+			catch(IOException e)
+			{
+				//Closing the tables already opened
+				for(Iterator<Map.Entry<ByteString, DataStoreEntry>> source : sources)
+				{
+					if(source instanceof Closeable)
+						((Closeable)source).close();
+				}
+				throw e;
+			}
+			return sources;
+		}
+
+		private static Map<ByteString, DataStoreEntry> rangeOf(ConcurrentSkipListMap<ByteString, DataStoreEntry> memtable, ByteString fromKey, ByteString toKey)
+		{
+			return toKey.isEmpty() ? memtable.tailMap(fromKey, true) : memtable.subMap(fromKey, true, toKey, true);
+		}
+
+		private void advance(Source source)
+		{
+			if(source.iterator.hasNext())
+			{
+				source.head = source.iterator.next();
+				queue.add(source);
+			}
+		}
+
+		@Override
+		public boolean hasNext()
+		{
+			return !queue.isEmpty();
+		}
+
+		@Override
+		public Map.Entry<ByteString, DataStoreEntry> next()
+		{
+			if(queue.isEmpty())
+				throw new NoSuchElementException();
+
+			//The newest source comes first among the entries of a key
+			Source first = queue.poll();
+			Map.Entry<ByteString, DataStoreEntry> latest = first.head;
+			advance(first);
+			while(!queue.isEmpty() && queue.peek().head.getKey().equals(latest.getKey()))
+			{
+				Source other = queue.poll();
+				if(other.head.getValue().getTimestamp() > latest.getValue().getTimestamp())
+				{
+					latest = other.head;
+				}
+				advance(other);
+			}
+			return latest;
+		}
+
+		@Override
+		public void close() throws IOException
+		{
+			for(Closeable closeable : closeables)
+			{
+				closeable.close();
+			}
+		}
+	}
+
+	@Override
+	public String toString()
+	{
+		Version current = version;
+		return "LsmStorage [directory=" + directory + ", memtables=" + (1 + current.frozen.size()) + ", tables=" + current.tables.size()
+				+ ", compactions=" + compactions.get() + ", reclaimedBytes=" + reclaimedBytes.get()
+				+ ", tableReads=" + tableReads.get() + ", filteredReads=" + filteredReads.get() + "]";
+	}
+}
@@ -0,0 +1,362 @@
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Predicate;
+import java.util.zip.CRC32C;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.UnsafeByteOperations;
+
+/**
+ * Class replaying the snapshot and the write-ahead log segments when the
+ *  replica starts. The files are memory-mapped and parsed in parallel,
+ *  each one collecting the latest entry of every key in partitions split
+ *  by key. The partitions are then merged into the data store in parallel,
+ *  the entry with the latest timestamp wins and equal timestamps keep the
+ *  older file. Every file starts with its magic number and the version of
+ *  its records, the int keys of version 1 are read as their 4 bytes
+ */
+public class ParallelReplay
+{
+	//Largest part of a file mapped at once
+	static final long MAP_WINDOW = 1L << 30;
+
+	private int threads;
+	private int partitionCount;
+	private List<LogFile> files;
+
+	/**
+	 * Class representing a file to be replayed and the entries read from it
+	 */
+	private static class LogFile
+	{
+		private Path path;
+		private long offset;
+		private boolean truncateTornTail;
+		private long records;
+		private long bytes;
+		private List<HashMap<ByteString, DataStoreEntry>> partitions;
+	}
+
+	/**
+	 * Class representing the latest record of a key in a file. The value is
+	 *  decoded once the whole file is read, so that overwritten values are skipped
+	 */
+	private static class LatestRecord
+	{
+		private long timestamp;
+		private ByteBuffer window;
+		private int valueOffset;
+		private int valueLength;
+	}
+
+	public ParallelReplay(int threads)
+	{
+		this.threads = Math.max(1, threads);
+		partitionCount = this.threads * 4;
+		files = new ArrayList<LogFile>();
+	}
+
+	/**
+	 * Function for adding a file to the replay. Files are added from the
+	 *  oldest to the newest
+	 * @param path The path to the file
+	 * @param offset The position of the first record
+	 * @param truncateTornTail True to truncate an invalid record and the bytes
+	 *  after it, false to fail the replay
+	 */
+	public void addFile(Path path, long offset, boolean truncateTornTail)
+	{
+		LogFile file = new LogFile();
+		file.path = path;
+		file.offset = offset;
+		file.truncateTornTail = truncateTornTail;
+		files.add(file);
+	}
+
+	/**
+	 * Function for replaying the files into the data store. Only the keys
+	 *  owned by the replica are kept, and the latest timestamp wins
+	 * @param dataStore The data store, written by several threads at once
+	 * @param ownsKey Checks if a key belongs to the replica
+	 * @return The number of records replayed
+	 * @throws IOException When a file cannot be read, or holds an invalid
+	 *  record that may not be truncated
+	 */
+	public long replay(StorageEngine dataStore, Predicate<ByteString> ownsKey) throws IOException
+	{
+		long startTime = System.nanoTime();
+		ExecutorService executor = Executors.newFixedThreadPool(threads, runnable ->
+		{
+			Thread thread = new Thread(runnable, "wal-replay");
+			thread.setDaemon(true);
+			return thread;
+		});
+
+		try
+		{
+			//Parsing the files
+			List<Callable<Void>> parseTasks = new ArrayList<Callable<Void>>();
+			for(LogFile file : files)
+			{
+				parseTasks.add(() ->
+				{
+					parse(file);
+					return null;
+				});
+			}
+			runAll(executor, parseTasks);
+
+			//Merging every partition of the files, the partitions hold disjoint keys
+			List<Callable<Void>> mergeTasks = new ArrayList<Callable<Void>>();
+			for(int i = 0; i < partitionCount; i++)
+			{
+				int partition = i;
+				mergeTasks.add(() ->
+				{
+					merge(partition, dataStore, ownsKey);
+					return null;
+				});
+			}
+			runAll(executor, mergeTasks);
+		}
+		finally
+		{
+			executor.shutdownNow();
+		}
+
+		long records = 0;
+		long bytes = 0;
+		for(LogFile file : files)
+		{
+			records += file.records;
+			bytes += file.bytes;
+			file.partitions = null;
+		}
+
+		long elapsed = Math.max(1, (System.nanoTime() - startTime) / 1000000);
+		System.out.println(String.format("Replayed %d record(s), %.1f MB from %d file(s) in %d ms (%.1f MB/s, %d records/s) with %d thread(s)",
+				records, bytes / 1048576.0, files.size(), elapsed, bytes / 1048576.0 * 1000 / elapsed, records * 1000 / elapsed, threads));
+		return records;
+	}
+
+	/**
+	 * Function for running tasks on the executor and waiting for all of them
+	 * @param executor The executor
+	 * @param tasks The tasks
+	 * @return The results of the tasks in the order of the tasks
+	 * @throws IOException When a task fails
+	 */
+	private static <T> List<T> runAll(ExecutorService executor, List<Callable<T>> tasks) throws IOException
+	{
+		List<T> results = new ArrayList<T>();
+		try
+		{
+			for(Future<T> future : executor.invokeAll(tasks))
+			{
+				results.add(future.get());
+			}
+		}
+		catch(ExecutionException e)
+		{
+			if(e.getCause() instanceof IOException)
+				throw (IOException)e.getCause();
+			throw new IOException(e.getCause());
+		}
+		catch(InterruptedException e)
+		{
+			Thread.currentThread().interrupt();
+			throw new IOException("Interrupted while replaying the write-ahead log");
+		}
+		return results;
+	}
+
+	/**
+	 * Function for reading the records of a file through memory-mapped windows
+	 * @param file The file to be read
+	 * @throws IOException When the file cannot be read, or holds an invalid
+	 *  record that may not be truncated
+	 */
+	private void parse(LogFile file) throws IOException
+	{
+		List<HashMap<ByteString, LatestRecord>> latestRecords = new ArrayList<HashMap<ByteString, LatestRecord>>();
+		for(int i = 0; i < partitionCount; i++)
+		{
+			latestRecords.add(new HashMap<ByteString, LatestRecord>());
+		}
+
+		try(FileChannel channel = FileChannel.open(file.path, StandardOpenOption.READ, StandardOpenOption.WRITE))
+		{
+			long size = channel.size();
+			file.bytes = size;
+			if(size < file.offset)
+			{
+				//The file was created but its header was never fully written
+				channel.truncate(0);
+				file.partitions = decodeValues(latestRecords);
+				return;
+			}
+
+			ByteBuffer header = ByteBuffer.allocate(WriteAheadLog.HEADER_SIZE);
+			channel.read(header, 0);
+			int version = header.getInt(4);
+			if(version < 1 || version > WriteAheadLog.VERSION)
+			{
+				throw new IOException(file.path + " has the unknown version " + version);
+			}
+
+			CRC32C crc = new CRC32C();
+			MappedByteBuffer window = null;
+			ByteBuffer checksummed = null;
+			ByteBuffer keyBytes = null;
+			long windowStart = 0;
+			long position = file.offset;
+			while(size - position >= WriteAheadLog.RECORD_HEADER_SIZE)
+			{
+				if(window == null || position + WriteAheadLog.RECORD_HEADER_SIZE > windowStart + window.limit())
+				{
+					windowStart = position;
+					window = channel.map(FileChannel.MapMode.READ_ONLY, windowStart, Math.min(MAP_WINDOW, size - windowStart));
+					checksummed = window.duplicate();
+					keyBytes = window.duplicate();
+				}
+
+				int payloadLength = window.getInt((int)(position - windowStart));
+				int checksum = window.getInt((int)(position - windowStart) + 4);
+				if(payloadLength < WriteAheadLog.PAYLOAD_HEADER_SIZE || payloadLength > Config.MAX_FRAME_SIZE)
+				{
+					System.out.println("Record at offset " + position + " of " + file.path + " has an invalid length");
+					break;
+				}
+
+				long recordEnd = position + WriteAheadLog.RECORD_HEADER_SIZE + payloadLength;
+				if(recordEnd > size)
+				{
+					break;
+				}
+				if(recordEnd > windowStart + window.limit())
+				{
+					//Moving the window to the start of a record crossing its end
+					windowStart = position;
+					window = channel.map(FileChannel.MapMode.READ_ONLY, windowStart, Math.min(MAP_WINDOW, size - windowStart));
+					checksummed = window.duplicate();
+					keyBytes = window.duplicate();
+				}
+
+				int payloadOffset = (int)(position - windowStart) + WriteAheadLog.RECORD_HEADER_SIZE;
+				checksummed.limit(payloadOffset + payloadLength).position(payloadOffset);
+				crc.reset();
+				crc.update(checksummed);
+				if((int)crc.getValue() != checksum)
+				{
+					System.out.println("Record at offset " + position + " of " + file.path + " fails its checksum");
+					break;
+				}
+
+				//The key of version 1 is a 4 byte int in place of the key length
+				int keyLength = version == 1 ? 4 : window.getInt(payloadOffset);
+				int keyOffset = version == 1 ? payloadOffset : payloadOffset + 4;
+				if(version != 1 && (keyLength < 0 || keyLength > payloadLength - WriteAheadLog.PAYLOAD_HEADER_SIZE))
+				{
+					System.out.println("Record at offset " + position + " of " + file.path + " has an invalid key length");
+					break;
+				}
+				keyBytes.limit(keyOffset + keyLength).position(keyOffset);
+				ByteString key = ByteString.copyFrom(keyBytes);
+				long timestamp = window.getLong(keyOffset + keyLength);
+				HashMap<ByteString, LatestRecord> partition = latestRecords.get(Math.floorMod(key.hashCode(), partitionCount));
+				LatestRecord latest = partition.get(key);
+				if(latest == null)
+				{
+					latest = new LatestRecord();
+					latest.timestamp = Long.MIN_VALUE;
+					partition.put(key, latest);
+				}
+				if(latest.timestamp < timestamp)
+				{
+					latest.timestamp = timestamp;
+					latest.window = window;
+					latest.valueOffset = keyOffset + keyLength + 8;
+					latest.valueLength = payloadOffset + payloadLength - latest.valueOffset;
+				}
+
+				position = recordEnd;
+				file.records++;
+			}
+
+			file.partitions = decodeValues(latestRecords);
+
+			if(position < size)
+			{
+				if(!file.truncateTornTail)
+				{
+					throw new IOException(file.path + " is corrupted at offset " + position);
+				}
+				System.out.println("Truncating " + (size - position) + " byte(s) at the end of " + file.path);
+				channel.truncate(position);
+				channel.force(true);
+			}
+		}
+	}
+
+	/**
+	 * Function for decoding the values which survived a file
+	 * @param latestRecords The latest record of every key, by partition
+	 * @return The entries of the file, by partition
+	 */
+	private static List<HashMap<ByteString, DataStoreEntry>> decodeValues(List<HashMap<ByteString, LatestRecord>> latestRecords)
+	{
+		List<HashMap<ByteString, DataStoreEntry>> partitions = new ArrayList<HashMap<ByteString, DataStoreEntry>>();
+		for(HashMap<ByteString, LatestRecord> partition : latestRecords)
+		{
+			HashMap<ByteString, DataStoreEntry> entries = new HashMap<ByteString, DataStoreEntry>(partition.size() * 2);
+			for(Map.Entry<ByteString, LatestRecord> record : partition.entrySet())
+			{
+				LatestRecord latest = record.getValue();
+				byte[] value = new byte[latest.valueLength];
+				latest.window.get(latest.valueOffset, value);
+
+				DataStoreEntry entry = new DataStoreEntry();
+				entry.setValue(UnsafeByteOperations.unsafeWrap(value));
+				entry.setTimestamp(latest.timestamp);
+				entries.put(record.getKey(), entry);
+			}
+			partitions.add(entries);
+		}
+		return partitions;
+	}
+
+	/**
+	 * Function for merging one partition of every file into the data store,
+	 *  from the oldest file to the newest
+	 * @param partition The partition to be merged
+	 * @param dataStore The data store
+	 * @param ownsKey Checks if a key belongs to the replica
+	 */
+	private void merge(int partition, StorageEngine dataStore, Predicate<ByteString> ownsKey)
+	{
+		for(LogFile file : files)
+		{
+			for(Map.Entry<ByteString, DataStoreEntry> entry : file.partitions.get(partition).entrySet())
+			{
+				//Keeping only the keys owned by the replica
+				if(!ownsKey.test(entry.getKey()))
+					continue;
+
+				dataStore.putIfNewer(entry.getKey(), entry.getValue().getValue(), entry.getValue().getTimestamp());
+			}
+		}
+	}
+}
@@ -0,0 +1,36 @@
+import java.util.List;
+
+import com.google.protobuf.ByteString;
+
+/**
+ * Interface representing the placement of the keys on the replicas. Keys
+ *  are strings of bytes, the whole key space is owned without the
+ *  replicas holding anything for keys never written, and every replica
+ *  computes the same owners for a key from the replicas file
+ */
+public interface Partitioner
+{
+	/**
+	 * Function for getting the replicas owning a key
+	 * @param key The key
+	 * @return The names of the owners, the first one being the primary owner
+	 */
+	List<String> getOwners(ByteString key);
+
+	/**
+	 * Function for checking if a replica owns a key
+	 * @param replicaName The name of the replica
+	 * @param key The key
+	 * @return Returns true if the replica is one of the owners of the key
+	 */
+	default boolean isOwner(String replicaName, ByteString key)
+	{
+		return getOwners(key).contains(replicaName);
+	}
+
+	/**
+	 * Function for getting the number of replicas owning every key
+	 * @return The replication factor
+	 */
+	int getReplicationFactor();
+}
@@ -0,0 +1,461 @@
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+
+/**
+ * Class representing a long-lived connection to a replica, used by the
+ *  other replicas and by clients. Many requests can be outstanding on it
+ *  at once, every request carries a request id and the responses are
+ *  matched by that id, in any order. A streamed request gets many
+ *  responses with its id, passed to its listener until the stream ends.
+ * The senders never write to the socket: the messages are queued, up to
+ *  kv.peerWriteQueue of them, and a writer thread writes them, so a replica
+ *  which stops reading fails the requests at their deadline instead of
+ *  blocking their senders
+ */
+public class PeerConnection
+{
+	private static final AtomicLong nextRequestId = new AtomicLong(1);
+
+	private String replicaName;
+	private Socket socket;
+	private InputStream inputStream;
+	private OutputStream outputStream;
+	private ConcurrentHashMap<Long, CompletableFuture<KeyValue.KeyValueMessage>> pendingRequests;
+	private ConcurrentHashMap<Long, BiConsumer<KeyValue.KeyValueMessage, IOException>> streams;
+	private BlockingQueue<QueuedMessage> writeQueue;
+	private Thread writer;
+	private volatile boolean closed;
+	private long createdTime;
+	private volatile long lastUsedTime;
+	private volatile long writeStartTime;
+	private volatile long unansweredSince;
+
+	/**
+	 * Class representing a message waiting for the writer thread
+	 */
+	private static class QueuedMessage
+	{
+		private KeyValue.KeyValueMessage message;
+		private CompletableFuture<KeyValue.KeyValueMessage> response;
+
+		private QueuedMessage(KeyValue.KeyValueMessage message, CompletableFuture<KeyValue.KeyValueMessage> response)
+		{
+			this.message = message;
+			this.response = response;
+		}
+	}
+
+	public PeerConnection(String replicaName, Replica replica) throws IOException
+	{
+		this.replicaName = replicaName;
+		socket = new Socket();
+		socket.connect(new InetSocketAddress(replica.getIp(), replica.getPort()), (int)Config.PEER_CONNECT_TIMEOUT);
+		socket.setTcpNoDelay(true);
+		inputStream = new BufferedInputStream(socket.getInputStream());
+		outputStream = new BufferedOutputStream(socket.getOutputStream());
+		pendingRequests = new ConcurrentHashMap<Long, CompletableFuture<KeyValue.KeyValueMessage>>();
+		streams = new ConcurrentHashMap<Long, BiConsumer<KeyValue.KeyValueMessage, IOException>>();
+		writeQueue = new ArrayBlockingQueue<QueuedMessage>(Config.PEER_WRITE_QUEUE);
+		createdTime = System.currentTimeMillis();
+		lastUsedTime = createdTime;
+
+		//Writing the requests on a separate thread so that senders never wait for the socket
+		writer = new Thread(this::writeRequests, "peer-writer-" + replicaName);
+		writer.setDaemon(true);
+		writer.start();
+
+		//Reading the responses on a separate thread so that senders never wait for each other
+		Thread reader = new Thread(this::readResponses, "peer-reader-" + replicaName);
+		reader.setDaemon(true);
+		reader.start();
+	}
+
+	public String getReplicaName()
+	{
+		return replicaName;
+	}
+
+	public long getCreatedTime()
+	{
+		return createdTime;
+	}
+
+	public long getLastUsedTime()
+	{
+		return lastUsedTime;
+	}
+
+	/**
+	 * Function for marking the connection as used, so that it is not
+	 *  evicted as idle before a request is sent on it
+	 */
+	public void markUsed()
+	{
+		lastUsedTime = System.currentTimeMillis();
+	}
+
+	public int getPendingCount()
+	{
+		return pendingRequests.size() + streams.size();
+	}
+
+	public boolean isClosed()
+	{
+		return closed;
+	}
+
+	/**
+	 * Function for checking if the connection can still be used. Besides a
+	 *  closed connection, a connection is not healthy when a write is stalled
+	 *  or when requests have been waiting for longer than the request timeout
+	 *  without any response, which is how a half-open connection shows
+	 * @return Returns true if the connection can be used
+	 */
+	public boolean isHealthy()
+	{
+		if(closed || isWriteStalled())
+			return false;
+
+		long since = unansweredSince;
+		return since == 0 || System.currentTimeMillis() - since <= Config.REQUEST_TIMEOUT;
+	}
+
+	/**
+	 * Function for sending a request without waiting for its response
+	 * @param request The request for the replica, its request id is set here
+	 * @param timeout Time in milliseconds after which the request fails
+	 * @return The future completed with the response of the replica, or
+	 *  completed with a TimeoutException when the replica did not respond in time
+	 */
+	public CompletableFuture<KeyValue.KeyValueMessage> send(KeyValue.ServerRequest.Builder request, long timeout)
+	{
+		long requestId = nextRequestId.getAndIncrement();
+		request.setRequestid(requestId);
+		return send(requestId, KeyValue.KeyValueMessage.newBuilder().setServerRequest(request).build(), timeout);
+	}
+
+	/**
+	 * Function for sending a client request without waiting for its response
+	 * @param request The request for the coordinator, its request id is set here
+	 * @param timeout Time in milliseconds after which the request fails
+	 * @return The future completed with the response of the coordinator, or
+	 *  completed with a TimeoutException when it did not respond in time
+	 */
+	public CompletableFuture<KeyValue.KeyValueMessage> send(KeyValue.ClientRequest.Builder request, long timeout)
+	{
+		long requestId = nextRequestId.getAndIncrement();
+		request.setRequestid(requestId);
+		return send(requestId, KeyValue.KeyValueMessage.newBuilder().setClientRequest(request).build(), timeout);
+	}
+
+	/**
+	 * Function for sending the requests of several keys to a replica in one
+	 *  message without waiting for the response
+	 * @param request The batch for the replica, its request id is set here
+	 * @param timeout Time in milliseconds after which the batch fails
+	 * @return The future completed with the responses of the replica, or
+	 *  completed with a TimeoutException when the replica did not respond in time
+	 */
+	public CompletableFuture<KeyValue.KeyValueMessage> send(KeyValue.ServerBatchRequest.Builder request, long timeout)
+	{
+		long requestId = nextRequestId.getAndIncrement();
+		request.setRequestid(requestId);
+		return send(requestId, KeyValue.KeyValueMessage.newBuilder().setServerBatchRequest(request).build(), timeout);
+	}
+
+	/**
+	 * Function for sending the client requests of several keys in one
+	 *  message without waiting for the response
+	 * @param request The batch for the coordinator, its request id is set here
+	 * @param timeout Time in milliseconds after which the batch fails
+	 * @return The future completed with the responses of the coordinator, or
+	 *  completed with a TimeoutException when it did not respond in time
+	 */
+	public CompletableFuture<KeyValue.KeyValueMessage> send(KeyValue.ClientBatchRequest.Builder request, long timeout)
+	{
+		long requestId = nextRequestId.getAndIncrement();
+		request.setRequestid(requestId);
+		return send(requestId, KeyValue.KeyValueMessage.newBuilder().setClientBatchRequest(request).build(), timeout);
+	}
+
+	/**
+	 * Function for sending a scan of a range of keys without waiting for the response
+	 * @param request The scan, its request id is set here
+	 * @param timeout Time in milliseconds after which the scan fails
+	 * @return The future completed with the page of entries, or completed
+	 *  with a TimeoutException when the replica did not respond in time
+	 */
+	public CompletableFuture<KeyValue.KeyValueMessage> send(KeyValue.ScanRequest.Builder request, long timeout)
+	{
+		long requestId = nextRequestId.getAndIncrement();
+		request.setRequestid(requestId);
+		return send(requestId, KeyValue.KeyValueMessage.newBuilder().setScanRequest(request).build(), timeout);
+	}
+
+	/**
+	 * Function for sending a scan whose chunks are streamed back, without
+	 *  waiting for them. The stream stays registered until endStream
+	 * @param request The scan, its request id is set here
+	 * @param listener Receives every chunk, or the exception closing the connection
+	 * @return The request id of the stream
+	 */
+	public long stream(KeyValue.ScanRequest.Builder request, BiConsumer<KeyValue.KeyValueMessage, IOException> listener)
+	{
+		long requestId = nextRequestId.getAndIncrement();
+		request.setRequestid(requestId);
+		streams.put(requestId, listener);
+		try
+		{
+			write(KeyValue.KeyValueMessage.newBuilder().setScanRequest(request).build(), null);
+		}
+		catch(IOException e)
+		{
+			streams.remove(requestId);
+			listener.accept(null, e);
+		}
+		return requestId;
+	}
+
+	/**
+	 * Function for granting more chunks to a stream, or cancelling it
+	 * @param credit The credit, with the request id of the stream
+	 * @throws IOException When the connection is closed or its write queue is full
+	 */
+	public void send(KeyValue.ScanCredit.Builder credit) throws IOException
+	{
+		write(KeyValue.KeyValueMessage.newBuilder().setScanCredit(credit).build(), null);
+	}
+
+	/**
+	 * Function for forgetting a stream, its later chunks are ignored
+	 * @param requestId The request id of the stream
+	 */
+	public void endStream(long requestId)
+	{
+		streams.remove(requestId);
+	}
+
+	/**
+	 * Function for writing a request and registering it until its response arrives
+	 * @param requestId The request id set on the request
+	 * @param requestMessage The request
+	 * @param timeout Time in milliseconds after which the request fails
+	 * @return The future completed with the response
+	 */
+	private CompletableFuture<KeyValue.KeyValueMessage> send(long requestId, KeyValue.KeyValueMessage requestMessage, long timeout)
+	{
+		CompletableFuture<KeyValue.KeyValueMessage> response = new CompletableFuture<>();
+		pendingRequests.put(requestId, response);
+		if(unansweredSince == 0)
+		{
+			unansweredSince = System.currentTimeMillis();
+		}
+		
+		/*Forgetting the request when it times out, a late response is then ignored.
+		   A write blocked for longer than the request timeout means the replica
+		   stopped reading, closing the socket fails the requests queued behind it*/
+		response.orTimeout(Math.max(1, timeout), TimeUnit.MILLISECONDS).whenComplete((message, e) ->
+		{
+			pendingRequests.remove(requestId);
+			if(e instanceof TimeoutException && isWriteStalled())
+				close(new IOException("Writing to " + replicaName + " stalled for more than " + Config.REQUEST_TIMEOUT + " ms"));
+		});
+
+		try
+		{
+			write(requestMessage, response);
+		}
+		catch(IOException e)
+		{
+			pendingRequests.remove(requestId);
+			response.completeExceptionally(e);
+		}
+		return response;
+	}
+
+	/**
+	 * Function for queuing a message for the writer thread, without waiting
+	 *  for the socket
+	 * @param requestMessage The message
+	 * @param response The future of the request, it is not written once the future completed. Null for none
+	 * @throws IOException When the connection is closed or its write queue is full
+	 */
+	private void write(KeyValue.KeyValueMessage requestMessage, CompletableFuture<KeyValue.KeyValueMessage> response) throws IOException
+	{
+		lastUsedTime = System.currentTimeMillis();
+		if(closed)
+		{
+			throw new IOException("Connection to " + replicaName + " is closed");
+		}
+		if(!writeQueue.offer(new QueuedMessage(requestMessage, response)))
+		{
+			throw new IOException("Too many messages waiting to be written to " + replicaName);
+		}
+	}
+
+	/**
+	 * Function run by the writer thread, it writes the queued messages and
+	 *  flushes them once the queue is empty, so that messages queued together
+	 *  share a write
+	 */
+	private void writeRequests()
+	{
+		try
+		{
+			while(!closed)
+			{
+				QueuedMessage queued = writeQueue.take();
+
+				//Skipping the requests which failed while they were queued
+				if(queued.response != null && queued.response.isDone())
+					continue;
+
+				writeStartTime = System.currentTimeMillis();
+				queued.message.writeDelimitedTo(outputStream);
+				if(writeQueue.isEmpty())
+				{
+					outputStream.flush();
+				}
+				writeStartTime = 0;
+			}
+		}
+		catch(IOException e)
+		{
+			close(e);
+		}
+		catch(InterruptedException e)
+		{
+			//The connection was closed
+		}
+	}
+
+	/**
+	 * Function for checking if the writer thread has been blocked on the
+	 *  socket for longer than the request timeout
+	 * @return Returns true if the current write is stalled
+	 */
+	private boolean isWriteStalled()
+	{
+		long startTime = writeStartTime;
+		return startTime != 0 && System.currentTimeMillis() - startTime > Config.REQUEST_TIMEOUT;
+	}
+
+	/**
+	 * Function run by the reader thread, it completes the pending
+	 *  requests as their responses arrive
+	 */
+	private void readResponses()
+	{
+		try
+		{
+			while(!closed)
+			{
+				KeyValue.KeyValueMessage responseMessage = KeyValue.KeyValueMessage.parseDelimitedFrom(inputStream);
+				if(responseMessage == null)
+				{
+					throw new IOException("Connection closed by " + replicaName);
+				}
+
+				long requestId = requestIdOf(responseMessage);
+				CompletableFuture<KeyValue.KeyValueMessage> response = pendingRequests.remove(requestId);
+				BiConsumer<KeyValue.KeyValueMessage, IOException> listener;
+				if(response != null)
+				{
+					response.complete(responseMessage);
+				}
+				else if((listener = streams.get(requestId)) != null)
+				{
+					listener.accept(responseMessage, null);
+				}
+				lastUsedTime = System.currentTimeMillis();
+
+				//The requests still waiting are counted from the last response
+				unansweredSince = pendingRequests.isEmpty() ? 0 : lastUsedTime;
+			}
+		}
+		catch(IOException e)
+		{
+			close(e);
+		}
+	}
+
+	/**
+	 * Function for getting the request id a response echoes
+	 * @param responseMessage The response
+	 * @return The request id
+	 */
+	private static long requestIdOf(KeyValue.KeyValueMessage responseMessage)
+	{
+		switch(responseMessage.getKeyvalueMessageCase())
+		{
+			case CLIENTRESPONSE:
+				return responseMessage.getClientResponse().getRequestid();
+			case CLIENTBATCHRESPONSE:
+				return responseMessage.getClientBatchResponse().getRequestid();
+			case SERVERBATCHRESPONSE:
+				return responseMessage.getServerBatchResponse().getRequestid();
+			case SCANRESPONSE:
+				return responseMessage.getScanResponse().getRequestid();
+			default:
+				return responseMessage.getServerResponse().getRequestid();
+		}
+	}
+
+	/**
+	 * Function for closing the connection, failing the requests
+	 *  which are still waiting for a response
+	 * @param cause The reason for closing the connection
+	 */
+	public void close(IOException cause)
+	{
+		closed = true;
+		try
+		{
+			socket.close();
+		}
+		catch(IOException e)
+		{
+			e.printStackTrace();
+		}
+		writer.interrupt();
+		writeQueue.clear();
+
+		for(Long requestId : pendingRequests.keySet())
+		{
+			CompletableFuture<KeyValue.KeyValueMessage> response = pendingRequests.remove(requestId);
+			if(response != null)
+			{
+				response.completeExceptionally(cause);
+			}
+		}
+
+		for(Long requestId : streams.keySet())
+		{
+			BiConsumer<KeyValue.KeyValueMessage, IOException> listener = streams.remove(requestId);
+			if(listener != null)
+			{
+				listener.accept(null, cause);
+			}
+		}
+	}
+
+	@Override
+	public String toString()
+	{
+		return "PeerConnection [replicaName=" + replicaName + ", socket=" + socket
+				+ ", pendingRequests=" + pendingRequests.size() + ", streams=" + streams.size() + ", closed=" + closed + "]";
+	}
+}
@@ -0,0 +1,376 @@
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+
+/**
+ * Class representing the connections to the other replicas, keyed by
+ *  the replica name. Each replica gets a fixed number of long-lived
+ *  connections and the requests are spread over them, many requests
+ *  can be outstanding on a connection at once. A connection which is no
+ *  longer healthy is replaced, and a request which fails because a
+ *  connection in use was closed is sent again once on a new connection.
+ *  Connections are opened on threads of the pool, so sending never waits
+ *  for a connection to be established
+ */
+public class PeerConnectionPool
+{
+	private Map<String, Replica> replicaMap;
+	private ConcurrentHashMap<String, List<CompletableFuture<PeerConnection>>> connections;
+	private AtomicInteger nextConnection;
+	private ScheduledExecutorService evictionExecutor;
+	private ExecutorService connectExecutor;
+
+	public PeerConnectionPool(Map<String, Replica> replicaMap)
+	{
+		this.replicaMap = replicaMap;
+		connections = new ConcurrentHashMap<String, List<CompletableFuture<PeerConnection>>>();
+		nextConnection = new AtomicInteger();
+
+		//Closing the connections which stayed idle for too long
+		evictionExecutor = Executors.newSingleThreadScheduledExecutor(runnable ->
+		{
+			Thread thread = new Thread(runnable, "peer-pool-eviction");
+			thread.setDaemon(true);
+			return thread;
+		});
+		evictionExecutor.scheduleWithFixedDelay(this::evictIdleConnections, Config.PEER_IDLE_TIMEOUT, Config.PEER_IDLE_TIMEOUT / 2 + 1, TimeUnit.MILLISECONDS);
+
+		//Opening the connections off the threads sending the requests
+		connectExecutor = Executors.newCachedThreadPool(runnable ->
+		{
+			Thread thread = new Thread(runnable, "peer-pool-connect");
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	/**
+	 * Function for sending a request to a replica without waiting for the response.
+	 *  The request fails at its deadline, or after the request timeout when it has
+	 *  no deadline
+	 * @param replicaName The name of the replica
+	 * @param request The request for the replica
+	 * @return The future completed with the response of the replica, or
+	 *  completed exceptionally when the replica cannot be reached in time
+	 */
+	public CompletableFuture<KeyValue.KeyValueMessage> send(String replicaName, KeyValue.ServerRequest.Builder request)
+	{
+		if(request.getDeadline() == 0)
+		{
+			request.setDeadline(System.currentTimeMillis() + Config.REQUEST_TIMEOUT);
+		}
+		return send(replicaName, request.getDeadline(), (connection, timeout) -> connection.send(request, timeout));
+	}
+
+	/**
+	 * Function for sending the requests of several keys to a replica in one
+	 *  message, without waiting for the response
+	 * @param replicaName The name of the replica
+	 * @param request The batch for the replica
+	 * @return The future completed with the responses of the replica, or
+	 *  completed exceptionally when the replica cannot be reached in time
+	 */
+	public CompletableFuture<KeyValue.KeyValueMessage> send(String replicaName, KeyValue.ServerBatchRequest.Builder request)
+	{
+		if(request.getDeadline() == 0)
+		{
+			request.setDeadline(System.currentTimeMillis() + Config.REQUEST_TIMEOUT);
+		}
+		return send(replicaName, request.getDeadline(), (connection, timeout) -> connection.send(request, timeout));
+	}
+
+	/**
+	 * Function for sending a client request to a replica coordinating it,
+	 *  without waiting for the response. The request fails at its deadline,
+	 *  or after the request timeout when it has no deadline
+	 * @param replicaName The name of the replica
+	 * @param request The request for the coordinator
+	 * @return The future completed with the response of the coordinator, or
+	 *  completed exceptionally when the replica cannot be reached in time
+	 */
+	public CompletableFuture<KeyValue.KeyValueMessage> send(String replicaName, KeyValue.ClientRequest.Builder request)
+	{
+		if(request.getDeadline() == 0)
+		{
+			request.setDeadline(System.currentTimeMillis() + Config.REQUEST_TIMEOUT);
+		}
+		return send(replicaName, request.getDeadline(), (connection, timeout) -> connection.send(request, timeout));
+	}
+
+	/**
+	 * Function for sending the client requests of several keys to a replica
+	 *  coordinating them in one message, without waiting for the response
+	 * @param replicaName The name of the replica
+	 * @param request The batch for the coordinator
+	 * @return The future completed with the responses of the coordinator, or
+	 *  completed exceptionally when the replica cannot be reached in time
+	 */
+	public CompletableFuture<KeyValue.KeyValueMessage> send(String replicaName, KeyValue.ClientBatchRequest.Builder request)
+	{
+		if(request.getDeadline() == 0)
+		{
+			request.setDeadline(System.currentTimeMillis() + Config.REQUEST_TIMEOUT);
+		}
+		return send(replicaName, request.getDeadline(), (connection, timeout) -> connection.send(request, timeout));
+	}
+
+	/**
+	 * Function for sending a scan of a range of keys to a replica, without
+	 *  waiting for the response
+	 * @param replicaName The name of the replica
+	 * @param request The scan
+	 * @return The future completed with the page of entries, or completed
+	 *  exceptionally when the replica cannot be reached in time
+	 */
+	public CompletableFuture<KeyValue.KeyValueMessage> send(String replicaName, KeyValue.ScanRequest.Builder request)
+	{
+		if(request.getDeadline() == 0)
+		{
+			request.setDeadline(System.currentTimeMillis() + Config.REQUEST_TIMEOUT);
+		}
+		return send(replicaName, request.getDeadline(), (connection, timeout) -> connection.send(request, timeout));
+	}
+
+	/**
+	 * Function for sending a scan to a replica whose chunks are streamed back
+	 * @param replicaName The name of the replica
+	 * @param request The scan, its request id is set here
+	 * @param listener Receives every chunk, or the exception closing the connection
+	 * @return The connection carrying the stream, on which its credits are sent
+	 * @throws IOException When the replica cannot be reached
+	 */
+	public PeerConnection stream(String replicaName, KeyValue.ScanRequest.Builder request, BiConsumer<KeyValue.KeyValueMessage, IOException> listener) throws IOException
+	{
+		PeerConnection connection = await(replicaName, getConnection(replicaName, nextSlot()));
+		connection.stream(request, listener);
+		return connection;
+	}
+
+	/**
+	 * Function for sending a message on a connection to a replica. When the
+	 *  connection was open before and gets closed before the response, for
+	 *  example as the replica restarted, the message is sent again once on
+	 *  a new connection
+	 * @param replicaName The name of the replica
+	 * @param deadline Time in milliseconds since the epoch after which the message fails
+	 * @param sender Sends the message on the connection within the given time in milliseconds
+	 * @return The future completed with the response of the replica
+	 */
+	private CompletableFuture<KeyValue.KeyValueMessage> send(String replicaName, long deadline, BiFunction<PeerConnection, Long, CompletableFuture<KeyValue.KeyValueMessage>> sender)
+	{
+		long startTime = System.currentTimeMillis();
+		int slot = nextSlot();
+		return getConnection(replicaName, slot).thenCompose(connection -> sender.apply(connection, deadline - System.currentTimeMillis()).handle((message, e) ->
+		{
+			if(e == null)
+				return CompletableFuture.completedFuture(message);
+
+			//Retrying on a new connection, unless the closed connection was new as well
+			if(connection.isClosed() && connection.getCreatedTime() < startTime && deadline > System.currentTimeMillis())
+				return getConnection(replicaName, slot).thenCompose(retryConnection -> sender.apply(retryConnection, deadline - System.currentTimeMillis()));
+			return CompletableFuture.<KeyValue.KeyValueMessage>failedFuture(e);
+		}).thenCompose(response -> response));
+	}
+
+	/**
+	 * Function for sending a request to a replica and waiting for its response
+	 * @param replicaName The name of the replica
+	 * @param request The request for the replica
+	 * @return The response of the replica
+	 * @throws IOException When the replica cannot be reached
+	 */
+	public KeyValue.KeyValueMessage call(String replicaName, KeyValue.ServerRequest.Builder request) throws IOException
+	{
+		return await(replicaName, send(replicaName, request));
+	}
+
+	/**
+	 * Function for waiting for a future of the pool
+	 * @param replicaName The name of the replica
+	 * @param future The future
+	 * @return The result of the future
+	 * @throws IOException When the future failed or timed out
+	 */
+	private static <T> T await(String replicaName, CompletableFuture<T> future) throws IOException
+	{
+		try
+		{
+			return future.get();
+		}
+		catch(ExecutionException e)
+		{
+			if(e.getCause() instanceof IOException)
+				throw (IOException)e.getCause();
+			if(e.getCause() instanceof TimeoutException)
+				throw new IOException("Request to " + replicaName + " timed out");
+			throw new IOException(e.getCause());
+		}
+		catch(InterruptedException e)
+		{
+			Thread.currentThread().interrupt();
+			throw new IOException(e);
+		}
+	}
+
+	private int nextSlot()
+	{
+		return Math.floorMod(nextConnection.getAndIncrement(), Config.PEER_CONNECTIONS);
+	}
+
+	/**
+	 * Function for getting the connection of a slot to a replica, connecting
+	 *  when the slot is empty or its connection failed or is not healthy. The
+	 *  connection is marked as used under the lock of the slots, so that the
+	 *  eviction cannot close it before the request is registered on it. The
+	 *  connecting happens outside the lock on the connect executor, the
+	 *  requests for a slot being connected are chained on that connection
+	 * @param replicaName The name of the replica
+	 * @param slot The slot
+	 * @return The future completed with an open connection to the replica, or
+	 *  completed exceptionally when the replica cannot be reached
+	 */
+	private CompletableFuture<PeerConnection> getConnection(String replicaName, int slot)
+	{
+		List<CompletableFuture<PeerConnection>> slots = connections.computeIfAbsent(replicaName,
+				name -> new ArrayList<CompletableFuture<PeerConnection>>(Collections.nCopies(Config.PEER_CONNECTIONS, null)));
+
+		CompletableFuture<PeerConnection> connection;
+		PeerConnection unhealthy = null;
+		synchronized(slots)
+		{
+			connection = slots.get(slot);
+			if(connection != null && !connection.isDone())
+				return connection;
+
+			if(connection != null && !connection.isCompletedExceptionally())
+			{
+				PeerConnection current = connection.join();
+				if(current.isHealthy())
+				{
+					current.markUsed();
+					return connection;
+				}
+				unhealthy = current;
+			}
+			connection = new CompletableFuture<PeerConnection>();
+			slots.set(slot, connection);
+		}
+
+		if(unhealthy != null)
+		{
+			unhealthy.close(new IOException("Connection to " + replicaName + " is not healthy"));
+		}
+		connect(replicaName, connection);
+		return connection;
+	}
+
+	/**
+	 * Function for connecting to a replica on the connect executor
+	 * @param replicaName The name of the replica
+	 * @param connection The future completed with the connection
+	 */
+	private void connect(String replicaName, CompletableFuture<PeerConnection> connection)
+	{
+		try
+		{
+			connectExecutor.execute(() ->
+			{
+				try
+				{
+					connection.complete(new PeerConnection(replicaName, replicaMap.get(replicaName)));
+				}
+				catch(IOException e)
+				{
+					connection.completeExceptionally(e);
+				}
+			});
+		}
+		catch(RejectedExecutionException e)
+		{
+			connection.completeExceptionally(new IOException("Connection pool closed"));
+		}
+	}
+
+	/**
+	 * Function for closing the connections which have no outstanding
+	 *  requests and have not been used within the idle timeout
+	 */
+	private void evictIdleConnections()
+	{
+		long now = System.currentTimeMillis();
+		for(List<CompletableFuture<PeerConnection>> slots : connections.values())
+		{
+			List<PeerConnection> idleConnections = new ArrayList<PeerConnection>();
+			synchronized(slots)
+			{
+				for(int i = 0; i < slots.size(); i++)
+				{
+					CompletableFuture<PeerConnection> connection = slots.get(i);
+					if(connection == null || !connection.isDone())
+						continue;
+
+					if(connection.isCompletedExceptionally())
+					{
+						slots.set(i, null);
+						continue;
+					}
+					PeerConnection current = connection.join();
+					if(current.isClosed() || (current.getPendingCount() == 0 && now - current.getLastUsedTime() > Config.PEER_IDLE_TIMEOUT))
+					{
+						idleConnections.add(current);
+						slots.set(i, null);
+					}
+				}
+			}
+
+			for(PeerConnection connection : idleConnections)
+			{
+				connection.close(new IOException("Idle connection closed"));
+			}
+		}
+	}
+
+	/**
+	 * Function for closing every connection of the pool, failing the
+	 *  requests which are still waiting for a response
+	 */
+	public void close()
+	{
+		evictionExecutor.shutdownNow();
+		connectExecutor.shutdown();
+		for(List<CompletableFuture<PeerConnection>> slots : connections.values())
+		{
+			synchronized(slots)
+			{
+				for(int i = 0; i < slots.size(); i++)
+				{
+					if(slots.get(i) != null)
+					{
+						slots.get(i).thenAccept(connection -> connection.close(new IOException("Connection pool closed")));
+						slots.set(i, null);
+					}
+				}
+			}
+		}
+	}
+
+	@Override
+	public String toString()
+	{
+		return "PeerConnectionPool [connections=" + connections.keySet() + "]";
+	}
+}
@@ -0,0 +1,129 @@
+import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Class collecting the responses of the replicas contacted for a
+ *  client request. The coordinator waits only until the number of
+ *  responses required by the consistency level has arrived, the
+ *  remaining responses are collected in the background
+ */
+public class QuorumCollector
+{
+	private int expected;
+	private int required;
+	private int failed;
+	private ArrayList<DataStoreEntry> responseList;
+	private ArrayList<String> responseServerList;
+	private CompletableFuture<Void> allResponded;
+
+	/**
+	 * Creates a collector
+	 * @param expected Number of replicas contacted
+	 * @param required Number of successful responses required
+	 */
+	public QuorumCollector(int expected, int required)
+	{
+		this.expected = expected;
+		this.required = required;
+		responseList = new ArrayList<>();
+		responseServerList = new ArrayList<>();
+		allResponded = new CompletableFuture<>();
+		if(expected == 0)
+		{
+			allResponded.complete(null);
+		}
+	}
+
+	/**
+	 * Function for recording a successful response
+	 * @param replicaName The replica which responded
+	 * @param entry The entry returned by the replica, null for writes
+	 */
+	public synchronized void addResponse(String replicaName, DataStoreEntry entry)
+	{
+		responseServerList.add(replicaName);
+		responseList.add(entry);
+		responded();
+	}
+
+	/**
+	 * Function for recording a replica which could not be reached
+	 * @param replicaName The replica which failed
+	 */
+	public synchronized void addFailure(String replicaName)
+	{
+		failed++;
+		responded();
+	}
+
+	private void responded()
+	{
+		notifyAll();
+		if(responseList.size() + failed == expected)
+		{
+			allResponded.complete(null);
+		}
+	}
+
+	/**
+	 * Function for waiting until enough replicas have responded, until
+	 *  every replica has responded or failed, or until the deadline
+	 * @param deadline Time in milliseconds since the epoch after which the wait is abandoned
+	 * @return Returns true if the required number of responses arrived
+	 * @throws InterruptedException When the waiting thread is interrupted
+	 */
+	public synchronized boolean awaitQuorum(long deadline) throws InterruptedException
+	{
+		long remaining;
+		while(responseList.size() < required && responseList.size() + failed < expected
+				&& (remaining = deadline - System.currentTimeMillis()) > 0)
+		{
+			wait(remaining);
+		}
+		return responseList.size() >= required;
+	}
+
+	/**
+	 * Function for getting the latest entry among the responses received so far
+	 * @return The entry with the highest timestamp, or null if there is no response
+	 */
+	public synchronized DataStoreEntry getLatestEntry()
+	{
+		DataStoreEntry latestEntry = null;
+		for(DataStoreEntry entry : responseList)
+		{
+			if(entry != null && (latestEntry == null || entry.getTimestamp() > latestEntry.getTimestamp()))
+			{
+				latestEntry = entry;
+			}
+		}
+		return latestEntry;
+	}
+
+	public synchronized ArrayList<DataStoreEntry> getResponseList()
+	{
+		return new ArrayList<>(responseList);
+	}
+
+	public synchronized ArrayList<String> getResponseServerList()
+	{
+		return new ArrayList<>(responseServerList);
+	}
+
+	/**
+	 * Function for getting a future completed once every contacted
+	 *  replica has responded or failed
+	 * @return The future
+	 */
+	public CompletableFuture<Void> getAllResponded()
+	{
+		return allResponded;
+	}
+
+	@Override
+	public synchronized String toString()
+	{
+		return "QuorumCollector [expected=" + expected + ", required=" + required + ", responses="
+				+ responseServerList + ", failed=" + failed + "]";
+	}
+}
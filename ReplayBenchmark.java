@@ -0,0 +1,130 @@
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Random;
+
+import com.google.protobuf.ByteString;
+
+/**
+ * Class comparing the startup replay of the text log read through
+ *  FileProcessor.updateDatastore with the memory-mapped parallel replay
+ *  of the binary log segments. Both logs hold the same records
+ */
+public class ReplayBenchmark
+{
+	public static void main(String[] args) throws IOException
+	{
+		if(args.length < 2)
+		{
+			System.err.println("Usage: ReplayBenchmark <directory> <log size in MB> [value size] [keys]");
+			System.exit(0);
+		}
+
+		Path directory = Paths.get(args[0]);
+		long logSize = Long.parseLong(args[1]) * 1024 * 1024;
+		int valueSize = args.length > 2 ? Integer.parseInt(args[2]) : 100;
+		int keys = args.length > 3 ? Integer.parseInt(args[3]) : 100000;
+		Files.createDirectories(directory);
+
+		//Writing the same records in both formats
+		Path textLog = directory.resolve("benchmark.txt");
+		String logFilePath = directory.resolve("benchmark.log").toString();
+		long records = writeLogs(textLog, logFilePath, logSize, valueSize, keys);
+		System.out.println("Wrote " + records + " records of " + valueSize + " byte values over " + keys + " keys");
+
+		try
+		{
+			long startTime = System.nanoTime();
+			FileProcessor fp = new FileProcessor(textLog.toString());
+			fp.updateDatastore(new HashStorage(keys), key -> true);
+			fp.closeFile();
+			long elapsed = Math.max(1, (System.nanoTime() - startTime) / 1000000);
+			System.out.println(String.format("Text log: %d records, %.1f MB in %d ms (%.1f MB/s, %d records/s)",
+					records, Files.size(textLog) / 1048576.0, elapsed, Files.size(textLog) / 1048576.0 * 1000 / elapsed, records * 1000 / elapsed));
+
+			int[] threadCounts = Config.REPLAY_THREADS > 1 ? new int[] {1, Config.REPLAY_THREADS} : new int[] {1};
+			for(int threads : threadCounts)
+			{
+				ParallelReplay parallelReplay = new ParallelReplay(threads);
+				for(Path segment : WriteAheadLog.listSegments(logFilePath).values())
+				{
+					parallelReplay.addFile(segment, WriteAheadLog.HEADER_SIZE, false);
+				}
+				parallelReplay.replay(new StripedStorage(threads * 4, () -> new HashStorage(keys / (threads * 4))), key -> true);
+			}
+		}
+		finally
+		{
+			Files.deleteIfExists(textLog);
+			for(Path segment : WriteAheadLog.listSegments(logFilePath).values())
+			{
+				Files.delete(segment);
+			}
+		}
+	}
+
+
+	/**
+	 * Function for writing random records as a text log and as binary segments
+	 * @param textLog The path to the text log
+	 * @param logFilePath The path of the binary log, its segments are numbered from 1
+	 * @param logSize The size of the binary log in bytes
+	 * @param valueSize The size of the values
+	 * @param keys The number of keys
+	 * @return The number of records written
+	 * @throws IOException When the logs cannot be written
+	 */
+	private static long writeLogs(Path textLog, String logFilePath, long logSize, int valueSize, int keys) throws IOException
+	{
+		Random random = new Random(1);
+		char[] valueChars = new char[valueSize];
+		long records = 0;
+		long written = 0;
+		long segment = 0;
+		long segmentSize = Long.MAX_VALUE;
+		DataOutputStream segmentStream = null;
+
+		try(PrintWriter text = new PrintWriter(Files.newBufferedWriter(textLog)))
+		{
+			while(written < logSize)
+			{
+				if(segmentSize >= Config.WAL_SEGMENT_SIZE)
+				{
+					if(segmentStream != null)
+						segmentStream.close();
+					segment++;
+					segmentStream = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(logFilePath + "." + segment), 1024 * 1024));
+					segmentStream.writeInt(WriteAheadLog.MAGIC);
+					segmentStream.writeInt(WriteAheadLog.VERSION);
+					segmentSize = WriteAheadLog.HEADER_SIZE;
+				}
+
+				for(int i = 0; i < valueSize; i++)
+				{
+					valueChars[i] = (char)('a' + random.nextInt(26));
+				}
+				int key = random.nextInt(keys);
+				String value = new String(valueChars);
+				long timestamp = records + 1;
+
+				text.println(key + ":" + value + ":" + timestamp);
+				byte[] record = WriteAheadLog.encodeRecord(Keys.ofInt(key), ByteString.copyFromUtf8(value), timestamp);
+				segmentStream.write(record);
+				segmentSize += record.length;
+				written += record.length;
+				records++;
+			}
+		}
+		finally
+		{
+			if(segmentStream != null)
+				segmentStream.close();
+		}
+		return records;
+	}
+}
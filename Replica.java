@@ -7,8 +7,6 @@ public class Replica
 	private String replicaName;
 	private String ip;
 	private int port;
-	private int start;
-	private int end;
 	
 	public String getReplicaName() 
 	{
@@ -40,38 +38,10 @@ public class Replica
 		this.port = port;
 	}
 	
-	public int getStart() 
-	{
-		return start;
-	}
-	
-	public void setStart(int start) 
-	{
-		this.start = start;
-	}
-	
-	public int getEnd() 
-	{
-		return end;
-	}
-	
-	public void setEnd(int end) 
-	{
-		this.end = end;
-	}
-	
-	public boolean isInRange(int key)
-	{
-		if(key < start || key > end)
-			return true;
-		else
-			return false;
-	}
-
 	@Override
 	public String toString()
 	{
 		return "Replica [replicaName=" + replicaName + ", ip=" + ip + ", port="
-				+ port + ", start=" + start + ", end=" + end + "]";
+				+ port + "]";
 	}
 }
\ No newline at end of file
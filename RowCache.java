@@ -0,0 +1,285 @@
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.google.protobuf.ByteString;
+
+/**
+ * Class representing a cache of the entries of the data store, bounded by
+ *  an estimate of the bytes the entries take. The cache is split into
+ *  segments by key, each one with its own lock and its share of the size,
+ *  and evicts the least recently used entry of a segment. With TinyLFU
+ *  admission a new entry only replaces the entry to be evicted if its key
+ *  was read more often lately, counted in a small frequency sketch, so
+ *  that reads of many keys once do not flush the hot keys out.
+ * Keys without a value are cached as well, as ABSENT
+ */
+public class RowCache
+{
+	//Evicts the least recently used entry
+	static final String LRU = "LRU";
+	//Evicts the least recently used entry, unless the new entry is read less often
+	static final String TINYLFU = "TINYLFU";
+
+	//Cached for a key without a value
+	static final DataStoreEntry ABSENT = new DataStoreEntry();
+
+	//Estimated bytes of a cached entry besides its key and value
+	static final int ENTRY_OVERHEAD = 96;
+
+	private Segment[] segments;
+	private boolean admission;
+	private AtomicLong hits;
+	private AtomicLong misses;
+	private AtomicLong evictions;
+	private AtomicLong rejections;
+
+	/**
+	 * Class representing a segment of the cache, guarded by its own lock
+	 */
+	private static class Segment
+	{
+		private LinkedHashMap<ByteString, DataStoreEntry> entries;
+		private long bytes;
+		private long capacity;
+		private long writeCount;
+		private FrequencySketch sketch;
+	}
+
+	/**
+	 * Class representing a count-min sketch of how often keys were read
+	 *  lately. Every key has a 4 bit counter in each of 4 rows, its frequency
+	 *  is the smallest of them. Keys are counted by the hash code they cache.
+	 *  All the counters are halved once the sketch
+	 *  counted ten reads per counter of a row, so old reads fade
+	 */
+	private static class FrequencySketch
+	{
+		private static final int[] SEEDS = {0x97CB3127, 0xB1A4C4A5, 0x85EBCA6B, 0xC2B2AE35};
+
+		private byte[][] rows;
+		private int mask;
+		private int reads;
+		private int resetAfter;
+
+		private FrequencySketch(int width)
+		{
+			int size = Integer.highestOneBit(Math.max(16, width) - 1) << 1;
+			rows = new byte[SEEDS.length][size];
+			mask = size - 1;
+			resetAfter = size * 10;
+		}
+
+		private void increment(int hash)
+		{
+			for(int i = 0; i < rows.length; i++)
+			{
+				int index = indexOf(hash, i);
+				if(rows[i][index] < 15)
+					rows[i][index]++;
+			}
+
+			if(++reads >= resetAfter)
+			{
+				for(byte[] row : rows)
+				{
+					for(int index = 0; index < row.length; index++)
+					{
+						row[index] >>= 1;
+					}
+				}
+				reads /= 2;
+			}
+		}
+
+		private int frequency(int hash)
+		{
+			int frequency = 15;
+			for(int i = 0; i < rows.length; i++)
+			{
+				frequency = Math.min(frequency, rows[i][indexOf(hash, i)]);
+			}
+			return frequency;
+		}
+
+		private int indexOf(int hash, int row)
+		{
+			int h = (hash ^ SEEDS[row]) * 0x9E3779B9;
+			return (h ^ (h >>> 16)) & mask;
+		}
+	}
+
+	/**
+	 * @param capacity The estimated bytes the cache may take
+	 * @param segmentCount The number of segments, rounded up to a power of two
+	 * @param policy LRU or TINYLFU
+	 */
+	public RowCache(long capacity, int segmentCount, String policy)
+	{
+		if(!policy.equalsIgnoreCase(LRU) && !policy.equalsIgnoreCase(TINYLFU))
+		{
+			throw new IllegalArgumentException("Unknown row cache policy " + policy);
+		}
+		admission = policy.equalsIgnoreCase(TINYLFU);
+
+		int count = Integer.highestOneBit(Math.max(2, segmentCount) - 1) << 1;
+		segments = new Segment[count];
+		for(int i = 0; i < count; i++)
+		{
+			Segment segment = new Segment();
+			segment.entries = new LinkedHashMap<ByteString, DataStoreEntry>(16, 0.75f, true);
+			segment.capacity = capacity / count;
+
+			//A counter per entry the segment can hold at most
+			segment.sketch = new FrequencySketch((int)Math.min(1 << 24, segment.capacity / ENTRY_OVERHEAD));
+			segments[i] = segment;
+		}
+		hits = new AtomicLong();
+		misses = new AtomicLong();
+		evictions = new AtomicLong();
+		rejections = new AtomicLong();
+	}
+
+	/**
+	 * Function for reading the cached entry of a key
+	 * @param key The key
+	 * @return The entry, ABSENT if the key is cached without a value, or null
+	 *  if the key is not cached
+	 */
+	public DataStoreEntry get(ByteString key)
+	{
+		Segment segment = segmentOf(key);
+		DataStoreEntry entry;
+		synchronized(segment)
+		{
+			entry = segment.entries.get(key);
+			if(admission)
+				segment.sketch.increment(key.hashCode());
+		}
+
+		if(entry != null)
+			hits.incrementAndGet();
+		else
+			misses.incrementAndGet();
+		return entry;
+	}
+
+	/**
+	 * Function for getting the stamp to be passed to fill, taken before the
+	 *  entry is read from the data store
+	 * @param key The key
+	 * @return The number of writes to the segment of the key so far
+	 */
+	public long stamp(ByteString key)
+	{
+		Segment segment = segmentOf(key);
+		synchronized(segment)
+		{
+			return segment.writeCount;
+		}
+	}
+
+	/**
+	 * Function for caching an entry read from the data store. The entry is
+	 *  dropped if a write reached the segment since the stamp was taken, as
+	 *  it may be older than that write
+	 * @param key The key
+	 * @param entry The entry, or null if the key has no value
+	 * @param stamp The stamp taken before reading the entry
+	 */
+	public void fill(ByteString key, DataStoreEntry entry, long stamp)
+	{
+		if(entry == null)
+			entry = ABSENT;
+		long size = sizeOf(key, entry);
+
+		Segment segment = segmentOf(key);
+		synchronized(segment)
+		{
+			if(segment.writeCount != stamp || size > segment.capacity || segment.entries.containsKey(key))
+				return;
+
+			Iterator<Map.Entry<ByteString, DataStoreEntry>> eldest = segment.entries.entrySet().iterator();
+			while(segment.bytes + size > segment.capacity && eldest.hasNext())
+			{
+				Map.Entry<ByteString, DataStoreEntry> victim = eldest.next();
+				if(admission && segment.sketch.frequency(key.hashCode()) <= segment.sketch.frequency(victim.getKey().hashCode()))
+				{
+					rejections.incrementAndGet();
+					return;
+				}
+				segment.bytes -= sizeOf(victim.getKey(), victim.getValue());
+				eldest.remove();
+				evictions.incrementAndGet();
+			}
+			segment.entries.put(key, entry);
+			segment.bytes += size;
+		}
+	}
+
+	/**
+	 * Function for passing a write to the cache. A cached entry of the key is
+	 *  replaced if the write is newer, and fills of the segment already under
+	 *  way are dropped
+	 * @param key The key
+	 * @param entry The entry written
+	 */
+	public void update(ByteString key, DataStoreEntry entry)
+	{
+		Segment segment = segmentOf(key);
+		synchronized(segment)
+		{
+			segment.writeCount++;
+			DataStoreEntry cached = segment.entries.get(key);
+			if(cached != null && (cached == ABSENT || cached.getTimestamp() < entry.getTimestamp()))
+			{
+				segment.bytes += sizeOf(key, entry) - sizeOf(key, cached);
+				segment.entries.put(key, entry);
+			}
+		}
+	}
+
+	private Segment segmentOf(ByteString key)
+	{
+		int h = key.hashCode() * 0x85EBCA6B;
+		return segments[(h ^ (h >>> 15)) & (segments.length - 1)];
+	}
+
+	private static long sizeOf(ByteString key, DataStoreEntry entry)
+	{
+		return ENTRY_OVERHEAD + key.size() + (entry.getValue() == null ? 0 : entry.getValue().size());
+	}
+
+	public long getHits()
+	{
+		return hits.get();
+	}
+
+	public long getMisses()
+	{
+		return misses.get();
+	}
+
+	public long getEvictions()
+	{
+		return evictions.get();
+	}
+
+	/**
+	 * Function for getting the entries which TinyLFU kept out of the cache
+	 * @return The number of entries not admitted
+	 */
+	public long getRejections()
+	{
+		return rejections.get();
+	}
+
+	@Override
+	public String toString()
+	{
+		long reads = hits.get() + misses.get();
+		return "RowCache [hits=" + hits.get() + ", misses=" + misses.get() + ", hitRatio=" + (reads == 0 ? 0 : hits.get() * 100 / reads) + "%"
+				+ ", evictions=" + evictions.get() + ", rejections=" + rejections.get() + "]";
+	}
+}
@@ -0,0 +1,226 @@
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import com.google.protobuf.ByteString;
+
+/**
+ * Class representing the entries of a range of keys streamed by a
+ *  coordinator in chunks, in key order. The coordinator sends a
+ *  chunk only when the client has room for it: the stream starts with a
+ *  few credits and grants one more each time a chunk is taken, so neither
+ *  side holds more than a few chunks of the range. When the coordinator
+ *  fails, the stream resumes after the last chunk taken on the next
+ *  replica.
+ * The class is not thread-safe
+ */
+public class ScanStream implements Iterator<KeyValue.ScanEntry>, Closeable
+{
+	//Queued when the connection of the stream fails
+	private static final KeyValue.KeyValueMessage FAILED = KeyValue.KeyValueMessage.getDefaultInstance();
+
+	private PeerConnectionPool connectionPool;
+	private List<String> coordinators;
+	private int first;
+	private int attempt;
+	private int failures;
+	private KeyValue.ScanRequest.Builder request;
+	private PeerConnection connection;
+	private BlockingQueue<KeyValue.KeyValueMessage> chunks;
+	private Iterator<KeyValue.ScanEntry> entries;
+	private ByteString pagingToken;
+	private boolean finished;
+
+	/**
+	 * @param connectionPool The connections to the replicas
+	 * @param coordinators The replicas which may coordinate the stream
+	 * @param first The position of the first replica tried
+	 * @param request The scan, with its range, chunk size, consistency and credits
+	 */
+	ScanStream(PeerConnectionPool connectionPool, List<String> coordinators, int first, KeyValue.ScanRequest.Builder request)
+	{
+		this.connectionPool = connectionPool;
+		this.coordinators = coordinators;
+		this.first = first;
+		this.request = request;
+		entries = Collections.emptyIterator();
+		pagingToken = request.getPagingtoken();
+	}
+
+	/**
+	 * Function for checking if the range has more entries, waiting for the
+	 *  next chunk when the current one is exhausted
+	 * @throws UncheckedIOException When the scan failed on every replica
+	 */
+	@Override
+	public boolean hasNext()
+	{
+		while(!entries.hasNext() && !finished)
+		{
+			takeChunk();
+		}
+		return entries.hasNext();
+	}
+
+	@Override
+	public KeyValue.ScanEntry next()
+	{
+		if(!hasNext())
+			throw new NoSuchElementException();
+		return entries.next();
+	}
+
+	/**
+	 * Function for getting the paging token after the last chunk taken, from
+	 *  which a scan can resume later
+	 * @return The paging token, empty once the range is exhausted
+	 */
+	public ByteString getPagingToken()
+	{
+		return pagingToken;
+	}
+
+	/**
+	 * Function for taking the next chunk, granting the coordinator one more
+	 */
+	private void takeChunk()
+	{
+		if(connection == null && !open())
+		{
+			retry();
+			return;
+		}
+
+		KeyValue.KeyValueMessage message;
+		try
+		{
+			//The coordinator takes up to the request timeout for a chunk
+			message = chunks.poll(Config.REQUEST_TIMEOUT * 2, TimeUnit.MILLISECONDS);
+		}
+		catch(InterruptedException e)
+		{
+			Thread.currentThread().interrupt();
+			close();
+			throw new UncheckedIOException(new InterruptedIOException("Scan interrupted"));
+		}
+
+		if(message == null || !message.hasScanResponse() || !message.getScanResponse().getStatus().equalsIgnoreCase("SUCCESS"))
+		{
+			retry();
+			return;
+		}
+
+		KeyValue.ScanResponse chunk = message.getScanResponse();
+		entries = chunk.getEntriesList().iterator();
+		pagingToken = chunk.getPagingtoken();
+		failures = 0;
+		if(pagingToken.isEmpty())
+		{
+			finished = true;
+			connection.endStream(request.getRequestid());
+		}
+		else
+		{
+			send(KeyValue.ScanCredit.newBuilder().setRequestid(request.getRequestid()).setCredits(1));
+		}
+	}
+
+	/**
+	 * Function for starting the stream on the current replica, from the
+	 *  paging token of the last chunk taken
+	 * @return Returns true if the scan was sent
+	 */
+	private boolean open()
+	{
+		//Room for every chunk granted, and a failure
+		BlockingQueue<KeyValue.KeyValueMessage> queue = new ArrayBlockingQueue<KeyValue.KeyValueMessage>(request.getCredits() + 2);
+		chunks = queue;
+		request.setPagingtoken(pagingToken);
+		request.setDeadline(System.currentTimeMillis() + Config.REQUEST_TIMEOUT);
+		try
+		{
+			connection = connectionPool.stream(coordinators.get((first + attempt) % coordinators.size()), request, (message, e) ->
+			{
+				//A coordinator sending more than it was granted is treated as failed
+				if(message == null || !queue.offer(message))
+				{
+					queue.clear();
+					queue.offer(FAILED);
+				}
+			});
+			return true;
+		}
+		catch(IOException e)
+		{
+			return false;
+		}
+	}
+
+	/**
+	 * Function for moving the stream to the next replica once the current
+	 *  one failed, giving up after every replica failed in a row
+	 */
+	private void retry()
+	{
+		cancel();
+		attempt++;
+		if(++failures >= coordinators.size())
+		{
+			finished = true;
+			throw new UncheckedIOException(new IOException("Scan failed on every replica"));
+		}
+	}
+
+	/**
+	 * Function for stopping the stream on the current replica
+	 */
+	private void cancel()
+	{
+		if(connection != null)
+		{
+			connection.endStream(request.getRequestid());
+			send(KeyValue.ScanCredit.newBuilder().setRequestid(request.getRequestid()).setCancel(true));
+			connection = null;
+		}
+	}
+
+	private void send(KeyValue.ScanCredit.Builder credit)
+	{
+		try
+		{
+			connection.send(credit);
+		}
+		catch(IOException e)
+		{
+			//The stream fails as the connection closes
+		}
+	}
+
+	/**
+	 * Function for stopping the stream before the end of the range
+	 */
+	@Override
+	public void close()
+	{
+		if(!finished)
+		{
+			finished = true;
+			cancel();
+		}
+	}
+
+	@Override
+	public String toString()
+	{
+		return "ScanStream [request=" + request.getRequestid() + ", coordinator=" + coordinators.get((first + attempt) % coordinators.size())
+				+ ", failures=" + failures + ", finished=" + finished + "]";
+	}
+}
@@ -1,65 +1,85 @@
 import java.io.IOException;
-import java.net.ServerSocket;
-import java.net.Socket;
+import java.net.InetAddress;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import com.google.protobuf.ByteString;
 
 
 public class Server
 {
 	private String serverName;
-	private HashMap<Integer, DataStoreEntry> dataStore;
-	private HashMap<String, HashMap<Integer, DataStoreEntry>> hintedHandoff;
+	private StorageEngine dataStore;
+	private Replica localReplica;
+	private Partitioner partitioner;
+	private ConcurrentHashMap<String, ConcurrentHashMap<ByteString, DataStoreEntry>> hintedHandoff;
+	private Set<String> handoffInProgress;
 	private HashMap<String, Replica> replicaMap;
+	private PeerConnectionPool peerPool;
 	private String consistencyProcedure;
+	private ExecutorService replicaExecutor;
+	private ExecutorService coordinatorExecutor;
+	private WriteAheadLog writeAheadLog;
+	private ScheduledExecutorService checkpointExecutor;
+	private ConcurrentHashMap<List<Object>, ScanFlow> scanFlows;
+	private ScheduledExecutorService scanTimeoutExecutor;
 	final String QUORUM = "QUORUM";
 	final String ONE = "ONE";
 	final String READ_REPAIR = "READ_REPAIR";
 	final String HINTED_HANDOFF = "HINTED_HANDOFF";
 	
+	/**
+	 * Class representing a streamed scan between its chunks, with the chunks
+	 *  its client granted. Its fields are guarded by the scan itself
+	 */
+	private static class ScanFlow
+	{
+		private List<Object> flowKey;
+		private Connection connection;
+		private Runnable closeListener;
+		private KeyValue.ScanRequest.Builder chunkRequest;
+		private long chunkDeadline;
+		private int credits;
+		private boolean reading;
+		private boolean finished;
+		private ScheduledFuture<?> creditTimeout;
+	}
+	
 	public Server(String serverName, String consistencyProcedure) 
 	{
 		this.serverName = serverName;
 		this.consistencyProcedure = consistencyProcedure;
 		
-		dataStore = new HashMap<Integer, DataStoreEntry>();
-		hintedHandoff = new HashMap<String, HashMap<Integer, DataStoreEntry>>();
+		hintedHandoff = new ConcurrentHashMap<String, ConcurrentHashMap<ByteString, DataStoreEntry>>();
+		handoffInProgress = ConcurrentHashMap.newKeySet();
+		scanFlows = new ConcurrentHashMap<List<Object>, ScanFlow>();
 		replicaMap = new HashMap<String, Replica>();
+		peerPool = new PeerConnectionPool(replicaMap);
 		
-		//Initializing the keys of the data store for each replica
-		if(serverName.contains("0") || serverName.contains("1") || serverName.contains("2"))
-		{
-			for(int i = 0; i < 64; i++)
-			{
-				dataStore.put(i, null);
-			}
-		}
-		
-		if(serverName.contains("1") || serverName.contains("2") || serverName.contains("3"))
-		{
-			for(int i = 64; i < 128; i++)
-			{
-				dataStore.put(i, null);
-			}
-		}
-		
-		if(serverName.contains("2") || serverName.contains("3") || serverName.contains("0"))
+		//Failing the streamed scans whose client stopped granting credits
+		scanTimeoutExecutor = Executors.newSingleThreadScheduledExecutor(runnable ->
 		{
-			for(int i = 128; i < 192; i++)
-			{
-				dataStore.put(i, null);
-			}
-		}
-		
-		if( serverName.contains("3") || serverName.contains("0") || serverName.contains("1"))
-		{
-			for(int i = 192; i < 256; i++)
-			{
-				dataStore.put(i, null);
-			}
-		}
+			Thread thread = new Thread(runnable, "scan-credit-timeout");
+			thread.setDaemon(true);
+			return thread;
+		});
 	}
 	
 	/**
@@ -70,44 +90,50 @@ public class Server
 	void setReplicaMapping(FileProcessor fp) throws IOException
 	{
 		String line = null;
+		ArrayList<String> replicaNames = new ArrayList<String>();
 		
 		//File format "ReplicaName IP Port"
 		while((line = fp.readLine()) != null)
 		{
 			String arr[] = line.split("\\s");
 			Replica tempReplica = new Replica();
+			tempReplica.setReplicaName(arr[0]);
 			tempReplica.setIp(arr[1]);
 			tempReplica.setPort(Integer.parseInt(arr[2]));
-			
-			//Setting the excluding ranges
-			if(arr[0].contains("0"))
-			{
-				tempReplica.setStart(64);
-				tempReplica.setEnd(127);
-			}
-			else if(arr[0].contains("1"))
-			{
-				tempReplica.setStart(128);
-				tempReplica.setEnd(191);
-			}
-			else if(arr[0].contains("2"))
-			{
-				tempReplica.setStart(192);
-				tempReplica.setEnd(255);
-			}
-			else if(arr[0].contains("3"))
-			{
-				tempReplica.setStart(0);
-				tempReplica.setEnd(63);
-			}
+			replicaNames.add(arr[0]);
 			
 			if(!serverName.equalsIgnoreCase(arr[0]))
 			{
 				replicaMap.put(arr[0], tempReplica);
 			}
+			else
+			{
+				localReplica = tempReplica;
+			}
 		}
 		
+		//The keys every replica owns follow from the token ring of all the replicas,
+		// nothing is held for a key until it is written
+		partitioner = new TokenRing(replicaNames, Config.VIRTUAL_NODES, Config.REPLICATION_FACTOR);
+		System.out.println(partitioner);
+	}
+	
+	/**
+	 * Function for creating the storage engine of the data store
+	 * @param logFilePath The path to the log file, the LSM tables go to <log file path>.lsm
+	 * @throws IOException When the tables cannot be opened
+	 */
+	void openStorage(String logFilePath) throws IOException
+	{
+		if(Config.STORAGE_ENGINE.equalsIgnoreCase("LSM"))
+		{
+			dataStore = new LsmStorage(Paths.get(logFilePath + ".lsm"), Config.MEMTABLE_SIZE, Config.TABLE_INDEX_INTERVAL, Config.STORAGE_STRIPES,
+					Config.COMPACTION_THRESHOLD, Config.COMPACTION_RATE);
+			return;
+		}
 		
+		boolean offHeap = Config.VALUE_STORAGE.equalsIgnoreCase("OFFHEAP");
+		dataStore = new StripedStorage(Config.STORAGE_STRIPES, () -> offHeap ? new HashStorage(64, new ValueArena(Config.SLAB_SIZE)) : new HashStorage());
 	}
 	
 	/**
@@ -115,13 +141,12 @@ public class Server
 	 * @param key Key for which read repair is to be performed
 	 * @param responseList The key-value pairs received from different replicas
 	 * @param responseServerList List of servers for which the keys is to be repaired
-	 * @param logFilePath Path to the write-ahead log
 	 * @throws IOException When unable to connect to host
 	 */
-	public void doReadRepair(int key, ArrayList<DataStoreEntry> responseList, ArrayList<String> responseServerList, String logFilePath) throws IOException 
+	public void doReadRepair(ByteString key, ArrayList<DataStoreEntry> responseList, ArrayList<String> responseServerList) throws IOException 
 	{
 		Long maxTimeStamp = (long)0;
-		String updatedValue = "";
+		ByteString updatedValue = ByteString.EMPTY;
 		
 		//Getting the timestamp and value of the latest entry
 		for (DataStoreEntry dataStoreEntry : responseList) 
@@ -141,13 +166,9 @@ public class Server
 				//Checking if the current server contains an old entry
 				if(!responseServerList.get(i).equalsIgnoreCase(serverName))
 				{
-					Socket socket = null;
 					try
 					{
-						socket = new Socket(replicaMap.get(responseServerList.get(i)).getIp(), replicaMap.get(responseServerList.get(i)).getPort());
-						
 						//Creating request messages
-						KeyValue.KeyValueMessage.Builder keyValueMessage = KeyValue.KeyValueMessage.newBuilder();
 						KeyValue.ServerRequest.Builder requestMessage = KeyValue.ServerRequest.newBuilder();
 
 						//Setting message data
@@ -156,34 +177,33 @@ public class Server
 						requestMessage.setTimestamp(maxTimeStamp);
 						requestMessage.setType("PUT");
 						requestMessage.setReplicaname(serverName);
-						keyValueMessage.setServerRequest(requestMessage);
-						
-						//Sending the message
-						keyValueMessage.build().writeDelimitedTo(socket.getOutputStream());
 						
-						//Reading the response messages
-						System.out.println("READ_REPAIR reply: " + KeyValue.KeyValueMessage.parseDelimitedFrom(socket.getInputStream()));
+						//Sending the message and reading the response message
+						System.out.println("READ_REPAIR reply: " + peerPool.call(responseServerList.get(i), requestMessage));
 					}
 					catch(IOException e) 
 					{
 						e.printStackTrace();
 					}
-					finally
-					{
-						if(socket!=null)
-							socket.close();
-					}
 				}
 				else//Updating the old entry of the replica
 				{
-					//Writing to write-ahead log
-					FileProcessor.writeLog(key, updatedValue, maxTimeStamp, logFilePath);
+					long logSequence = 0;
+					synchronized(dataStore.lockFor(key))
+					{
+						//Skipping the repair if a newer write arrived in the meantime
+						if(dataStore.getTimestamp(key) < maxTimeStamp)
+						{
+							//Writing to write-ahead log
+							logSequence = writeAheadLog.append(key, updatedValue, maxTimeStamp);
+
+							//Updating the data store
+							dataStore.put(key, updatedValue, maxTimeStamp);
+						}
+					}
 					
-					//Updating the data store
-					DataStoreEntry newEntry = new DataStoreEntry();
-					newEntry.setValue(updatedValue);
-					newEntry.setTimestamp(maxTimeStamp);
-					dataStore.put(key, newEntry);
+					//Waiting for the log outside the lock so that concurrent writes share its sync
+					writeAheadLog.awaitDurable(logSequence);
 				}
 			}
 		}
@@ -196,79 +216,201 @@ public class Server
 	 */
 	private void doHintedHandoff(String replica) throws IOException
 	{
-		//Getting the hints for the replica
-		HashMap<Integer, DataStoreEntry> mapHints = hintedHandoff.get(replica);
+		//Only one worker delivers the hints of a replica at a time
+		if(!handoffInProgress.add(replica))
+		{
+			return;
+		}
 		
-		//Iterating over the hints
-		Iterator<Integer> it = mapHints.keySet().iterator();
-		while(it.hasNext())
+		try
 		{
-			int key = it.next();
-			DataStoreEntry dataEntry = mapHints.get(key);
+			//Getting the hints for the replica
+			ConcurrentHashMap<ByteString, DataStoreEntry> mapHints = hintedHandoff.get(replica);
+			if(mapHints == null)
+			{
+				return;
+			}
 			
-			Socket socket = null;
-			try
+			//Iterating over the hints
+			for(Map.Entry<ByteString, DataStoreEntry> hint : mapHints.entrySet())
 			{
-				socket = new Socket(replicaMap.get(replica).getIp(), replicaMap.get(replica).getPort());
-				
-				//Creating request messages
-				KeyValue.KeyValueMessage.Builder keyValueMessage = KeyValue.KeyValueMessage.newBuilder();
-				KeyValue.ServerRequest.Builder requestMessage = KeyValue.ServerRequest.newBuilder();
-
-				//Setting the required values
-				requestMessage.setKey(key);
-				requestMessage.setValue(dataEntry.getValue());
-				requestMessage.setTimestamp(dataEntry.getTimestamp());
-				requestMessage.setType("PUT");
-				requestMessage.setReplicaname(serverName);
-				keyValueMessage.setServerRequest(requestMessage);
+				ByteString key = hint.getKey();
+				DataStoreEntry dataEntry = hint.getValue();
 				
-				//Sending the message
-				keyValueMessage.build().writeDelimitedTo(socket.getOutputStream());
-
-				//Reading the response
-				KeyValue.KeyValueMessage keyvalueMessage = KeyValue.KeyValueMessage.parseDelimitedFrom(socket.getInputStream());
-				
-				//Removing the hint from the list of hints
-				if(keyvalueMessage.hasServerResponse())
+				try
+				{
+					//Creating request messages
+					KeyValue.ServerRequest.Builder requestMessage = KeyValue.ServerRequest.newBuilder();
+	
+					//Setting the required values
+					requestMessage.setKey(key);
+					requestMessage.setValue(dataEntry.getValue());
+					requestMessage.setTimestamp(dataEntry.getTimestamp());
+					requestMessage.setType("PUT");
+					requestMessage.setReplicaname(serverName);
+					
+					//Sending the message and reading the response
+					KeyValue.KeyValueMessage keyvalueMessage = peerPool.call(replica, requestMessage);
+					
+					/*Removing the hint from the list of hints, unless
+					 a newer hint replaced it while it was being sent*/
+					if(keyvalueMessage != null && keyvalueMessage.hasServerResponse())
+					{
+						mapHints.remove(key, dataEntry);
+					}
+				}
+				catch(IOException e) 
 				{
-					mapHints.remove(key);
-					it = mapHints.keySet().iterator();
+					e.printStackTrace();
 				}
 			}
-			catch(IOException e) 
+			//Removing the hints
+			hintedHandoff.computeIfPresent(replica, (name, hints) -> hints.isEmpty() ? null : hints);
+		}
+		finally
+		{
+			handoffInProgress.remove(replica);
+		}
+	}
+	
+	/**
+	 * Function for delivering the hints of a replica on the coordinator
+	 *  executor, so that the worker answering a replica never waits for
+	 *  another replica
+	 * @param replica The replica name
+	 */
+	private void deliverHints(String replica)
+	{
+		//The hints are kept and delivered the next time the replica is contacted if the queue is full
+		runInBackground(() ->
+		{
+			try
+			{
+				doHintedHandoff(replica);
+			}
+			catch(IOException e)
 			{
 				e.printStackTrace();
 			}
-			finally
+		});
+	}
+	
+	/**
+	 * Function for running work which the client does not wait for,
+	 *  such as read repair and hinted handoff, on the coordinator executor
+	 * @param task The work to be run
+	 */
+	private void runInBackground(Runnable task)
+	{
+		try
+		{
+			coordinatorExecutor.execute(task);
+		}
+		catch(RejectedExecutionException e)
+		{
+			System.out.println("Coordinator queue is full, skipping background work");
+		}
+	}
+	
+	/**
+	 * Function for storing a hint for a replica which is not available
+	 * @param replica The replica name
+	 * @param key The key of the missed write
+	 * @param value The value of the missed write
+	 * @param timestamp The timestamp of the missed write
+	 */
+	private void storeHint(String replica, ByteString key, ByteString value, long timestamp)
+	{
+		DataStoreEntry hintDataStoreEntry = new DataStoreEntry();
+		hintDataStoreEntry.setValue(value);
+		hintDataStoreEntry.setTimestamp(timestamp);
+		
+		//Handling multiple value for same key, the latest one is kept
+		hintedHandoff.compute(replica, (name, hints) ->
+		{
+			if(hints == null)
 			{
-				if(socket!=null)
-					socket.close();
+				hints = new ConcurrentHashMap<>();
 			}
+			hints.merge(key, hintDataStoreEntry, (oldHint, newHint) -> oldHint.getTimestamp() < newHint.getTimestamp() ? newHint : oldHint);
+			return hints;
+		});
+	}
+	
+	/**
+	 * Function for dispatching a message decoded by an event loop. Requests
+	 *  from other replicas run on the replica executor, client requests run
+	 *  on the coordinator executor since they wait for other replicas
+	 * @param requestMessage The decoded message
+	 * @param connection The connection the message was received on
+	 */
+	public void dispatch(KeyValue.KeyValueMessage requestMessage, Connection connection)
+	{
+		//Credits only resume a parked streamed scan, they need no worker
+		if(requestMessage.hasScanCredit())
+		{
+			grantCredit(requestMessage.getScanCredit(), connection);
+			return;
+		}
+		
+		boolean clientRequest = requestMessage.hasClientRequest() || requestMessage.hasClientBatchRequest()
+				|| (requestMessage.hasScanRequest() && requestMessage.getScanRequest().getReplicaname().isEmpty());
+		ExecutorService executor = clientRequest ? coordinatorExecutor : replicaExecutor;
+		try
+		{
+			executor.execute(() ->
+			{
+				try
+				{
+					handleRequest(requestMessage, connection);
+				}
+				catch(Exception e)
+				{
+					e.printStackTrace();
+				}
+			});
 		}
-		//Removing the hints
-		if(mapHints.isEmpty())
+		catch(RejectedExecutionException e)
 		{
-			hintedHandoff.remove(replica);
+			//Shedding the request when all the coordinator workers are busy
+			System.out.println("Coordinator queue is full, rejecting the client request");
+			if(requestMessage.hasClientBatchRequest())
+			{
+				KeyValue.ClientBatchResponse.Builder batchResponseMessage = KeyValue.ClientBatchResponse.newBuilder();
+				batchResponseMessage.setRequestid(requestMessage.getClientBatchRequest().getRequestid());
+				for(KeyValue.ClientRequest request : requestMessage.getClientBatchRequest().getRequestsList())
+				{
+					batchResponseMessage.addResponses(KeyValue.ClientResponse.newBuilder().setKey(request.getKey()).setStatus("FAIL"));
+				}
+				connection.send(KeyValue.KeyValueMessage.newBuilder().setClientBatchResponse(batchResponseMessage).build());
+			}
+			else if(requestMessage.hasScanRequest())
+			{
+				KeyValue.ScanResponse.Builder scanResponseMessage = KeyValue.ScanResponse.newBuilder();
+				scanResponseMessage.setRequestid(requestMessage.getScanRequest().getRequestid());
+				scanResponseMessage.setStatus("FAIL");
+				connection.send(KeyValue.KeyValueMessage.newBuilder().setScanResponse(scanResponseMessage).build());
+			}
+			else
+			{
+				KeyValue.ClientResponse.Builder clientResponseMessage = KeyValue.ClientResponse.newBuilder();
+				clientResponseMessage.setKey(requestMessage.getClientRequest().getKey());
+				clientResponseMessage.setRequestid(requestMessage.getClientRequest().getRequestid());
+				clientResponseMessage.setStatus("FAIL");
+				connection.send(KeyValue.KeyValueMessage.newBuilder().setClientResponse(clientResponseMessage).build());
+			}
 		}
 	}
 	
 	/**
 	 * Function for handling the requests received by the replica
-	 * @param serverSocket Socket object
-	 * @param logFilePath File path for the write-ahead log
+	 * @param requestMessage The request read from the connection
+	 * @param connection The connection the response is sent on
 	 * @throws IOException Throws an exception when unable
 	 *  to connect to a host
 	 */
-	public void handleRequest(Socket serverSocket, String logFilePath) throws IOException
+	public void handleRequest(KeyValue.KeyValueMessage requestMessage, Connection connection) throws IOException
 	{
-		//Parsing the request message
-		KeyValue.KeyValueMessage requestMessage = KeyValue.KeyValueMessage.parseDelimitedFrom(serverSocket.getInputStream());
-		System.out.println("Message Received: " + requestMessage);
-		
-		//List of available servers
-		ArrayList<String> availableServer = new ArrayList<>();
-		
 		if(requestMessage != null)
 		{
 			//Creating a response message
@@ -280,280 +422,39 @@ public class Server
 				//Getting the client request
 				KeyValue.ClientRequest clientRequest = requestMessage.getClientRequest();
 				
-				//Creating the client response object
-				KeyValue.ClientResponse.Builder clientResponseMessage = KeyValue.ClientResponse.newBuilder();
-				clientResponseMessage.setKey(clientRequest.getKey());
-
-				/*Getting the consistency level requested by
-				 the client*/
-				String consistency = clientRequest.getConsistency();
-				
-				//Handling client get request
-				if(clientRequest.getType().equals("GET"))
-				{
-					ArrayList<DataStoreEntry> responseList = new ArrayList<>();
-					ArrayList<String> responseServerList = new ArrayList<>();
-					
-					boolean isOwner = false;
-					
-					Set<String> replicaKeys = replicaMap.keySet();
-					Iterator<String> replicaIterator = replicaKeys.iterator();
-					for(int i = 0; i<4; i++)
-					{
-						DataStoreEntry newEntry = new DataStoreEntry();
-						/*Handling if consistency is 1 and coordinator
-						   is itself the replica*/
-						if(dataStore.containsKey(clientRequest.getKey()) && isOwner==false)
-						{
-							if(dataStore.get(requestMessage.getClientRequest().getKey()) == null)
-							{
-								newEntry.setValue("");
-								newEntry.setTimestamp((long)0);
-							}
-							else
-							{
-								newEntry.setValue(dataStore.get(requestMessage.getClientRequest().getKey()).getValue());
-								newEntry.setTimestamp(dataStore.get(requestMessage.getClientRequest().getKey()).getTimestamp());
-							}
-							responseList.add(newEntry);
-							responseServerList.add(serverName);
-							isOwner = true;
-						}
-						else
-						{
-							if(replicaIterator.hasNext())
-							{
-								String replicaKey = replicaIterator.next();
-								
-								//Check if the replica contains key or not
-								if(replicaMap.get(replicaKey).isInRange(clientRequest.getKey()))
-								{
-									Socket socket = null;
-									try
-									{
-										System.out.println("Sending request to " + replicaKey);
-										socket = new Socket(replicaMap.get(replicaKey).getIp(), replicaMap.get(replicaKey).getPort());
-										
-										KeyValue.KeyValueMessage.Builder requestMessage1 = KeyValue.KeyValueMessage.newBuilder();
-										KeyValue.ServerRequest.Builder serverRequest = KeyValue.ServerRequest.newBuilder();
-										
-										serverRequest.setKey(clientRequest.getKey());
-										serverRequest.setType("GET");
-										serverRequest.setReplicaname(serverName);
-										
-										//Send request to server
-										requestMessage1.setServerRequest(serverRequest);
-										requestMessage1.build().writeDelimitedTo(socket.getOutputStream());
-										
-										//Handle server Response
-										KeyValue.KeyValueMessage keyvalueMessage = KeyValue.KeyValueMessage.parseDelimitedFrom(socket.getInputStream());
-										if(keyvalueMessage.hasServerResponse())
-										{
-											newEntry.setValue(keyvalueMessage.getServerResponse().getValue());
-											newEntry.setTimestamp(keyvalueMessage.getServerResponse().getTimestamp());
-											responseList.add(newEntry);
-											responseServerList.add(replicaKey);
-
-											//Add the servers connected at this point of time for hinted handoff
-											if(!availableServer.contains(replicaKey))
-											{
-												availableServer.add(replicaKey);
-											}
-										}
-									}
-									catch(IOException e)
-									{
-										System.out.println("Server " + replicaKey + " is not available");
-										System.out.println(replicaMap.get(replicaKey).getIp() +"::"+ replicaMap.get(replicaKey).getPort());
-									}
-									finally
-									{
-										if(socket != null)
-											socket.close();
-									}
-								}
-							}
-						}
-					}
-					//Checking the consistency levels
-					if(!responseList.isEmpty())
-					{
-						//When consistency is ONE
-						if(consistency.equalsIgnoreCase(ONE))
-						{
-							clientResponseMessage.setValue(responseList.get(0).getValue());
-							clientResponseMessage.setStatus("SUCCESS");
-						}//When consistency is QUORUM
-						else if(responseList.size() >= 2)
-						{
-							if(responseList.get(0).getTimestamp() > responseList.get(1).getTimestamp())
-							{
-								clientResponseMessage.setValue(responseList.get(0).getValue());
-								clientResponseMessage.setStatus("SUCCESS");
-							}
-							else
-							{
-								clientResponseMessage.setValue(responseList.get(1).getValue());
-								clientResponseMessage.setStatus("SUCCESS");
-							}
-						}
-						else
-						{
-							clientResponseMessage.setStatus("FAIL");
-						}
-					}
-					else
-					{
-						clientResponseMessage.setStatus("FAIL");
-					}
-					
-					//Performing read repair
-					if(consistencyProcedure.equalsIgnoreCase(READ_REPAIR))
-					{
-						doReadRepair(clientRequest.getKey(), responseList, responseServerList, logFilePath);
-					}
-					
-				}//Handling client put request
-				else if(clientRequest.getType().equals("PUT"))
+				/*Time by which the client expects the answer, it is forwarded
+				 to the replicas so that they can drop work the client gave up on*/
+				long deadline = clientRequest.getDeadline() != 0 ? clientRequest.getDeadline() : System.currentTimeMillis() + Config.REQUEST_TIMEOUT;
+				if(deadline <= System.currentTimeMillis())
 				{
-					ArrayList<String> responseList = new ArrayList<>();
-					boolean isOwner = false;
-					
-					Set<String> replicaKeys = replicaMap.keySet();
-					Iterator<String> replicaIterator = replicaKeys.iterator();
-					Long timestampOfPutRequest = System.currentTimeMillis();
-					
-					for(int i = 0; i < 4; i++)
-					{
-						//If the coordinator is the owner for the key
-						if(dataStore.containsKey(clientRequest.getKey()) && isOwner == false)
-						{
-							//Write to write-ahead log file
-							FileProcessor.writeLog(clientRequest.getKey(), clientRequest.getValue(), timestampOfPutRequest, logFilePath);
-							
-							//Update the data store
-							DataStoreEntry newEntry = new DataStoreEntry();
-							newEntry.setValue(clientRequest.getValue());
-							newEntry.setTimestamp(timestampOfPutRequest);
-							dataStore.put(clientRequest.getKey(), newEntry);
-							
-							responseList.add("SUCCESS");
-							isOwner = true;
-						}
-						else
-						{
-							//If the coordinator is not the owner of the key
-							if(replicaIterator.hasNext())
-							{
-								String replicaKey = replicaIterator.next();
-								
-								//Check if the replica extracted contains key or not
-								if(replicaMap.get(replicaKey).isInRange(clientRequest.getKey()))
-								{
-									Socket socket = null;
-									try
-									{
-										System.out.println("Sending PUT request to " + replicaKey);
-										socket = new Socket(replicaMap.get(replicaKey).getIp(), replicaMap.get(replicaKey).getPort());
-										
-										//Creating a request message
-										KeyValue.KeyValueMessage.Builder requestMessage1 = KeyValue.KeyValueMessage.newBuilder();
-										KeyValue.ServerRequest.Builder serverRequest = KeyValue.ServerRequest.newBuilder();
-										
-										//Setting the appropriate parameters
-										serverRequest.setKey(clientRequest.getKey());
-										serverRequest.setValue(clientRequest.getValue());
-										serverRequest.setType(clientRequest.getType());
-										serverRequest.setTimestamp(timestampOfPutRequest);
-										serverRequest.setReplicaname(serverName);
-										
-										//Send request to server
-										requestMessage1.setServerRequest(serverRequest);
-										requestMessage1.build().writeDelimitedTo(socket.getOutputStream());
-										
-										//Processing the response
-										KeyValue.KeyValueMessage keyvalueMessage = KeyValue.KeyValueMessage.parseDelimitedFrom(socket.getInputStream());
-										if(keyvalueMessage.hasServerResponse())
-										{
-											responseList.add("SUCCESS");
-
-											//Add the servers connected at this point of time for hinted handoff
-											if(!availableServer.contains(replicaKey))
-											{
-												availableServer.add(replicaKey);
-											}
-										}
-									}
-									catch(IOException e)
-									{
-										System.out.println("Server " + replicaKey + " is not available");
-										System.out.println(replicaMap.get(replicaKey).getIp() +"::"+ replicaMap.get(replicaKey).getPort());
-										
-										//Checking for consistency levels
-										if(consistencyProcedure.equalsIgnoreCase(HINTED_HANDOFF))
-										{
-											HashMap<Integer, DataStoreEntry> hints;
-											DataStoreEntry hintDataStoreEntry = new DataStoreEntry();
-											if (hintedHandoff.containsKey(replicaKey))
-											{
-												hints = hintedHandoff.get(replicaKey);
-											}
-											else
-											{
-												hints = new HashMap<>();
-											}
-											//Handling multiple value for same key 
-											if(hints.get(clientRequest.getKey()) == null || hints.get(clientRequest.getKey()).getTimestamp() < timestampOfPutRequest)
-											{
-												hintDataStoreEntry.setValue(clientRequest.getValue());
-												hintDataStoreEntry.setTimestamp(timestampOfPutRequest);
-												hints.put(clientRequest.getKey(), hintDataStoreEntry);
-												
-												hintedHandoff.put(replicaKey, hints);
-											}
-										}
-									}
-									finally
-									{
-										if(socket != null)
-											socket.close();
-									}
-								}
-							}
-						}
-					}
-					if(!responseList.isEmpty())
-					{
-						if(consistency.equalsIgnoreCase(ONE))
-						{
-							if(responseList.size() >= 1)
-							{
-								clientResponseMessage.setStatus("SUCCESS");
-							}
-							else
-							{
-								clientResponseMessage.setStatus("FAIL");
-							}
-						}
-						else if(responseList.size() >= 2)
-						{
-							clientResponseMessage.setStatus("SUCCESS");
-						}
-						else
-						{
-							clientResponseMessage.setStatus("FAIL");
-						}
-					}
-					else
-					{
-						clientResponseMessage.setStatus("FAIL");
-					}
+					System.out.println("Dropping the client request for key " + Keys.toString(clientRequest.getKey()) + ", its deadline has passed");
+					return;
 				}
 				
 				//Setting and sending the response
-				responseMessage.setClientResponse(clientResponseMessage);
-				responseMessage.build().writeDelimitedTo(serverSocket.getOutputStream());
+				responseMessage.setClientResponse(coordinate(List.of(clientRequest), deadline).get(0));
+				connection.send(responseMessage.build());
 
+			}//Handling a batch of client requests
+			else if(requestMessage.hasClientBatchRequest())
+			{
+				KeyValue.ClientBatchRequest batchRequest = requestMessage.getClientBatchRequest();
+				long deadline = batchRequest.getDeadline() != 0 ? batchRequest.getDeadline() : System.currentTimeMillis() + Config.REQUEST_TIMEOUT;
+				if(deadline <= System.currentTimeMillis())
+				{
+					System.out.println("Dropping the batch of " + batchRequest.getRequestsCount() + " client request(s), its deadline has passed");
+					return;
+				}
+				
+				KeyValue.ClientBatchResponse.Builder batchResponseMessage = KeyValue.ClientBatchResponse.newBuilder();
+				batchResponseMessage.setRequestid(batchRequest.getRequestid());
+				for(KeyValue.ClientResponse.Builder clientResponseMessage : coordinate(batchRequest.getRequestsList(), deadline))
+				{
+					batchResponseMessage.addResponses(clientResponseMessage);
+				}
+				responseMessage.setClientBatchResponse(batchResponseMessage);
+				connection.send(responseMessage.build());
+				
 			}//Handling server request
 			else if(requestMessage.hasServerRequest())
 			{
@@ -561,128 +462,986 @@ public class Server
 				KeyValue.ServerRequest serverRequest = requestMessage.getServerRequest();
 				KeyValue.ServerResponse.Builder serverResponseMessage = KeyValue.ServerResponse.newBuilder();
 
-				System.out.println("Server request received for key : " + serverRequest.getKey() + " from " + serverRequest.getReplicaname());
-				if(serverRequest.getType().equalsIgnoreCase("GET"))
+				//Echoing the request id so that the sender can match the response
+				serverResponseMessage.setRequestid(serverRequest.getRequestid());
+				
+				//Dropping the request when the coordinator has already given up on it
+				if(serverRequest.getDeadline() != 0 && serverRequest.getDeadline() <= System.currentTimeMillis())
+				{
+					System.out.println("Dropping the request for key " + Keys.toString(serverRequest.getKey()) + " from " + serverRequest.getReplicaname() + ", its deadline has passed");
+					return;
+				}
+
+				System.out.println("Server request received for key : " + Keys.toString(serverRequest.getKey()) + " from " + serverRequest.getReplicaname());
+				long logSequence = serveRequest(serverRequest, serverResponseMessage);
+				if(serverRequest.getType().equalsIgnoreCase("PUT"))
 				{
-					serverResponseMessage.setKey(serverRequest.getKey());
-					//Setting the response fields
-					if(dataStore.get(serverRequest.getKey()) == null)
+					//Acknowledging the write once the log made it durable
+					try
 					{
-						serverResponseMessage.setValue("");
-						serverResponseMessage.setTimestamp((long)0);
+						writeAheadLog.awaitDurable(logSequence);
+						serverResponseMessage.setStatus("SUCCESS");
 					}
-					else
+					catch(IOException e)
 					{
-						serverResponseMessage.setValue(dataStore.get(serverRequest.getKey()).getValue());
-						serverResponseMessage.setTimestamp(dataStore.get(serverRequest.getKey()).getTimestamp());
+						e.printStackTrace();
+						serverResponseMessage.setStatus("FAIL");
 					}
-					serverResponseMessage.setStatus("SUCCESS");
-					System.out.println("Sending the response for the required key");
 				}
-				else if(serverRequest.getType().equalsIgnoreCase("PUT")) 
+				
+				responseMessage.setServerResponse(serverResponseMessage);
+				connection.send(responseMessage.build());
+				
+				//Add the servers connected at this point of time for hinted handoff
+				Set<String> availableServer = ConcurrentHashMap.newKeySet();
+				availableServer.add(serverRequest.getReplicaname());
+				sendHints(availableServer);
+			}//Handling a batch of server requests
+			else if(requestMessage.hasServerBatchRequest())
+			{
+				KeyValue.ServerBatchRequest batchRequest = requestMessage.getServerBatchRequest();
+				if(batchRequest.getDeadline() != 0 && batchRequest.getDeadline() <= System.currentTimeMillis())
 				{
-					//Updating the data store
-					if(dataStore.get(serverRequest.getKey()) == null ||dataStore.get(serverRequest.getKey()).getTimestamp() < serverRequest.getTimestamp())
-					{
-						//Writing to the write-ahead log file
-						FileProcessor.writeLog(serverRequest.getKey(), serverRequest.getValue(), serverRequest.getTimestamp(), logFilePath);
-
-						//Updating the data store
-						DataStoreEntry newEntry = new DataStoreEntry();
-						newEntry.setValue(serverRequest.getValue());
-						newEntry.setTimestamp(serverRequest.getTimestamp());
-						dataStore.put(serverRequest.getKey(), newEntry);
-					}
-					serverResponseMessage.setStatus("SUCCESS");
+					System.out.println("Dropping the batch of " + batchRequest.getRequestsCount() + " request(s) from " + batchRequest.getReplicaname() + ", its deadline has passed");
+					return;
 				}
 				
-				responseMessage.setServerResponse(serverResponseMessage);
-				responseMessage.build().writeDelimitedTo(serverSocket.getOutputStream());
+				System.out.println("Server batch of " + batchRequest.getRequestsCount() + " request(s) received from " + batchRequest.getReplicaname());
+				ArrayList<KeyValue.ServerResponse.Builder> serverResponseMessages = new ArrayList<KeyValue.ServerResponse.Builder>();
+				long logSequence = 0;
+				for(KeyValue.ServerRequest serverRequest : batchRequest.getRequestsList())
+				{
+					KeyValue.ServerResponse.Builder serverResponseMessage = KeyValue.ServerResponse.newBuilder();
+					logSequence = Math.max(logSequence, serveRequest(serverRequest, serverResponseMessage));
+					serverResponseMessages.add(serverResponseMessage);
+				}
+				
+				//Waiting once for the log, the writes of the batch share its sync
+				String writeStatus = "SUCCESS";
+				try
+				{
+					writeAheadLog.awaitDurable(logSequence);
+				}
+				catch(IOException e)
+				{
+					e.printStackTrace();
+					writeStatus = "FAIL";
+				}
+				
+				KeyValue.ServerBatchResponse.Builder batchResponseMessage = KeyValue.ServerBatchResponse.newBuilder();
+				batchResponseMessage.setRequestid(batchRequest.getRequestid());
+				for(int i = 0; i < serverResponseMessages.size(); i++)
+				{
+					if(batchRequest.getRequests(i).getType().equalsIgnoreCase("PUT"))
+						serverResponseMessages.get(i).setStatus(writeStatus);
+					batchResponseMessage.addResponses(serverResponseMessages.get(i));
+				}
+				responseMessage.setServerBatchResponse(batchResponseMessage);
+				connection.send(responseMessage.build());
 				
 				//Add the servers connected at this point of time for hinted handoff
-				if(!availableServer.contains(serverRequest.getReplicaname()))
+				Set<String> availableServer = ConcurrentHashMap.newKeySet();
+				availableServer.add(batchRequest.getReplicaname());
+				sendHints(availableServer);
+			}//Handling a scan, from a client or from a coordinator
+			else if(requestMessage.hasScanRequest())
+			{
+				KeyValue.ScanRequest scanRequest = requestMessage.getScanRequest();
+				long deadline = scanRequest.getDeadline() != 0 ? scanRequest.getDeadline() : System.currentTimeMillis() + Config.REQUEST_TIMEOUT;
+				if(deadline <= System.currentTimeMillis())
 				{
-					availableServer.add(serverRequest.getReplicaname());
+					System.out.println("Dropping the scan from " + Keys.toString(scanRequest.getStartkey()) + ", its deadline has passed");
+					return;
 				}
-			}
-
-			System.out.println(dataStore);
-			System.out.println("Hints before sending hints: "+hintedHandoff);
-			System.out.println("Replicas connected to: "+availableServer);
-			
-			//For hinted handoff
-			for (String hintReplicaName : availableServer) {
-				if(hintedHandoff.containsKey(hintReplicaName) && consistencyProcedure.equalsIgnoreCase(HINTED_HANDOFF))
+				
+				KeyValue.ScanResponse.Builder scanResponseMessage;
+				if(scanRequest.getReplicaname().isEmpty() && scanRequest.getCredits() > 0)
+				{
+					streamScan(scanRequest, deadline, connection);
+					return;
+				}
+				else if(scanRequest.getReplicaname().isEmpty())
+				{
+					scanResponseMessage = coordinateScan(scanRequest, deadline);
+				}
+				else
 				{
-					System.out.println("Doing Hinted Handoff for: "+hintReplicaName);
-					doHintedHandoff(hintReplicaName);
+					System.out.println("Server scan of the keys from " + Keys.toString(scanRequest.getStartkey()) + " received from " + scanRequest.getReplicaname());
+					scanResponseMessage = serveScan(scanRequest.getStartkey(), scanRequest.getEndkey(), scanLimit(scanRequest.getLimit()));
 				}
+				scanResponseMessage.setRequestid(scanRequest.getRequestid());
+				responseMessage.setScanResponse(scanResponseMessage);
+				connection.send(responseMessage.build());
 			}
-			
-			//Clearing the list
-			availableServer.clear();
 		}
 	}
-
-	public static void main(String[] args)
+	
+	/**
+	 * Function for coordinating client requests. Every key is read from or
+	 *  written to all its owners at once, the requests for the keys another
+	 *  replica owns go to it in one message
+	 * @param clientRequests The GET and PUT requests
+	 * @param deadline Time in milliseconds since the epoch by which the client expects the answer
+	 * @return The responses, in the order of the requests
+	 * @throws IOException When the write-ahead log has failed
+	 */
+	private List<KeyValue.ClientResponse.Builder> coordinate(List<KeyValue.ClientRequest> clientRequests, long deadline) throws IOException
 	{
-		ServerSocket server = null;
-		if (args.length != 5)
-		{
-			System.err.println("Error: Incorrect number of arguments. The program accepts 5 argument(s).");
-			System.exit(0);
-			//Server Name, port, log file path, replica file path, Hinted handoff or read repair 
-		}
+		//List of available servers, filled in as the replicas respond
+		Set<String> availableServer = ConcurrentHashMap.newKeySet();
+		QuorumCollector[] collectors = new QuorumCollector[clientRequests.size()];
+		Long timestampOfPutRequest = System.currentTimeMillis();
 		
-		try
+		//Grouping the requests by the other owners of their keys
+		HashMap<String, List<Integer>> requestsByReplica = new HashMap<String, List<Integer>>();
+		for(int i = 0; i < clientRequests.size(); i++)
 		{
-			//Init Server and set the server name
-			Server s = new Server(args[0], args[4]);
+			KeyValue.ClientRequest clientRequest = clientRequests.get(i);
 			
-			//Check if write-ahead file exists or not
-			if(FileProcessor.checkLogFile(args[2]))
+			//A request of an unknown type or with an empty or too long key fails without reaching any replica
+			if(!isAdmissible(clientRequest))
 			{
-				//For populating in-memory key-value store from the file
-				FileProcessor fp = new FileProcessor(args[2]);
-				fp.updateDatastore(s.dataStore);
+				collectors[i] = new QuorumCollector(0, 1);
+				continue;
 			}
 			
-			//Setting the replica mappings
-			FileProcessor fp1 = new FileProcessor(args[3]);
-			s.setReplicaMapping(fp1);
-			
-			//Starting the server
-			server = new ServerSocket(Integer.parseInt(args[1]));
-			System.out.println("Replica Name: " + s.serverName);
-			System.out.println("Host Name: " + server.getInetAddress().getLocalHost().getHostName());
-			System.out.println("Port Number: " + server.getLocalPort());
-			System.out.println("Server started....");
-			System.out.println("=============================================================================");
+			//Number of responses required by the consistency level, a majority of the owners for QUORUM
+			int required = clientRequest.getConsistency().equalsIgnoreCase(ONE) ? 1 : partitioner.getReplicationFactor() / 2 + 1;
+			collectors[i] = new QuorumCollector(countOwners(clientRequest.getKey()), required);
 			
-			while(true)
+			for(String replicaKey : partitioner.getOwners(clientRequest.getKey()))
 			{
-				//Accepting the client
-				Socket serverSocket = server.accept();
-				
-				//Handling the request
-				s.handleRequest(serverSocket, args[2]);
+				//The coordinator answers for itself if it owns the key
+				if(replicaMap.containsKey(replicaKey))
+				{
+					requestsByReplica.computeIfAbsent(replicaKey, name -> new ArrayList<Integer>()).add(i);
+				}
 			}
 		}
-		catch(Exception e)
-		{
-			e.printStackTrace();
-		}
-		finally
+		
+		//Sending the requests to all the other owners at once
+		for(Map.Entry<String, List<Integer>> replicaRequests : requestsByReplica.entrySet())
 		{
-			try
+			String replicaKey = replicaRequests.getKey();
+			List<Integer> indexes = replicaRequests.getValue();
+			System.out.println("Sending " + indexes.size() + " request(s) to " + replicaKey);
+			
+			ArrayList<KeyValue.ServerRequest.Builder> serverRequests = new ArrayList<KeyValue.ServerRequest.Builder>();
+			for(int i : indexes)
 			{
-				if(server != null)
-					server.close();
+				KeyValue.ClientRequest clientRequest = clientRequests.get(i);
+				KeyValue.ServerRequest.Builder serverRequest = KeyValue.ServerRequest.newBuilder();
+				serverRequest.setKey(clientRequest.getKey());
+				serverRequest.setType(clientRequest.getType());
+				if(clientRequest.getType().equalsIgnoreCase("PUT"))
+				{
+					serverRequest.setValue(clientRequest.getValue());
+					serverRequest.setTimestamp(timestampOfPutRequest);
+				}
+				serverRequest.setReplicaname(serverName);
+				serverRequest.setDeadline(deadline);
+				serverRequests.add(serverRequest);
 			}
-			catch(IOException e)
+			
+			//Send the requests to the replica and handle its responses when they arrive
+			sendToReplica(replicaKey, serverRequests, deadline).whenComplete((serverResponses, e) ->
+			{
+				if(e == null)
+				{
+					//Add the servers connected at this point of time for hinted handoff
+					availableServer.add(replicaKey);
+					
+					for(int j = 0; j < indexes.size(); j++)
+					{
+						KeyValue.ServerResponse serverResponse = serverResponses.get(j);
+						QuorumCollector collector = collectors[indexes.get(j)];
+						if(clientRequests.get(indexes.get(j)).getType().equalsIgnoreCase("GET"))
+						{
+							DataStoreEntry newEntry = new DataStoreEntry();
+							newEntry.setValue(serverResponse.getValue());
+							newEntry.setTimestamp(serverResponse.getTimestamp());
+							collector.addResponse(replicaKey, newEntry);
+						}//The replica fails the write when it cannot log it
+						else if(serverResponse.getStatus().equalsIgnoreCase("SUCCESS"))
+							collector.addResponse(replicaKey, null);
+						else
+							collector.addFailure(replicaKey);
+					}
+				}
+				else
+				{
+					System.out.println("Server " + replicaKey + " is not available");
+					System.out.println(replicaMap.get(replicaKey).getIp() +"::"+ replicaMap.get(replicaKey).getPort());
+					
+					for(int i : indexes)
+					{
+						KeyValue.ClientRequest clientRequest = clientRequests.get(i);
+						
+						//Checking for consistency levels
+						if(clientRequest.getType().equalsIgnoreCase("PUT") && consistencyProcedure.equalsIgnoreCase(HINTED_HANDOFF))
+						{
+							storeHint(replicaKey, clientRequest.getKey(), clientRequest.getValue(), timestampOfPutRequest);
+						}
+						collectors[i].addFailure(replicaKey);
+					}
+				}
+			});
+		}
+		
+		/*Handling if consistency is 1 and coordinator
+		   is itself the replica*/
+		long logSequence = 0;
+		ArrayList<Integer> localWrites = new ArrayList<Integer>();
+		for(int i = 0; i < clientRequests.size(); i++)
+		{
+			KeyValue.ClientRequest clientRequest = clientRequests.get(i);
+			if(!isAdmissible(clientRequest) || !ownsKey(clientRequest.getKey()))
+				continue;
+			
+			if(clientRequest.getType().equalsIgnoreCase("GET"))
+			{
+				DataStoreEntry newEntry = dataStore.getEntry(clientRequest.getKey());
+				if(newEntry == null)
+				{
+					newEntry = new DataStoreEntry();
+					newEntry.setValue(ByteString.EMPTY);
+					newEntry.setTimestamp((long)0);
+				}
+				collectors[i].addResponse(serverName, newEntry);
+			}
+			else
+			{
+				synchronized(dataStore.lockFor(clientRequest.getKey()))
+				{
+					//A newer write from another coordinator may have arrived first
+					if(dataStore.getTimestamp(clientRequest.getKey()) < timestampOfPutRequest)
+					{
+						//Write to write-ahead log file
+						logSequence = writeAheadLog.append(clientRequest.getKey(), clientRequest.getValue(), timestampOfPutRequest);
+
+						//Update the data store
+						dataStore.put(clientRequest.getKey(), clientRequest.getValue(), timestampOfPutRequest);
+					}
+				}
+				localWrites.add(i);
+			}
+		}
+		
+		//Acknowledging the local writes once the log made them durable
+		if(!localWrites.isEmpty())
+		{
+			boolean durable = true;
+			try
+			{
+				writeAheadLog.awaitDurable(logSequence);
+			}
+			catch(IOException e)
 			{
 				e.printStackTrace();
+				durable = false;
+			}
+			for(int i : localWrites)
+			{
+				if(durable)
+					collectors[i].addResponse(serverName, null);
+				else
+					collectors[i].addFailure(serverName);
+			}
+		}
+		
+		//Checking the consistency levels, answering as soon as enough replicas responded
+		ArrayList<KeyValue.ClientResponse.Builder> clientResponseMessages = new ArrayList<KeyValue.ClientResponse.Builder>();
+		for(int i = 0; i < clientRequests.size(); i++)
+		{
+			KeyValue.ClientRequest clientRequest = clientRequests.get(i);
+			QuorumCollector collector = collectors[i];
+			
+			//Creating the client response object
+			KeyValue.ClientResponse.Builder clientResponseMessage = KeyValue.ClientResponse.newBuilder();
+			clientResponseMessage.setKey(clientRequest.getKey());
+			clientResponseMessage.setRequestid(clientRequest.getRequestid());
+			if(awaitQuorum(collector, deadline))
+			{
+				if(clientRequest.getType().equalsIgnoreCase("GET"))
+					clientResponseMessage.setValue(collector.getLatestEntry().getValue());
+				clientResponseMessage.setStatus("SUCCESS");
+			}
+			else
+			{
+				clientResponseMessage.setStatus("FAIL");
+			}
+			clientResponseMessages.add(clientResponseMessage);
+			
+			//Performing read repair once all the replicas have responded
+			if(clientRequest.getType().equalsIgnoreCase("GET") && consistencyProcedure.equalsIgnoreCase(READ_REPAIR))
+			{
+				collector.getAllResponded().thenRun(() -> runInBackground(() ->
+				{
+					try
+					{
+						doReadRepair(clientRequest.getKey(), collector.getResponseList(), collector.getResponseServerList());
+					}
+					catch(IOException e)
+					{
+						e.printStackTrace();
+					}
+				}));
+			}
+		}
+		
+		//Delivering the hints once all the replicas have responded
+		CompletableFuture<?>[] allResponded = new CompletableFuture<?>[collectors.length];
+		for(int i = 0; i < collectors.length; i++)
+		{
+			allResponded[i] = collectors[i].getAllResponded();
+		}
+		CompletableFuture.allOf(allResponded).thenRun(() -> sendHints(availableServer));
+		return clientResponseMessages;
+	}
+	
+	/**
+	 * Function for checking if a client request can be coordinated
+	 * @param clientRequest The client request
+	 * @return Returns true if the request is a GET or a PUT of a valid key
+	 */
+	private static boolean isAdmissible(KeyValue.ClientRequest clientRequest)
+	{
+		return Keys.isValid(clientRequest.getKey()) && (clientRequest.getType().equalsIgnoreCase("GET") || clientRequest.getType().equalsIgnoreCase("PUT"));
+	}
+	
+	/**
+	 * Function for sending requests to a replica, in one batch when there
+	 *  are several of them
+	 * @param replicaName The name of the replica
+	 * @param serverRequests The requests
+	 * @param deadline Time in milliseconds since the epoch after which the requests fail
+	 * @return The future completed with the responses, in the order of the requests
+	 */
+	private CompletableFuture<List<KeyValue.ServerResponse>> sendToReplica(String replicaName, List<KeyValue.ServerRequest.Builder> serverRequests, long deadline)
+	{
+		if(serverRequests.size() == 1)
+		{
+			return peerPool.send(replicaName, serverRequests.get(0)).thenApply(keyvalueMessage ->
+			{
+				if(!keyvalueMessage.hasServerResponse())
+					throw new CompletionException(new IOException("Unexpected response from " + replicaName));
+				return List.of(keyvalueMessage.getServerResponse());
+			});
+		}
+		
+		KeyValue.ServerBatchRequest.Builder batchRequest = KeyValue.ServerBatchRequest.newBuilder();
+		for(KeyValue.ServerRequest.Builder serverRequest : serverRequests)
+		{
+			batchRequest.addRequests(serverRequest);
+		}
+		batchRequest.setReplicaname(serverName);
+		batchRequest.setDeadline(deadline);
+		return peerPool.send(replicaName, batchRequest).thenApply(keyvalueMessage ->
+		{
+			if(!keyvalueMessage.hasServerBatchResponse() || keyvalueMessage.getServerBatchResponse().getResponsesCount() != serverRequests.size())
+				throw new CompletionException(new IOException("Unexpected response from " + replicaName));
+			return keyvalueMessage.getServerBatchResponse().getResponsesList();
+		});
+	}
+	
+	/**
+	 * Function for coordinating a scan of a range of keys. The keys of a
+	 *  range are spread over every replica, so all of them are asked for
+	 *  their first entries of the range. A key is covered once no more than
+	 *  replication factor - required of its owners are missing, so the scan
+	 *  waits for that many fewer replicas than there are. A replica which
+	 *  returned a full page may hold more keys after its last one, so the
+	 *  page stops there and returns a paging token to resume from
+	 * @param scanRequest The scan of the client
+	 * @param deadline Time in milliseconds since the epoch by which the client expects the answer
+	 * @return The page of entries with the latest value of every key, in key order
+	 */
+	private KeyValue.ScanResponse.Builder coordinateScan(KeyValue.ScanRequest scanRequest, long deadline)
+	{
+		KeyValue.ScanResponse.Builder scanResponseMessage = KeyValue.ScanResponse.newBuilder();
+		ByteString startKey = scanRequest.getStartkey();
+		ByteString endKey = scanRequest.getEndkey();
+		int limit = scanLimit(scanRequest.getLimit());
+		
+		//Resuming after the previous page, the token is the key after its last one
+		if(!scanRequest.getPagingtoken().isEmpty())
+		{
+			if(scanRequest.getPagingtoken().size() > Config.MAX_KEY_SIZE + 1)
+				return scanResponseMessage.setStatus("FAIL");
+			startKey = scanRequest.getPagingtoken();
+		}
+		if(startKey.size() > Config.MAX_KEY_SIZE + 1 || endKey.size() > Config.MAX_KEY_SIZE)
+			return scanResponseMessage.setStatus("FAIL");
+		if(!Keys.notAfter(startKey, endKey))
+			return scanResponseMessage.setStatus("SUCCESS");
+		
+		//Number of replicas required so that every key has enough of its owners among them
+		int replicaCount = replicaMap.size() + (localReplica != null ? 1 : 0);
+		int required = scanRequest.getConsistency().equalsIgnoreCase(ONE) ? 1 : partitioner.getReplicationFactor() / 2 + 1;
+		QuorumCollector collector = new QuorumCollector(replicaCount, Math.max(1, replicaCount - partitioner.getReplicationFactor() + required));
+		ConcurrentHashMap<String, List<KeyValue.ScanEntry>> pages = new ConcurrentHashMap<String, List<KeyValue.ScanEntry>>();
+		Set<String> availableServer = ConcurrentHashMap.newKeySet();
+		
+		//Sending the scan to all the other replicas at once
+		for(String replicaKey : replicaMap.keySet())
+		{
+			KeyValue.ScanRequest.Builder replicaScan = KeyValue.ScanRequest.newBuilder();
+			replicaScan.setStartkey(startKey);
+			replicaScan.setEndkey(endKey);
+			replicaScan.setLimit(limit);
+			replicaScan.setReplicaname(serverName);
+			replicaScan.setDeadline(deadline);
+			peerPool.send(replicaKey, replicaScan).whenComplete((keyvalueMessage, e) ->
+			{
+				if(e == null && keyvalueMessage.hasScanResponse() && keyvalueMessage.getScanResponse().getStatus().equalsIgnoreCase("SUCCESS"))
+				{
+					//Add the servers connected at this point of time for hinted handoff
+					availableServer.add(replicaKey);
+					pages.put(replicaKey, keyvalueMessage.getScanResponse().getEntriesList());
+					collector.addResponse(replicaKey, null);
+				}
+				else
+				{
+					System.out.println("Server " + replicaKey + " is not available for the scan");
+					collector.addFailure(replicaKey);
+				}
+			});
+		}
+		
+		if(localReplica != null)
+		{
+			pages.put(serverName, serveScan(startKey, endKey, limit).getEntriesList());
+			collector.addResponse(serverName, null);
+		}
+		
+		boolean quorum = awaitQuorum(collector, deadline);
+		collector.getAllResponded().thenRun(() -> sendHints(availableServer));
+		if(!quorum)
+			return scanResponseMessage.setStatus("FAIL");
+		
+		//Stopping the page at the smallest last key of the full replica pages
+		Map<String, List<KeyValue.ScanEntry>> responses = new HashMap<String, List<KeyValue.ScanEntry>>(pages);
+		ByteString lastCovered = endKey;
+		boolean truncated = false;
+		for(List<KeyValue.ScanEntry> page : responses.values())
+		{
+			if(page.size() >= limit && Keys.notAfter(page.get(page.size() - 1).getKey(), lastCovered))
+			{
+				lastCovered = page.get(page.size() - 1).getKey();
+				truncated = true;
+			}
+		}
+		
+		//Keeping the latest entry of every key, read repair is left to the reads of the keys
+		TreeMap<ByteString, KeyValue.ScanEntry> entries = new TreeMap<ByteString, KeyValue.ScanEntry>(Keys.ORDER);
+		for(List<KeyValue.ScanEntry> page : responses.values())
+		{
+			for(KeyValue.ScanEntry entry : page)
+			{
+				if(Keys.notAfter(entry.getKey(), lastCovered))
+					entries.merge(entry.getKey(), entry, (a, b) -> b.getTimestamp() > a.getTimestamp() ? b : a);
+			}
+		}
+		
+		ByteString lastKey = ByteString.EMPTY;
+		for(KeyValue.ScanEntry entry : entries.values())
+		{
+			if(scanResponseMessage.getEntriesCount() == limit)
+			{
+				truncated = true;
+				break;
+			}
+			scanResponseMessage.addEntries(entry);
+			lastKey = entry.getKey();
+		}
+		if(truncated && !lastKey.equals(endKey))
+		{
+			scanResponseMessage.setPagingtoken(Keys.successor(lastKey));
+		}
+		return scanResponseMessage.setStatus("SUCCESS");
+	}
+	
+	/**
+	 * Function for streaming a scan of a whole range of keys, a chunk of a
+	 *  page at a time. A chunk is only read once the client granted a credit
+	 *  for it, so the coordinator holds one chunk and the connection no more
+	 *  than the client granted, and the first chunk leaves as soon as it is
+	 *  read. Every chunk carries the paging token to resume after it, the
+	 *  last one has none. Without credits the scan is parked and holds no
+	 *  worker, a credit resumes it on a coordinator worker. A client granting
+	 *  no credit within the request timeout gets a FAIL chunk, a cancellation
+	 *  or the closing of the connection ends the scan at once
+	 * @param scanRequest The scan of the client, with its initial credits
+	 * @param deadline Time in milliseconds since the epoch by which the first chunk is expected
+	 * @param connection The connection the chunks are sent on
+	 */
+	private void streamScan(KeyValue.ScanRequest scanRequest, long deadline, Connection connection)
+	{
+		ScanFlow flow = new ScanFlow();
+		flow.flowKey = List.of(connection, scanRequest.getRequestid());
+		flow.connection = connection;
+		flow.closeListener = () -> endScan(flow);
+		flow.chunkRequest = scanRequest.toBuilder();
+		flow.chunkDeadline = deadline;
+		flow.credits = Math.min(scanRequest.getCredits(), Config.SCAN_CREDITS);
+		scanFlows.put(flow.flowKey, flow);
+		if(!connection.addCloseListener(flow.closeListener))
+		{
+			endScan(flow);
+			return;
+		}
+		
+		//Already on a coordinator worker, reading the first chunks here
+		if(takeCredit(flow))
+			streamChunks(flow);
+	}
+	
+	/**
+	 * Function for reading and sending the chunks of a streamed scan for
+	 *  which the client has credits, on a coordinator worker. The caller
+	 *  took the credit of the first chunk
+	 * @param flow The streamed scan
+	 */
+	private void streamChunks(ScanFlow flow)
+	{
+		do
+		{
+			KeyValue.ScanResponse.Builder chunk;
+			try
+			{
+				chunk = coordinateScan(flow.chunkRequest.build(), flow.chunkDeadline);
+			}
+			catch(RuntimeException e)
+			{
+				endScan(flow);
+				throw e;
+			}
+			
+			synchronized(flow)
+			{
+				if(flow.finished)
+					return;
+			}
+			chunk.setRequestid(flow.chunkRequest.getRequestid());
+			flow.connection.send(KeyValue.KeyValueMessage.newBuilder().setScanResponse(chunk).build());
+			if(!chunk.getStatus().equalsIgnoreCase("SUCCESS") || chunk.getPagingtoken().isEmpty())
+			{
+				endScan(flow);
+				return;
+			}
+			
+			//Only sent chunks release the scan, so that the chunks leave in order
+			synchronized(flow)
+			{
+				flow.chunkRequest.setPagingtoken(chunk.getPagingtoken());
+				flow.chunkDeadline = System.currentTimeMillis() + Config.REQUEST_TIMEOUT;
+				flow.reading = false;
+			}
+		}
+		while(takeCredit(flow));
+	}
+	
+	/**
+	 * Function for taking a credit of a streamed scan to read its next chunk.
+	 *  Without credits the scan is parked until the credit timeout
+	 * @param flow The streamed scan
+	 * @return true when the caller is to read the next chunk
+	 */
+	private boolean takeCredit(ScanFlow flow)
+	{
+		synchronized(flow)
+		{
+			if(flow.finished || flow.reading)
+				return false;
+			
+			if(flow.credits == 0)
+			{
+				if(flow.creditTimeout == null)
+					flow.creditTimeout = scanTimeoutExecutor.schedule(() -> abandonScan(flow), Config.REQUEST_TIMEOUT, TimeUnit.MILLISECONDS);
+				return false;
+			}
+			flow.credits--;
+			flow.reading = true;
+			if(flow.creditTimeout != null)
+			{
+				flow.creditTimeout.cancel(false);
+				flow.creditTimeout = null;
+			}
+			return true;
+		}
+	}
+	
+	/**
+	 * Function for failing a streamed scan whose client granted no credit
+	 *  within the request timeout
+	 * @param flow The streamed scan
+	 */
+	private void abandonScan(ScanFlow flow)
+	{
+		synchronized(flow)
+		{
+			if(flow.finished || flow.reading || flow.credits > 0)
+				return;
+			flow.finished = true;
+		}
+		removeScan(flow);
+		
+		System.out.println("Abandoning the scan from " + Keys.toString(flow.chunkRequest.getStartkey()) + ", the client granted no credit in time");
+		KeyValue.ScanResponse.Builder chunk = KeyValue.ScanResponse.newBuilder().setStatus("FAIL").setRequestid(flow.chunkRequest.getRequestid());
+		flow.connection.send(KeyValue.KeyValueMessage.newBuilder().setScanResponse(chunk).build());
+	}
+	
+	/**
+	 * Function for ending a streamed scan, after its last chunk, on its
+	 *  cancellation or when its connection closed. A chunk being read is
+	 *  then not sent
+	 * @param flow The streamed scan
+	 */
+	private void endScan(ScanFlow flow)
+	{
+		synchronized(flow)
+		{
+			if(flow.finished)
+				return;
+			flow.finished = true;
+			if(flow.creditTimeout != null)
+				flow.creditTimeout.cancel(false);
+		}
+		removeScan(flow);
+	}
+	
+	private void removeScan(ScanFlow flow)
+	{
+		scanFlows.remove(flow.flowKey);
+		flow.connection.removeCloseListener(flow.closeListener);
+	}
+	
+	/**
+	 * Function for passing the credit a client granted to its streamed scan,
+	 *  resuming the scan on a coordinator worker when it was parked
+	 * @param scanCredit The chunks granted, or the cancellation of the scan
+	 * @param connection The connection of the scan
+	 */
+	private void grantCredit(KeyValue.ScanCredit scanCredit, Connection connection)
+	{
+		ScanFlow flow = scanFlows.get(List.of(connection, scanCredit.getRequestid()));
+		if(flow == null)
+			return;
+		
+		if(scanCredit.getCancel())
+		{
+			endScan(flow);
+			return;
+		}
+		
+		synchronized(flow)
+		{
+			flow.credits += Math.max(0, Math.min(scanCredit.getCredits(), Config.SCAN_CREDITS - flow.credits));
+		}
+		if(takeCredit(flow))
+		{
+			try
+			{
+				coordinatorExecutor.execute(() -> streamChunks(flow));
+			}
+			catch(RejectedExecutionException e)
+			{
+				System.out.println("Coordinator queue is full, failing the streamed scan");
+				endScan(flow);
+				KeyValue.ScanResponse.Builder chunk = KeyValue.ScanResponse.newBuilder().setStatus("FAIL").setRequestid(scanCredit.getRequestid());
+				connection.send(KeyValue.KeyValueMessage.newBuilder().setScanResponse(chunk).build());
+			}
+		}
+	}
+	
+	/**
+	 * Function for reading the first entries of a range of keys from the data store
+	 * @param startKey The first key of the range
+	 * @param endKey The last key of the range, included, empty for a range without end
+	 * @param limit The largest number of entries returned
+	 * @return The entries in key order
+	 */
+	private KeyValue.ScanResponse.Builder serveScan(ByteString startKey, ByteString endKey, int limit)
+	{
+		KeyValue.ScanResponse.Builder scanResponseMessage = KeyValue.ScanResponse.newBuilder();
+		for(Map.Entry<ByteString, DataStoreEntry> entry : dataStore.scan(startKey, endKey, limit))
+		{
+			KeyValue.ScanEntry.Builder scanEntry = KeyValue.ScanEntry.newBuilder();
+			scanEntry.setKey(entry.getKey());
+			scanEntry.setValue(entry.getValue().getValue());
+			scanEntry.setTimestamp(entry.getValue().getTimestamp());
+			scanResponseMessage.addEntries(scanEntry);
+		}
+		return scanResponseMessage.setStatus("SUCCESS");
+	}
+	
+	/**
+	 * Function for bounding the entries of a scan page
+	 * @param limit The limit given by the client, 0 for none
+	 * @return The number of entries of the page
+	 */
+	private static int scanLimit(int limit)
+	{
+		return limit <= 0 ? Config.SCAN_PAGE_SIZE : Math.min(limit, Config.SCAN_PAGE_SIZE);
+	}
+	
+	/**
+	 * Function for applying a request of another replica. A write is logged
+	 *  but not waited for, the caller waits for the log and sets its status
+	 * @param serverRequest The GET or PUT request
+	 * @param serverResponseMessage The response, filled in for a GET
+	 * @return The sequence number of the logged write, or 0 if nothing was logged
+	 * @throws IOException When the write-ahead log has failed
+	 */
+	private long serveRequest(KeyValue.ServerRequest serverRequest, KeyValue.ServerResponse.Builder serverResponseMessage) throws IOException
+	{
+		serverResponseMessage.setKey(serverRequest.getKey());
+		long logSequence = 0;
+		if(serverRequest.getType().equalsIgnoreCase("GET"))
+		{
+			//Setting the response fields
+			DataStoreEntry entry = dataStore.getEntry(serverRequest.getKey());
+			if(entry == null)
+			{
+				serverResponseMessage.setValue(ByteString.EMPTY);
+				serverResponseMessage.setTimestamp((long)0);
+			}
+			else
+			{
+				serverResponseMessage.setValue(entry.getValue());
+				serverResponseMessage.setTimestamp(entry.getTimestamp());
+			}
+			serverResponseMessage.setStatus("SUCCESS");
+		}
+		else if(serverRequest.getType().equalsIgnoreCase("PUT")) 
+		{
+			//Updating the data store
+			synchronized(dataStore.lockFor(serverRequest.getKey()))
+			{
+				if(dataStore.getTimestamp(serverRequest.getKey()) < serverRequest.getTimestamp())
+				{
+					//Writing to the write-ahead log file
+					logSequence = writeAheadLog.append(serverRequest.getKey(), serverRequest.getValue(), serverRequest.getTimestamp());
+
+					//Updating the data store
+					dataStore.put(serverRequest.getKey(), serverRequest.getValue(), serverRequest.getTimestamp());
+				}
+			}
+		}
+		return logSequence;
+	}
+	
+	/**
+	 * Function for delivering the pending hints of the replicas
+	 *  which were reachable during a request
+	 * @param availableServer The replicas which responded
+	 */
+	private void sendHints(Set<String> availableServer)
+	{
+		System.out.println("Replicas connected to: "+availableServer);
+		
+		//For hinted handoff
+		for (String hintReplicaName : availableServer) {
+			if(hintedHandoff.containsKey(hintReplicaName) && consistencyProcedure.equalsIgnoreCase(HINTED_HANDOFF))
+			{
+				System.out.println("Doing Hinted Handoff for: "+hintReplicaName);
+				deliverHints(hintReplicaName);
+			}
+		}
+	}
+	
+	/**
+	 * Function for counting the replicas, including this one,
+	 *  which own a key
+	 * @param key The key
+	 * @return The number of owners of the key
+	 */
+	private int countOwners(ByteString key)
+	{
+		return partitioner.getOwners(key).size();
+	}
+	
+	/**
+	 * Function for checking if this replica owns a key
+	 * @param key The key
+	 * @return Returns true if the key belongs to this replica
+	 */
+	private boolean ownsKey(ByteString key)
+	{
+		return localReplica != null && partitioner.isOwner(localReplica.getReplicaName(), key);
+	}
+	
+	/**
+	 * Function for writing a snapshot of the data store, after which the
+	 *  write-ahead log segments it covers are deleted
+	 */
+	private void checkpoint()
+	{
+		try
+		{
+			//Skipping the checkpoint when nothing was written since the previous one
+			if(!writeAheadLog.requestRoll())
+				return;
+
+			/*Copying or flushing after the roll, a write logged before it holds the
+			   lock of its key until it is applied, so the copy waits for it*/
+			StorageEngine entries = dataStore.prepareCheckpoint();
+			
+			long startTime = System.currentTimeMillis();
+			try
+			{
+				writeAheadLog.checkpoint(entries);
+			}
+			finally
+			{
+				entries.release();
+			}
+			System.out.println("Checkpoint of " + entries.size() + " key(s) written in " + (System.currentTimeMillis() - startTime) + " ms");
+		}
+		catch(IOException e)
+		{
+			e.printStackTrace();
+		}
+	}
+	
+	/**
+	 * Function for waiting until the consistency level of a request is met
+	 * @param collector The collector of the replica responses
+	 * @param deadline Time in milliseconds since the epoch after which the wait is abandoned
+	 * @return Returns true if enough replicas responded in time
+	 */
+	private boolean awaitQuorum(QuorumCollector collector, long deadline)
+	{
+		try
+		{
+			return collector.awaitQuorum(deadline);
+		}
+		catch(InterruptedException e)
+		{
+			Thread.currentThread().interrupt();
+			return false;
+		}
+	}
+
+	/**
+	 * Function for creating the executors which run the requests. Requests
+	 *  from the clients and from the other replicas get separate executors,
+	 *  so that coordinators waiting for replicas can never occupy all the
+	 *  workers needed to answer them
+	 * @param mode POOL for bounded pools of worker threads, THREAD for
+	 *  a new thread per request or VIRTUAL for a virtual thread per
+	 *  request when the JVM supports it
+	 */
+	void createExecutors(String mode)
+	{
+		if(mode.equalsIgnoreCase("VIRTUAL"))
+		{
+			try
+			{
+				//Looked up at runtime so that the replica still runs on JVMs without virtual threads
+				replicaExecutor = (ExecutorService)Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+				coordinatorExecutor = replicaExecutor;
+				return;
 			}
+			catch(ReflectiveOperationException e)
+			{
+				System.out.println("Virtual threads are not supported by this JVM, using THREAD mode");
+				mode = "THREAD";
+			}
+		}
+		
+		if(mode.equalsIgnoreCase("THREAD"))
+		{
+			replicaExecutor = Executors.newCachedThreadPool();
+			coordinatorExecutor = replicaExecutor;
+			return;
+		}
+		
+		/*Bounded pools, when the replica queue is full the event loop runs
+		 the request itself which slows down reading new requests, when
+		 the coordinator queue is full the client request is rejected*/
+		replicaExecutor = new ThreadPoolExecutor(Config.REPLICA_THREADS, Config.REPLICA_THREADS, 60, TimeUnit.SECONDS,
+				new ArrayBlockingQueue<Runnable>(Config.WORKER_QUEUE), new ThreadPoolExecutor.CallerRunsPolicy());
+		coordinatorExecutor = new ThreadPoolExecutor(Config.WORKER_THREADS, Config.WORKER_THREADS, 60, TimeUnit.SECONDS,
+				new ArrayBlockingQueue<Runnable>(Config.WORKER_QUEUE), new ThreadPoolExecutor.AbortPolicy());
+	}
+	
+	public static void main(String[] args)
+	{
+		if (args.length != 5)
+		{
+			System.err.println("Error: Incorrect number of arguments. The program accepts 5 argument(s).");
+			System.exit(0);
+			//Server Name, port, log file path, replica file path, Hinted handoff or read repair 
+		}
+		
+		try
+		{
+			//Init Server and set the server name
+			Server s = new Server(args[0], args[4]);
+			
+			//Setting the replica mappings, which decide the keys replayed below
+			FileProcessor fp1 = new FileProcessor(args[3]);
+			s.setReplicaMapping(fp1);
+			
+			//For populating the key-value store from the snapshot and the write-ahead log
+			s.openStorage(args[2]);
+			WriteAheadLog.replay(args[2], s.dataStore, s::ownsKey);
+			
+			//Adding the row cache after the replay, which would only fill it with cold keys
+			RowCache rowCache = null;
+			if(Config.ROW_CACHE_SIZE > 0)
+			{
+				rowCache = new RowCache(Config.ROW_CACHE_SIZE, Config.STORAGE_STRIPES, Config.ROW_CACHE_POLICY);
+				s.dataStore = new CachedStorage(s.dataStore, rowCache);
+			}
+			
+			//Opening the write-ahead log for the new writes
+			s.writeAheadLog = new WriteAheadLog(args[2], Config.WAL_SYNC_MODE);
+			Runtime.getRuntime().addShutdownHook(new Thread(() ->
+			{
+				try
+				{
+					s.writeAheadLog.close();
+				}
+				catch(IOException e)
+				{
+					e.printStackTrace();
+				}
+			}));
+			
+			//Taking snapshots regularly so that the replayed log stays short
+			s.checkpointExecutor = Executors.newSingleThreadScheduledExecutor(runnable ->
+			{
+				Thread thread = new Thread(runnable, "checkpoint");
+				thread.setDaemon(true);
+				return thread;
+			});
+			s.checkpointExecutor.scheduleWithFixedDelay(s::checkpoint, Config.CHECKPOINT_INTERVAL, Config.CHECKPOINT_INTERVAL, TimeUnit.MILLISECONDS);
+			if(rowCache != null)
+			{
+				RowCache cache = rowCache;
+				s.checkpointExecutor.scheduleWithFixedDelay(() -> System.out.println(cache), Config.CHECKPOINT_INTERVAL, Config.CHECKPOINT_INTERVAL, TimeUnit.MILLISECONDS);
+			}
+			
+			
+			//Creating the executors which run the requests
+			s.createExecutors(Config.EXECUTOR_MODE);
+			
+			//Starting the event loops which read the requests from the network
+			ServerSocketChannel server = EventLoop.start(Integer.parseInt(args[1]), Config.IO_THREADS, s::dispatch);
+			System.out.println("Replica Name: " + s.serverName);
+			System.out.println("Host Name: " + InetAddress.getLocalHost().getHostName());
+			System.out.println("Port Number: " + server.socket().getLocalPort());
+			System.out.println("Execution mode: " + Config.EXECUTOR_MODE + " with " + Config.IO_THREADS + " event loop(s)");
+			System.out.println("Write-ahead log sync mode: " + s.writeAheadLog.getSyncMode());
+			System.out.println("Server started....");
+			System.out.println("=============================================================================");
+		}
+		catch(Exception e)
+		{
+			e.printStackTrace();
+			System.exit(1);
 		}
 	}
 }
\ No newline at end of file
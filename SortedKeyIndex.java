@@ -0,0 +1,197 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import com.google.protobuf.ByteString;
+
+/**
+ * Class representing the keys of a storage in key order, for reading
+ *  ranges of keys. Keys are only ever added. They are kept in sorted blocks
+ *  of up to BLOCK_SIZE keys, so a key costs a reference or two besides the
+ *  key itself, adding one moves at most a block and finding the first key
+ *  of a range takes two binary searches.
+ * The class is not thread-safe
+ */
+public class SortedKeyIndex
+{
+	//A full block is split in two halves
+	static final int BLOCK_SIZE = 256;
+
+	private ByteString[][] blocks;
+	private int[] blockSizes;
+	private int blockCount;
+	private int size;
+
+	public SortedKeyIndex()
+	{
+		blocks = new ByteString[16][];
+		blockSizes = new int[16];
+	}
+
+	/**
+	 * Function for adding a key which is not in the index yet
+	 * @param key The key
+	 */
+	public void add(ByteString key)
+	{
+		if(blockCount == 0)
+		{
+			insertBlock(0, new ByteString[BLOCK_SIZE], 0);
+		}
+
+		int block = findBlock(key);
+		if(blockSizes[block] == BLOCK_SIZE)
+		{
+			//Moving the upper half of the block to a new block after it
+			int half = BLOCK_SIZE / 2;
+			ByteString[] upper = new ByteString[BLOCK_SIZE];
+			System.arraycopy(blocks[block], half, upper, 0, BLOCK_SIZE - half);
+			Arrays.fill(blocks[block], half, BLOCK_SIZE, null);
+			blockSizes[block] = half;
+			insertBlock(block + 1, upper, BLOCK_SIZE - half);
+			if(Keys.compare(key, upper[0]) >= 0)
+			{
+				block++;
+			}
+		}
+
+		ByteString[] keys = blocks[block];
+		int position = lowerBound(keys, blockSizes[block], key);
+		System.arraycopy(keys, position, keys, position + 1, blockSizes[block] - position);
+		keys[position] = key;
+		blockSizes[block]++;
+		size++;
+	}
+
+	/**
+	 * Function for getting the first keys of a range in key order
+	 * @param startKey The first key of the range
+	 * @param endKey The last key of the range, included, empty for a range without end
+	 * @param limit The largest number of keys returned
+	 * @return The first keys of the range, at most limit of them
+	 */
+	public List<ByteString> range(ByteString startKey, ByteString endKey, int limit)
+	{
+		List<ByteString> range = new ArrayList<ByteString>(Math.max(0, Math.min(limit, size)));
+		if(blockCount == 0)
+			return range;
+
+		int block = findBlock(startKey);
+		int position = lowerBound(blocks[block], blockSizes[block], startKey);
+		for(; block < blockCount && range.size() < limit; block++, position = 0)
+		{
+			ByteString[] keys = blocks[block];
+			for(; position < blockSizes[block] && range.size() < limit; position++)
+			{
+				if(!Keys.notAfter(keys[position], endKey))
+					return range;
+				range.add(keys[position]);
+			}
+		}
+		return range;
+	}
+
+	/**
+	 * Function for getting the number of keys in the index
+	 * @return The number of keys
+	 */
+	public int size()
+	{
+		return size;
+	}
+
+	/**
+	 * Function for copying the index, the copy is independent of the original
+	 * @return The copy
+	 */
+	public SortedKeyIndex copy()
+	{
+		SortedKeyIndex copy = new SortedKeyIndex();
+		copy.blocks = new ByteString[blocks.length][];
+		for(int i = 0; i < blockCount; i++)
+		{
+			copy.blocks[i] = blocks[i].clone();
+		}
+		copy.blockSizes = blockSizes.clone();
+		copy.blockCount = blockCount;
+		copy.size = size;
+		return copy;
+	}
+
+	/**
+	 * Function for finding the block where a key belongs, the last block
+	 *  starting at or before the key
+	 * @param key The key
+	 * @return The block, 0 if the key is before every block
+	 */
+	private int findBlock(ByteString key)
+	{
+		int low = 1;
+		int high = blockCount - 1;
+		while(low <= high)
+		{
+			int middle = (low + high) >>> 1;
+			if(Keys.compare(blocks[middle][0], key) <= 0)
+			{
+				low = middle + 1;
+			}
+			else
+			{
+				high = middle - 1;
+			}
+		}
+		return low - 1;
+	}
+
+	/**
+	 * Function for inserting a block
+	 * @param block The position of the block
+	 * @param keys The keys of the block
+	 * @param count The number of keys in the block
+	 */
+	private void insertBlock(int block, ByteString[] keys, int count)
+	{
+		if(blockCount == blocks.length)
+		{
+			blocks = Arrays.copyOf(blocks, blockCount * 2);
+			blockSizes = Arrays.copyOf(blockSizes, blockCount * 2);
+		}
+		System.arraycopy(blocks, block, blocks, block + 1, blockCount - block);
+		System.arraycopy(blockSizes, block, blockSizes, block + 1, blockCount - block);
+		blocks[block] = keys;
+		blockSizes[block] = count;
+		blockCount++;
+	}
+
+	/**
+	 * Function for finding the first key of a block at or after a key
+	 * @param keys The keys of the block
+	 * @param count The number of keys in the block
+	 * @param key The key
+	 * @return The position of the first key at or after the key, count if there is none
+	 */
+	private static int lowerBound(ByteString[] keys, int count, ByteString key)
+	{
+		int low = 0;
+		int high = count;
+		while(low < high)
+		{
+			int middle = (low + high) >>> 1;
+			if(Keys.compare(keys[middle], key) < 0)
+			{
+				low = middle + 1;
+			}
+			else
+			{
+				high = middle;
+			}
+		}
+		return low;
+	}
+
+	@Override
+	public String toString()
+	{
+		return "SortedKeyIndex [size=" + size + ", blocks=" + blockCount + "]";
+	}
+}
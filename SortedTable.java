@@ -0,0 +1,528 @@
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractMap;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.zip.CRC32C;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.UnsafeByteOperations;
+
+/**
+ * Class representing an immutable file of entries sorted by key. The file
+ *  starts with a header holding a magic number and the format version,
+ *  followed by records of the form
+ *  [key length][key bytes][timestamp][value length][value bytes].
+ *  A sparse index holding the key and offset of a record every index interval
+ *  bytes comes after the records, followed by a Bloom filter of the keys and
+ *  a footer locating them. The footer also holds the sequence of the table,
+ *  which orders the tables by the age of their entries.
+ * The index and the filter are kept in memory, so finding a key reads at
+ *  most one interval of the file, and nothing for most keys the table lacks.
+ *  Tables of version 1 have no filter, tables before version 3 no sequence.
+ *  Tables before version 4 hold int keys in signed order without a length,
+ *  they are only read in full to be rewritten by upgrade
+ */
+public class SortedTable implements Closeable
+{
+	//"KVST" followed by the version of the file format
+	static final int MAGIC = 0x4B565354;
+	static final int VERSION = 4;
+	static final int HEADER_SIZE = 8;
+
+	//Index offset, index count, entry count, CRC32C of the index and magic number
+	static final int FOOTER_SIZE_V1 = 28;
+	//Index offset, index count, entry count, filter hash count, filter word count,
+	// CRC32C of the index and the filter, and magic number
+	static final int FOOTER_SIZE_V2 = 36;
+	//The footer of version 2 with the sequence before the checksum
+	static final int FOOTER_SIZE = 44;
+
+	//Key length, timestamp and value length of every record besides its key and value
+	static final int RECORD_HEADER_SIZE = 16;
+
+	//Key length and offset of an index entry besides its key
+	static final int INDEX_ENTRY_SIZE = 12;
+
+	//Bytes of the int keys of the tables before version 4
+	static final int LEGACY_KEY_SIZE = 4;
+
+	private Path path;
+	private FileChannel channel;
+	private int version;
+	private ByteString[] indexKeys;
+	private long[] indexOffsets;
+	private long dataEnd;
+	private long entryCount;
+	private BloomFilter filter;
+	private long sequence;
+
+	private SortedTable(Path path) throws IOException
+	{
+		this.path = path;
+		channel = FileChannel.open(path, StandardOpenOption.READ);
+		try
+		{
+			readIndex();
+		}
+		catch(IOException e)
+		{
+			channel.close();
+			throw e;
+		}
+	}
+
+	/**
+	 * Function for opening a table file
+	 * @param path The path to the file
+	 * @return The table
+	 * @throws IOException When the file cannot be read or is not a valid table
+	 */
+	public static SortedTable open(Path path) throws IOException
+	{
+		return new SortedTable(path);
+	}
+
+	/**
+	 * Function for writing entries to a new table file. The file is written to
+	 *  a temporary file which is synced and renamed, so a crash never leaves a
+	 *  partial table behind
+	 * @param path The path to the file
+	 * @param entries The entries, ordered by key
+	 * @param indexInterval The bytes of records between two index entries
+	 * @param expectedEntries The number of entries the Bloom filter is sized for
+	 * @param bitsPerKey The bits of the Bloom filter per entry
+	 * @param sequence The sequence of the table, higher for newer entries
+	 * @return The table
+	 * @throws IOException When the file cannot be written
+	 */
+	public static SortedTable write(Path path, Iterator<Map.Entry<ByteString, DataStoreEntry>> entries, int indexInterval, long expectedEntries, int bitsPerKey, long sequence) throws IOException
+	{
+		BloomFilter filter = new BloomFilter(expectedEntries, bitsPerKey);
+		Path temporaryPath = path.resolveSibling(path.getFileName() + ".tmp");
+		ByteBuffer index = ByteBuffer.allocate(INDEX_ENTRY_SIZE * 1024);
+		int indexCount = 0;
+		long entryCount = 0;
+		long offset = HEADER_SIZE;
+		long lastIndexedOffset = -indexInterval;
+
+		try(FileChannel channel = FileChannel.open(temporaryPath, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING))
+		{
+			DataOutputStream output = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel), 256 * 1024));
+			output.writeInt(MAGIC);
+			output.writeInt(VERSION);
+
+			while(entries.hasNext())
+			{
+				Map.Entry<ByteString, DataStoreEntry> entry = entries.next();
+				ByteString key = entry.getKey();
+				if(offset - lastIndexedOffset >= indexInterval)
+				{
+					if(index.remaining() < INDEX_ENTRY_SIZE + key.size())
+					{
+						index = ByteBuffer.allocate(Math.max(index.capacity() * 2, index.position() + INDEX_ENTRY_SIZE + key.size())).put(index.flip());
+					}
+					index.putInt(key.size());
+					key.copyTo(index);
+					index.putLong(offset);
+					indexCount++;
+					lastIndexedOffset = offset;
+				}
+
+				filter.add(key);
+				ByteString value = entry.getValue().getValue();
+				output.writeInt(key.size());
+				key.writeTo(output);
+				output.writeLong(entry.getValue().getTimestamp());
+				output.writeInt(value.size());
+				value.writeTo(output);
+				offset += RECORD_HEADER_SIZE + key.size() + value.size();
+				entryCount++;
+			}
+
+			ByteBuffer filterWords = ByteBuffer.allocate(filter.getWords().length * 8);
+			filterWords.asLongBuffer().put(filter.getWords());
+			CRC32C crc = new CRC32C();
+			crc.update(index.array(), 0, index.position());
+			crc.update(filterWords.array());
+			output.write(index.array(), 0, index.position());
+			output.write(filterWords.array());
+			output.writeLong(offset);
+			output.writeInt(indexCount);
+			output.writeLong(entryCount);
+			output.writeInt(filter.getHashCount());
+			output.writeInt(filter.getWords().length);
+			output.writeLong(sequence);
+			output.writeInt((int)crc.getValue());
+			output.writeInt(MAGIC);
+			output.flush();
+			channel.force(true);
+		}
+		Files.move(temporaryPath, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		WriteAheadLog.syncDirectory(path);
+		return open(path);
+	}
+
+	/**
+	 * Function for reading the footer, the index and the filter of the file
+	 * @throws IOException When the file is not a valid table
+	 */
+	private void readIndex() throws IOException
+	{
+		long size = channel.size();
+		ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+		if(size < HEADER_SIZE + FOOTER_SIZE_V1)
+		{
+			throw new IOException("Invalid table " + path);
+		}
+		readFully(header, 0);
+		version = header.getInt(4);
+		if(header.getInt(0) != MAGIC || version < 1 || version > VERSION)
+		{
+			throw new IOException("Invalid table " + path);
+		}
+
+		int footerSize = version == 1 ? FOOTER_SIZE_V1 : version == 2 ? FOOTER_SIZE_V2 : FOOTER_SIZE;
+		ByteBuffer footer = ByteBuffer.allocate(footerSize);
+		if(size < HEADER_SIZE + footerSize)
+		{
+			throw new IOException("Invalid table " + path);
+		}
+		readFully(footer, size - footerSize);
+		if(footer.getInt(footerSize - 4) != MAGIC)
+		{
+			throw new IOException("Invalid table " + path);
+		}
+
+		dataEnd = footer.getLong(0);
+		int indexCount = footer.getInt(8);
+		entryCount = footer.getLong(12);
+		int hashCount = version == 1 ? 0 : footer.getInt(20);
+		int filterWordCount = version == 1 ? 0 : footer.getInt(24);
+		sequence = version < 3 ? 0 : footer.getLong(28);
+
+		//The index entries of version 4 hold keys of any length, the earlier ones keys of 4 bytes
+		long indexSize = size - footerSize - filterWordCount * 8L - dataEnd;
+		if(dataEnd < HEADER_SIZE || indexCount < 0 || filterWordCount < 0 || indexSize > Integer.MAX_VALUE
+				|| (version < 4 ? indexSize != (long)indexCount * INDEX_ENTRY_SIZE : indexSize < (long)indexCount * INDEX_ENTRY_SIZE))
+		{
+			throw new IOException("Invalid table " + path);
+		}
+
+		ByteBuffer index = ByteBuffer.allocate((int)indexSize);
+		readFully(index, dataEnd);
+		ByteBuffer filterWords = ByteBuffer.allocate(filterWordCount * 8);
+		readFully(filterWords, dataEnd + index.capacity());
+		CRC32C crc = new CRC32C();
+		crc.update(index.array());
+		crc.update(filterWords.array());
+		if((int)crc.getValue() != footer.getInt(footerSize - 8))
+		{
+			throw new IOException("Index of table " + path + " fails its checksum");
+		}
+
+		if(version != 1)
+		{
+			long[] words = new long[filterWordCount];
+			filterWords.flip().asLongBuffer().get(words);
+			filter = new BloomFilter(words, hashCount);
+		}
+
+		indexKeys = new ByteString[indexCount];
+		indexOffsets = new long[indexCount];
+		index.flip();
+		for(int i = 0; i < indexCount; i++)
+		{
+			int keyLength = version < 4 ? LEGACY_KEY_SIZE : index.getInt();
+			if(keyLength < 0 || keyLength > index.remaining() - 8)
+			{
+				throw new IOException("Invalid table " + path);
+			}
+			indexKeys[i] = ByteString.copyFrom(index.array(), index.position(), keyLength);
+			index.position(index.position() + keyLength);
+			indexOffsets[i] = index.getLong();
+		}
+		if(index.hasRemaining())
+		{
+			throw new IOException("Invalid table " + path);
+		}
+	}
+
+	/**
+	 * Function for checking the Bloom filter of the table, which reads nothing
+	 *  from the file
+	 * @param key The key
+	 * @return False if the table has no entry for the key, true if it may have one
+	 */
+	public boolean mightContain(ByteString key)
+	{
+		return filter == null || filter.mightContain(key);
+	}
+
+	/**
+	 * Function for finding the entry of a key in a table of version 4, callers
+	 *  check mightContain first
+	 * @param key The key
+	 * @return The entry, or null if the table has no entry for the key
+	 * @throws IOException When the file cannot be read
+	 */
+	public DataStoreEntry get(ByteString key) throws IOException
+	{
+		//The last indexed record not after the key starts the interval holding it
+		int position = Arrays.binarySearch(indexKeys, key, Keys.ORDER);
+		if(position < 0)
+		{
+			position = -position - 2;
+			if(position < 0)
+				return null;
+		}
+
+		long start = indexOffsets[position];
+		long end = position + 1 < indexOffsets.length ? indexOffsets[position + 1] : dataEnd;
+		ByteBuffer interval = ByteBuffer.allocate((int)(end - start));
+		readFully(interval, start);
+		interval.flip();
+
+		while(interval.remaining() >= RECORD_HEADER_SIZE)
+		{
+			int keyLength = interval.getInt();
+			//The interval is not shared, so the key is wrapped instead of copied
+			ByteString recordKey = UnsafeByteOperations.unsafeWrap(interval.array(), interval.position(), keyLength);
+			interval.position(interval.position() + keyLength);
+			long timestamp = interval.getLong();
+			int valueLength = interval.getInt();
+			int byKey = Keys.compare(recordKey, key);
+			if(byKey == 0)
+			{
+				DataStoreEntry entry = new DataStoreEntry();
+				entry.setValue(ByteString.copyFrom(interval.array(), interval.position(), valueLength));
+				entry.setTimestamp(timestamp);
+				return entry;
+			}
+			if(byKey > 0)
+				break;
+			interval.position(interval.position() + valueLength);
+		}
+		return null;
+	}
+
+	/**
+	 * Function for iterating over the entries in key order. The iterator reads
+	 *  the file through its own stream and has to be closed
+	 * @return The iterator
+	 * @throws IOException When the file cannot be opened
+	 */
+	public TableIterator iterator() throws IOException
+	{
+		return new TableIterator(HEADER_SIZE);
+	}
+
+	/**
+	 * Function for iterating over the entries in key order from a key on, in a
+	 *  table of version 4. The iteration starts at the indexed record before
+	 *  the key, so it may return a few smaller keys first
+	 * @param fromKey The first key wanted
+	 * @return The iterator
+	 * @throws IOException When the file cannot be opened
+	 */
+	public TableIterator iterator(ByteString fromKey) throws IOException
+	{
+		int position = Arrays.binarySearch(indexKeys, fromKey, Keys.ORDER);
+		if(position < 0)
+		{
+			position = -position - 2;
+		}
+		return new TableIterator(position < 0 ? HEADER_SIZE : indexOffsets[position]);
+	}
+
+	/**
+	 * Function for rewriting a table of a version before 4 in the current
+	 *  format. Its int keys become their 4 bytes in big-endian order, which
+	 *  sort like unsigned integers, so the file is read twice: for the keys
+	 *  below 2^31, which come last in signed order, and then for the others
+	 * @param newPath The path to the new table
+	 * @param indexInterval The bytes of records between two index entries
+	 * @param bitsPerKey The bits of the Bloom filter per entry
+	 * @param newSequence The sequence of the new table
+	 * @return The new table
+	 * @throws IOException When the table cannot be read or the new one cannot be written
+	 */
+	public SortedTable upgrade(Path newPath, int indexInterval, int bitsPerKey, long newSequence) throws IOException
+	{
+		try(TableIterator lower = iterator(); TableIterator upper = iterator())
+		{
+			Iterator<Map.Entry<ByteString, DataStoreEntry>> entries = new Iterator<Map.Entry<ByteString, DataStoreEntry>>()
+			{
+				private Map.Entry<ByteString, DataStoreEntry> next = advance();
+
+				private Map.Entry<ByteString, DataStoreEntry> advance()
+				{
+					while(lower.hasNext())
+					{
+						Map.Entry<ByteString, DataStoreEntry> entry = lower.next();
+						if((entry.getKey().byteAt(0) & 0x80) == 0)
+							return entry;
+					}
+					if(upper.hasNext())
+					{
+						Map.Entry<ByteString, DataStoreEntry> entry = upper.next();
+						if((entry.getKey().byteAt(0) & 0x80) != 0)
+							return entry;
+					}
+					return null;
+				}
+
+				@Override
+				public boolean hasNext()
+				{
+					return next != null;
+				}
+
+				@Override
+				public Map.Entry<ByteString, DataStoreEntry> next()
+				{
+					if(next == null)
+						throw new NoSuchElementException();
+					Map.Entry<ByteString, DataStoreEntry> entry = next;
+					next = advance();
+					return entry;
+				}
+			};
+			return write(newPath, entries, indexInterval, entryCount, bitsPerKey, newSequence);
+		}
+	}
+
+	/**
+	 * Class representing a sequential read of the entries of the table
+	 */
+	public class TableIterator implements Iterator<Map.Entry<ByteString, DataStoreEntry>>, Closeable
+	{
+		private DataInputStream input;
+		private long offset;
+
+		private TableIterator(long startOffset) throws IOException
+		{
+			input = new DataInputStream(new BufferedInputStream(Files.newInputStream(path), 256 * 1024));
+			input.skipNBytes(startOffset);
+			offset = startOffset;
+		}
+
+		@Override
+		public boolean hasNext()
+		{
+			return offset < dataEnd;
+		}
+
+		@Override
+		public Map.Entry<ByteString, DataStoreEntry> next()
+		{
+			if(!hasNext())
+				throw new NoSuchElementException();
+			try
+			{
+				byte[] key = new byte[version < 4 ? LEGACY_KEY_SIZE : input.readInt()];
+				input.readFully(key);
+				DataStoreEntry entry = new DataStoreEntry();
+				entry.setTimestamp(input.readLong());
+				byte[] value = new byte[input.readInt()];
+				input.readFully(value);
+				//The arrays are not shared, so they are wrapped instead of copied
+				entry.setValue(UnsafeByteOperations.unsafeWrap(value));
+				offset += (version < 4 ? RECORD_HEADER_SIZE - 4 : RECORD_HEADER_SIZE) + key.length + value.length;
+				return new AbstractMap.SimpleImmutableEntry<ByteString, DataStoreEntry>(UnsafeByteOperations.unsafeWrap(key), entry);
+			}
+			catch(IOException e)
+			{
+				throw new UncheckedIOException(e);
+			}
+		}
+
+		@Override
+		public void close() throws IOException
+		{
+			input.close();
+		}
+	}
+
+	/**
+	 * Function for reading a buffer from a position of the file
+	 * @param buffer The buffer to be filled
+	 * @param position The position in the file
+	 * @throws IOException When the file ends before the buffer is full
+	 */
+	private void readFully(ByteBuffer buffer, long position) throws IOException
+	{
+		while(buffer.hasRemaining())
+		{
+			int read = channel.read(buffer, position);
+			if(read < 0)
+				throw new IOException("Unexpected end of table " + path);
+			position += read;
+		}
+	}
+
+	public Path getPath()
+	{
+		return path;
+	}
+
+	public long getEntryCount()
+	{
+		return entryCount;
+	}
+
+	/**
+	 * Function for getting the format version of the file
+	 * @return The version, below 4 for the tables to be upgraded
+	 */
+	public int getVersion()
+	{
+		return version;
+	}
+
+	/**
+	 * Function for getting the sequence of the table, the tables with a
+	 *  higher sequence hold newer entries
+	 * @return The sequence, 0 for the tables written before it was stored
+	 */
+	public long getSequence()
+	{
+		return sequence;
+	}
+
+	/**
+	 * Function for getting the size of the file
+	 * @return The size in bytes
+	 * @throws IOException When the size cannot be read
+	 */
+	public long getSize() throws IOException
+	{
+		return channel.size();
+	}
+
+	@Override
+	public void close() throws IOException
+	{
+		channel.close();
+	}
+
+	@Override
+	public String toString()
+	{
+		return "SortedTable [path=" + path + ", entries=" + entryCount + "]";
+	}
+}
@@ -0,0 +1,144 @@
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+import com.google.protobuf.ByteString;
+
+/**
+ * Interface representing the storage of the key-value pairs held by the
+ *  replica. Every key of bytes maps to a value of arbitrary bytes and the
+ *  timestamp of the write which produced it. Implementations are not thread-safe unless they say so,
+ *  StripedStorage makes any of them safe for concurrent use
+ */
+public interface StorageEngine
+{
+	//Timestamp returned for a key without a value
+	long NO_TIMESTAMP = -1;
+
+	/**
+	 * Interface for visiting the entries of the storage
+	 */
+	interface EntryVisitor
+	{
+		void visit(ByteString key, ByteString value, long timestamp);
+	}
+
+	/**
+	 * Function for getting the value of a key
+	 * @param key The key
+	 * @return The value, or null if the key has no value
+	 */
+	ByteString getValue(ByteString key);
+
+	/**
+	 * Function for getting the timestamp of the value of a key
+	 * @param key The key
+	 * @return The timestamp, or NO_TIMESTAMP if the key has no value
+	 */
+	long getTimestamp(ByteString key);
+
+	/**
+	 * Function for getting the value of a key together with its timestamp
+	 * @param key The key
+	 * @return The entry, or null if the key has no value
+	 */
+	default DataStoreEntry getEntry(ByteString key)
+	{
+		ByteString value = getValue(key);
+		if(value == null)
+			return null;
+
+		DataStoreEntry entry = new DataStoreEntry();
+		entry.setValue(value);
+		entry.setTimestamp(getTimestamp(key));
+		return entry;
+	}
+
+	/**
+	 * Function for setting the value of a key
+	 * @param key The key
+	 * @param value The value
+	 * @param timestamp The timestamp of the write
+	 */
+	void put(ByteString key, ByteString value, long timestamp);
+
+	/**
+	 * Function for setting the value of a key only if the write is newer than
+	 *  the current value, so that the latest write wins whatever the order of
+	 *  arrival
+	 * @param key The key
+	 * @param value The value
+	 * @param timestamp The timestamp of the write
+	 * @return True if the value was set, false if the key holds a write at least as new
+	 */
+	default boolean putIfNewer(ByteString key, ByteString value, long timestamp)
+	{
+		if(getTimestamp(key) >= timestamp)
+			return false;
+		put(key, value, timestamp);
+		return true;
+	}
+
+	/**
+	 * Function for getting the number of keys with a value
+	 * @return The number of keys
+	 */
+	int size();
+
+	/**
+	 * Function for visiting every entry of the storage
+	 * @param visitor The visitor called for every entry
+	 */
+	void forEach(EntryVisitor visitor);
+
+	/**
+	 * Function for reading the entries of a range of keys in key order from
+	 *  an ordered index of the keys
+	 * @param startKey The first key of the range
+	 * @param endKey The last key of the range, included, empty for a range without end
+	 * @param limit The largest number of entries returned
+	 * @return The first entries of the range, at most limit of them
+	 */
+	List<Map.Entry<ByteString, DataStoreEntry>> scan(ByteString startKey, ByteString endKey, int limit);
+
+	/**
+	 * Function for copying the storage, the copy is independent of the
+	 *  original. A copy of off-heap values shares them with the original
+	 *  instead, it only reads them and is released once read
+	 * @return The copy
+	 */
+	StorageEngine copy();
+
+	/**
+	 * Function for releasing a copy once it is no longer read, so that the
+	 *  original reuses the memory of the values it shared meanwhile
+	 */
+	default void release()
+	{
+	}
+
+	/**
+	 * Function for getting the lock guarding a key. Callers combining several
+	 *  operations on a key, like checking its timestamp before logging and
+	 *  applying a write, hold it meanwhile
+	 * @param key The key
+	 * @return The lock
+	 */
+	default Object lockFor(ByteString key)
+	{
+		return this;
+	}
+
+	/**
+	 * Function for preparing a checkpoint, called once the write-ahead log is
+	 *  rolled. The entries returned are written as the snapshot, after which
+	 *  the log segments before the roll are deleted
+	 * @return A copy of the entries, or only the entries not persisted by the
+	 *  storage itself
+	 * @throws IOException When the storage cannot persist its entries
+	 */
+	default StorageEngine prepareCheckpoint() throws IOException
+	{
+		return copy();
+	}
+}
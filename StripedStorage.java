@@ -0,0 +1,218 @@
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Supplier;
+
+import com.google.protobuf.ByteString;
+
+/**
+ * Class representing a thread-safe storage engine split into stripes by
+ *  key. Every stripe is a separate storage guarded by its own lock, so
+ *  writes to different stripes run in parallel and a read or write of a
+ *  key only waits for the keys sharing its stripe. Callers combining
+ *  several operations on a key, like checking its timestamp before
+ *  logging and applying a write, hold the lock given by lockFor
+ */
+public class StripedStorage implements StorageEngine
+{
+	private StorageEngine[] stripes;
+	private int mask;
+
+	/**
+	 * @param stripeCount The number of stripes, rounded up to a power of two
+	 * @param stripeFactory Creates the storage of a stripe
+	 */
+	public StripedStorage(int stripeCount, Supplier<StorageEngine> stripeFactory)
+	{
+		int count = Integer.highestOneBit(Math.max(1, stripeCount) - 1) << 1;
+		if(count == 0)
+			count = 1;
+		stripes = new StorageEngine[count];
+		for(int i = 0; i < count; i++)
+		{
+			stripes[i] = stripeFactory.get();
+		}
+		mask = count - 1;
+	}
+
+	private StripedStorage(StorageEngine[] stripes)
+	{
+		this.stripes = stripes;
+		mask = stripes.length - 1;
+	}
+
+	/**
+	 * Function for getting the lock guarding a key. Holding it keeps every
+	 *  other thread from reading or writing the keys of the stripe
+	 * @param key The key
+	 * @return The lock of the stripe holding the key
+	 */
+	@Override
+	public Object lockFor(ByteString key)
+	{
+		return stripeOf(key);
+	}
+
+	@Override
+	public ByteString getValue(ByteString key)
+	{
+		StorageEngine stripe = stripeOf(key);
+		synchronized(stripe)
+		{
+			return stripe.getValue(key);
+		}
+	}
+
+	@Override
+	public long getTimestamp(ByteString key)
+	{
+		StorageEngine stripe = stripeOf(key);
+		synchronized(stripe)
+		{
+			return stripe.getTimestamp(key);
+		}
+	}
+
+	@Override
+	public DataStoreEntry getEntry(ByteString key)
+	{
+		StorageEngine stripe = stripeOf(key);
+		synchronized(stripe)
+		{
+			return stripe.getEntry(key);
+		}
+	}
+
+	@Override
+	public void put(ByteString key, ByteString value, long timestamp)
+	{
+		StorageEngine stripe = stripeOf(key);
+		synchronized(stripe)
+		{
+			stripe.put(key, value, timestamp);
+		}
+	}
+
+	@Override
+	public boolean putIfNewer(ByteString key, ByteString value, long timestamp)
+	{
+		StorageEngine stripe = stripeOf(key);
+		synchronized(stripe)
+		{
+			return stripe.putIfNewer(key, value, timestamp);
+		}
+	}
+
+	@Override
+	public int size()
+	{
+		int size = 0;
+		for(StorageEngine stripe : stripes)
+		{
+			synchronized(stripe)
+			{
+				size += stripe.size();
+			}
+		}
+		return size;
+	}
+
+	/**
+	 * Function for visiting every entry, one stripe at a time. Each stripe is
+	 *  locked while it is visited, so the visitor must not access the storage
+	 * @param visitor The visitor called for every entry
+	 */
+	@Override
+	public void forEach(EntryVisitor visitor)
+	{
+		for(StorageEngine stripe : stripes)
+		{
+			synchronized(stripe)
+			{
+				stripe.forEach(visitor);
+			}
+		}
+	}
+
+	/**
+	 * Function for reading the entries of a range of keys, one stripe at a
+	 *  time, merging the first entries of every stripe. A stripe is locked
+	 *  while its own entries are read, and once limit entries are found the
+	 *  next stripes are only read up to the last of them
+	 * @param startKey The first key of the range
+	 * @param endKey The last key of the range, included, empty for a range without end
+	 * @param limit The largest number of entries returned
+	 * @return The first entries of the range in key order
+	 */
+	@Override
+	public List<Map.Entry<ByteString, DataStoreEntry>> scan(ByteString startKey, ByteString endKey, int limit)
+	{
+		TreeMap<ByteString, DataStoreEntry> first = new TreeMap<ByteString, DataStoreEntry>(Keys.ORDER);
+		for(StorageEngine stripe : stripes)
+		{
+			ByteString lastKey = !first.isEmpty() && first.size() == limit ? first.lastKey() : endKey;
+			List<Map.Entry<ByteString, DataStoreEntry>> entries;
+			synchronized(stripe)
+			{
+				entries = stripe.scan(startKey, lastKey, limit);
+			}
+			for(Map.Entry<ByteString, DataStoreEntry> entry : entries)
+			{
+				first.put(entry.getKey(), entry.getValue());
+			}
+			while(first.size() > limit)
+			{
+				first.pollLastEntry();
+			}
+		}
+		return new ArrayList<Map.Entry<ByteString, DataStoreEntry>>(first.entrySet());
+	}
+
+	/**
+	 * Function for copying the storage one stripe at a time. A write made
+	 *  under the lock of its key is either fully in the copy or not at all
+	 * @return The copy
+	 */
+	@Override
+	public StorageEngine copy()
+	{
+		StorageEngine[] copies = new StorageEngine[stripes.length];
+		for(int i = 0; i < stripes.length; i++)
+		{
+			synchronized(stripes[i])
+			{
+				copies[i] = stripes[i].copy();
+			}
+		}
+		return new StripedStorage(copies);
+	}
+
+	@Override
+	public void release()
+	{
+		for(StorageEngine stripe : stripes)
+		{
+			stripe.release();
+		}
+	}
+
+	/**
+	 * Function for finding the stripe of a key from the hash code the key
+	 *  caches. The bits used differ from the ones selecting the slot inside a
+	 *  stripe
+	 * @param key The key
+	 * @return The stripe
+	 */
+	private StorageEngine stripeOf(ByteString key)
+	{
+		int h = key.hashCode() * 0x85EBCA6B;
+		return stripes[(h ^ (h >>> 15)) & mask];
+	}
+
+	@Override
+	public String toString()
+	{
+		return "StripedStorage [stripes=" + stripes.length + ", size=" + size() + "]";
+	}
+}
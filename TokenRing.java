@@ -0,0 +1,164 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+import com.google.protobuf.ByteString;
+
+/**
+ * Class representing the consistent hashing ring deciding which replicas own
+ *  a key. Every replica places a number of virtual nodes on a ring of 32 bit
+ *  tokens. A key is hashed to a token and owned by the replicas of the first
+ *  virtual nodes found walking the ring clockwise from it, until the
+ *  replication factor is reached. The tokens only depend on the replica
+ *  names, so every replica computes the same ring from the replicas file,
+ *  and adding a replica only moves the keys next to its virtual nodes
+ */
+public class TokenRing implements Partitioner
+{
+	private int[] tokens;
+	private List<List<String>> ownersAt;
+	private List<String> replicas;
+	private int replicationFactor;
+
+	/**
+	 * @param replicaNames The names of all the replicas
+	 * @param virtualNodes The number of virtual nodes of every replica
+	 * @param replicationFactor The number of replicas owning every key
+	 */
+	public TokenRing(List<String> replicaNames, int virtualNodes, int replicationFactor)
+	{
+		if(replicaNames.isEmpty())
+		{
+			throw new IllegalArgumentException("The token ring needs at least one replica");
+		}
+		replicas = new ArrayList<String>(new LinkedHashSet<String>(replicaNames));
+		this.replicationFactor = Math.max(1, Math.min(replicationFactor, replicas.size()));
+		int nodesPerReplica = Math.max(1, virtualNodes);
+
+		//Placing the virtual nodes, equal tokens are ordered by replica name
+		long[] nodes = new long[replicas.size() * nodesPerReplica];
+		int count = 0;
+		for(int replica = 0; replica < replicas.size(); replica++)
+		{
+			for(int node = 0; node < nodesPerReplica; node++)
+			{
+				long token = tokenOf(replicas.get(replica), node);
+				nodes[count++] = (token << 32) | replica;
+			}
+		}
+		Arrays.sort(nodes);
+
+		//Listing the owners of the keys before every virtual node once
+		tokens = new int[nodes.length];
+		ownersAt = new ArrayList<List<String>>(nodes.length);
+		for(int i = 0; i < nodes.length; i++)
+		{
+			tokens[i] = (int)(nodes[i] >> 32);
+			LinkedHashSet<String> owners = new LinkedHashSet<String>();
+			for(int j = i; owners.size() < this.replicationFactor; j = (j + 1) % nodes.length)
+			{
+				owners.add(replicas.get((int)nodes[j]));
+			}
+			ownersAt.add(Collections.unmodifiableList(new ArrayList<String>(owners)));
+		}
+	}
+
+	@Override
+	public List<String> getOwners(ByteString key)
+	{
+		int position = Arrays.binarySearch(tokens, hashKey(key));
+		if(position < 0)
+		{
+			position = -position - 1;
+		}
+		return ownersAt.get(position == tokens.length ? 0 : position);
+	}
+
+	@Override
+	public int getReplicationFactor()
+	{
+		return replicationFactor;
+	}
+
+	/**
+	 * Function for getting the share of the keys every replica owns
+	 * @return The fraction of the token space owned by every replica
+	 */
+	public Map<String, Double> getOwnership()
+	{
+		Map<String, Double> ownership = new LinkedHashMap<String, Double>();
+		for(String replica : replicas)
+		{
+			ownership.put(replica, 0.0);
+		}
+		for(int i = 0; i < tokens.length; i++)
+		{
+			//The keys between the previous virtual node and this one
+			long previous = i == 0 ? tokens[tokens.length - 1] - (1L << 32) : tokens[i - 1];
+			double share = (tokens[i] - previous) / (double)(1L << 32);
+			for(String owner : ownersAt.get(i))
+			{
+				ownership.merge(owner, share, Double::sum);
+			}
+		}
+		return ownership;
+	}
+
+	/**
+	 * Function for spreading a key over the ring. The keys of 4 bytes keep the
+	 *  token of the int keys of earlier versions, so the owners of the keys
+	 *  written before stay the same
+	 * @param key The key
+	 * @return The token of the key
+	 */
+	static int hashKey(ByteString key)
+	{
+		if(key.size() == 4)
+			return hashKey(key.asReadOnlyByteBuffer().getInt());
+		return (int)(Keys.hash(key) >>> 32);
+	}
+
+	/**
+	 * Function for spreading an int over the ring, the ints are often dense ranges
+	 * @param key The int
+	 * @return The token of the int
+	 */
+	static int hashKey(int key)
+	{
+		int h = key;
+		h ^= h >>> 16;
+		h *= 0x85EBCA6B;
+		h ^= h >>> 13;
+		h *= 0xC2B2AE35;
+		h ^= h >>> 16;
+		return h;
+	}
+
+	/**
+	 * Function for placing a virtual node of a replica on the ring
+	 * @param replicaName The name of the replica
+	 * @param node The number of the virtual node
+	 * @return The token of the virtual node
+	 */
+	private static int tokenOf(String replicaName, int node)
+	{
+		return hashKey((replicaName + "#" + node).hashCode());
+	}
+
+	@Override
+	public String toString()
+	{
+		StringBuilder builder = new StringBuilder("TokenRing [virtualNodes=" + tokens.length + ", replicationFactor=" + replicationFactor + ", ownership=");
+		String separator = "";
+		for(Map.Entry<String, Double> share : getOwnership().entrySet())
+		{
+			builder.append(separator).append(share.getKey()).append(String.format(" %.1f%%", share.getValue() * 100));
+			separator = ", ";
+		}
+		return builder.append("]").toString();
+	}
+}
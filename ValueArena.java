@@ -0,0 +1,314 @@
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.google.protobuf.ByteString;
+
+/**
+ * Class representing an off-heap store for values. Memory is taken from
+ *  the operating system in direct buffers (slabs) of a fixed size, each
+ *  slab is carved into chunks of one size class. A value goes to the
+ *  smallest class fitting it, and freed chunks are reused by later values
+ *  of the same class. Values larger than a slab get a slab of their own.
+ * A value is addressed by a reference holding its slab number in the upper
+ *  32 bits and its offset in the lower 32 bits. A chunk holds the length
+ *  of the value followed by its bytes.
+ * A snapshot reads the values of the arena as they were when it was taken
+ *  without copying the slabs: while a snapshot is open the freed chunks are
+ *  retired instead of reused, and they are reused once it is released
+ */
+public class ValueArena
+{
+	//Size of the smallest chunk, and the growth from one size class to the next
+	static final int MIN_CHUNK_SIZE = 32;
+	static final double GROWTH_FACTOR = 1.25;
+
+	//Length prefix of a value inside its chunk
+	static final int LENGTH_SIZE = 4;
+
+	private int slabSize;
+	private int[] chunkSizes;
+	private ArrayList<ByteBuffer> slabs;
+	private int[] slabClasses;
+	private int[] currentSlab;
+	private int[] nextOffset;
+	private long[][] freeChunks;
+	private int[] freeChunkCounts;
+	private ArrayList<Integer> freeSlabs;
+	private long usedBytes;
+	private AtomicInteger openSnapshots;
+	private long[] retiredChunks;
+	private int retiredCount;
+	private ValueArena snapshotOf;
+
+	public ValueArena(int slabSize)
+	{
+		this.slabSize = slabSize;
+
+		//Size classes from the smallest chunk up to a whole slab
+		ArrayList<Integer> sizes = new ArrayList<Integer>();
+		for(int size = MIN_CHUNK_SIZE; size < slabSize; size = Math.max(size + 8, (int)(size * GROWTH_FACTOR) & ~7))
+		{
+			sizes.add(size);
+		}
+		sizes.add(slabSize);
+		chunkSizes = sizes.stream().mapToInt(Integer::intValue).toArray();
+
+		//Slab number 0 is never used, so that no reference is 0
+		slabs = new ArrayList<ByteBuffer>();
+		slabs.add(null);
+		slabClasses = new int[16];
+		currentSlab = new int[chunkSizes.length];
+		nextOffset = new int[chunkSizes.length];
+		freeChunks = new long[chunkSizes.length][];
+		freeChunkCounts = new int[chunkSizes.length];
+		for(int i = 0; i < chunkSizes.length; i++)
+		{
+			freeChunks[i] = new long[16];
+		}
+		freeSlabs = new ArrayList<Integer>();
+		openSnapshots = new AtomicInteger();
+		retiredChunks = new long[16];
+	}
+
+	/**
+	 * Creates a snapshot of an arena, which only reads values
+	 * @param arena The arena
+	 */
+	private ValueArena(ValueArena arena)
+	{
+		slabSize = arena.slabSize;
+		slabs = new ArrayList<ByteBuffer>(arena.slabs);
+		snapshotOf = arena;
+	}
+
+	/**
+	 * Function for storing a value
+	 * @param value The bytes of the value
+	 * @return The reference to the value
+	 */
+	public long allocate(ByteString value)
+	{
+		if(snapshotOf != null)
+			throw new UnsupportedOperationException("The snapshot of an arena only reads values");
+
+		//Reusing the chunks retired while snapshots were open
+		if(retiredCount > 0 && openSnapshots.get() == 0)
+		{
+			for(int i = 0; i < retiredCount; i++)
+			{
+				release(retiredChunks[i]);
+			}
+			retiredCount = 0;
+		}
+
+		int chunkSize = LENGTH_SIZE + value.size();
+		int sizeClass = findSizeClass(chunkSize);
+
+		long reference;
+		if(sizeClass < 0)
+		{
+			//A value larger than a slab is given a slab of its own
+			reference = (long)newSlab(chunkSize, -1) << 32;
+		}
+		else if(freeChunkCounts[sizeClass] > 0)
+		{
+			reference = freeChunks[sizeClass][--freeChunkCounts[sizeClass]];
+		}
+		else
+		{
+			if(currentSlab[sizeClass] == 0 || nextOffset[sizeClass] + chunkSizes[sizeClass] > slabSize)
+			{
+				currentSlab[sizeClass] = newSlab(slabSize, sizeClass);
+				nextOffset[sizeClass] = 0;
+			}
+			reference = ((long)currentSlab[sizeClass] << 32) | nextOffset[sizeClass];
+			nextOffset[sizeClass] += chunkSizes[sizeClass];
+		}
+
+		ByteBuffer slab = slabs.get(slabOf(reference));
+		int offset = offsetOf(reference);
+		slab.putInt(offset, value.size());
+		value.copyTo(slab.duplicate().position(offset + LENGTH_SIZE));
+		usedBytes += chunkSize;
+		return reference;
+	}
+
+	/**
+	 * Function for reading a value
+	 * @param reference The reference returned by allocate
+	 * @return The bytes of the value
+	 */
+	public ByteString read(long reference)
+	{
+		ByteBuffer slab = slabs.get(slabOf(reference));
+		int offset = offsetOf(reference);
+		int length = slab.getInt(offset);
+		return ByteString.copyFrom(slab.duplicate().limit(offset + LENGTH_SIZE + length).position(offset + LENGTH_SIZE));
+	}
+
+	/**
+	 * Function for releasing a value, its chunk is reused by later values
+	 *  once no snapshot is open
+	 * @param reference The reference returned by allocate
+	 */
+	public void free(long reference)
+	{
+		if(snapshotOf != null)
+			throw new UnsupportedOperationException("The snapshot of an arena only reads values");
+
+		int slabNumber = slabOf(reference);
+		usedBytes -= LENGTH_SIZE + slabs.get(slabNumber).getInt(offsetOf(reference));
+
+		//A snapshot may still read the chunk
+		if(openSnapshots.get() > 0 && slabClasses[slabNumber] >= 0)
+		{
+			if(retiredCount == retiredChunks.length)
+			{
+				retiredChunks = Arrays.copyOf(retiredChunks, retiredCount * 2);
+			}
+			retiredChunks[retiredCount++] = reference;
+			return;
+		}
+		release(reference);
+	}
+
+	/**
+	 * Function for making the chunk of a freed value available again
+	 * @param reference The reference of the value
+	 */
+	private void release(long reference)
+	{
+		int slabNumber = slabOf(reference);
+		int sizeClass = slabClasses[slabNumber];
+		if(sizeClass < 0)
+		{
+			//Returning the memory of a large value to the operating system, open snapshots keep their own reference to the slab
+			slabs.set(slabNumber, null);
+			freeSlabs.add(slabNumber);
+			return;
+		}
+
+		if(freeChunkCounts[sizeClass] == freeChunks[sizeClass].length)
+		{
+			freeChunks[sizeClass] = Arrays.copyOf(freeChunks[sizeClass], freeChunks[sizeClass].length * 2);
+		}
+		freeChunks[sizeClass][freeChunkCounts[sizeClass]++] = reference;
+	}
+
+	/**
+	 * Function for taking a snapshot of the arena. It shares the slabs, so
+	 *  it takes no memory besides the list of the slabs, and reads the values
+	 *  referenced when it was taken until it is released. Taking it has to
+	 *  be guarded like the other operations, reading it and releasing it
+	 *  can be done from any thread
+	 * @return The snapshot
+	 */
+	public ValueArena snapshot()
+	{
+		openSnapshots.incrementAndGet();
+		return new ValueArena(this);
+	}
+
+	/**
+	 * Function for releasing a snapshot, after which the chunks retired
+	 *  meanwhile are reused. A snapshot is only released once
+	 */
+	public void releaseSnapshot()
+	{
+		if(snapshotOf != null)
+		{
+			snapshotOf.openSnapshots.decrementAndGet();
+			snapshotOf = null;
+			slabs = null;
+		}
+	}
+
+	/**
+	 * Function for getting the bytes held by the values
+	 * @return The bytes of the values including their length prefix
+	 */
+	public long getUsedBytes()
+	{
+		return usedBytes;
+	}
+
+	/**
+	 * Function for getting the off-heap memory taken by the slabs
+	 * @return The bytes of all the slabs
+	 */
+	public long getAllocatedBytes()
+	{
+		long allocated = 0;
+		for(ByteBuffer slab : slabs)
+		{
+			if(slab != null)
+				allocated += slab.capacity();
+		}
+		return allocated;
+	}
+
+	/**
+	 * Function for finding the smallest size class fitting a chunk
+	 * @param chunkSize The size of the chunk
+	 * @return The size class, or -1 if the chunk is larger than a slab
+	 */
+	private int findSizeClass(int chunkSize)
+	{
+		int index = Arrays.binarySearch(chunkSizes, chunkSize);
+		if(index < 0)
+		{
+			index = -index - 1;
+		}
+		return index < chunkSizes.length ? index : -1;
+	}
+
+	/**
+	 * Function for taking a new slab from the operating system
+	 * @param size The size of the slab
+	 * @param sizeClass The size class carved from the slab, -1 for a large value
+	 * @return The number of the slab
+	 */
+	private int newSlab(int size, int sizeClass)
+	{
+		ByteBuffer slab = ByteBuffer.allocateDirect(size);
+		int slabNumber;
+		if(!freeSlabs.isEmpty())
+		{
+			slabNumber = freeSlabs.remove(freeSlabs.size() - 1);
+			slabs.set(slabNumber, slab);
+		}
+		else
+		{
+			slabNumber = slabs.size();
+			slabs.add(slab);
+		}
+
+		if(slabNumber >= slabClasses.length)
+		{
+			slabClasses = Arrays.copyOf(slabClasses, slabClasses.length * 2);
+		}
+		slabClasses[slabNumber] = sizeClass;
+		return slabNumber;
+	}
+
+	private static int slabOf(long reference)
+	{
+		return (int)(reference >>> 32);
+	}
+
+	private static int offsetOf(long reference)
+	{
+		return (int)reference;
+	}
+
+	@Override
+	public String toString()
+	{
+		if(snapshotOf != null || slabs == null)
+			return "ValueArena [snapshot, released=" + (slabs == null) + "]";
+		return "ValueArena [slabs=" + (slabs.size() - 1 - freeSlabs.size()) + ", usedBytes=" + usedBytes
+				+ ", allocatedBytes=" + getAllocatedBytes() + ", retiredChunks=" + retiredCount + "]";
+	}
+}
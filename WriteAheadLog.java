@@ -0,0 +1,642 @@
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Predicate;
+import java.util.zip.CRC32C;
+
+import com.google.protobuf.ByteString;
+
+/**
+ * Class representing the write-ahead log of the replica. The log is split
+ *  into segments named <log file path>.<segment number>, a new segment is
+ *  started when the current one reaches the segment size. A single writer
+ *  thread writes the records appended by the workers, the records appended
+ *  while the previous batch was written go out together in one write and
+ *  one sync (group commit).
+ * A checkpoint writes the data store to <log file path>.snapshot and
+ *  deletes the segments it covers, so that a restart loads the snapshot
+ *  and replays only the segments written after it.
+ * Every segment starts with a header holding a magic number and the format
+ *  version, followed by records of the form
+ *  [payload length][CRC32C of the payload][key length][key bytes][timestamp][value bytes].
+ *  The segments and snapshots of version 1 hold int keys of 4 bytes without
+ *  a length, they are still replayed
+ */
+public class WriteAheadLog
+{
+	//Every write waits until its record is synced to the disk
+	static final String SYNC = "SYNC";
+	//Like SYNC, but the writer waits for the batch window to gather more records per sync
+	static final String BATCH = "BATCH";
+	//Writes wait until their record is written, the file is synced once every sync period
+	static final String PERIODIC = "PERIODIC";
+
+	//"KVWL" followed by the version of the record format
+	static final int MAGIC = 0x4B56574C;
+	static final int VERSION = 2;
+	static final int HEADER_SIZE = 8;
+
+	//"KVSS" followed by the version and the first segment not covered by the snapshot
+	static final int SNAPSHOT_MAGIC = 0x4B565353;
+	static final int SNAPSHOT_HEADER_SIZE = 16;
+
+	//Length and checksum preceding the payload of every record
+	static final int RECORD_HEADER_SIZE = 8;
+	//Key length and timestamp of the payload besides its key and value
+	static final int PAYLOAD_HEADER_SIZE = 12;
+
+	private String logFilePath;
+	private FileChannel channel;
+	private long segment;
+	private long segmentSize;
+	private String syncMode;
+	private ByteArrayOutputStream pending;
+	private ByteArrayOutputStream writing;
+	private long appendedSequence;
+	private long writtenSequence;
+	private long syncedSequence;
+	private long lastSyncTime;
+	private long lastRollSequence;
+	private int rollOffset;
+	private long rolledSegment;
+	private IOException failure;
+	private boolean closed;
+	private Thread writer;
+
+	public WriteAheadLog(String logFilePath, String syncMode) throws IOException
+	{
+		if(!syncMode.equalsIgnoreCase(SYNC) && !syncMode.equalsIgnoreCase(BATCH) && !syncMode.equalsIgnoreCase(PERIODIC))
+		{
+			throw new IllegalArgumentException("Unknown write-ahead log sync mode " + syncMode);
+		}
+		this.logFilePath = logFilePath;
+		this.syncMode = syncMode.toUpperCase();
+
+		//Starting a new segment after the ones left by the previous run
+		TreeMap<Long, Path> segments = listSegments(logFilePath);
+		openSegment(segments.isEmpty() ? 1 : segments.lastKey() + 1);
+
+		pending = new ByteArrayOutputStream();
+		writing = new ByteArrayOutputStream();
+		lastSyncTime = System.currentTimeMillis();
+		lastRollSequence = -1;
+		rollOffset = -1;
+
+		writer = new Thread(this::writeRecords, "wal-writer");
+		writer.setDaemon(true);
+		writer.start();
+	}
+
+	public String getSyncMode()
+	{
+		return syncMode;
+	}
+
+	/**
+	 * Function for appending an entry to the log. It returns without waiting,
+	 *  the caller waits with awaitDurable once it no longer holds any lock
+	 * @param key The key for the entry
+	 * @param value The value for the entry
+	 * @param timestamp The timestamp for the entry
+	 * @return The sequence number of the record, to be passed to awaitDurable
+	 * @throws IOException When the log has failed or is closed
+	 */
+	public synchronized long append(ByteString key, ByteString value, long timestamp) throws IOException
+	{
+		checkUsable();
+
+		byte[] record = encodeRecord(key, value, timestamp);
+		pending.write(record, 0, record.length);
+		appendedSequence++;
+		notifyAll();
+		return appendedSequence;
+	}
+
+	/**
+	 * Function for waiting until a record is durable according to the sync mode
+	 * @param sequence The sequence number returned by append
+	 * @throws IOException When the log fails before the record is durable
+	 */
+	public synchronized void awaitDurable(long sequence) throws IOException
+	{
+		try
+		{
+			while((syncMode.equals(PERIODIC) ? writtenSequence : syncedSequence) < sequence)
+			{
+				checkUsable();
+				wait();
+			}
+		}
+		catch(InterruptedException e)
+		{
+			Thread.currentThread().interrupt();
+			throw new IOException("Interrupted while waiting for the write-ahead log");
+		}
+	}
+
+	/**
+	 * Function for starting a checkpoint. The records appended so far stay in
+	 *  the current segment and the following ones go to a new segment. The
+	 *  data store is copied afterwards; since every record is appended and
+	 *  applied under the lock of its key, the copy holds all the records
+	 *  appended before the roll
+	 * @return Returns false when nothing was appended since the previous
+	 *  checkpoint, in which case no checkpoint is needed
+	 * @throws IOException When the log has failed or is closed
+	 */
+	public synchronized boolean requestRoll() throws IOException
+	{
+		checkUsable();
+		if(appendedSequence == lastRollSequence)
+			return false;
+
+		lastRollSequence = appendedSequence;
+		rollOffset = pending.size();
+		notifyAll();
+		return true;
+	}
+
+	/**
+	 * Function for completing a checkpoint started by requestRoll. The copy of
+	 *  the data store is written as the new snapshot and the segments holding
+	 *  only records older than the roll are deleted
+	 * @param entries The copy of the data store taken after requestRoll
+	 * @throws IOException When the snapshot cannot be written
+	 */
+	public void checkpoint(StorageEngine entries) throws IOException
+	{
+		long firstSegment;
+		synchronized(this)
+		{
+			try
+			{
+				while(rollOffset >= 0)
+				{
+					checkUsable();
+					wait();
+				}
+			}
+			catch(InterruptedException e)
+			{
+				Thread.currentThread().interrupt();
+				throw new IOException("Interrupted while waiting for the write-ahead log");
+			}
+			firstSegment = rolledSegment;
+		}
+
+		writeSnapshot(logFilePath, entries, firstSegment);
+		deleteSegmentsBefore(logFilePath, firstSegment);
+	}
+
+	/**
+	 * Function for encoding an entry as a log record
+	 * @param key The key for the entry
+	 * @param value The value for the entry
+	 * @param timestamp The timestamp for the entry
+	 * @return The bytes of the record
+	 */
+	static byte[] encodeRecord(ByteString key, ByteString value, long timestamp)
+	{
+		int payloadLength = PAYLOAD_HEADER_SIZE + key.size() + value.size();
+
+		ByteBuffer record = ByteBuffer.allocate(RECORD_HEADER_SIZE + payloadLength);
+		record.putInt(payloadLength);
+		record.putInt(0);
+		record.putInt(key.size());
+		key.copyTo(record);
+		record.putLong(timestamp);
+		value.copyTo(record);
+
+		CRC32C crc = new CRC32C();
+		crc.update(record.array(), RECORD_HEADER_SIZE, payloadLength);
+		record.putInt(4, (int)crc.getValue());
+		return record.array();
+	}
+
+	/**
+	 * Function for writing a buffer completely to a channel
+	 * @param channel The channel of the file
+	 * @param buffer The bytes to be written
+	 * @throws IOException When the bytes cannot be written
+	 */
+	private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException
+	{
+		while(buffer.hasRemaining())
+		{
+			channel.write(buffer);
+		}
+	}
+
+	/**
+	 * Function for reading a buffer from a channel until it is full or the
+	 *  end of the file is reached
+	 * @param channel The channel of the file
+	 * @param buffer The buffer to be filled
+	 * @throws IOException When the file cannot be read
+	 */
+	private static void readFully(FileChannel channel, ByteBuffer buffer) throws IOException
+	{
+		while(buffer.hasRemaining())
+		{
+			if(channel.read(buffer) < 0)
+				break;
+		}
+	}
+
+	/**
+	 * Function for updating the data store from the snapshot and the log
+	 *  segments written after it. The files are replayed in parallel through
+	 *  memory mapping. A record torn by a crash, or failing its checksum, ends
+	 *  its segment and is truncated together with everything after it. A log
+	 *  left in the single file format of older versions is replayed too and
+	 *  replaced by a snapshot
+	 * @param logFilePath The path to the log file
+	 * @param dataStore The data store, safe for concurrent writes
+	 * @param ownsKey Checks if a key belongs to the replica, the other keys are skipped
+	 * @return The number of records replayed
+	 * @throws IOException When the log cannot be read
+	 */
+	public static long replay(String logFilePath, StorageEngine dataStore, Predicate<ByteString> ownsKey) throws IOException
+	{
+		long records = 0;
+		long firstSegment = 1;
+		ParallelReplay parallelReplay = new ParallelReplay(Config.REPLAY_THREADS);
+
+		//The log of older versions holds the oldest records
+		Path legacyPath = Paths.get(logFilePath);
+		boolean legacyLog = Files.exists(legacyPath);
+		if(legacyLog)
+		{
+			ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+			try(FileChannel channel = FileChannel.open(legacyPath, StandardOpenOption.READ))
+			{
+				readFully(channel, header);
+			}
+
+			if(header.position() >= 4 && header.getInt(0) == MAGIC)
+			{
+				parallelReplay.addFile(legacyPath, HEADER_SIZE, true);
+			}
+			else
+			{
+				//Text lines of "key:value:timestamp"
+				FileProcessor fp = new FileProcessor(logFilePath);
+				fp.updateDatastore(dataStore, ownsKey);
+				fp.closeFile();
+			}
+		}
+
+		Path snapshotPath = Paths.get(logFilePath + ".snapshot");
+		if(Files.exists(snapshotPath))
+		{
+			try(FileChannel channel = FileChannel.open(snapshotPath, StandardOpenOption.READ))
+			{
+				ByteBuffer header = ByteBuffer.allocate(SNAPSHOT_HEADER_SIZE);
+				readFully(channel, header);
+				if(header.hasRemaining() || header.getInt(0) != SNAPSHOT_MAGIC || header.getInt(4) < 1 || header.getInt(4) > VERSION)
+				{
+					throw new IOException("Invalid snapshot " + snapshotPath);
+				}
+				firstSegment = header.getLong(8);
+			}
+			parallelReplay.addFile(snapshotPath, SNAPSHOT_HEADER_SIZE, false);
+		}
+
+		TreeMap<Long, Path> segments = listSegments(logFilePath);
+		for(Map.Entry<Long, Path> segment : segments.entrySet())
+		{
+			//Segments covered by the snapshot are left when a checkpoint is interrupted
+			if(segment.getKey() < firstSegment)
+			{
+				Files.delete(segment.getValue());
+				continue;
+			}
+			parallelReplay.addFile(segment.getValue(), HEADER_SIZE, true);
+		}
+		records += parallelReplay.replay(dataStore, ownsKey);
+
+		//Converting the log of older versions into a snapshot
+		if(legacyLog)
+		{
+			//The snapshot covers every segment replayed above as well
+			long nextSegment = segments.isEmpty() ? firstSegment : Math.max(firstSegment, segments.lastKey() + 1);
+			writeSnapshot(logFilePath, dataStore, nextSegment);
+			deleteSegmentsBefore(logFilePath, nextSegment);
+			Files.delete(legacyPath);
+			System.out.println("Converted " + logFilePath + " into a snapshot");
+		}
+		return records;
+	}
+
+	/**
+	 * Function for writing a snapshot of the data store. The snapshot is
+	 *  written to a temporary file which then replaces the previous snapshot
+	 * @param logFilePath The path to the log file
+	 * @param entries The entries of the data store
+	 * @param firstSegment The first segment holding records newer than the snapshot
+	 * @throws IOException When the snapshot cannot be written
+	 */
+	static void writeSnapshot(String logFilePath, StorageEngine entries, long firstSegment) throws IOException
+	{
+		Path snapshotPath = Paths.get(logFilePath + ".snapshot");
+		Path temporaryPath = Paths.get(logFilePath + ".snapshot.tmp");
+		try(FileChannel channel = FileChannel.open(temporaryPath, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING))
+		{
+			ByteBuffer header = ByteBuffer.allocate(SNAPSHOT_HEADER_SIZE);
+			header.putInt(SNAPSHOT_MAGIC);
+			header.putInt(VERSION);
+			header.putLong(firstSegment);
+			header.flip();
+			writeFully(channel, header);
+
+			//Gathering the records into large writes
+			ByteArrayOutputStream block = new ByteArrayOutputStream(256 * 1024);
+			try
+			{
+				entries.forEach((key, value, timestamp) ->
+				{
+					byte[] record = encodeRecord(key, value, timestamp);
+					block.write(record, 0, record.length);
+					if(block.size() >= 256 * 1024)
+					{
+						try
+						{
+							writeFully(channel, ByteBuffer.wrap(block.toByteArray()));
+						}
+						catch(IOException e)
+						{
+							throw new UncheckedIOException(e);
+						}
+						block.reset();
+					}
+				});
+			}
+			catch(UncheckedIOException e)
+			{
+				throw e.getCause();
+			}
+			writeFully(channel, ByteBuffer.wrap(block.toByteArray()));
+			channel.force(true);
+		}
+		Files.move(temporaryPath, snapshotPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		syncDirectory(snapshotPath);
+	}
+
+	/**
+	 * Function for deleting the segments covered by a snapshot
+	 * @param logFilePath The path to the log file
+	 * @param firstSegment The first segment to be kept
+	 * @throws IOException When a segment cannot be deleted
+	 */
+	private static void deleteSegmentsBefore(String logFilePath, long firstSegment) throws IOException
+	{
+		for(Map.Entry<Long, Path> segment : listSegments(logFilePath).headMap(firstSegment).entrySet())
+		{
+			Files.delete(segment.getValue());
+		}
+	}
+
+	/**
+	 * Function for listing the segments of the log
+	 * @param logFilePath The path to the log file
+	 * @return The paths of the segments ordered by segment number
+	 * @throws IOException When the directory cannot be read
+	 */
+	static TreeMap<Long, Path> listSegments(String logFilePath) throws IOException
+	{
+		Path path = Paths.get(logFilePath).toAbsolutePath();
+		String prefix = path.getFileName() + ".";
+
+		TreeMap<Long, Path> segments = new TreeMap<Long, Path>();
+		try(DirectoryStream<Path> files = Files.newDirectoryStream(path.getParent(), prefix + "*"))
+		{
+			for(Path file : files)
+			{
+				String suffix = file.getFileName().toString().substring(prefix.length());
+				if(!suffix.isEmpty() && suffix.chars().allMatch(Character::isDigit))
+				{
+					segments.put(Long.parseLong(suffix), file);
+				}
+			}
+		}
+		return segments;
+	}
+
+	/**
+	 * Function for syncing the directory of a file so that a rename survives
+	 *  a crash. Platforms which cannot open directories skip the sync
+	 * @param path The path to the file
+	 */
+	static void syncDirectory(Path path)
+	{
+		try(FileChannel directory = FileChannel.open(path.toAbsolutePath().getParent(), StandardOpenOption.READ))
+		{
+			directory.force(true);
+		}
+		catch(IOException e)
+		{
+			//Not supported on this platform
+		}
+	}
+
+	/**
+	 * Function for writing the pending records and closing the log file
+	 * @throws IOException When the pending records cannot be written
+	 */
+	public void close() throws IOException
+	{
+		synchronized(this)
+		{
+			if(closed)
+				return;
+			closed = true;
+			notifyAll();
+		}
+
+		try
+		{
+			writer.join();
+		}
+		catch(InterruptedException e)
+		{
+			Thread.currentThread().interrupt();
+		}
+		channel.close();
+
+		synchronized(this)
+		{
+			if(failure != null)
+				throw failure;
+		}
+	}
+
+	/**
+	 * Function for checking that records can still be appended
+	 * @throws IOException When the log has failed or is closed
+	 */
+	private void checkUsable() throws IOException
+	{
+		if(failure != null)
+			throw new IOException("The write-ahead log has failed", failure);
+		if(closed)
+			throw new IOException("The write-ahead log is closed");
+	}
+
+	/**
+	 * Function for closing the current segment and starting a new one
+	 * @param newSegment The number of the new segment
+	 * @throws IOException When the segments cannot be synced or created
+	 */
+	private void openSegment(long newSegment) throws IOException
+	{
+		if(channel != null)
+		{
+			channel.force(false);
+			channel.close();
+		}
+
+		channel = FileChannel.open(Paths.get(logFilePath + "." + newSegment), StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+		ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+		header.putInt(MAGIC);
+		header.putInt(VERSION);
+		header.flip();
+		writeFully(channel, header);
+		segment = newSegment;
+		segmentSize = HEADER_SIZE;
+	}
+
+	/**
+	 * Function run by the writer thread. It takes all the records appended
+	 *  since the last write, writes them at once and syncs them if needed
+	 */
+	private void writeRecords()
+	{
+		while(true)
+		{
+			long batchSequence;
+			boolean syncBatch;
+			int batchRollOffset;
+			try
+			{
+				synchronized(this)
+				{
+					while(pending.size() == 0 && rollOffset < 0 && !closed && !isPeriodicSyncDue())
+					{
+						wait(timeUntilPeriodicSync());
+					}
+
+					//Leaving time for the concurrent writers to join the batch
+					if(syncMode.equals(BATCH) && rollOffset < 0 && !closed)
+					{
+						long windowEnd = System.currentTimeMillis() + Config.WAL_BATCH_WINDOW;
+						long remaining;
+						while((remaining = windowEnd - System.currentTimeMillis()) > 0 && !closed)
+						{
+							wait(remaining);
+						}
+					}
+
+					//Swapping the buffers so that the workers can append during the write
+					ByteArrayOutputStream batch = pending;
+					pending = writing;
+					writing = batch;
+					batchSequence = appendedSequence;
+					batchRollOffset = rollOffset;
+					syncBatch = !syncMode.equals(PERIODIC) || closed || batchRollOffset >= 0 || isPeriodicSyncDue();
+
+					if(writing.size() == 0 && !syncBatch)
+						continue;
+				}
+
+				byte[] batch = writing.toByteArray();
+				writing.reset();
+				if(batchRollOffset >= 0)
+				{
+					//The records before the offset belong to the segments covered by the checkpoint
+					writeFully(channel, ByteBuffer.wrap(batch, 0, batchRollOffset));
+					openSegment(segment + 1);
+					writeFully(channel, ByteBuffer.wrap(batch, batchRollOffset, batch.length - batchRollOffset));
+				}
+				else
+				{
+					if(segmentSize > HEADER_SIZE && segmentSize + batch.length > Config.WAL_SEGMENT_SIZE)
+					{
+						openSegment(segment + 1);
+					}
+					writeFully(channel, ByteBuffer.wrap(batch));
+				}
+				segmentSize += batch.length;
+				if(syncBatch)
+				{
+					channel.force(false);
+				}
+
+				synchronized(this)
+				{
+					writtenSequence = batchSequence;
+					if(syncBatch)
+					{
+						syncedSequence = batchSequence;
+						lastSyncTime = System.currentTimeMillis();
+					}
+					if(batchRollOffset >= 0)
+					{
+						rollOffset = -1;
+						rolledSegment = segment;
+					}
+					notifyAll();
+
+					if(closed && pending.size() == 0)
+						return;
+				}
+			}
+			catch(IOException e)
+			{
+				e.printStackTrace();
+				synchronized(this)
+				{
+					failure = e;
+					notifyAll();
+				}
+				return;
+			}
+			catch(InterruptedException e)
+			{
+				return;
+			}
+		}
+	}
+
+	/**
+	 * Function for checking whether written records wait for the periodic sync
+	 * @return Returns true in PERIODIC mode when the sync period has elapsed
+	 *  since the last sync and some records are not synced yet
+	 */
+	private boolean isPeriodicSyncDue()
+	{
+		return syncMode.equals(PERIODIC) && syncedSequence < writtenSequence
+				&& System.currentTimeMillis() - lastSyncTime >= Config.WAL_SYNC_PERIOD;
+	}
+
+	/**
+	 * Function for computing how long the idle writer may sleep
+	 * @return Time in milliseconds until the next periodic sync, or 0 to
+	 *  wait until records are appended
+	 */
+	private long timeUntilPeriodicSync()
+	{
+		if(!syncMode.equals(PERIODIC) || syncedSequence >= writtenSequence)
+			return 0;
+		return Math.max(1, lastSyncTime + Config.WAL_SYNC_PERIOD - System.currentTimeMillis());
+	}
+}
@@ -1,4 +1,5 @@
 #!/bin/bash +vx
 LIB_PATH=$"/home/vchaska1/protobuf/protobuf-java-3.5.1.jar"
 #Server Name, Port, Log file path, Replica file path, Consistency level
-java -classpath bin:$LIB_PATH Server $1 $2 $3 $4 $5
+#Optional settings can be passed as -Dkv.name=value through JAVA_OPTS
+java $JAVA_OPTS -classpath bin:$LIB_PATH Server $1 $2 $3 $4 $5
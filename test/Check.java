@@ -0,0 +1,49 @@
+/**
+ * Class holding the checks of the test programs. A failed check is printed
+ *  and counted, the program exits with a failure status at its end
+ */
+public class Check
+{
+	private static int checks;
+	private static int failures;
+
+	private Check()
+	{
+	}
+
+	/**
+	 * Function for checking a condition
+	 * @param condition The condition expected to hold
+	 * @param what Description of the condition, printed when it fails
+	 */
+	static void isTrue(boolean condition, String what)
+	{
+		checks++;
+		if(!condition)
+		{
+			failures++;
+			System.out.println("FAILED: " + what);
+		}
+	}
+
+	/**
+	 * Function for checking that a value is the expected one
+	 * @param expected The expected value
+	 * @param actual The value found
+	 * @param what Description of the value, printed when it differs
+	 */
+	static void equal(Object expected, Object actual, String what)
+	{
+		isTrue(expected == null ? actual == null : expected.equals(actual), what + ": expected " + expected + " but was " + actual);
+	}
+
+	/**
+	 * Function for ending a test program, which exits with status 1 when a check failed
+	 * @param test The name of the test program
+	 */
+	static void done(String test)
+	{
+		System.out.println(test + ": " + (checks - failures) + " of " + checks + " checks passed");
+		System.exit(failures == 0 ? 0 : 1);
+	}
+}
@@ -0,0 +1,98 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import com.google.protobuf.ByteString;
+
+/**
+ * Test of the order of the keys, of the paging token following a key and of
+ *  the keys of the integer keys of the earlier versions
+ */
+public class KeysTest
+{
+	public static void main(String[] args)
+	{
+		//Bytes compare unsigned, a key comes before the longer keys it starts
+		Check.isTrue(Keys.compare(bytes(0x01), bytes(0xFF)) < 0, "0x01 before 0xff");
+		Check.isTrue(Keys.compare(bytes(0x7F), bytes(0x80)) < 0, "0x7f before 0x80");
+		Check.isTrue(Keys.compare(bytes(0xAB), bytes(0xAB, 0x00)) < 0, "a key before the longer keys it starts");
+		Check.isTrue(Keys.compare(bytes(0xAB, 0xFF), bytes(0xAC)) < 0, "the first differing byte decides");
+		Check.equal(0, Keys.compare(bytes(0x10, 0x20), bytes(0x10, 0x20)), "compare of equal keys");
+
+		//The int keys of 4 bytes sort like unsigned integers and keep their hash
+		Random random = new Random(20);
+		List<Integer> ints = new ArrayList<Integer>();
+		for(int i = 0; i < 2000; i++)
+		{
+			ints.add(random.nextInt());
+		}
+		ints.add(0);
+		ints.add(-1);
+		ints.add(Integer.MIN_VALUE);
+		ints.add(Integer.MAX_VALUE);
+		List<ByteString> keys = new ArrayList<ByteString>();
+		for(int value : ints)
+		{
+			keys.add(Keys.ofInt(value));
+			Check.equal(4, Keys.ofInt(value).size(), "size of the key of " + value);
+			Check.equal(Keys.mix(value), Keys.hash(Keys.ofInt(value)), "hash of the key of " + value);
+		}
+		ints.sort(Integer::compareUnsigned);
+		keys.sort(Keys.ORDER);
+		for(int i = 0; i < ints.size(); i++)
+		{
+			Check.equal(Keys.ofInt(ints.get(i)), keys.get(i), "key " + i + " in unsigned integer order");
+		}
+
+		//The successor of a key is the first key after it: after the key, before every other key after it
+		List<ByteString> samples = new ArrayList<ByteString>();
+		for(int i = 0; i < 300; i++)
+		{
+			byte[] key = new byte[1 + random.nextInt(6)];
+			random.nextBytes(key);
+			samples.add(ByteString.copyFrom(key));
+		}
+		samples.add(bytes(0xFF, 0xFF));
+		samples.add(bytes(0x00));
+		for(ByteString key : samples)
+		{
+			ByteString successor = Keys.successor(key);
+			Check.isTrue(Keys.compare(key, successor) < 0, "successor after " + Keys.toString(key));
+			for(ByteString other : samples)
+			{
+				if(Keys.compare(other, key) > 0)
+					Check.isTrue(Keys.compare(successor, other) <= 0, "successor of " + Keys.toString(key) + " not after " + Keys.toString(other));
+			}
+		}
+
+		//A range ends at its end key, an empty end key for no end
+		Check.isTrue(Keys.notAfter(bytes(0x05), bytes(0x05)), "the end key is in the range");
+		Check.isTrue(!Keys.notAfter(bytes(0x05, 0x00), bytes(0x05)), "the successor of the end key is not in the range");
+		Check.isTrue(Keys.notAfter(bytes(0xFF, 0xFF), ByteString.EMPTY), "every key is in a range without end");
+
+		//Sorting with the order of the keys agrees with sorting the unsigned bytes
+		List<ByteString> shuffled = new ArrayList<ByteString>(samples);
+		Collections.shuffle(shuffled, random);
+		shuffled.sort(Keys.ORDER);
+		for(int i = 1; i < shuffled.size(); i++)
+		{
+			Check.isTrue(Arrays.compareUnsigned(shuffled.get(i - 1).toByteArray(), shuffled.get(i).toByteArray()) <= 0, "sorted keys " + (i - 1) + " and " + i);
+		}
+
+		Check.isTrue(!Keys.isValid(ByteString.EMPTY), "the empty key is not valid");
+		Check.isTrue(Keys.isValid(Keys.ofInt(7)), "an int key is valid");
+		Check.done("KeysTest");
+	}
+
+	private static ByteString bytes(int... values)
+	{
+		byte[] key = new byte[values.length];
+		for(int i = 0; i < values.length; i++)
+		{
+			key[i] = (byte)values[i];
+		}
+		return ByteString.copyFrom(key);
+	}
+}
@@ -0,0 +1,274 @@
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+import com.google.protobuf.ByteString;
+
+/**
+ * Test of reading the files of int keys written by earlier versions: the
+ *  text log, the log, segments and snapshots of version 1, and the sorted
+ *  tables before version 4. Their keys become the 4 bytes of the integers,
+ *  the converted files read the same on the next start
+ */
+public class LegacyFormatTest
+{
+	public static void main(String[] args) throws IOException
+	{
+		Path directory = Files.createTempDirectory("legacy-format");
+		try
+		{
+			textLog(directory.resolve("text"));
+			binaryLog(directory.resolve("binary"));
+			sortedTables(directory.resolve("tables"));
+		}
+		finally
+		{
+			try(Stream<Path> files = Files.walk(directory))
+			{
+				files.sorted(Comparator.reverseOrder()).forEach(file -> file.toFile().delete());
+			}
+		}
+		Check.done("LegacyFormatTest");
+	}
+
+	/**
+	 * Function for checking the replay of a log of "key:value:timestamp" lines
+	 * @param directory The directory of the log
+	 */
+	private static void textLog(Path directory) throws IOException
+	{
+		Files.createDirectories(directory);
+		String logFilePath = directory.resolve("log.txt").toString();
+		Files.write(directory.resolve("log.txt"), List.of("5:five:1", "-1:minus-one:2", "4294967294:large:3", "5:five-again:4", "7:seven:9", "7:stale:8"));
+
+		HashStorage dataStore = new HashStorage();
+		WriteAheadLog.replay(logFilePath, dataStore, key -> true);
+		TreeMap<ByteString, String> expected = new TreeMap<ByteString, String>(Keys.ORDER);
+		expected.put(Keys.ofInt(5), "five-again");
+		expected.put(Keys.ofInt(-1), "minus-one");
+		expected.put(Keys.ofInt(-2), "large");
+		expected.put(Keys.ofInt(7), "seven");
+		checkEntries(expected, dataStore, "text log");
+		Check.isTrue(!Files.exists(directory.resolve("log.txt")), "text log replaced by a snapshot");
+
+		HashStorage restarted = new HashStorage();
+		WriteAheadLog.replay(logFilePath, restarted, key -> true);
+		checkEntries(expected, restarted, "snapshot of the text log");
+	}
+
+	/**
+	 * Function for checking the replay of a log, a snapshot and a segment of version 1
+	 * @param directory The directory of the log
+	 */
+	private static void binaryLog(Path directory) throws IOException
+	{
+		Files.createDirectories(directory);
+		String logFilePath = directory.resolve("log.txt").toString();
+
+		//The oldest records in the log of a single file, then the snapshot and the segment after it
+		ByteArrayOutputStream log = logFile(WriteAheadLog.MAGIC, 1, -1);
+		writeRecord(log, 1, "one", 1);
+		writeRecord(log, -5, "minus-five", 2);
+		writeRecord(log, 9, "nine-old", 3);
+		Files.write(directory.resolve("log.txt"), log.toByteArray());
+
+		ByteArrayOutputStream snapshot = logFile(WriteAheadLog.SNAPSHOT_MAGIC, 1, 1);
+		writeRecord(snapshot, 9, "nine", 10);
+		writeRecord(snapshot, Integer.MIN_VALUE, "min", 11);
+		Files.write(directory.resolve("log.txt.snapshot"), snapshot.toByteArray());
+
+		ByteArrayOutputStream segment = logFile(WriteAheadLog.MAGIC, 1, -1);
+		writeRecord(segment, 1, "one-new", 20);
+		writeRecord(segment, 0x7FFFFFFF, "max", 21);
+		Files.write(directory.resolve("log.txt.1"), segment.toByteArray());
+
+		HashStorage dataStore = new HashStorage();
+		WriteAheadLog.replay(logFilePath, dataStore, key -> true);
+		TreeMap<ByteString, String> expected = new TreeMap<ByteString, String>(Keys.ORDER);
+		expected.put(Keys.ofInt(1), "one-new");
+		expected.put(Keys.ofInt(-5), "minus-five");
+		expected.put(Keys.ofInt(9), "nine");
+		expected.put(Keys.ofInt(Integer.MIN_VALUE), "min");
+		expected.put(Keys.ofInt(0x7FFFFFFF), "max");
+		checkEntries(expected, dataStore, "log of version 1");
+		Check.isTrue(!Files.exists(directory.resolve("log.txt")), "log of version 1 replaced by a snapshot");
+		ByteBuffer header = ByteBuffer.wrap(Files.readAllBytes(directory.resolve("log.txt.snapshot")));
+		Check.equal(WriteAheadLog.VERSION, header.getInt(4), "version of the converted snapshot");
+		Check.equal(2L, header.getLong(8), "first segment after the converted snapshot");
+
+		HashStorage restarted = new HashStorage();
+		WriteAheadLog.replay(logFilePath, restarted, key -> true);
+		checkEntries(expected, restarted, "converted snapshot");
+		Check.isTrue(!Files.exists(directory.resolve("log.txt.1")), "segment covered by the converted snapshot deleted");
+	}
+
+	/**
+	 * Function for checking the upgrade of the tables of versions 1 and 3
+	 * @param directory The directory of the tables
+	 */
+	private static void sortedTables(Path directory) throws IOException
+	{
+		Files.createDirectories(directory);
+		TreeMap<Integer, String> older = new TreeMap<Integer, String>();
+		TreeMap<Integer, String> newer = new TreeMap<Integer, String>();
+		for(int i = -40; i < 40; i++)
+		{
+			older.put(i * 50000000, "older-" + i);
+			if(i % 3 == 0)
+				newer.put(i * 50000000 + 1, "newer-" + i);
+		}
+		older.put(Integer.MIN_VALUE, "min");
+		older.put(Integer.MAX_VALUE, "max");
+		newer.put(0, "zero-newer");
+		Files.write(directory.resolve("1.sst"), table(older, 1, 0, 1));
+		Files.write(directory.resolve("2.sst"), table(newer, 3, 2, 2));
+
+		TreeMap<ByteString, String> expected = new TreeMap<ByteString, String>(Keys.ORDER);
+		older.forEach((key, value) -> expected.put(Keys.ofInt(key), value));
+		newer.forEach((key, value) -> expected.put(Keys.ofInt(key), value));
+
+		LsmStorage upgraded = new LsmStorage(directory, 1024 * 1024, 256, 4, 4, 0);
+		checkEntries(expected, upgraded, "upgraded tables");
+		for(Map.Entry<ByteString, String> entry : expected.entrySet())
+		{
+			Check.equal(ByteString.copyFromUtf8(entry.getValue()), upgraded.getValue(entry.getKey()), "value of " + Keys.toString(entry.getKey()) + " in the upgraded tables");
+		}
+		try(Stream<Path> files = Files.list(directory))
+		{
+			for(Path file : (Iterable<Path>)files::iterator)
+			{
+				try(SortedTable table = SortedTable.open(file))
+				{
+					Check.equal(SortedTable.VERSION, table.getVersion(), "version of " + file.getFileName());
+				}
+			}
+		}
+
+		LsmStorage reopened = new LsmStorage(directory, 1024 * 1024, 256, 4, 4, 0);
+		checkEntries(expected, reopened, "reopened upgraded tables");
+	}
+
+	/**
+	 * Function for checking the entries of a data store, read in key order
+	 * @param expected The value of every key
+	 * @param dataStore The data store
+	 * @param what Description of the data store
+	 */
+	private static void checkEntries(TreeMap<ByteString, String> expected, StorageEngine dataStore, String what)
+	{
+		List<ByteString> keys = new ArrayList<ByteString>();
+		for(Map.Entry<ByteString, DataStoreEntry> entry : dataStore.scan(ByteString.EMPTY, ByteString.EMPTY, Integer.MAX_VALUE))
+		{
+			keys.add(entry.getKey());
+			Check.equal(expected.get(entry.getKey()), entry.getValue().getValue().toStringUtf8(), what + ": value of " + Keys.toString(entry.getKey()));
+		}
+		Check.equal(new ArrayList<ByteString>(expected.keySet()), keys, what + ": keys in unsigned order");
+	}
+
+	/**
+	 * Function for starting a log file or a snapshot
+	 * @param magic The magic number of the file
+	 * @param version The version of its records
+	 * @param firstSegment The first segment after a snapshot, -1 for a log file
+	 * @return The bytes of the file
+	 */
+	private static ByteArrayOutputStream logFile(int magic, int version, long firstSegment) throws IOException
+	{
+		ByteArrayOutputStream file = new ByteArrayOutputStream();
+		DataOutputStream output = new DataOutputStream(file);
+		output.writeInt(magic);
+		output.writeInt(version);
+		if(firstSegment >= 0)
+			output.writeLong(firstSegment);
+		return file;
+	}
+
+	/**
+	 * Function for writing a record of version 1, whose payload is the int key, the timestamp and the value
+	 * @param file The bytes of the file
+	 * @param key The int key
+	 * @param value The value
+	 * @param timestamp The timestamp
+	 */
+	private static void writeRecord(ByteArrayOutputStream file, int key, String value, long timestamp) throws IOException
+	{
+		byte[] valueBytes = value.getBytes("UTF-8");
+		ByteBuffer payload = ByteBuffer.allocate(12 + valueBytes.length);
+		payload.putInt(key);
+		payload.putLong(timestamp);
+		payload.put(valueBytes);
+		CRC32C crc = new CRC32C();
+		crc.update(payload.array());
+
+		DataOutputStream output = new DataOutputStream(file);
+		output.writeInt(payload.capacity());
+		output.writeInt((int)crc.getValue());
+		output.write(payload.array());
+	}
+
+	/**
+	 * Function for writing a table of a version before 4, the int keys in
+	 *  signed order without a length and an index entry for every record
+	 * @param entries The values of the int keys
+	 * @param version The version, 1 without a filter or 3
+	 * @param sequence The sequence of a table of version 3
+	 * @param timestamp The timestamp of every entry
+	 * @return The bytes of the table
+	 */
+	private static byte[] table(TreeMap<Integer, String> entries, int version, long sequence, long timestamp) throws IOException
+	{
+		ByteArrayOutputStream file = new ByteArrayOutputStream();
+		DataOutputStream output = new DataOutputStream(file);
+		output.writeInt(SortedTable.MAGIC);
+		output.writeInt(version);
+
+		ByteArrayOutputStream index = new ByteArrayOutputStream();
+		DataOutputStream indexOutput = new DataOutputStream(index);
+		BloomFilter filter = new BloomFilter(entries.size(), 10);
+		for(Map.Entry<Integer, String> entry : entries.entrySet())
+		{
+			indexOutput.writeInt(entry.getKey());
+			indexOutput.writeLong(output.size());
+			filter.add(Keys.ofInt(entry.getKey()));
+
+			byte[] value = entry.getValue().getBytes("UTF-8");
+			output.writeInt(entry.getKey());
+			output.writeLong(timestamp);
+			output.writeInt(value.length);
+			output.write(value);
+		}
+		long dataEnd = output.size();
+
+		ByteBuffer filterWords = ByteBuffer.allocate(version == 1 ? 0 : filter.getWords().length * 8);
+		if(version != 1)
+			filterWords.asLongBuffer().put(filter.getWords());
+		CRC32C crc = new CRC32C();
+		crc.update(index.toByteArray());
+		crc.update(filterWords.array());
+
+		output.write(index.toByteArray());
+		output.write(filterWords.array());
+		output.writeLong(dataEnd);
+		output.writeInt(entries.size());
+		output.writeLong(entries.size());
+		if(version != 1)
+		{
+			output.writeInt(filter.getHashCount());
+			output.writeInt(filter.getWords().length);
+			output.writeLong(sequence);
+		}
+		output.writeInt((int)crc.getValue());
+		output.writeInt(SortedTable.MAGIC);
+		return file.toByteArray();
+	}
+}
@@ -0,0 +1,103 @@
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import com.google.protobuf.ByteString;
+
+/**
+ * Test of waiting for the responses of the replicas: the wait ends with
+ *  the required responses, once every replica responded or failed, or at
+ *  the deadline, and a request which fails in any of these ways gets FAIL
+ */
+public class QuorumCollectorTest
+{
+	public static void main(String[] args) throws InterruptedException
+	{
+		ScheduledExecutorService replicas = Executors.newSingleThreadScheduledExecutor();
+		try
+		{
+			//No replica contacted, as for a request refused when it is admitted, fails at once
+			QuorumCollector refused = new QuorumCollector(0, 1);
+			long start = System.currentTimeMillis();
+			Check.isTrue(!refused.awaitQuorum(start + 10000), "no quorum without replicas");
+			Check.isTrue(System.currentTimeMillis() - start < 1000, "no wait without replicas");
+			Check.isTrue(refused.getAllResponded().isDone(), "every replica responded without replicas");
+			Check.equal("FAIL", status(refused, start + 10000), "status without replicas");
+
+			//The quorum ends the wait before the last replica responds
+			QuorumCollector quorum = new QuorumCollector(3, 2);
+			replicas.schedule(() -> quorum.addResponse("replica1", entry("old", 1)), 50, TimeUnit.MILLISECONDS);
+			replicas.schedule(() -> quorum.addResponse("replica2", entry("new", 2)), 100, TimeUnit.MILLISECONDS);
+			start = System.currentTimeMillis();
+			Check.isTrue(quorum.awaitQuorum(start + 10000), "quorum of 2 out of 3");
+			Check.isTrue(System.currentTimeMillis() - start < 5000, "quorum before the deadline");
+			Check.isTrue(!quorum.getAllResponded().isDone(), "the third replica still outstanding");
+			Check.equal(ByteString.copyFromUtf8("new"), quorum.getLatestEntry().getValue(), "latest entry of the quorum");
+			quorum.addFailure("replica3");
+			Check.isTrue(quorum.getAllResponded().isDone(), "every replica responded or failed");
+
+			//Failures leaving too few replicas end the wait before the deadline
+			QuorumCollector failures = new QuorumCollector(3, 2);
+			replicas.schedule(() -> failures.addResponse("replica1", entry("value", 1)), 20, TimeUnit.MILLISECONDS);
+			replicas.schedule(() -> failures.addFailure("replica2"), 40, TimeUnit.MILLISECONDS);
+			replicas.schedule(() -> failures.addFailure("replica3"), 60, TimeUnit.MILLISECONDS);
+			start = System.currentTimeMillis();
+			Check.equal("FAIL", status(failures, start + 10000), "status after too many failures");
+			Check.isTrue(System.currentTimeMillis() - start < 5000, "failures end the wait before the deadline");
+			Check.isTrue(failures.getAllResponded().isDone(), "every replica failed or responded");
+
+			//Replicas which never respond end the wait at the deadline
+			QuorumCollector silent = new QuorumCollector(3, 2);
+			silent.addResponse("replica1", entry("value", 1));
+			start = System.currentTimeMillis();
+			Check.equal("FAIL", status(silent, start + 300), "status at the deadline");
+			long waited = System.currentTimeMillis() - start;
+			Check.isTrue(waited >= 290 && waited < 5000, "wait until the deadline, waited " + waited + " ms");
+			Check.isTrue(!silent.getAllResponded().isDone(), "silent replicas still outstanding");
+
+			//A deadline already passed does not wait
+			QuorumCollector late = new QuorumCollector(2, 1);
+			start = System.currentTimeMillis();
+			Check.isTrue(!late.awaitQuorum(start - 1), "no quorum after the deadline");
+			Check.isTrue(System.currentTimeMillis() - start < 1000, "no wait after the deadline");
+
+			//Responses arriving from many threads are all counted
+			QuorumCollector many = new QuorumCollector(64, 64);
+			CompletableFuture<?>[] responses = new CompletableFuture<?>[64];
+			for(int i = 0; i < responses.length; i++)
+			{
+				String replicaName = "replica" + i;
+				responses[i] = CompletableFuture.runAsync(() -> many.addResponse(replicaName, null));
+			}
+			Check.isTrue(many.awaitQuorum(System.currentTimeMillis() + 10000), "quorum of every replica");
+			Check.equal(64, many.getResponseServerList().size(), "responses of every replica");
+			CompletableFuture.allOf(responses).join();
+			Check.isTrue(many.getAllResponded().isDone(), "every replica responded");
+		}
+		finally
+		{
+			replicas.shutdownNow();
+		}
+		Check.done("QuorumCollectorTest");
+	}
+
+	/**
+	 * Function for getting the status a coordinator answers with, as it does after waiting for the quorum
+	 * @param collector The collector of the responses
+	 * @param deadline Time in milliseconds since the epoch at which the wait is abandoned
+	 * @return SUCCESS when the required responses arrived, FAIL otherwise
+	 */
+	private static String status(QuorumCollector collector, long deadline) throws InterruptedException
+	{
+		return collector.awaitQuorum(deadline) ? "SUCCESS" : "FAIL";
+	}
+
+	private static DataStoreEntry entry(String value, long timestamp)
+	{
+		DataStoreEntry entry = new DataStoreEntry();
+		entry.setValue(ByteString.copyFromUtf8(value));
+		entry.setTimestamp(timestamp);
+		return entry;
+	}
+}
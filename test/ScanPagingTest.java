@@ -0,0 +1,107 @@
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+import com.google.protobuf.ByteString;
+
+/**
+ * Test of reading a range of keys a page at a time from every storage
+ *  engine, each page resuming at the paging token of the previous one. The
+ *  pages are also read from the engines in turn, as a scan resuming on
+ *  another replica does
+ */
+public class ScanPagingTest
+{
+	public static void main(String[] args) throws IOException
+	{
+		Path directory = Files.createTempDirectory("scan-paging");
+		try
+		{
+			List<StorageEngine> engines = new ArrayList<StorageEngine>();
+			engines.add(new HashStorage());
+			engines.add(new StripedStorage(4, () -> new HashStorage()));
+			engines.add(new StripedStorage(4, () -> new HashStorage(64, new ValueArena(64 * 1024))));
+			engines.add(new LsmStorage(directory, 16 * 1024, 512, 4, 4, 0));
+
+			//Int keys of both signs, text keys and keys starting other keys, some of them written twice
+			TreeMap<ByteString, ByteString> expected = new TreeMap<ByteString, ByteString>(Keys.ORDER);
+			Random random = new Random(7);
+			for(int i = 0; i < 3000; i++)
+			{
+				ByteString key;
+				if(i % 3 == 0)
+					key = ByteString.copyFromUtf8("user/" + random.nextInt(500) + "/" + "x".repeat(random.nextInt(4)));
+				else if(i % 3 == 1)
+					key = Keys.ofInt(random.nextInt());
+				else
+					key = expected.isEmpty() ? Keys.ofInt(i) : expected.lastKey().concat(ByteString.copyFromUtf8("-"));
+				ByteString value = ByteString.copyFromUtf8("value-" + i);
+				expected.put(key, value);
+				for(StorageEngine engine : engines)
+				{
+					engine.put(key, value, i + 1);
+				}
+			}
+
+			for(StorageEngine engine : engines)
+			{
+				String name = engine.getClass().getSimpleName();
+				Check.equal(expected.size(), engine.size(), name + " size");
+				for(int limit : new int[] {1, 7, 100, 5000})
+				{
+					checkPages(List.of(engine), expected, ByteString.EMPTY, ByteString.EMPTY, limit, name + " limit " + limit);
+				}
+				ByteString startKey = Keys.ofInt(0x40000000);
+				ByteString endKey = Keys.ofInt(0xC0000000);
+				checkPages(List.of(engine), expected, startKey, endKey, 13, name + " range of int keys");
+				checkPages(List.of(engine), expected, ByteString.copyFromUtf8("user/1"), ByteString.copyFromUtf8("user/3"), 9, name + " range of text keys");
+			}
+			checkPages(engines, expected, ByteString.EMPTY, ByteString.EMPTY, 11, "every engine in turn");
+		}
+		finally
+		{
+			try(Stream<Path> files = Files.walk(directory))
+			{
+				files.sorted(Comparator.reverseOrder()).forEach(file -> file.toFile().delete());
+			}
+		}
+		Check.done("ScanPagingTest");
+	}
+
+	/**
+	 * Function for reading a range page by page and checking it against the expected entries
+	 * @param engines The engines read in turn, one page each
+	 * @param expected The entries of every key
+	 * @param startKey The first key of the range
+	 * @param endKey The last key of the range, empty for a range without end
+	 * @param limit The entries of a page
+	 * @param what Description of the scan
+	 */
+	private static void checkPages(List<StorageEngine> engines, TreeMap<ByteString, ByteString> expected, ByteString startKey, ByteString endKey, int limit, String what)
+	{
+		Map<ByteString, ByteString> range = endKey.isEmpty() ? expected.tailMap(startKey, true) : expected.subMap(startKey, true, endKey, true);
+		List<ByteString> keys = new ArrayList<ByteString>();
+		ByteString pagingToken = startKey;
+		for(int page = 0; page <= expected.size(); page++)
+		{
+			List<Map.Entry<ByteString, DataStoreEntry>> entries = engines.get(page % engines.size()).scan(pagingToken, endKey, limit);
+			Check.isTrue(entries.size() <= limit, what + ": page " + page + " within the limit");
+			for(Map.Entry<ByteString, DataStoreEntry> entry : entries)
+			{
+				keys.add(entry.getKey());
+				Check.equal(expected.get(entry.getKey()), entry.getValue().getValue(), what + ": value of " + Keys.toString(entry.getKey()));
+			}
+			if(entries.size() < limit)
+				break;
+			pagingToken = Keys.successor(entries.get(entries.size() - 1).getKey());
+		}
+		Check.equal(new ArrayList<ByteString>(range.keySet()), keys, what + ": keys of the range");
+	}
+}